@@ -16,6 +16,8 @@
 
 package com.google.cloud.spring.autoconfigure.pubsub;
 
+import static java.time.Duration.ofMillis;
+
 import com.google.api.core.ApiClock;
 import com.google.api.gax.batching.BatchingSettings;
 import com.google.api.gax.batching.FlowControlSettings;
@@ -23,6 +25,7 @@ import com.google.api.gax.core.CredentialsProvider;
 import com.google.api.gax.core.ExecutorProvider;
 import com.google.api.gax.core.FixedExecutorProvider;
 import com.google.api.gax.core.NoCredentialsProvider;
+import com.google.api.gax.grpc.InstantiatingGrpcChannelProvider;
 import com.google.api.gax.retrying.RetrySettings;
 import com.google.api.gax.retrying.RetrySettings.Builder;
 import com.google.api.gax.rpc.HeaderProvider;
@@ -43,16 +46,29 @@ import com.google.cloud.spring.pubsub.core.PubSubException;
 import com.google.cloud.spring.pubsub.core.PubSubTemplate;
 import com.google.cloud.spring.pubsub.core.health.HealthTrackerRegistry;
 import com.google.cloud.spring.pubsub.core.publisher.PubSubPublisherTemplate;
+import com.google.cloud.spring.pubsub.core.publisher.PublishListener;
 import com.google.cloud.spring.pubsub.core.publisher.PublisherCustomizer;
+import com.google.cloud.spring.pubsub.core.subscriber.AcknowledgementBatcher;
+import com.google.cloud.spring.pubsub.core.subscriber.AcknowledgementBatcherMetrics;
+import com.google.cloud.spring.pubsub.core.subscriber.AcknowledgementExecutor;
+import com.google.cloud.spring.pubsub.core.subscriber.AcknowledgementExecutorMetrics;
 import com.google.cloud.spring.pubsub.core.subscriber.PubSubSubscriberTemplate;
+import com.google.cloud.spring.pubsub.core.subscriber.ReceiveListener;
 import com.google.cloud.spring.pubsub.core.subscriber.SubscriberCustomizer;
+import com.google.cloud.spring.pubsub.support.AdaptiveFlowControlMetrics;
 import com.google.cloud.spring.pubsub.support.CachingPublisherFactory;
+import com.google.cloud.spring.pubsub.support.CachingPublisherFactoryMetrics;
 import com.google.cloud.spring.pubsub.support.DefaultPublisherFactory;
 import com.google.cloud.spring.pubsub.support.DefaultSubscriberFactory;
+import com.google.cloud.spring.pubsub.support.PubSubClientMetricsInterceptor;
+import com.google.cloud.spring.pubsub.support.PubSubMessagingMetrics;
 import com.google.cloud.spring.pubsub.support.PublisherFactory;
 import com.google.cloud.spring.pubsub.support.SubscriberFactory;
 import com.google.cloud.spring.pubsub.support.converter.PubSubMessageConverter;
 import com.google.pubsub.v1.ProjectSubscriptionName;
+import com.google.pubsub.v1.TopicName;
+import io.grpc.ClientInterceptor;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
@@ -76,8 +92,8 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.context.support.GenericApplicationContext;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.threeten.bp.Duration;
 
@@ -110,6 +126,12 @@ public class GcpPubSubAutoConfiguration {
   private final Map<ProjectSubscriptionName, ExecutorProvider> executorProviderMap =
       new HashMap<>();
 
+  private final Map<TopicName, BatchingSettings> publisherBatchingSettingsMap = new HashMap<>();
+
+  private final Map<TopicName, RetrySettings> publisherRetrySettingsMap = new HashMap<>();
+
+  private final Map<TopicName, ExecutorProvider> publisherExecutorProviderMap = new HashMap<>();
+
   private final ApplicationContext applicationContext;
 
   private ThreadPoolTaskScheduler globalScheduler;
@@ -180,21 +202,22 @@ public class GcpPubSubAutoConfiguration {
   @ConditionalOnMissingBean
   public PubSubPublisherTemplate pubSubPublisherTemplate(
       PublisherFactory publisherFactory,
-      ObjectProvider<PubSubMessageConverter> pubSubMessageConverter) {
+      ObjectProvider<PubSubMessageConverter> pubSubMessageConverter,
+      ObjectProvider<PublishListener> publishListener) {
     PubSubPublisherTemplate pubSubPublisherTemplate = new PubSubPublisherTemplate(publisherFactory);
     pubSubMessageConverter.ifUnique(pubSubPublisherTemplate::setMessageConverter);
+    publishListener.ifUnique(pubSubPublisherTemplate::setPublishListener);
     return pubSubPublisherTemplate;
   }
 
   @Bean
   @ConditionalOnMissingBean(name = "pubSubAcknowledgementExecutor")
   public Executor pubSubAcknowledgementExecutor() {
-    ThreadPoolTaskExecutor ackExecutor = new ThreadPoolTaskExecutor();
-    ackExecutor.setMaxPoolSize(
-        this.gcpPubSubProperties.getSubscriber().getMaxAcknowledgementThreads());
-    ackExecutor.setThreadNamePrefix("gcp-pubsub-ack-executor");
-    ackExecutor.setDaemon(true);
-    return ackExecutor;
+    PubSubConfiguration.Subscriber subscriber = this.gcpPubSubProperties.getSubscriber();
+    return new AcknowledgementExecutor(
+        subscriber.getAckExecutionMode(),
+        subscriber.getMaxAcknowledgementThreads(),
+        subscriber.getAckQueueCapacity());
   }
 
   @Bean
@@ -209,6 +232,12 @@ public class GcpPubSubAutoConfiguration {
     pubSubMessageConverter.ifUnique(pubSubSubscriberTemplate::setMessageConverter);
     pubSubSubscriberTemplate.setAckExecutor(ackExecutor);
     asyncPullExecutor.ifAvailable(pubSubSubscriberTemplate::setAsyncPullExecutor);
+    PubSubConfiguration.AckBatching ackBatching =
+        this.gcpPubSubProperties.getSubscriber().getAckBatching();
+    if (ackBatching.isEnabled()) {
+      pubSubSubscriberTemplate.enableAcknowledgementBatching(
+          ackBatching.getMaxBatchSize(), ofMillis(ackBatching.getMaxDelayMillis()));
+    }
     return pubSubSubscriberTemplate;
   }
 
@@ -248,7 +277,8 @@ public class GcpPubSubAutoConfiguration {
           ObjectProvider<HealthTrackerRegistry> healthTrackerRegistry,
       @Qualifier("subscriberTransportChannelProvider")
           TransportChannelProvider subscriberTransportChannelProvider,
-      ObjectProvider<SubscriberCustomizer> customizersProvider) {
+      ObjectProvider<SubscriberCustomizer> customizersProvider,
+      ObjectProvider<ReceiveListener> receiveListener) {
     DefaultSubscriberFactory factory =
         new DefaultSubscriberFactory(this.finalProjectIdProvider, this.gcpPubSubProperties);
 
@@ -265,6 +295,7 @@ public class GcpPubSubAutoConfiguration {
     factory.setHeaderProvider(this.headerProvider);
     factory.setChannelProvider(subscriberTransportChannelProvider);
     systemExecutorProvider.ifAvailable(factory::setSystemExecutorProvider);
+    receiveListener.ifUnique(factory::setReceiveListener);
     if (flowControlSettings.getIfAvailable() != null) {
       logger.warn(
           "The subscriberFlowControlSettings bean is being deprecated. Please use"
@@ -295,9 +326,11 @@ public class GcpPubSubAutoConfiguration {
   @Bean
   @ConditionalOnMissingBean(name = "publisherBatchSettings")
   public BatchingSettings publisherBatchSettings() {
-    BatchingSettings.Builder builder = BatchingSettings.newBuilder();
+    return buildBatchingSettings(this.gcpPubSubProperties.getPublisher().getBatching());
+  }
 
-    PubSubConfiguration.Batching batching = this.gcpPubSubProperties.getPublisher().getBatching();
+  private BatchingSettings buildBatchingSettings(PubSubConfiguration.Batching batching) {
+    BatchingSettings.Builder builder = BatchingSettings.newBuilder();
 
     FlowControlSettings flowControlSettings = buildFlowControlSettings(batching.getFlowControl());
     if (flowControlSettings != null) {
@@ -381,13 +414,22 @@ public class GcpPubSubAutoConfiguration {
     factory.setEnableMessageOrdering(gcpPubSubProperties.getPublisher().getEnableMessageOrdering());
     factory.setEndpoint(gcpPubSubProperties.getPublisher().getEndpoint());
     factory.setUniverseDomain(gcpPubSubProperties.getPublisher().getUniverseDomain());
+    factory.setExecutorProviderMap(this.publisherExecutorProviderMap);
+    factory.setRetrySettingsMap(this.publisherRetrySettingsMap);
+    factory.setBatchingSettingsMap(this.publisherBatchingSettingsMap);
 
     List<PublisherCustomizer> customizers = customizersProvider.orderedStream()
         .collect(Collectors.toList());
     Collections.reverse(customizers); // highest priority customizer needs to be last
     factory.setCustomizers(customizers);
 
-    return new CachingPublisherFactory(factory);
+    PubSubConfiguration.PublisherCache cache = gcpPubSubProperties.getPublisher().getCache();
+    CachingPublisherFactory cachingPublisherFactory = new CachingPublisherFactory(factory);
+    cachingPublisherFactory.setMaxSize(cache.getMaxSize());
+    cachingPublisherFactory.setIdleTimeout(ofMillis(cache.getIdleTimeoutMillis()));
+    cachingPublisherFactory.setEvictionShutdownTimeout(
+        ofMillis(cache.getEvictionShutdownTimeoutMillis()));
+    return cachingPublisherFactory;
   }
 
   @Bean
@@ -442,23 +484,33 @@ public class GcpPubSubAutoConfiguration {
 
   @Bean
   @ConditionalOnMissingBean(name = "subscriberTransportChannelProvider")
-  public TransportChannelProvider subscriberTransportChannelProvider() {
-    return SubscriberStubSettings.defaultGrpcTransportProviderBuilder()
-        // default value specified by pubsub client library,
-        // see https://github.com/googleapis/java-pubsub/blob/main/google-cloud-pubsub/src/main/java/com/google/cloud/pubsub/v1/Subscriber.java#L487.
-        .setMaxInboundMetadataSize(4 * 1024 * 1024)
-        .setKeepAliveTime(
-            Duration.ofMinutes(this.gcpPubSubProperties.getKeepAliveIntervalMinutes()))
-        .build();
+  public TransportChannelProvider subscriberTransportChannelProvider(
+      @Qualifier("pubSubClientMetricsInterceptor")
+          ObjectProvider<ClientInterceptor> clientMetricsInterceptor) {
+    InstantiatingGrpcChannelProvider.Builder builder =
+        SubscriberStubSettings.defaultGrpcTransportProviderBuilder()
+            // default value specified by pubsub client library,
+            // see https://github.com/googleapis/java-pubsub/blob/main/google-cloud-pubsub/src/main/java/com/google/cloud/pubsub/v1/Subscriber.java#L487.
+            .setMaxInboundMetadataSize(4 * 1024 * 1024)
+            .setKeepAliveTime(
+                Duration.ofMinutes(this.gcpPubSubProperties.getKeepAliveIntervalMinutes()));
+    clientMetricsInterceptor.ifAvailable(
+        interceptor -> builder.setInterceptorProvider(() -> List.of(interceptor)));
+    return builder.build();
   }
 
   @Bean
   @ConditionalOnMissingBean(name = "publisherTransportChannelProvider")
-  public TransportChannelProvider publisherTransportChannelProvider() {
-    return PublisherStubSettings.defaultGrpcTransportProviderBuilder()
-        .setKeepAliveTime(
-            Duration.ofMinutes(this.gcpPubSubProperties.getKeepAliveIntervalMinutes()))
-        .build();
+  public TransportChannelProvider publisherTransportChannelProvider(
+      @Qualifier("pubSubClientMetricsInterceptor")
+          ObjectProvider<ClientInterceptor> clientMetricsInterceptor) {
+    InstantiatingGrpcChannelProvider.Builder builder =
+        PublisherStubSettings.defaultGrpcTransportProviderBuilder()
+            .setKeepAliveTime(
+                Duration.ofMinutes(this.gcpPubSubProperties.getKeepAliveIntervalMinutes()));
+    clientMetricsInterceptor.ifAvailable(
+        interceptor -> builder.setInterceptorProvider(() -> List.of(interceptor)));
+    return builder.build();
   }
 
   @PostConstruct
@@ -470,6 +522,51 @@ public class GcpPubSubAutoConfiguration {
     registerSubscriberRetrySettingsBeans(context);
   }
 
+  @PostConstruct
+  public void registerPublisherSettings() {
+    GenericApplicationContext context = (GenericApplicationContext) this.applicationContext;
+    Map<TopicName, PubSubConfiguration.TopicPublisher> topicMap =
+        this.gcpPubSubProperties.getFullyQualifiedTopicProperties();
+    for (Map.Entry<TopicName, PubSubConfiguration.TopicPublisher> topic : topicMap.entrySet()) {
+      TopicName topicName = topic.getKey();
+      String qualifiedName = topicName.toString();
+
+      Integer executorThreads = topic.getValue().getExecutorThreads();
+      if (executorThreads != null) {
+        ThreadPoolTaskScheduler scheduler =
+            createThreadPoolTaskScheduler(
+                executorThreads, "gcp-pubsub-publisher-" + topicName.getTopic());
+        PubSubConfiguration.Publisher publisher = this.gcpPubSubProperties.getPublisher();
+        scheduler.setAcceptTasksAfterContextClose(
+            publisher.getExecutorAcceptTasksAfterContextClose());
+        scheduler.setWaitForTasksToCompleteOnShutdown(
+            publisher.getExecutorWaitForTasksToCompleteOnShutdown());
+        scheduler.setAwaitTerminationMillis(publisher.getExecutorAwaitTerminationMillis());
+        context.registerBeanDefinition(
+            "publisherThreadPoolScheduler_" + qualifiedName,
+            BeanDefinitionBuilder.genericBeanDefinition(
+                    ThreadPoolTaskScheduler.class, () -> scheduler)
+                .getBeanDefinition());
+        this.publisherExecutorProviderMap.put(
+            topicName,
+            createAndRegisterExecutorProvider(
+                "publisherExecutorProvider-" + qualifiedName, scheduler, context));
+      }
+
+      BatchingSettings batchingSettings =
+          buildBatchingSettings(this.gcpPubSubProperties.computePublisherBatching(topicName));
+      if (batchingSettings != null) {
+        this.publisherBatchingSettingsMap.put(topicName, batchingSettings);
+      }
+
+      RetrySettings retrySettings =
+          buildRetrySettings(this.gcpPubSubProperties.computePublisherRetrySettings(topicName));
+      if (retrySettings != null) {
+        this.publisherRetrySettingsMap.put(topicName, retrySettings);
+      }
+    }
+  }
+
   private void registerSubscriberThreadPoolSchedulerBeans(GenericApplicationContext context) {
     Integer numThreads = getGlobalExecutorThreads();
     this.globalScheduler =
@@ -670,4 +767,71 @@ public class GcpPubSubAutoConfiguration {
     Integer numThreads = this.gcpPubSubProperties.getSubscriber().getExecutorThreads();
     return numThreads != null ? numThreads : PubSubConfiguration.DEFAULT_EXECUTOR_THREADS;
   }
+
+  /** Micrometer metrics for the Pub/Sub publisher and subscriber template components. */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(MeterBinder.class)
+  static class PubSubMetricsConfiguration {
+
+    @Bean
+    @ConditionalOnProperty("spring.cloud.gcp.pubsub.metrics.enabled")
+    @ConditionalOnMissingBean
+    public PubSubMessagingMetrics pubSubMessagingMetrics(GcpPubSubProperties gcpPubSubProperties) {
+      return new PubSubMessagingMetrics(
+          gcpPubSubProperties.getMetrics().getMaxTagValues(), Collections.emptyList());
+    }
+
+    @Bean
+    @ConditionalOnProperty("spring.cloud.gcp.pubsub.metrics.enabled")
+    @ConditionalOnMissingBean
+    public PubSubClientMetricsInterceptor pubSubClientMetricsInterceptor(
+        GcpPubSubProperties gcpPubSubProperties) {
+      return new PubSubClientMetricsInterceptor(
+          gcpPubSubProperties.getMetrics().getMaxTagValues(), Collections.emptyList());
+    }
+
+    @Bean
+    @ConditionalOnProperty("spring.cloud.gcp.pubsub.subscriber.ack-batching.enabled")
+    @ConditionalOnMissingBean(name = "pubSubAcknowledgementBatcherMetrics")
+    public MeterBinder pubSubAcknowledgementBatcherMetrics(
+        PubSubSubscriberTemplate pubSubSubscriberTemplate) {
+      return registry -> {
+        AcknowledgementBatcher batcher = pubSubSubscriberTemplate.getAcknowledgementBatcher();
+        if (batcher != null) {
+          new AcknowledgementBatcherMetrics(batcher).bindTo(registry);
+        }
+      };
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "pubSubAcknowledgementExecutorMetrics")
+    public MeterBinder pubSubAcknowledgementExecutorMetrics(
+        @Qualifier("pubSubAcknowledgementExecutor") Executor ackExecutor) {
+      return registry -> {
+        if (ackExecutor instanceof AcknowledgementExecutor acknowledgementExecutor) {
+          new AcknowledgementExecutorMetrics(acknowledgementExecutor).bindTo(registry);
+        }
+      };
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "pubSubAdaptiveFlowControlMetrics")
+    public MeterBinder pubSubAdaptiveFlowControlMetrics(SubscriberFactory subscriberFactory) {
+      return registry -> {
+        if (subscriberFactory instanceof DefaultSubscriberFactory defaultSubscriberFactory) {
+          new AdaptiveFlowControlMetrics(defaultSubscriberFactory).bindTo(registry);
+        }
+      };
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "pubSubPublisherCacheMetrics")
+    public MeterBinder pubSubPublisherCacheMetrics(PublisherFactory publisherFactory) {
+      return registry -> {
+        if (publisherFactory instanceof CachingPublisherFactory cachingPublisherFactory) {
+          new CachingPublisherFactoryMetrics(cachingPublisherFactory).bindTo(registry);
+        }
+      };
+    }
+  }
 }
@@ -43,6 +43,9 @@ public class GcpPubSubProperties extends PubSubConfiguration implements Credenti
   @NestedConfigurationProperty
   private final Credentials credentials = new Credentials(GcpScope.PUBSUB.getUrl());
 
+  /** Micrometer metrics of the publishers and subscribers. */
+  private final Metrics metrics = new Metrics();
+
   public String getProjectId() {
     return this.projectId;
   }
@@ -75,4 +78,40 @@ public class GcpPubSubProperties extends PubSubConfiguration implements Credenti
   public void setKeepAliveIntervalMinutes(int keepAliveIntervalMinutes) {
     this.keepAliveIntervalMinutes = keepAliveIntervalMinutes;
   }
+
+  public Metrics getMetrics() {
+    return this.metrics;
+  }
+
+  /** Micrometer metrics properties. */
+  public static class Metrics {
+
+    /**
+     * Record publish, receive and client RPC metrics. Requires Micrometer and a {@code
+     * MeterRegistry}.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Maximum number of distinct topics, and of distinct subscriptions, used as metric tag values.
+     * Further ones are recorded under "other".
+     */
+    private int maxTagValues = 100;
+
+    public boolean isEnabled() {
+      return this.enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public int getMaxTagValues() {
+      return this.maxTagValues;
+    }
+
+    public void setMaxTagValues(int maxTagValues) {
+      this.maxTagValues = maxTagValues;
+    }
+  }
 }
@@ -18,10 +18,15 @@ package com.google.cloud.spring.autoconfigure.pubsub;
 
 import com.google.cloud.spring.pubsub.core.subscriber.PubSubSubscriberTemplate;
 import com.google.cloud.spring.pubsub.reactive.PubSubReactiveFactory;
+import com.google.cloud.spring.pubsub.reactive.PubSubReactivePublisher;
+import com.google.cloud.spring.pubsub.support.PublisherFactory;
+import com.google.cloud.spring.pubsub.support.converter.PubSubMessageConverter;
 import java.util.Optional;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -52,4 +57,16 @@ public class GcpPubSubReactiveAutoConfiguration {
     Scheduler scheduler = userProvidedScheduler.orElseGet(Schedulers::parallel);
     return new PubSubReactiveFactory(subscriberTemplate, scheduler);
   }
+
+  @Bean
+  @ConditionalOnMissingBean
+  @ConditionalOnBean(PublisherFactory.class)
+  public PubSubReactivePublisher pubSubReactivePublisher(
+      PublisherFactory publisherFactory,
+      ObjectProvider<PubSubMessageConverter> pubSubMessageConverter) {
+    PubSubReactivePublisher pubSubReactivePublisher =
+        new PubSubReactivePublisher(publisherFactory, Schedulers.boundedElastic());
+    pubSubMessageConverter.ifUnique(pubSubReactivePublisher::setMessageConverter);
+    return pubSubReactivePublisher;
+  }
 }
@@ -25,6 +25,7 @@ import com.google.cloud.spring.core.GcpProjectIdProvider;
 import com.google.cloud.spring.pubsub.core.health.HealthTrackerRegistry;
 import com.google.cloud.spring.pubsub.core.health.HealthTrackerRegistryImpl;
 import java.io.IOException;
+import java.time.Duration;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.actuate.autoconfigure.health.CompositeHealthContributorConfiguration;
 import org.springframework.boot.actuate.autoconfigure.health.ConditionalOnEnabledHealthIndicator;
@@ -96,13 +97,17 @@ public class PubSubSubscriptionHealthIndicatorAutoConfiguration
   public HealthTrackerRegistry healthTrackerRegistry(
       MetricServiceClient metricServiceClient,
       @Qualifier("healthCheckExecutorProvider") ExecutorProvider executorProvider) {
-    return new HealthTrackerRegistryImpl(
-        projectId,
-        metricServiceClient,
-        gcpPubSubProperties.getHealth().getLagThreshold(),
-        gcpPubSubProperties.getHealth().getBacklogThreshold(),
-        gcpPubSubProperties.getHealth().getLookUpInterval(),
-        executorProvider);
+    HealthTrackerRegistryImpl healthTrackerRegistry =
+        new HealthTrackerRegistryImpl(
+            projectId,
+            metricServiceClient,
+            gcpPubSubProperties.getHealth().getLagThreshold(),
+            gcpPubSubProperties.getHealth().getBacklogThreshold(),
+            gcpPubSubProperties.getHealth().getLookUpInterval(),
+            executorProvider);
+    healthTrackerRegistry.setBacklogRefreshInterval(
+        Duration.ofSeconds(gcpPubSubProperties.getHealth().getBacklogRefreshIntervalSeconds()));
+    return healthTrackerRegistry;
   }
 
   @Bean
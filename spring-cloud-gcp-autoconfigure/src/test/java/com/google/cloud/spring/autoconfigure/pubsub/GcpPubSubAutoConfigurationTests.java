@@ -34,15 +34,28 @@ import com.google.cloud.pubsub.v1.Subscriber;
 import com.google.cloud.spring.autoconfigure.TestUtils;
 import com.google.cloud.spring.core.GcpProjectIdProvider;
 import com.google.cloud.spring.pubsub.core.PubSubConfiguration;
+import com.google.cloud.spring.pubsub.core.publisher.PubSubPublisherTemplate;
 import com.google.cloud.spring.pubsub.core.publisher.PublisherCustomizer;
+import com.google.cloud.spring.pubsub.core.subscriber.AckExecutionMode;
+import com.google.cloud.spring.pubsub.core.subscriber.AcknowledgementBatcher;
+import com.google.cloud.spring.pubsub.core.subscriber.AcknowledgementExecutor;
+import com.google.cloud.spring.pubsub.core.subscriber.PubSubSubscriberTemplate;
 import com.google.cloud.spring.pubsub.core.subscriber.SubscriberCustomizer;
+import com.google.cloud.spring.pubsub.support.AdaptiveFlowController;
 import com.google.cloud.spring.pubsub.support.CachingPublisherFactory;
 import com.google.cloud.spring.pubsub.support.DefaultPublisherFactory;
 import com.google.cloud.spring.pubsub.support.DefaultSubscriberFactory;
+import com.google.cloud.spring.pubsub.support.PubSubClientMetricsInterceptor;
+import com.google.cloud.spring.pubsub.support.PubSubMessagingMetrics;
 import com.google.cloud.spring.pubsub.support.PubSubSubscriptionUtils;
 import com.google.cloud.spring.pubsub.support.PublisherFactory;
 import com.google.pubsub.v1.ProjectSubscriptionName;
+import com.google.pubsub.v1.TopicName;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -1488,6 +1501,194 @@ class GcpPubSubAutoConfigurationTests {
             });
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  void publisherTopicSettings_selectiveTakesPrecedence() {
+    contextRunner
+        .withPropertyValues(
+            "spring.cloud.gcp.pubsub.publisher.batching.element-count-threshold=1000",
+            "spring.cloud.gcp.pubsub.publisher.batching.delay-threshold-seconds=5",
+            "spring.cloud.gcp.pubsub.publisher.topic.rpc-topic.batching.element-count-threshold=1",
+            "spring.cloud.gcp.pubsub.publisher.topic.rpc-topic.retry.total-timeout-seconds=30",
+            "spring.cloud.gcp.pubsub.publisher.topic.rpc-topic.retry.initial-rpc-timeout-seconds=5",
+            "spring.cloud.gcp.pubsub.publisher.topic.rpc-topic.retry.max-rpc-timeout-seconds=5",
+            "spring.cloud.gcp.pubsub.publisher.topic.rpc-topic.executor-threads=2")
+        .run(
+            ctx -> {
+              PublisherFactory factory =
+                  ctx.getBean("defaultPublisherFactory", PublisherFactory.class);
+              DefaultPublisherFactory defaultFactory =
+                  (DefaultPublisherFactory) ((CachingPublisherFactory) factory).getDelegate();
+              Map<TopicName, RetrySettings> retrySettingsMap =
+                  (Map<TopicName, RetrySettings>)
+                      FieldUtils.readField(defaultFactory, "retrySettingsMap", true);
+              assertThat(retrySettingsMap.get(TopicName.of("fake project", "rpc-topic")))
+                  .extracting(RetrySettings::getTotalTimeout)
+                  .isEqualTo(Duration.ofSeconds(30));
+
+              Publisher rpcPublisher = factory.createPublisher("rpc-topic");
+              assertThat(rpcPublisher.getBatchingSettings().getElementCountThreshold())
+                  .isEqualTo(1L);
+              assertThat(rpcPublisher.getBatchingSettings().getDelayThreshold())
+                  .isEqualTo(Duration.ofSeconds(5));
+              String qualifiedName = "projects/fake project/topics/rpc-topic";
+              ThreadPoolTaskScheduler topicScheduler =
+                  ctx.getBean(
+                      "publisherThreadPoolScheduler_" + qualifiedName,
+                      ThreadPoolTaskScheduler.class);
+              assertThat(topicScheduler.getThreadNamePrefix())
+                  .isEqualTo("gcp-pubsub-publisher-rpc-topic");
+              assertThat(FieldUtils.readField(topicScheduler, "poolSize", true)).isEqualTo(2);
+              assertThat(ctx.containsBean("publisherExecutorProvider-" + qualifiedName)).isTrue();
+
+              Publisher telemetryPublisher = factory.createPublisher("telemetry-topic");
+              assertThat(telemetryPublisher.getBatchingSettings().getElementCountThreshold())
+                  .isEqualTo(1000L);
+            });
+  }
+
+  @Test
+  void publisherCacheSettings() {
+    contextRunner
+        .withPropertyValues(
+            "spring.cloud.gcp.pubsub.publisher.cache.max-size=100",
+            "spring.cloud.gcp.pubsub.publisher.cache.idle-timeout-millis=600000",
+            "spring.cloud.gcp.pubsub.publisher.cache.eviction-shutdown-timeout-millis=5000")
+        .run(
+            ctx -> {
+              CachingPublisherFactory publisherFactory =
+                  ctx.getBean("defaultPublisherFactory", CachingPublisherFactory.class);
+              assertThat(publisherFactory.getMaxSize()).isEqualTo(100);
+              assertThat(publisherFactory.getIdleTimeout())
+                  .isEqualTo(java.time.Duration.ofMinutes(10));
+              assertThat(publisherFactory.getEvictionShutdownTimeout())
+                  .isEqualTo(java.time.Duration.ofSeconds(5));
+
+              SimpleMeterRegistry registry = new SimpleMeterRegistry();
+              ctx.getBean("pubSubPublisherCacheMetrics", MeterBinder.class).bindTo(registry);
+              assertThat(registry.find("pubsub.publisher.cache.size").gauge()).isNotNull();
+            });
+  }
+
+  @Test
+  void adaptiveFlowControlSettings() {
+    contextRunner
+        .withPropertyValues(
+            "spring.cloud.gcp.pubsub.subscriber.flow-control.max-outstanding-element-count=200",
+            "spring.cloud.gcp.pubsub.subscriber.adaptive-flow-control"
+                + ".min-outstanding-element-count=20",
+            "spring.cloud.gcp.pubsub.subscription.subscription-name"
+                + ".adaptive-flow-control.enabled=true")
+        .run(
+            ctx -> {
+              DefaultSubscriberFactory subscriberFactory =
+                  ctx.getBean("defaultSubscriberFactory", DefaultSubscriberFactory.class);
+              SimpleMeterRegistry registry = new SimpleMeterRegistry();
+              ctx.getBean("pubSubAdaptiveFlowControlMetrics", MeterBinder.class).bindTo(registry);
+
+              assertThat(subscriberFactory.getAdaptiveFlowController("other")).isNull();
+              AdaptiveFlowController controller =
+                  subscriberFactory.getAdaptiveFlowController("subscription-name");
+              assertThat(controller.getMaxLimit()).isEqualTo(200);
+              assertThat(controller.getMinLimit()).isEqualTo(20);
+              assertThat(
+                      registry
+                          .find("pubsub.subscriber.flow.limit")
+                          .tag("subscription", controller.getSubscriptionName())
+                          .gauge())
+                  .isNotNull();
+            });
+  }
+
+  @Test
+  void messagingMetrics_disabledByDefault() {
+    contextRunner.run(
+        ctx -> {
+          assertThat(ctx).doesNotHaveBean(PubSubMessagingMetrics.class);
+          assertThat(ctx).doesNotHaveBean(PubSubClientMetricsInterceptor.class);
+          assertThat(ctx.getBean(PubSubPublisherTemplate.class).getPublishListener()).isNull();
+        });
+  }
+
+  @Test
+  void messagingMetrics_enabled() {
+    contextRunner
+        .withPropertyValues(
+            "spring.cloud.gcp.pubsub.metrics.enabled=true",
+            "spring.cloud.gcp.pubsub.metrics.max-tag-values=10")
+        .run(
+            ctx -> {
+              PubSubMessagingMetrics metrics = ctx.getBean(PubSubMessagingMetrics.class);
+              assertThat(ctx).hasSingleBean(PubSubClientMetricsInterceptor.class);
+              assertThat(ctx.getBean(PubSubPublisherTemplate.class).getPublishListener())
+                  .isSameAs(metrics);
+              assertThat(ctx.getBean(DefaultSubscriberFactory.class))
+                  .hasFieldOrPropertyWithValue("receiveListener", metrics);
+            });
+  }
+
+  @Test
+  void ackExecutor_default() {
+    contextRunner.run(
+        ctx -> {
+          Executor ackExecutor = ctx.getBean("pubSubAcknowledgementExecutor", Executor.class);
+          assertThat(ackExecutor).isInstanceOf(AcknowledgementExecutor.class);
+          assertThat(((AcknowledgementExecutor) ackExecutor).getMode())
+              .isEqualTo(AckExecutionMode.STRIPED);
+          assertThat(ctx.getBean(PubSubSubscriberTemplate.class))
+              .hasFieldOrPropertyWithValue("ackExecutor", ackExecutor);
+
+          SimpleMeterRegistry registry = new SimpleMeterRegistry();
+          ctx.getBean("pubSubAcknowledgementExecutorMetrics", MeterBinder.class).bindTo(registry);
+          assertThat(registry.find("pubsub.ack.executor.queued").tag("mode", "striped").gauge())
+              .isNotNull();
+        });
+  }
+
+  @Test
+  void ackExecutor_directMode() {
+    contextRunner
+        .withPropertyValues("spring.cloud.gcp.pubsub.subscriber.ack-execution-mode=direct")
+        .run(
+            ctx -> {
+              AcknowledgementExecutor ackExecutor =
+                  ctx.getBean("pubSubAcknowledgementExecutor", AcknowledgementExecutor.class);
+              assertThat(ackExecutor.getMode()).isEqualTo(AckExecutionMode.DIRECT);
+            });
+  }
+
+  @Test
+  void ackBatching_disabledByDefault() {
+    contextRunner.run(
+        ctx -> {
+          PubSubSubscriberTemplate subscriberTemplate = ctx.getBean(PubSubSubscriberTemplate.class);
+          assertThat(subscriberTemplate.getAcknowledgementBatcher()).isNull();
+          assertThat(ctx).doesNotHaveBean("pubSubAcknowledgementBatcherMetrics");
+        });
+  }
+
+  @Test
+  void ackBatching_enabled() {
+    contextRunner
+        .withPropertyValues(
+            "spring.cloud.gcp.pubsub.subscriber.ack-batching.enabled=true",
+            "spring.cloud.gcp.pubsub.subscriber.ack-batching.max-batch-size=500",
+            "spring.cloud.gcp.pubsub.subscriber.ack-batching.max-delay-millis=20")
+        .run(
+            ctx -> {
+              AcknowledgementBatcher batcher =
+                  ctx.getBean(PubSubSubscriberTemplate.class).getAcknowledgementBatcher();
+              assertThat(batcher).isNotNull();
+              assertThat(batcher.getMaxBatchSize()).isEqualTo(500);
+              assertThat(batcher.getMaxDelay()).isEqualTo(java.time.Duration.ofMillis(20));
+
+              SimpleMeterRegistry registry = new SimpleMeterRegistry();
+              ctx.getBean("pubSubAcknowledgementBatcherMetrics", MeterBinder.class)
+                  .bindTo(registry);
+              assertThat(registry.find("pubsub.ack.batches").functionCounter()).isNotNull();
+            });
+  }
+
   @Configuration
   static class CustomizerConfig {
 
@@ -27,6 +27,7 @@ import com.google.cloud.spring.core.GcpProjectIdProvider;
 import com.google.cloud.spring.pubsub.core.subscriber.PubSubSubscriberOperations;
 import com.google.cloud.spring.pubsub.core.subscriber.PubSubSubscriberTemplate;
 import com.google.cloud.spring.pubsub.reactive.PubSubReactiveFactory;
+import com.google.cloud.spring.pubsub.reactive.PubSubReactivePublisher;
 import com.google.cloud.spring.pubsub.support.AcknowledgeablePubsubMessage;
 import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
@@ -71,6 +72,19 @@ class GcpPubSubReactiveAutoConfigurationTest {
         });
   }
 
+  @Test
+  void reactivePublisherAutoconfiguredByDefault() {
+
+    ApplicationContextRunner contextRunner =
+        new ApplicationContextRunner().withConfiguration(AutoConfigurations.of(TestConfig.class));
+    contextRunner.run(
+        ctx -> {
+          PubSubReactivePublisher reactivePublisher = ctx.getBean(PubSubReactivePublisher.class);
+          assertThat(reactivePublisher.getMaxInFlight())
+              .isEqualTo(PubSubReactivePublisher.DEFAULT_MAX_IN_FLIGHT);
+        });
+  }
+
   @Test
   void reactiveConfigDisabledWhenPubSubDisabled() {
 
@@ -82,6 +96,7 @@ class GcpPubSubReactiveAutoConfigurationTest {
     contextRunner.run(
         ctx -> {
           assertThat(ctx.containsBean("pubSubReactiveFactory")).isFalse();
+          assertThat(ctx.containsBean("pubSubReactivePublisher")).isFalse();
         });
   }
 
@@ -96,6 +111,7 @@ class GcpPubSubReactiveAutoConfigurationTest {
     contextRunner.run(
         ctx -> {
           assertThat(ctx.containsBean("pubSubReactiveFactory")).isFalse();
+          assertThat(ctx.containsBean("pubSubReactivePublisher")).isFalse();
         });
   }
 
@@ -67,6 +67,11 @@ class ReadOnlyTransactionSpannerTemplate extends SpannerTemplate {
     throw new SpannerDataException("A read-only transaction template cannot execute DML.");
   }
 
+  @Override
+  protected DatabaseClient getBulkWriteDatabaseClient() {
+    throw new SpannerDataException("A read-only transaction template cannot execute bulk writes.");
+  }
+
   @Override
   public long executePartitionedDmlStatement(Statement statement) {
     throw new SpannerDataException(
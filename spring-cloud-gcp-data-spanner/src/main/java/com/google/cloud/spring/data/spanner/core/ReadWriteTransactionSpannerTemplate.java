@@ -72,6 +72,11 @@ class ReadWriteTransactionSpannerTemplate extends SpannerTemplate {
     return this.transactionContext.executeUpdate(statement);
   }
 
+  @Override
+  protected DatabaseClient getBulkWriteDatabaseClient() {
+    throw new SpannerDataException("A read-write transaction template cannot execute bulk writes.");
+  }
+
   @Override
   public long executePartitionedDmlStatement(Statement statement) {
     throw new SpannerDataException(
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import org.springframework.util.Assert;
+
+/**
+ * Options for the bulk writes of {@link SpannerOperations}, which split the mutations of many
+ * entities into separately committed chunks. Chunks are not atomic with respect to each other,
+ * but the mutations of each entity and its interleaved children are always committed together.
+ */
+public class SpannerBulkWriteOptions {
+
+  /** The default maximum number of mutated column values per commit. */
+  public static final int DEFAULT_MAX_MUTATIONS_PER_COMMIT = 20_000;
+
+  /** The default maximum estimated size of the mutations of a commit, in bytes. */
+  public static final long DEFAULT_MAX_BYTES_PER_COMMIT = 25L * 1024 * 1024;
+
+  private int maxMutationsPerCommit = DEFAULT_MAX_MUTATIONS_PER_COMMIT;
+
+  private long maxBytesPerCommit = DEFAULT_MAX_BYTES_PER_COMMIT;
+
+  private int maxParallelism = 1;
+
+  private Executor executor;
+
+  private boolean batchWrite;
+
+  private int maxRetries = 2;
+
+  private Duration initialRetryDelay = Duration.ofMillis(100);
+
+  private Duration maxRetryDelay = Duration.ofSeconds(5);
+
+  public int getMaxMutationsPerCommit() {
+    return this.maxMutationsPerCommit;
+  }
+
+  /**
+   * Sets the maximum number of mutations per commit. Each written column value counts as one
+   * mutation and each deleted key as one. Secondary indexes add to the count of Cloud Spanner, so
+   * leave room below its per-commit limit.
+   *
+   * @param maxMutationsPerCommit the maximum number of mutations per commit.
+   * @return this options object.
+   */
+  public SpannerBulkWriteOptions setMaxMutationsPerCommit(int maxMutationsPerCommit) {
+    Assert.isTrue(maxMutationsPerCommit > 0, "The maximum mutations per commit must be positive.");
+    this.maxMutationsPerCommit = maxMutationsPerCommit;
+    return this;
+  }
+
+  public long getMaxBytesPerCommit() {
+    return this.maxBytesPerCommit;
+  }
+
+  /**
+   * Sets the maximum estimated size of the mutations of a commit.
+   *
+   * @param maxBytesPerCommit the maximum size in bytes.
+   * @return this options object.
+   */
+  public SpannerBulkWriteOptions setMaxBytesPerCommit(long maxBytesPerCommit) {
+    Assert.isTrue(maxBytesPerCommit > 0, "The maximum bytes per commit must be positive.");
+    this.maxBytesPerCommit = maxBytesPerCommit;
+    return this;
+  }
+
+  public int getMaxParallelism() {
+    return this.maxParallelism;
+  }
+
+  /**
+   * Sets the maximum number of chunks that are committed concurrently. Entities are only mapped to
+   * mutations while fewer chunks are in flight, which bounds the memory used by a bulk write.
+   *
+   * @param maxParallelism the maximum number of concurrent commits.
+   * @return this options object.
+   */
+  public SpannerBulkWriteOptions setMaxParallelism(int maxParallelism) {
+    Assert.isTrue(maxParallelism > 0, "The maximum parallelism must be positive.");
+    this.maxParallelism = maxParallelism;
+    return this;
+  }
+
+  public Executor getExecutor() {
+    return this.executor;
+  }
+
+  /**
+   * Sets the executor that commits chunks when the maximum parallelism is more than 1. If none is
+   * set, a thread pool is created for each bulk write.
+   *
+   * @param executor the executor to use.
+   * @return this options object.
+   */
+  public SpannerBulkWriteOptions setExecutor(Executor executor) {
+    this.executor = executor;
+    return this;
+  }
+
+  public boolean isBatchWrite() {
+    return this.batchWrite;
+  }
+
+  /**
+   * Sets whether chunks are written with the Cloud Spanner BatchWrite API instead of a commit per
+   * chunk. Each entity with its interleaved children is applied as one mutation group, at least
+   * once, and failed groups are retried on their own.
+   *
+   * @param batchWrite whether to use BatchWrite.
+   * @return this options object.
+   */
+  public SpannerBulkWriteOptions setBatchWrite(boolean batchWrite) {
+    this.batchWrite = batchWrite;
+    return this;
+  }
+
+  public int getMaxRetries() {
+    return this.maxRetries;
+  }
+
+  /**
+   * Sets how many times a failed chunk is retried. Commits are only retried for retryable errors.
+   * Inserts and updates are only retried if their commit was aborted, since other retryable
+   * errors, such as UNAVAILABLE or DEADLINE_EXCEEDED, leave it unknown whether they were applied.
+   * With BatchWrite, mutation groups that failed with such errors are retried by the same rules.
+   * Retries are delayed with exponential backoff, see {@link #setInitialRetryDelay(Duration)}.
+   *
+   * @param maxRetries the maximum number of retries per chunk.
+   * @return this options object.
+   */
+  public SpannerBulkWriteOptions setMaxRetries(int maxRetries) {
+    Assert.isTrue(maxRetries >= 0, "The maximum retries must not be negative.");
+    this.maxRetries = maxRetries;
+    return this;
+  }
+
+  public Duration getInitialRetryDelay() {
+    return this.initialRetryDelay;
+  }
+
+  /**
+   * Sets the delay before the first retry of a chunk. The delay doubles with each further retry,
+   * up to the {@link #setMaxRetryDelay(Duration) maximum retry delay}, and a random part of up to
+   * half of it is subtracted so that chunks failing together don't retry together.
+   *
+   * @param initialRetryDelay the delay before the first retry.
+   * @return this options object.
+   */
+  public SpannerBulkWriteOptions setInitialRetryDelay(Duration initialRetryDelay) {
+    Assert.notNull(initialRetryDelay, "The initial retry delay must not be null.");
+    Assert.isTrue(!initialRetryDelay.isNegative(), "The initial retry delay must not be negative.");
+    this.initialRetryDelay = initialRetryDelay;
+    return this;
+  }
+
+  public Duration getMaxRetryDelay() {
+    return this.maxRetryDelay;
+  }
+
+  /**
+   * Sets the maximum delay before a retry of a chunk.
+   *
+   * @param maxRetryDelay the maximum delay before a retry.
+   * @return this options object.
+   */
+  public SpannerBulkWriteOptions setMaxRetryDelay(Duration maxRetryDelay) {
+    Assert.notNull(maxRetryDelay, "The maximum retry delay must not be null.");
+    Assert.isTrue(!maxRetryDelay.isNegative(), "The maximum retry delay must not be negative.");
+    this.maxRetryDelay = maxRetryDelay;
+    return this;
+  }
+}
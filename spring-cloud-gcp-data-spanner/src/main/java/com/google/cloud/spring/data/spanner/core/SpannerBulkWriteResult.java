@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core;
+
+import com.google.cloud.Timestamp;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The outcome of a bulk write of {@link SpannerOperations}: one {@link ChunkResult} for each
+ * separately committed chunk, in the order of the written entities.
+ */
+public class SpannerBulkWriteResult {
+
+  private final List<ChunkResult> chunkResults;
+
+  SpannerBulkWriteResult(List<ChunkResult> chunkResults) {
+    this.chunkResults = Collections.unmodifiableList(chunkResults);
+  }
+
+  public List<ChunkResult> getChunkResults() {
+    return this.chunkResults;
+  }
+
+  /**
+   * Returns whether all chunks were written.
+   *
+   * @return {@code true} if no chunk failed.
+   */
+  public boolean isSuccessful() {
+    return this.chunkResults.stream().allMatch(ChunkResult::isSuccessful);
+  }
+
+  /**
+   * Returns the number of entities that were written.
+   *
+   * @return the number of entities of all chunks, less the failed ones.
+   */
+  public long getWrittenEntityCount() {
+    return this.chunkResults.stream()
+        .mapToLong(result -> result.getEntityCount() - result.getFailedEntities().size())
+        .sum();
+  }
+
+  /** The outcome of writing one chunk of a bulk write. */
+  public static class ChunkResult {
+
+    private final int chunkIndex;
+
+    private final int entityCount;
+
+    private final int mutationCount;
+
+    private final int attempts;
+
+    private final Timestamp commitTimestamp;
+
+    private final List<Object> failedEntities;
+
+    private final Exception exception;
+
+    ChunkResult(
+        int chunkIndex,
+        int entityCount,
+        int mutationCount,
+        int attempts,
+        Timestamp commitTimestamp,
+        List<Object> failedEntities,
+        Exception exception) {
+      this.chunkIndex = chunkIndex;
+      this.entityCount = entityCount;
+      this.mutationCount = mutationCount;
+      this.attempts = attempts;
+      this.commitTimestamp = commitTimestamp;
+      this.failedEntities = Collections.unmodifiableList(failedEntities);
+      this.exception = exception;
+    }
+
+    public int getChunkIndex() {
+      return this.chunkIndex;
+    }
+
+    public int getEntityCount() {
+      return this.entityCount;
+    }
+
+    /**
+     * Returns the number of mutations of the chunk, counted as in {@link
+     * SpannerBulkWriteOptions#setMaxMutationsPerCommit(int)}.
+     *
+     * @return the number of mutations.
+     */
+    public int getMutationCount() {
+      return this.mutationCount;
+    }
+
+    public int getAttempts() {
+      return this.attempts;
+    }
+
+    /**
+     * Returns the commit timestamp of the chunk. With BatchWrite, this is the latest commit
+     * timestamp of its mutation groups.
+     *
+     * @return the commit timestamp, or null if nothing was committed.
+     */
+    public Timestamp getCommitTimestamp() {
+      return this.commitTimestamp;
+    }
+
+    /**
+     * Returns the entities that were not written after all retries.
+     *
+     * @return the failed entities, which is empty if the chunk was written.
+     */
+    public List<Object> getFailedEntities() {
+      return this.failedEntities;
+    }
+
+    /**
+     * Returns the error of the last failed attempt. If the chunk was written but a listener of
+     * its after-commit event failed, this is the error of the listener.
+     *
+     * @return the error, or null if the chunk was written without errors.
+     */
+    public Exception getException() {
+      return this.exception;
+    }
+
+    public boolean isSuccessful() {
+      return this.failedEntities.isEmpty() && this.exception == null;
+    }
+  }
+}
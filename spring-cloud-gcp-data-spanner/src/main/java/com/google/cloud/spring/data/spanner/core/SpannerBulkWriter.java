@@ -0,0 +1,447 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core;
+
+import com.google.cloud.Timestamp;
+import com.google.cloud.spanner.DatabaseClient;
+import com.google.cloud.spanner.ErrorCode;
+import com.google.cloud.spanner.KeySet;
+import com.google.cloud.spanner.Mutation;
+import com.google.cloud.spanner.Mutation.Op;
+import com.google.cloud.spanner.MutationGroup;
+import com.google.cloud.spanner.SpannerException;
+import com.google.cloud.spanner.SpannerExceptionFactory;
+import com.google.cloud.spanner.Value;
+import com.google.cloud.spring.data.spanner.core.SpannerBulkWriteResult.ChunkResult;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerDataException;
+import com.google.rpc.Code;
+import com.google.spanner.v1.BatchWriteResponse;
+import io.grpc.Status;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Splits the mutations of many entities into chunks that stay within the per-commit limits of
+ * {@link SpannerBulkWriteOptions}, and commits the chunks with bounded parallelism. Entities are
+ * mapped to mutations as chunks are formed, so only the chunks in flight are held in memory.
+ * Failures of a chunk, including those of its listeners, are recorded in its {@link ChunkResult}
+ * instead of being thrown.
+ */
+final class SpannerBulkWriter {
+
+  private static final Log LOGGER = LogFactory.getLog(SpannerBulkWriter.class);
+
+  private final DatabaseClient databaseClient;
+
+  private final SpannerBulkWriteOptions options;
+
+  private final boolean idempotent;
+
+  private final BiConsumer<List<Object>, List<Mutation>> beforeCommit;
+
+  private final BiConsumer<List<Object>, List<Mutation>> afterCommit;
+
+  /**
+   * Constructor.
+   *
+   * @param databaseClient the client used to commit chunks.
+   * @param options the chunk limits, parallelism and retries.
+   * @param idempotent whether the mutations can be applied more than once, so that commits with an
+   *     unknown outcome can be retried.
+   * @param beforeCommit called with the entities and mutations of each chunk before it is
+   *     committed.
+   * @param afterCommit called with the entities and mutations of each chunk that were written.
+   */
+  SpannerBulkWriter(
+      DatabaseClient databaseClient,
+      SpannerBulkWriteOptions options,
+      boolean idempotent,
+      BiConsumer<List<Object>, List<Mutation>> beforeCommit,
+      BiConsumer<List<Object>, List<Mutation>> afterCommit) {
+    this.databaseClient = databaseClient;
+    this.options = options;
+    this.idempotent = idempotent;
+    this.beforeCommit = beforeCommit;
+    this.afterCommit = afterCommit;
+  }
+
+  SpannerBulkWriteResult write(
+      Iterable<?> entities, Function<Object, Collection<Mutation>> mutationFunction) {
+    ExecutorService ownExecutor = null;
+    Executor executor = null;
+    if (this.options.getMaxParallelism() > 1) {
+      executor = this.options.getExecutor();
+      if (executor == null) {
+        ownExecutor = Executors.newFixedThreadPool(this.options.getMaxParallelism());
+        executor = ownExecutor;
+      }
+    }
+    Semaphore inFlight = new Semaphore(this.options.getMaxParallelism());
+    List<CompletableFuture<ChunkResult>> results = new ArrayList<>();
+    try {
+      Chunk chunk = new Chunk(0);
+      for (Object entity : entities) {
+        List<Mutation> mutations;
+        try {
+          mutations = new ArrayList<>(mutationFunction.apply(entity));
+        } catch (RuntimeException ex) {
+          // The entity is reported as a chunk of its own, after the entities before it.
+          if (!chunk.entities.isEmpty()) {
+            results.add(submit(chunk, executor, inFlight));
+            chunk = new Chunk(chunk.index + 1);
+          }
+          chunk.add(entity, Collections.emptyList(), 0, 0);
+          results.add(CompletableFuture.completedFuture(chunk.failed(0, ex)));
+          chunk = new Chunk(chunk.index + 1);
+          continue;
+        }
+        int mutationCount = 0;
+        long bytes = 0;
+        for (Mutation mutation : mutations) {
+          mutationCount += countMutations(mutation);
+          bytes += estimateBytes(mutation);
+        }
+        if (!chunk.entities.isEmpty()
+            && (chunk.mutationCount + mutationCount > this.options.getMaxMutationsPerCommit()
+                || chunk.bytes + bytes > this.options.getMaxBytesPerCommit())) {
+          results.add(submit(chunk, executor, inFlight));
+          chunk = new Chunk(chunk.index + 1);
+        }
+        chunk.add(entity, mutations, mutationCount, bytes);
+      }
+      if (!chunk.entities.isEmpty()) {
+        results.add(submit(chunk, executor, inFlight));
+      }
+      return new SpannerBulkWriteResult(
+          results.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+    } finally {
+      if (ownExecutor != null) {
+        ownExecutor.shutdown();
+      }
+    }
+  }
+
+  private CompletableFuture<ChunkResult> submit(
+      Chunk chunk, Executor executor, Semaphore inFlight) {
+    try {
+      inFlight.acquire();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new SpannerDataException("Interrupted while waiting to commit a bulk write chunk.", ex);
+    }
+    try {
+      this.beforeCommit.accept(chunk.entities, chunk.getAllMutations());
+    } catch (RuntimeException ex) {
+      inFlight.release();
+      return CompletableFuture.completedFuture(chunk.failed(0, ex));
+    }
+    if (executor == null) {
+      try {
+        return CompletableFuture.completedFuture(writeChunk(chunk));
+      } finally {
+        inFlight.release();
+      }
+    }
+    try {
+      return CompletableFuture.supplyAsync(() -> writeChunk(chunk), executor)
+          .whenComplete((result, ex) -> inFlight.release());
+    } catch (RejectedExecutionException ex) {
+      inFlight.release();
+      return CompletableFuture.completedFuture(chunk.failed(0, ex));
+    }
+  }
+
+  private ChunkResult writeChunk(Chunk chunk) {
+    try {
+      return this.options.isBatchWrite() ? batchWriteChunk(chunk) : commitChunk(chunk);
+    } catch (RuntimeException ex) {
+      return chunk.failed(1, ex);
+    }
+  }
+
+  private ChunkResult commitChunk(Chunk chunk) {
+    List<Mutation> mutations = chunk.getAllMutations();
+    int attempts = 0;
+    Timestamp commitTimestamp = null;
+    while (commitTimestamp == null) {
+      attempts++;
+      try {
+        LOGGER.debug(
+            "Committing bulk write chunk "
+                + chunk.index
+                + " of "
+                + mutations.size()
+                + " mutations");
+        commitTimestamp = this.databaseClient.write(mutations);
+      } catch (SpannerException ex) {
+        if (!isRetryable(ex)
+            || attempts > this.options.getMaxRetries()
+            || !backOff(attempts)) {
+          return chunk.failed(attempts, ex);
+        }
+      }
+    }
+    return chunk.result(
+        attempts, commitTimestamp, new ArrayList<>(), afterCommit(chunk.entities, mutations));
+  }
+
+  /**
+   * Returns whether a failed write can be retried. An aborted write was not applied, but one that
+   * failed with an error such as UNAVAILABLE or DEADLINE_EXCEEDED may have been, so it is only
+   * retried if applying the mutations twice has the same effect as applying them once. Otherwise,
+   * a retried insert could fail with ALREADY_EXISTS although the entity was written.
+   */
+  private boolean isRetryable(SpannerException ex) {
+    return ex.getErrorCode() == ErrorCode.ABORTED || (this.idempotent && ex.isRetryable());
+  }
+
+  /**
+   * Waits before the next attempt of a chunk, with a delay that grows exponentially with the
+   * attempts made so far and is randomized by up to half. Returns false if the thread was
+   * interrupted, in which case the chunk is not retried.
+   */
+  private boolean backOff(int attempts) {
+    long initialNanos = this.options.getInitialRetryDelay().toNanos();
+    long maxNanos = this.options.getMaxRetryDelay().toNanos();
+    long delayNanos = initialNanos << Math.min(attempts - 1, 30);
+    if (delayNanos < initialNanos || delayNanos > maxNanos) {
+      delayNanos = maxNanos;
+    }
+    long halfNanos = delayNanos / 2;
+    long sleepNanos = delayNanos - halfNanos + ThreadLocalRandom.current().nextLong(halfNanos + 1);
+    try {
+      TimeUnit.NANOSECONDS.sleep(sleepNanos);
+      return true;
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private RuntimeException afterCommit(List<Object> entities, List<Mutation> mutations) {
+    try {
+      this.afterCommit.accept(entities, mutations);
+      return null;
+    } catch (RuntimeException ex) {
+      return ex;
+    }
+  }
+
+  private ChunkResult batchWriteChunk(Chunk chunk) {
+    List<Integer> pending = new ArrayList<>();
+    for (int i = 0; i < chunk.entities.size(); i++) {
+      pending.add(i);
+    }
+    Set<Integer> failedPermanently = new HashSet<>();
+    int attempts = 0;
+    Timestamp commitTimestamp = null;
+    Exception exception = null;
+    while (!pending.isEmpty() && attempts <= this.options.getMaxRetries()) {
+      if (attempts > 0 && !backOff(attempts)) {
+        break;
+      }
+      attempts++;
+      List<MutationGroup> groups = new ArrayList<>();
+      for (int entityIndex : pending) {
+        groups.add(MutationGroup.of(chunk.mutations.get(entityIndex)));
+      }
+      Set<Integer> done = new HashSet<>();
+      boolean retryable = true;
+      try {
+        for (BatchWriteResponse response : this.databaseClient.batchWriteAtLeastOnce(groups)) {
+          if (response.getStatus().getCode() == Code.OK_VALUE) {
+            for (int groupIndex : response.getIndexesList()) {
+              done.add(pending.get(groupIndex));
+            }
+            Timestamp groupTimestamp = Timestamp.fromProto(response.getCommitTimestamp());
+            if (commitTimestamp == null || groupTimestamp.compareTo(commitTimestamp) > 0) {
+              commitTimestamp = groupTimestamp;
+            }
+          } else {
+            SpannerException groupException = toSpannerException(response, chunk);
+            exception = new SpannerDataException(groupException.getMessage(), groupException);
+            if (!isRetryable(groupException)) {
+              for (int groupIndex : response.getIndexesList()) {
+                done.add(pending.get(groupIndex));
+                failedPermanently.add(pending.get(groupIndex));
+              }
+            }
+          }
+        }
+      } catch (SpannerException ex) {
+        exception = ex;
+        retryable = isRetryable(ex);
+      }
+      pending.removeAll(done);
+      if (!retryable) {
+        break;
+      }
+    }
+
+    List<Object> writtenEntities = new ArrayList<>();
+    List<Mutation> writtenMutations = new ArrayList<>();
+    List<Object> failedEntities = new ArrayList<>();
+    Set<Integer> failed = new HashSet<>(pending);
+    failed.addAll(failedPermanently);
+    for (int i = 0; i < chunk.entities.size(); i++) {
+      if (failed.contains(i)) {
+        failedEntities.add(chunk.entities.get(i));
+      } else {
+        writtenEntities.add(chunk.entities.get(i));
+        writtenMutations.addAll(chunk.mutations.get(i));
+      }
+    }
+    RuntimeException listenerException =
+        writtenEntities.isEmpty() ? null : afterCommit(writtenEntities, writtenMutations);
+    return chunk.result(
+        attempts,
+        commitTimestamp,
+        failedEntities,
+        failedEntities.isEmpty() ? listenerException : exception);
+  }
+
+  private static SpannerException toSpannerException(BatchWriteResponse response, Chunk chunk) {
+    return SpannerExceptionFactory.newSpannerException(
+        ErrorCode.fromGrpcStatus(Status.fromCodeValue(response.getStatus().getCode())),
+        "BatchWrite failed for "
+            + response.getIndexesCount()
+            + " mutation groups of chunk "
+            + chunk.index
+            + ": "
+            + response.getStatus().getMessage());
+  }
+
+  /**
+   * Counts the mutations of a write as its column values and of a delete as its keys and ranges.
+   */
+  static int countMutations(Mutation mutation) {
+    if (mutation.getOperation() == Op.DELETE) {
+      KeySet keySet = mutation.getKeySet();
+      return Math.max(size(keySet.getKeys()) + size(keySet.getRanges()), 1);
+    }
+    return size(mutation.getColumns());
+  }
+
+  private static int size(Iterable<?> iterable) {
+    return (int) StreamSupport.stream(iterable.spliterator(), false).count();
+  }
+
+  static long estimateBytes(Mutation mutation) {
+    long bytes = mutation.getTable().length();
+    if (mutation.getOperation() == Op.DELETE) {
+      return bytes + mutation.getKeySet().toString().length();
+    }
+    for (String column : mutation.getColumns()) {
+      bytes += column.length();
+    }
+    for (Value value : mutation.getValues()) {
+      bytes += estimateBytes(value);
+    }
+    return bytes;
+  }
+
+  private static long estimateBytes(Value value) {
+    if (value.isNull()) {
+      return 1;
+    }
+    switch (value.getType().getCode()) {
+      case STRING:
+        return value.getString().length();
+      case JSON:
+        return value.getJson().length();
+      case BYTES:
+        return value.getBytes().length();
+      case BOOL:
+      case INT64:
+      case FLOAT32:
+      case FLOAT64:
+      case TIMESTAMP:
+      case DATE:
+        return 8;
+      default:
+        return value.toString().length();
+    }
+  }
+
+  /** The entities of one chunk, with the mutations of each entity kept together. */
+  private static final class Chunk {
+
+    private final int index;
+
+    private final List<Object> entities = new ArrayList<>();
+
+    private final List<List<Mutation>> mutations = new ArrayList<>();
+
+    private int mutationCount;
+
+    private long bytes;
+
+    private Chunk(int index) {
+      this.index = index;
+    }
+
+    private void add(Object entity, List<Mutation> entityMutations, int count, long size) {
+      this.entities.add(entity);
+      this.mutations.add(entityMutations);
+      this.mutationCount += count;
+      this.bytes += size;
+    }
+
+    private List<Mutation> getAllMutations() {
+      List<Mutation> result = new ArrayList<>();
+      this.mutations.forEach(result::addAll);
+      return result;
+    }
+
+    private ChunkResult result(
+        int attempts,
+        Timestamp commitTimestamp,
+        List<Object> failedEntities,
+        Exception exception) {
+      return new ChunkResult(
+          this.index,
+          this.entities.size(),
+          this.mutationCount,
+          attempts,
+          commitTimestamp,
+          failedEntities,
+          exception);
+    }
+
+    private ChunkResult failed(int attempts, Exception exception) {
+      return result(attempts, null, this.entities, exception);
+    }
+  }
+}
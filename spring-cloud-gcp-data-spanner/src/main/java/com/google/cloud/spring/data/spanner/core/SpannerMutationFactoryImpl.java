@@ -128,25 +128,21 @@ public class SpannerMutationFactoryImpl implements SpannerMutationFactory {
     this.spannerEntityProcessor.write(object, writeBuilder::set, includeProperties);
     mutations.add(writeBuilder.build());
 
+    PersistentPropertyAccessor<?> accessor = persistentEntity.getPropertyAccessor(object);
     persistentEntity.doWithInterleavedProperties(
         spannerPersistentProperty -> {
           if (includeProperties == null
               || includeProperties.contains(spannerPersistentProperty.getName())) {
 
-            Iterable kids =
-                (Iterable)
-                    persistentEntity
-                        .getPropertyAccessor(object)
-                        .getProperty(spannerPersistentProperty);
+            Iterable kids = (Iterable) accessor.getProperty(spannerPersistentProperty);
 
             if (kids != null && !ConversionUtils.ignoreForWriteLazyProxy(kids)) {
+              SpannerPersistentEntity<?> childEntity =
+                  this.spannerMappingContext.getPersistentEntity(
+                      spannerPersistentProperty.getColumnInnerType());
+              Key parentKey = this.spannerSchemaUtils.getKey(object);
               for (Object child : kids) {
-                verifyChildHasParentId(
-                    persistentEntity,
-                    object,
-                    this.spannerMappingContext.getPersistentEntity(
-                        spannerPersistentProperty.getColumnInnerType()),
-                    child);
+                verifyChildHasParentId(persistentEntity, parentKey, childEntity, child);
                 mutations.addAll(saveObject(op, child, includeProperties));
               }
             }
@@ -157,10 +153,10 @@ public class SpannerMutationFactoryImpl implements SpannerMutationFactory {
 
   private void verifyChildHasParentId(
       SpannerPersistentEntity parentEntity,
-      Object parentObject,
+      Key parentKey,
       SpannerPersistentEntity childEntity,
       Object childObject) {
-    Iterator parentKeyParts = this.spannerSchemaUtils.getKey(parentObject).getParts().iterator();
+    Iterator parentKeyParts = parentKey.getParts().iterator();
     Iterator childKeyParts = this.spannerSchemaUtils.getKey(childObject).getParts().iterator();
     int partNum = 1;
     while (parentKeyParts.hasNext()) {
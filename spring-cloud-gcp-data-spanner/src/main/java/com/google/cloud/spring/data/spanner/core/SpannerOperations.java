@@ -25,10 +25,16 @@ import com.google.cloud.spanner.Struct;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * Defines operations available to use with Spanner.
  *
+ * <p>The bulk write overloads of {@code insertAll}, {@code updateAll}, {@code upsertAll} and
+ * {@code deleteAll} that take {@link SpannerBulkWriteOptions}, and the streaming methods {@code
+ * queryStream}, {@code readAllStream} and {@code queryAllStream}, are abstract. Implementations
+ * of this interface other than {@link SpannerTemplate} must add them when upgrading.
+ *
  * @since 1.1
  */
 public interface SpannerOperations {
@@ -185,6 +191,60 @@ public interface SpannerOperations {
    */
   <T> List<T> queryAll(Class<T> entityClass, SpannerPageableQueryOptions options);
 
+  /**
+   * Executes a given query string with tags and parameters and applies a given function to each row
+   * of the result as it is read. The rows are not held in memory, and the returned stream should be
+   * closed to release the underlying result set if it is not fully consumed.
+   *
+   * @param rowFunc the function to apply to each row of the result.
+   * @param statement the SQL statement used to select the objects.
+   * @param options the options with which to run this query.
+   * @param <A> the type to convert each row Struct into.
+   * @return a stream of the rows each transformed with the given function.
+   */
+  <A> Stream<A> queryStream(
+      Function<Struct, A> rowFunc, Statement statement, SpannerQueryOptions options);
+
+  /**
+   * Finds objects by using an SQL statement, mapping them as the returned stream is consumed. The
+   * returned stream should be closed to release the underlying result set if it is not fully
+   * consumed. No {@link com.google.cloud.spring.data.spanner.core.mapping.event.AfterQueryEvent}
+   * is published, because the results are never held together.
+   *
+   * @param entityClass the type of object to retrieve.
+   * @param statement the SQL statement used to select the objects.
+   * @param options the Cloud Spanner read options with which to conduct the read operation.
+   * @param <T> the type of object to retrieve.
+   * @return a stream of the objects found.
+   */
+  <T> Stream<T> queryStream(
+      Class<T> entityClass, Statement statement, SpannerQueryOptions options);
+
+  /**
+   * Finds all objects of the given type, mapping them as the returned stream is consumed. The
+   * returned stream should be closed to release the underlying result set if it is not fully
+   * consumed. No {@link com.google.cloud.spring.data.spanner.core.mapping.event.AfterReadEvent} is
+   * published, because the results are never held together.
+   *
+   * @param entityClass the type of the object to retrieve.
+   * @param options the Cloud Spanner read options with which to conduct the read operation.
+   * @param <T> the type of the object to retrieve.
+   * @return a stream of all objects stored of the given type.
+   */
+  <T> Stream<T> readAllStream(Class<T> entityClass, SpannerReadOptions options);
+
+  /**
+   * Finds all objects of the given type with a query, mapping them as the returned stream is
+   * consumed. The returned stream should be closed to release the underlying result set if it is
+   * not fully consumed.
+   *
+   * @param entityClass the type of the object to retrieve.
+   * @param options the Cloud Spanner query options with which to conduct the query operation.
+   * @param <T> the type of the object to retrieve.
+   * @return a stream of all objects stored of the given type.
+   */
+  <T> Stream<T> queryAllStream(Class<T> entityClass, SpannerPageableQueryOptions options);
+
   /**
    * Deletes an object based on a key.
    *
@@ -208,6 +268,15 @@ public interface SpannerOperations {
    */
   void deleteAll(Iterable<?> objects);
 
+  /**
+   * Deletes objects from storage in chunks that are committed separately, and not atomically.
+   *
+   * @param objects the objects to delete from storage. They are iterated as chunks are committed.
+   * @param options the chunk limits, parallelism and retries of the bulk write.
+   * @return the outcome of each chunk.
+   */
+  SpannerBulkWriteResult deleteAll(Iterable<?> objects, SpannerBulkWriteOptions options);
+
   /**
    * Deletes objects given a set of keys.
    *
@@ -231,6 +300,15 @@ public interface SpannerOperations {
    */
   void insertAll(Iterable<?> objects);
 
+  /**
+   * Insert objects into storage in chunks that are committed separately, and not atomically.
+   *
+   * @param objects the objects to insert. They are iterated as chunks are committed.
+   * @param options the chunk limits, parallelism and retries of the bulk write.
+   * @return the outcome of each chunk.
+   */
+  SpannerBulkWriteResult insertAll(Iterable<?> objects, SpannerBulkWriteOptions options);
+
   /**
    * Update an object already in storage.
    *
@@ -245,6 +323,15 @@ public interface SpannerOperations {
    */
   void updateAll(Iterable<?> objects);
 
+  /**
+   * Update objects in chunks that are committed separately, and not atomically.
+   *
+   * @param objects the objects to update. They are iterated as chunks are committed.
+   * @param options the chunk limits, parallelism and retries of the bulk write.
+   * @return the outcome of each chunk.
+   */
+  SpannerBulkWriteResult updateAll(Iterable<?> objects, SpannerBulkWriteOptions options);
+
   /**
    * Update an object in storage.
    *
@@ -277,6 +364,16 @@ public interface SpannerOperations {
    */
   void upsertAll(Iterable<?> objects);
 
+  /**
+   * Update or insert objects into storage in chunks that are committed separately, and not
+   * atomically.
+   *
+   * @param objects the objects to update or insert. They are iterated as chunks are committed.
+   * @param options the chunk limits, parallelism and retries of the bulk write.
+   * @return the outcome of each chunk.
+   */
+  SpannerBulkWriteResult upsertAll(Iterable<?> objects, SpannerBulkWriteOptions options);
+
   /**
    * Update or insert an object into storage.
    *
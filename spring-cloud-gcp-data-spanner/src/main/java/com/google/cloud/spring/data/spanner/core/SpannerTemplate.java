@@ -37,6 +37,7 @@ import com.google.cloud.spring.data.spanner.core.convert.SpannerEntityProcessor;
 import com.google.cloud.spring.data.spanner.core.mapping.SpannerDataException;
 import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
 import com.google.cloud.spring.data.spanner.core.mapping.SpannerPersistentEntity;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerPersistentProperty;
 import com.google.cloud.spring.data.spanner.core.mapping.event.AfterDeleteEvent;
 import com.google.cloud.spring.data.spanner.core.mapping.event.AfterExecuteDmlEvent;
 import com.google.cloud.spring.data.spanner.core.mapping.event.AfterQueryEvent;
@@ -51,12 +52,18 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.StringJoiner;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import javax.annotation.Nullable;
 import org.apache.commons.logging.Log;
@@ -77,6 +84,12 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
 
   private static final Log LOGGER = LogFactory.getLog(SpannerTemplate.class);
 
+  // Keeps batched child queries below Spanner's limit on the number of parameters per statement.
+  private static final int MAX_CHILD_QUERY_PARAMETERS = 900;
+
+  // The number of streamed entities whose interleaved children are resolved together.
+  private static final int STREAM_CHILD_RESOLUTION_BATCH_SIZE = 100;
+
   private final Supplier<DatabaseClient> databaseClientProvider;
 
   private final SpannerMappingContext mappingContext;
@@ -279,6 +292,50 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
 
   @Override
   public <T> List<T> queryAll(Class<T> entityClass, SpannerPageableQueryOptions options) {
+    return query(entityClass, buildQueryAllStatement(entityClass, options), options);
+  }
+
+  @Override
+  public <A> Stream<A> queryStream(
+      Function<Struct, A> rowFunc, Statement statement, SpannerQueryOptions options) {
+    return ConversionUtils.streamResultSet(executeQuery(statement, options), rowFunc);
+  }
+
+  @Override
+  public <T> Stream<T> queryStream(
+      Class<T> entityClass, Statement statement, SpannerQueryOptions options) {
+    return mapToStreamAndResolveChildren(
+        executeQuery(statement, options),
+        entityClass,
+        (options != null) ? options.getIncludeProperties() : null,
+        options != null && options.isAllowPartialRead());
+  }
+
+  @Override
+  public <T> Stream<T> readAllStream(Class<T> entityClass, SpannerReadOptions options) {
+    SpannerPersistentEntity<T> persistentEntity =
+        (SpannerPersistentEntity<T>) this.mappingContext.getPersistentEntityOrFail(entityClass);
+    KeySet keys = KeySet.all();
+    if (persistentEntity.hasEagerlyLoadedProperties() || persistentEntity.hasWhere()) {
+      return queryStream(
+          entityClass,
+          buildReadQuery(keys, persistentEntity, options != null ? options.getIndex() : null),
+          toQueryOption(keys, options));
+    }
+    return mapToStreamAndResolveChildren(
+        executeRead(persistentEntity.tableName(), keys, persistentEntity.columns(), options),
+        entityClass,
+        (options != null) ? options.getIncludeProperties() : null,
+        options != null && options.isAllowPartialRead());
+  }
+
+  @Override
+  public <T> Stream<T> queryAllStream(Class<T> entityClass, SpannerPageableQueryOptions options) {
+    return queryStream(entityClass, buildQueryAllStatement(entityClass, options), options);
+  }
+
+  private Statement buildQueryAllStatement(
+      Class<?> entityClass, SpannerPageableQueryOptions options) {
     SpannerPersistentEntity<?> entity = this.mappingContext.getPersistentEntityOrFail(entityClass);
 
     String sql =
@@ -288,17 +345,14 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
             + " FROM "
             + entity.tableName()
             + SpannerStatementQueryExecutor.buildWhere(entity);
-    return query(
-        entityClass,
-        SpannerStatementQueryExecutor.buildStatementFromSqlWithArgs(
-            SpannerStatementQueryExecutor.applySortingPagingQueryOptions(
-                entityClass, options, sql, this.mappingContext, false),
-            null,
-            null,
-            null,
-            null,
-            null),
-        options);
+    return SpannerStatementQueryExecutor.buildStatementFromSqlWithArgs(
+        SpannerStatementQueryExecutor.applySortingPagingQueryOptions(
+            entityClass, options, sql, this.mappingContext, false),
+        null,
+        null,
+        null,
+        null,
+        null);
   }
 
   @Override
@@ -313,6 +367,11 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
         () -> getMutationsForMultipleObjects(objects, this.mutationFactory::insert), objects, null);
   }
 
+  @Override
+  public SpannerBulkWriteResult insertAll(Iterable<?> objects, SpannerBulkWriteOptions options) {
+    return bulkSave(objects, this.mutationFactory::insert, false, options);
+  }
+
   @Override
   public void update(Object object) {
     applySaveMutations(
@@ -327,6 +386,11 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
         null);
   }
 
+  @Override
+  public SpannerBulkWriteResult updateAll(Iterable<?> objects, SpannerBulkWriteOptions options) {
+    return bulkSave(objects, x -> this.mutationFactory.update(x, null), false, options);
+  }
+
   @Override
   public void update(Object object, String... includeProperties) {
     Set<String> incl =
@@ -357,6 +421,11 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
         null);
   }
 
+  @Override
+  public SpannerBulkWriteResult upsertAll(Iterable<?> objects, SpannerBulkWriteOptions options) {
+    return bulkSave(objects, x -> this.mutationFactory.upsert(x, null), true, options);
+  }
+
   @Override
   public void upsert(Object object, String... includeProperties) {
     Set<String> incl =
@@ -383,6 +452,22 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
     maybeEmitEvent(new AfterSaveEvent(mutations, entities, includeProperties));
   }
 
+  private SpannerBulkWriteResult bulkSave(
+      Iterable<?> objects,
+      Function<Object, Collection<Mutation>> mutationFunc,
+      boolean idempotent,
+      SpannerBulkWriteOptions options) {
+    Assert.notNull(objects, "A non-null iterable of objects is required.");
+    Assert.notNull(options, "Non-null bulk write options are required.");
+    return new SpannerBulkWriter(
+            getBulkWriteDatabaseClient(),
+            options,
+            idempotent,
+            (entities, mutations) -> maybeEmitEvent(new BeforeSaveEvent(entities, null)),
+            (entities, mutations) -> maybeEmitEvent(new AfterSaveEvent(mutations, entities, null)))
+        .write(objects, mutationFunc);
+  }
+
   @Override
   public void delete(Object entity) {
     applyDeleteMutations(
@@ -399,6 +484,21 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
             .collect(Collectors.toList()));
   }
 
+  @Override
+  public SpannerBulkWriteResult deleteAll(Iterable<?> objects, SpannerBulkWriteOptions options) {
+    Assert.notNull(objects, "A non-null iterable of objects is required.");
+    Assert.notNull(options, "Non-null bulk write options are required.");
+    return new SpannerBulkWriter(
+            getBulkWriteDatabaseClient(),
+            options,
+            true,
+            (entities, mutations) ->
+                maybeEmitEvent(new BeforeDeleteEvent(mutations, entities, null, null)),
+            (entities, mutations) ->
+                maybeEmitEvent(new AfterDeleteEvent(mutations, entities, null, null)))
+        .write(objects, x -> Collections.singletonList(this.mutationFactory.delete(x)));
+  }
+
   private void applyDeleteMutations(Iterable<?> objects, List<Mutation> mutations) {
     maybeEmitEvent(new BeforeDeleteEvent(mutations, objects, null, null));
     applyMutations(mutations);
@@ -548,18 +648,22 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
       SpannerPersistentEntity<T> persistentEntity,
       SpannerQueryOptions options,
       String index) {
-    Statement statement =
-        SpannerStatementQueryExecutor.buildQuery(
-            keys,
-            persistentEntity,
-            this.spannerEntityProcessor.getWriteConverter(),
-            this.mappingContext,
-            index);
+    Statement statement = buildReadQuery(keys, persistentEntity, index);
 
     return resolveChildEntities(
         query(persistentEntity.getType(), statement, options), options.getIncludeProperties());
   }
 
+  private Statement buildReadQuery(
+      KeySet keys, SpannerPersistentEntity<?> persistentEntity, String index) {
+    return SpannerStatementQueryExecutor.buildQuery(
+        keys,
+        persistentEntity,
+        this.spannerEntityProcessor.getWriteConverter(),
+        this.mappingContext,
+        index);
+  }
+
   private ResultSet executeRead(
       String tableName, KeySet keys, Iterable<String> columns, SpannerReadOptions options) {
 
@@ -621,6 +725,19 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
     return logSb;
   }
 
+  /**
+   * Gets the client that commits the chunks of bulk writes. Bulk writes commit each chunk on its
+   * own, so they can't be part of a transaction.
+   *
+   * @return the database client.
+   */
+  protected DatabaseClient getBulkWriteDatabaseClient() {
+    if (getTransactionContext() != null) {
+      throw new SpannerDataException("Cannot execute bulk writes in a transaction.");
+    }
+    return this.databaseClientProvider.get();
+  }
+
   protected void applyMutations(Collection<Mutation> mutations) {
     LOGGER.debug("Applying Mutation: " + mutations);
     doWithOrWithoutTransactionContext(
@@ -654,51 +771,167 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
         includeProperties);
   }
 
+  /**
+   * Maps the rows of the result set as the returned stream is consumed. Children are resolved for
+   * batches of entities rather than one entity at a time, so that interleaved properties are still
+   * loaded with one query per child table per batch.
+   */
+  private <T> Stream<T> mapToStreamAndResolveChildren(
+      ResultSet resultSet,
+      Class<T> entityClass,
+      Set<String> includeProperties,
+      boolean allowMissingColumns) {
+    Stream<T> entities =
+        this.spannerEntityProcessor.mapToStream(
+            resultSet, entityClass, includeProperties, allowMissingColumns);
+    Iterator<T> entityIterator = entities.iterator();
+    Iterator<List<T>> batchIterator =
+        new Iterator<List<T>>() {
+          @Override
+          public boolean hasNext() {
+            return entityIterator.hasNext();
+          }
+
+          @Override
+          public List<T> next() {
+            List<T> batch = new ArrayList<>(STREAM_CHILD_RESOLUTION_BATCH_SIZE);
+            while (batch.size() < STREAM_CHILD_RESOLUTION_BATCH_SIZE && entityIterator.hasNext()) {
+              batch.add(entityIterator.next());
+            }
+            return resolveChildEntities(batch, includeProperties);
+          }
+        };
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(batchIterator, Spliterator.ORDERED), false)
+        .flatMap(List::stream)
+        .onClose(entities::close);
+  }
+
   private <T> List<T> resolveChildEntities(List<T> entities, Set<String> includeProperties) {
+    Map<Class<?>, List<Object>> entitiesByType = new LinkedHashMap<>();
     for (Object entity : entities) {
-      resolveChildEntity(entity, includeProperties);
+      entitiesByType.computeIfAbsent(entity.getClass(), type -> new ArrayList<>()).add(entity);
     }
+    entitiesByType.forEach(
+        (entityType, sameTypeEntities) ->
+            resolveChildEntities(entityType, sameTypeEntities, includeProperties));
     return entities;
   }
 
-  private void resolveChildEntity(Object entity, Set<String> includeProperties) {
+  private void resolveChildEntities(
+      Class<?> entityType, List<Object> entities, Set<String> includeProperties) {
     SpannerPersistentEntity<?> spannerPersistentEntity =
-        this.mappingContext.getPersistentEntityOrFail(entity.getClass());
-
-    PersistentPropertyAccessor<?> accessor = spannerPersistentEntity.getPropertyAccessor(entity);
+        this.mappingContext.getPersistentEntityOrFail(entityType);
+    if (includeProperties != null
+        && !includeProperties.contains(spannerPersistentEntity.getName())) {
+      return;
+    }
     spannerPersistentEntity.doWithInterleavedProperties(
         spannerPersistentProperty -> {
-          if (includeProperties != null
-              && !includeProperties.contains(spannerPersistentEntity.getName())) {
-            return;
+          List<Object> presentChildren = new ArrayList<>();
+          List<Object> eagerParents = new ArrayList<>();
+          for (Object entity : entities) {
+            PersistentPropertyAccessor<?> accessor =
+                spannerPersistentEntity.getPropertyAccessor(entity);
+            // an interleaved property can only be List
+            List propertyValue = (List) accessor.getProperty(spannerPersistentProperty);
+            if (propertyValue != null) {
+              // a lazy proxy resolves its own children when it is first accessed
+              if (!spannerPersistentProperty.isLazyInterleaved()) {
+                presentChildren.addAll(propertyValue);
+              }
+            } else if (spannerPersistentProperty.isLazyInterleaved()) {
+              Supplier<List> getChildrenEntitiesFunc =
+                  () ->
+                      queryAndResolveChildren(
+                          spannerPersistentProperty.getColumnInnerType(),
+                          SpannerStatementQueryExecutor.getChildrenRowsQuery(
+                              this.spannerSchemaUtils.getKey(entity),
+                              spannerPersistentProperty,
+                              this.spannerEntityProcessor.getWriteConverter(),
+                              this.mappingContext),
+                          null);
+              accessor.setProperty(
+                  spannerPersistentProperty,
+                  ConversionUtils.wrapSimpleLazyProxy(getChildrenEntitiesFunc, List.class));
+            } else {
+              eagerParents.add(entity);
+            }
           }
-          // an interleaved property can only be List
-          List propertyValue = (List) accessor.getProperty(spannerPersistentProperty);
-          if (propertyValue != null) {
-            resolveChildEntities(propertyValue, null);
-            return;
+          resolveChildEntities(presentChildren, null);
+          if (!eagerParents.isEmpty()) {
+            loadChildEntities(spannerPersistentEntity, spannerPersistentProperty, eagerParents);
           }
-          Class<?> childType = spannerPersistentProperty.getColumnInnerType();
-
-          Supplier<List> getChildrenEntitiesFunc =
-              () ->
-                  queryAndResolveChildren(
-                      childType,
-                      SpannerStatementQueryExecutor.getChildrenRowsQuery(
-                          this.spannerSchemaUtils.getKey(entity),
-                          spannerPersistentProperty,
-                          this.spannerEntityProcessor.getWriteConverter(),
-                          this.mappingContext),
-                      null);
-
-          accessor.setProperty(
-              spannerPersistentProperty,
-              spannerPersistentProperty.isLazyInterleaved()
-                  ? ConversionUtils.wrapSimpleLazyProxy(getChildrenEntitiesFunc, List.class)
-                  : getChildrenEntitiesFunc.get());
         });
   }
 
+  /**
+   * Loads the interleaved children of all the given parents with one query per chunk of parent
+   * keys, rather than one query per parent, and assigns each parent the children whose key starts
+   * with the parent's key.
+   */
+  private void loadChildEntities(
+      SpannerPersistentEntity<?> parentPersistentEntity,
+      SpannerPersistentProperty spannerPersistentProperty,
+      List<Object> parents) {
+    Map<Key, List<Object>> childrenByParentKey = new LinkedHashMap<>();
+    List<Key> parentKeys = new ArrayList<>(parents.size());
+    for (Object parent : parents) {
+      Key parentKey = this.spannerSchemaUtils.getKey(parent);
+      parentKeys.add(parentKey);
+      childrenByParentKey.putIfAbsent(parentKey, new ArrayList<>());
+    }
+
+    List<Key> distinctParentKeys = new ArrayList<>(childrenByParentKey.keySet());
+    int parentKeySize = distinctParentKeys.get(0).size();
+    int chunkSize = Math.max(1, MAX_CHILD_QUERY_PARAMETERS / Math.max(1, parentKeySize));
+    Class<?> childType = spannerPersistentProperty.getColumnInnerType();
+    List<Object> children = new ArrayList<>();
+    for (int i = 0; i < distinctParentKeys.size(); i += chunkSize) {
+      KeySet.Builder keySetBuilder = KeySet.newBuilder();
+      distinctParentKeys
+          .subList(i, Math.min(i + chunkSize, distinctParentKeys.size()))
+          .forEach(keySetBuilder::addKey);
+      Statement statement =
+          SpannerStatementQueryExecutor.getChildrenRowsQuery(
+              keySetBuilder.build(),
+              spannerPersistentProperty,
+              this.spannerEntityProcessor.getWriteConverter(),
+              this.mappingContext);
+      children.addAll(
+          this.spannerEntityProcessor.mapToList(
+              executeQuery(statement, null), childType, null, false));
+    }
+    resolveChildEntities(children, null);
+
+    for (Object child : children) {
+      List<Object> siblings = childrenByParentKey.get(getKeyPrefix(child, parentKeySize));
+      if (siblings != null) {
+        siblings.add(child);
+      }
+    }
+    Set<Key> assignedKeys = new HashSet<>();
+    for (int i = 0; i < parents.size(); i++) {
+      Key parentKey = parentKeys.get(i);
+      List<Object> parentChildren = childrenByParentKey.get(parentKey);
+      // parents that appear more than once don't share a mutable list
+      parentPersistentEntity
+          .getPropertyAccessor(parents.get(i))
+          .setProperty(
+              spannerPersistentProperty,
+              assignedKeys.add(parentKey) ? parentChildren : new ArrayList<>(parentChildren));
+    }
+  }
+
+  private Key getKeyPrefix(Object entity, int size) {
+    Key.Builder builder = Key.newBuilder();
+    Iterator<Object> parts = this.spannerSchemaUtils.getKey(entity).getParts().iterator();
+    for (int i = 0; i < size && parts.hasNext(); i++) {
+      builder.appendObject(parts.next());
+    }
+    return builder.build();
+  }
+
   private List<Mutation> getMutationsForMultipleObjects(
       Iterable<?> it, Function<Object, Collection<Mutation>> individualEntityMutationFunc) {
     return StreamSupport.stream(it.spliterator(), false)
@@ -17,13 +17,21 @@
 package com.google.cloud.spring.data.spanner.core.convert;
 
 import com.google.cloud.ByteArray;
+import com.google.cloud.spanner.ResultSet;
+import com.google.cloud.spanner.Struct;
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.springframework.util.Assert;
 
 /**
@@ -74,6 +82,56 @@ public final class ConversionUtils {
     return false;
   }
 
+  /**
+   * Wraps a {@link ResultSet} in a sequential {@link Stream} that maps each row with the given
+   * function as the stream is consumed, so that rows are not held in memory. The result set is
+   * closed when it is exhausted or when the stream is closed.
+   *
+   * @param resultSet the result set to read.
+   * @param rowFunc the function to apply to each row.
+   * @param <A> the type of the mapped rows.
+   * @return the stream of mapped rows.
+   */
+  public static <A> Stream<A> streamResultSet(ResultSet resultSet, Function<Struct, A> rowFunc) {
+    ResultSetSpliterator<A> spliterator = new ResultSetSpliterator<>(resultSet, rowFunc);
+    return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+  }
+
+  private static final class ResultSetSpliterator<A> extends Spliterators.AbstractSpliterator<A> {
+
+    private final ResultSet resultSet;
+
+    private final Function<Struct, A> rowFunc;
+
+    private boolean closed = false;
+
+    private ResultSetSpliterator(ResultSet resultSet, Function<Struct, A> rowFunc) {
+      super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+      this.resultSet = resultSet;
+      this.rowFunc = rowFunc;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super A> action) {
+      if (this.closed) {
+        return false;
+      }
+      if (!this.resultSet.next()) {
+        close();
+        return false;
+      }
+      action.accept(this.rowFunc.apply(this.resultSet.getCurrentRowAsStruct()));
+      return true;
+    }
+
+    private void close() {
+      if (!this.closed) {
+        this.closed = true;
+        this.resultSet.close();
+      }
+    }
+  }
+
   private static final class SimpleLazyDynamicInvocationHandler<T> implements InvocationHandler {
 
     private final Supplier<T> supplierFunc;
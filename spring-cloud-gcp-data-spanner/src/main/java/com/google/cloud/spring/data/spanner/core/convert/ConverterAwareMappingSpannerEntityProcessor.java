@@ -27,6 +27,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.util.Assert;
 
@@ -91,6 +92,17 @@ public class ConverterAwareMappingSpannerEntityProcessor implements SpannerEntit
     return result;
   }
 
+  @Override
+  public <T> Stream<T> mapToStream(
+      ResultSet resultSet,
+      Class<T> entityClass,
+      Set<String> includeColumns,
+      boolean allowMissingColumns) {
+    return ConversionUtils.streamResultSet(
+        resultSet,
+        struct -> this.entityReader.read(entityClass, struct, includeColumns, allowMissingColumns));
+  }
+
   @Override
   public <T> List<T> mapToList(
       ResultSet resultSet, Class<T> entityClass, String... includeColumns) {
@@ -17,18 +17,14 @@
 package com.google.cloud.spring.data.spanner.core.convert;
 
 import com.google.cloud.spanner.Struct;
-import com.google.cloud.spring.data.spanner.core.mapping.SpannerDataException;
+import com.google.cloud.spanner.Type;
 import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
 import com.google.cloud.spring.data.spanner.core.mapping.SpannerPersistentEntity;
-import com.google.cloud.spring.data.spanner.core.mapping.SpannerPersistentProperty;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
-import org.springframework.data.mapping.InstanceCreatorMetadata;
-import org.springframework.data.mapping.PersistentPropertyAccessor;
-import org.springframework.data.mapping.PropertyHandler;
-import org.springframework.data.mapping.model.EntityInstantiator;
+import java.util.concurrent.ConcurrentHashMap;
 import org.springframework.data.mapping.model.EntityInstantiators;
-import org.springframework.data.mapping.model.ParameterValueProvider;
-import org.springframework.data.mapping.model.PersistentEntityParameterValueProvider;
 
 /**
  * A reading converter for Spanner that uses custom converters.
@@ -37,12 +33,22 @@ import org.springframework.data.mapping.model.PersistentEntityParameterValueProv
  */
 class ConverterAwareMappingSpannerEntityReader implements SpannerEntityReader {
 
+  /**
+   * The maximum number of compiled row mappers that are kept. Further entity type and row layout
+   * combinations are compiled for each row.
+   */
+  static final int MAX_CACHED_MAPPERS = 256;
+
   private final SpannerMappingContext spannerMappingContext;
 
   private final EntityInstantiators instantiators;
 
   private final SpannerReadConverter converter;
 
+  private final Map<MapperKey, StructEntityMapper<?>> mappers = new ConcurrentHashMap<>();
+
+  private volatile StructEntityMapper<?> lastMapper;
+
   ConverterAwareMappingSpannerEntityReader(
       SpannerMappingContext spannerMappingContext, SpannerReadConverter spannerReadConverter) {
     this.spannerMappingContext = spannerMappingContext;
@@ -63,83 +69,80 @@ class ConverterAwareMappingSpannerEntityReader implements SpannerEntityReader {
    * @param <R> the type of the POJO.
    * @return the POJO
    */
-  @SuppressWarnings("unchecked")
   public <R> R read(
       Class<R> type, Struct source, Set<String> includeColumns, boolean allowMissingColumns) {
-    boolean readAllColumns = includeColumns == null;
-    SpannerPersistentEntity<R> persistentEntity =
-        (SpannerPersistentEntity<R>) this.spannerMappingContext.getPersistentEntityOrFail(type);
-
-    StructAccessor structAccessor = new StructAccessor(source, this.spannerMappingContext.getGson());
-
-    StructPropertyValueProvider propertyValueProvider =
-        new StructPropertyValueProvider(structAccessor, this.converter, this, allowMissingColumns);
-
-    InstanceCreatorMetadata<SpannerPersistentProperty> instanceCreatorMetadata =
-        persistentEntity.getInstanceCreatorMetadata();
-
-    // @formatter:off
-    ParameterValueProvider<SpannerPersistentProperty> parameterValueProvider =
-        new PersistentEntityParameterValueProvider<>(persistentEntity, propertyValueProvider, null);
-    // @formatter:on
-
-    EntityInstantiator instantiator = this.instantiators.getInstantiatorFor(persistentEntity);
-    R instance = instantiator.createInstance(persistentEntity, parameterValueProvider);
-    PersistentPropertyAccessor accessor = persistentEntity.getPropertyAccessor(instance);
-
-    persistentEntity.doWithProperties(
-        (PropertyHandler<SpannerPersistentProperty>)
-            spannerPersistentProperty -> {
-              if (spannerPersistentProperty.isEmbedded()) {
-                accessor.setProperty(
-                    spannerPersistentProperty,
-                    read(
-                        spannerPersistentProperty.getType(),
-                        source,
-                        includeColumns,
-                        allowMissingColumns));
-              } else {
-                if (!shouldSkipProperty(
-                    structAccessor,
-                    spannerPersistentProperty,
-                    includeColumns,
-                    readAllColumns,
-                    allowMissingColumns,
-                    instanceCreatorMetadata)) {
-
-                  Object value = propertyValueProvider.getPropertyValue(spannerPersistentProperty);
-                  accessor.setProperty(spannerPersistentProperty, value);
-                }
-              }
-            });
-
-    return instance;
+    return getMapper(type, source.getType(), includeColumns, allowMissingColumns).read(source);
   }
 
-  private boolean shouldSkipProperty(
-      StructAccessor struct,
-      SpannerPersistentProperty spannerPersistentProperty,
-      Set<String> includeColumns,
-      boolean readAllColumns,
-      boolean allowMissingColumns,
-      InstanceCreatorMetadata<SpannerPersistentProperty> persistenceConstructor) {
-    String columnName = spannerPersistentProperty.getColumnName();
-    boolean notRequiredByPartialRead = !readAllColumns && !includeColumns.contains(columnName);
-
-    return spannerPersistentProperty.isLazyInterleaved()
-        || notRequiredByPartialRead
-        || isMissingColumn(struct, allowMissingColumns, columnName)
-        || struct.isNull(columnName)
-        || persistenceConstructor.isCreatorParameter(spannerPersistentProperty);
+  @SuppressWarnings("unchecked")
+  private <R> StructEntityMapper<R> getMapper(
+      Class<R> type, Type structType, Set<String> includeColumns, boolean allowMissingColumns) {
+    // Consecutive rows of a result set share their type, so the last mapper is checked first.
+    StructEntityMapper<?> mapper = this.lastMapper;
+    if (mapper != null && mapper.matches(type, structType, includeColumns, allowMissingColumns)) {
+      return (StructEntityMapper<R>) mapper;
+    }
+    MapperKey key = new MapperKey(type, structType, includeColumns, allowMissingColumns);
+    mapper = this.mappers.get(key);
+    if (mapper == null) {
+      mapper =
+          new StructEntityMapper<>(
+              type,
+              structType,
+              includeColumns,
+              allowMissingColumns,
+              (SpannerPersistentEntity<R>)
+                  this.spannerMappingContext.getPersistentEntityOrFail(type),
+              this.instantiators,
+              this.converter,
+              this,
+              this.spannerMappingContext.getGson());
+      if (this.mappers.size() < MAX_CACHED_MAPPERS) {
+        this.mappers.putIfAbsent(key, mapper);
+      }
+    }
+    this.lastMapper = mapper;
+    return (StructEntityMapper<R>) mapper;
   }
 
-  private boolean isMissingColumn(
-      StructAccessor struct, boolean allowMissingColumns, String columnName) {
-    boolean missingColumn = !struct.hasColumn(columnName);
-    if (missingColumn && !allowMissingColumns) {
-      throw new SpannerDataException(
-          "Unable to read column from Cloud Spanner results: " + columnName);
+  /** The entity type and row layout that a {@link StructEntityMapper} is compiled for. */
+  private static final class MapperKey {
+
+    private final Class<?> type;
+
+    private final Type structType;
+
+    private final Set<String> includeColumns;
+
+    private final boolean allowMissingColumns;
+
+    MapperKey(
+        Class<?> type, Type structType, Set<String> includeColumns, boolean allowMissingColumns) {
+      this.type = type;
+      this.structType = structType;
+      this.includeColumns = includeColumns;
+      this.allowMissingColumns = allowMissingColumns;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      MapperKey that = (MapperKey) o;
+      return this.allowMissingColumns == that.allowMissingColumns
+          && this.type == that.type
+          && Objects.equals(this.structType, that.structType)
+          && Objects.equals(this.includeColumns, that.includeColumns);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(
+          this.type, this.structType, this.includeColumns, this.allowMissingColumns);
     }
-    return missingColumn;
   }
 }
@@ -26,6 +26,7 @@ import com.google.cloud.spanner.Struct;
 import com.google.cloud.spanner.Type;
 import com.google.cloud.spanner.Value;
 import com.google.cloud.spanner.ValueBinder;
+import com.google.cloud.spring.data.spanner.core.convert.EntityWritePlan.PropertyWriter;
 import com.google.cloud.spring.data.spanner.core.mapping.SpannerDataException;
 import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
 import com.google.cloud.spring.data.spanner.core.mapping.SpannerPersistentEntity;
@@ -35,15 +36,16 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
-import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.util.Assert;
 
 /**
@@ -124,6 +126,8 @@ public class ConverterAwareMappingSpannerEntityWriter implements SpannerEntityWr
 
   private final SpannerWriteConverter writeConverter;
 
+  private final Map<Class<?>, EntityWritePlan> writePlans = new ConcurrentHashMap<>();
+
   ConverterAwareMappingSpannerEntityWriter(
       SpannerMappingContext spannerMappingContext, SpannerWriteConverter writeConverter) {
     this.spannerMappingContext = spannerMappingContext;
@@ -158,22 +162,40 @@ public class ConverterAwareMappingSpannerEntityWriter implements SpannerEntityWr
    * @param includeColumns the columns to write. If null, then all columns are written.
    */
   public void write(Object source, MultipleValueBinder sink, Set<String> includeColumns) {
-    boolean writeAllColumns = includeColumns == null;
+    getWritePlan(source.getClass()).write(source, sink, includeColumns);
+  }
+
+  private EntityWritePlan getWritePlan(Class<?> type) {
+    EntityWritePlan writePlan = this.writePlans.get(type);
+    if (writePlan == null) {
+      writePlan = compileWritePlan(type);
+      this.writePlans.putIfAbsent(type, writePlan);
+    }
+    return writePlan;
+  }
+
+  private EntityWritePlan compileWritePlan(Class<?> type) {
     SpannerPersistentEntity<?> persistentEntity =
-        this.spannerMappingContext.getPersistentEntityOrFail(source.getClass());
-    PersistentPropertyAccessor accessor = persistentEntity.getPropertyAccessor(source);
+        this.spannerMappingContext.getPersistentEntityOrFail(type);
+    List<PropertyWriter> propertyWriters = new ArrayList<>();
     persistentEntity.doWithColumnBackedProperties(
         spannerPersistentProperty -> {
           if (spannerPersistentProperty.isEmbedded()) {
-            Object embeddedObject = accessor.getProperty(spannerPersistentProperty);
-            if (embeddedObject != null) {
-              write(embeddedObject, sink, includeColumns);
-            }
-          } else if (writeAllColumns
-              || includeColumns.contains(spannerPersistentProperty.getColumnName())) {
-            writeProperty(sink, accessor, spannerPersistentProperty);
+            propertyWriters.add(
+                PropertyWriter.forEmbedded(
+                    spannerPersistentProperty,
+                    (embeddedObject, sink, includeColumns) -> {
+                      if (embeddedObject != null) {
+                        write(embeddedObject, sink, includeColumns);
+                      }
+                    }));
+          } else {
+            propertyWriters.add(
+                PropertyWriter.forColumn(
+                    spannerPersistentProperty, compileBinder(spannerPersistentProperty)));
           }
         });
+    return new EntityWritePlan(persistentEntity, propertyWriters);
   }
 
   @Override
@@ -318,42 +340,6 @@ public class ConverterAwareMappingSpannerEntityWriter implements SpannerEntityWr
     return SPANNER_KEY_COMPATIBLE_TYPES.contains(type);
   }
 
-  // @formatter:off
-
-  private boolean attemptSetIterableValue(
-      Iterable<Object> value,
-      ValueBinder<WriteBuilder> valueBinder,
-      SpannerPersistentProperty spannerPersistentProperty,
-      SpannerCustomConverter writeConverter) {
-
-    Class innerType = ConversionUtils.boxIfNeeded(spannerPersistentProperty.getColumnInnerType());
-    if (innerType == null) {
-      return false;
-    }
-
-    boolean valueSet = false;
-
-
-    if (spannerPersistentProperty.getAnnotatedColumnItemType() == Type.Code.JSON) {
-      // if column annotated with JSON, convert directly
-      valueBinder.toJsonArray(this.convertIterableJsonToValue(value));
-      valueSet = true;
-    } else if (spannerPersistentProperty.getAnnotatedColumnItemType() != null) {
-      // use the annotated column type if possible.
-      valueSet =
-          attemptSetIterablePropertyWithTypeConversion(
-              value,
-              valueBinder,
-              innerType,
-              SpannerTypeMapper.getSimpleJavaClassFor(
-                  spannerPersistentProperty.getAnnotatedColumnItemType()),
-              writeConverter);
-    } else {
-      valueSet = attemptSetIterableValueOnBinder(value, valueBinder, writeConverter, innerType);
-    }
-    return valueSet;
-  }
-
   @SuppressWarnings("unchecked")
   private static <T> boolean attemptSetSingleItemValue(
       Object value,
@@ -395,9 +381,10 @@ public class ConverterAwareMappingSpannerEntityWriter implements SpannerEntityWr
     return result;
   }
 
+  // @formatter:off
   /**
-   * For each property this method "set"s the column name and finds the corresponding "to" method on
-   * the {@link ValueBinder} interface.
+   * Resolves for a property the "to" method on the {@link ValueBinder} interface and the
+   * conversion that its values need, as in:
    *
    * <pre>
    * {
@@ -414,22 +401,14 @@ public class ConverterAwareMappingSpannerEntityWriter implements SpannerEntityWr
    * }
    * </pre>
    *
-   * @param accessor the accessor used to get the value to write
    * @param property the property that will be written
-   * @param sink the object that will accept the value to be written
+   * @return a function that binds values of the property
    */
   // @formatter:on
-  @SuppressWarnings("unchecked")
-  private void writeProperty(
-      MultipleValueBinder sink,
-      PersistentPropertyAccessor accessor,
+  private BiConsumer<ValueBinder<WriteBuilder>, Object> compileBinder(
       SpannerPersistentProperty property) {
-    Object propertyValue = accessor.getProperty(property);
-
     Class<?> propertyType = property.getType();
-    ValueBinder<WriteBuilder> valueBinder = sink.set(property.getColumnName());
-
-    boolean valueSet = false;
+    BiConsumer<ValueBinder<WriteBuilder>, Object> binder;
 
     /*
      * Due to type erasure, binder methods for Iterable properties must be manually specified.
@@ -437,44 +416,108 @@ public class ConverterAwareMappingSpannerEntityWriter implements SpannerEntityWr
      * supported by spanner.
      */
     if (ConversionUtils.isIterableNonByteArrayType(propertyType)) {
-      valueSet =
-          attemptSetIterableValue(
-              (Iterable<Object>) propertyValue, valueBinder, property, this.writeConverter);
-    } else {
-
+      binder = compileIterableBinder(property);
+    } else if (property.isCommitTimestamp()) {
       // if the property is a commit timestamp, then its Spanner column type is always TIMESTAMP
       // and only the dummy value needs to be written to trigger auto-population of the commit
       // time
-      if (property.isCommitTimestamp()) {
-        valueSet =
-            attemptSetSingleItemValue(
-                Value.COMMIT_TIMESTAMP,
-                Timestamp.class,
-                valueBinder,
-                Timestamp.class,
-                this.writeConverter);
-      } else if (property.getAnnotatedColumnItemType() == Type.Code.JSON) {
-        // annotated json column, bind directly
-        valueBinder.to(this.convertJsonToValue(propertyValue));
-        valueSet = true;
-      } else if (property.getAnnotatedColumnItemType() != null) {
-        // use the user's annotated column type if possible
-        valueSet =
-            attemptSetSingleItemValue(
-                propertyValue,
-                propertyType,
-                valueBinder,
-                SpannerTypeMapper.getSimpleJavaClassFor(property.getAnnotatedColumnItemType()),
-                this.writeConverter);
-      } else {
-        valueSet =
-            attemptBindSingleValue(propertyValue, propertyType, valueBinder, this.writeConverter);
+      binder = (valueBinder, value) -> valueBinder.to(Value.COMMIT_TIMESTAMP);
+    } else if (property.getAnnotatedColumnItemType() == Type.Code.JSON) {
+      // annotated json column, bind directly
+      binder = (valueBinder, value) -> valueBinder.to(this.convertJsonToValue(value));
+    } else if (property.getAnnotatedColumnItemType() != null) {
+      // use the user's annotated column type if possible
+      binder =
+          compileSingleItemBinder(
+              propertyType,
+              SpannerTypeMapper.getSimpleJavaClassFor(property.getAnnotatedColumnItemType()));
+    } else {
+      // directly try to set using the property's original Java type, or else find any
+      // conversion that works
+      binder = compileSingleItemBinder(propertyType, propertyType);
+      Iterator<Class<?>> targetTypes = singleItemTypeValueBinderMethodMap.keySet().iterator();
+      while (binder == null && targetTypes.hasNext()) {
+        binder = compileSingleItemBinder(propertyType, targetTypes.next());
       }
     }
 
-    if (!valueSet) {
-      throw new SpannerDataException(
-          String.format("Unsupported mapping for type: %s", propertyType));
+    if (binder == null) {
+      return (valueBinder, value) -> {
+        throw new SpannerDataException(
+            String.format("Unsupported mapping for type: %s", propertyType));
+      };
+    }
+    return binder;
+  }
+
+  @SuppressWarnings("unchecked")
+  private BiConsumer<ValueBinder<WriteBuilder>, Object> compileIterableBinder(
+      SpannerPersistentProperty property) {
+    Class innerType = ConversionUtils.boxIfNeeded(property.getColumnInnerType());
+    if (innerType == null) {
+      return null;
+    }
+    if (property.getAnnotatedColumnItemType() == Type.Code.JSON) {
+      // if column annotated with JSON, convert directly
+      return (valueBinder, value) ->
+          valueBinder.toJsonArray(this.convertIterableJsonToValue((Iterable<Object>) value));
+    }
+    if (property.getAnnotatedColumnItemType() != null) {
+      // use the annotated column type if possible.
+      return compileIterableConversionBinder(
+          innerType,
+          SpannerTypeMapper.getSimpleJavaClassFor(property.getAnnotatedColumnItemType()));
+    }
+    // attempt check if there is directly a write method that can accept the property
+    BiConsumer<ValueBinder<?>, Iterable> toMethod = iterablePropertyTypeToMethodMap.get(innerType);
+    if (toMethod != null) {
+      return (valueBinder, value) -> toMethod.accept(valueBinder, (Iterable) value);
+    }
+    // Finally find any compatible conversion
+    for (Class<?> targetType : iterablePropertyTypeToMethodMap.keySet()) {
+      BiConsumer<ValueBinder<WriteBuilder>, Object> binder =
+          compileIterableConversionBinder(innerType, targetType);
+      if (binder != null) {
+        return binder;
+      }
+    }
+    return null;
+  }
+
+  @SuppressWarnings("unchecked")
+  private BiConsumer<ValueBinder<WriteBuilder>, Object> compileIterableConversionBinder(
+      Class<?> innerType, Class<?> targetType) {
+    BiConsumer<ValueBinder<?>, Iterable> toMethod = iterablePropertyTypeToMethodMap.get(targetType);
+    if (toMethod == null || !this.writeConverter.canConvert(innerType, targetType)) {
+      return null;
+    }
+    return (valueBinder, value) ->
+        toMethod.accept(
+            valueBinder,
+            (value != null)
+                ? ConversionUtils.convertIterable(
+                    (Iterable<Object>) value, targetType, this.writeConverter)
+                : null);
+  }
+
+  @SuppressWarnings("unchecked")
+  private BiConsumer<ValueBinder<WriteBuilder>, Object> compileSingleItemBinder(
+      Class<?> sourceType, Class<?> targetType) {
+    if (!this.writeConverter.canConvert(sourceType, targetType)) {
+      return null;
+    }
+    BiFunction<ValueBinder, Object, ?> toMethod =
+        (BiFunction<ValueBinder, Object, ?>)
+            singleItemTypeValueBinderMethodMap.get(ConversionUtils.boxIfNeeded(targetType));
+    if (toMethod == null) {
+      return null;
     }
+    return (valueBinder, value) -> {
+      // We're just binding, we don't need to chain the result.
+      // Spanner allows binding of null values.
+      Object ignored =
+          toMethod.apply(
+              valueBinder, (value != null) ? this.writeConverter.convert(value, targetType) : null);
+    };
   }
 }
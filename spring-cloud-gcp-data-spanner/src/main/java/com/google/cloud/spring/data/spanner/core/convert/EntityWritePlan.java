@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core.convert;
+
+import com.google.cloud.spanner.Mutation.WriteBuilder;
+import com.google.cloud.spanner.ValueBinder;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerPersistentEntity;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerPersistentProperty;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+
+/**
+ * Writes the column-backed properties of entities of one type to a {@link MultipleValueBinder}.
+ * The binder method and the conversion for each property are resolved once from the property's
+ * type and annotations, so that writing an entity only reads and binds its property values.
+ */
+final class EntityWritePlan {
+
+  private final SpannerPersistentEntity<?> persistentEntity;
+
+  private final List<PropertyWriter> propertyWriters;
+
+  EntityWritePlan(
+      SpannerPersistentEntity<?> persistentEntity, List<PropertyWriter> propertyWriters) {
+    this.persistentEntity = persistentEntity;
+    this.propertyWriters = propertyWriters;
+  }
+
+  /**
+   * Writes an entity's properties to the sink.
+   *
+   * @param source the entity to write
+   * @param sink the sink to which to write
+   * @param includeColumns the columns to write. If null, then all columns are written.
+   */
+  void write(Object source, MultipleValueBinder sink, Set<String> includeColumns) {
+    PersistentPropertyAccessor<?> accessor = this.persistentEntity.getPropertyAccessor(source);
+    for (PropertyWriter propertyWriter : this.propertyWriters) {
+      if (includeColumns == null
+          || propertyWriter.columnName == null
+          || includeColumns.contains(propertyWriter.columnName)) {
+        propertyWriter.valueWriter.write(
+            accessor.getProperty(propertyWriter.property), sink, includeColumns);
+      }
+    }
+  }
+
+  /** Writes the value of one property. */
+  @FunctionalInterface
+  interface ValueWriter {
+    void write(Object value, MultipleValueBinder sink, Set<String> includeColumns);
+  }
+
+  /** A property and the writer of its values. */
+  static final class PropertyWriter {
+
+    private final SpannerPersistentProperty property;
+
+    // null for embedded properties, whose own columns are filtered when they are written
+    private final String columnName;
+
+    private final ValueWriter valueWriter;
+
+    private PropertyWriter(
+        SpannerPersistentProperty property, String columnName, ValueWriter valueWriter) {
+      this.property = property;
+      this.columnName = columnName;
+      this.valueWriter = valueWriter;
+    }
+
+    static PropertyWriter forColumn(
+        SpannerPersistentProperty property,
+        BiConsumer<ValueBinder<WriteBuilder>, Object> binder) {
+      String columnName = property.getColumnName();
+      return new PropertyWriter(
+          property,
+          columnName,
+          (value, sink, includeColumns) -> binder.accept(sink.set(columnName), value));
+    }
+
+    static PropertyWriter forEmbedded(
+        SpannerPersistentProperty property, ValueWriter embeddedWriter) {
+      return new PropertyWriter(property, null, embeddedWriter);
+    }
+  }
+}
@@ -19,6 +19,7 @@ package com.google.cloud.spring.data.spanner.core.convert;
 import com.google.cloud.spanner.ResultSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Interface for processors that can populate fields from Spanner Structs and write them to Spanner
@@ -56,6 +57,30 @@ public interface SpannerEntityProcessor extends SpannerEntityReader, SpannerEnti
       Set<String> includeColumns,
       boolean allowMissingColumns);
 
+  /**
+   * Converts a Spanner {@link ResultSet} into a stream of objects that are mapped as the stream is
+   * consumed. The default implementation maps each row with {@link #read(Class,
+   * com.google.cloud.spanner.Struct, Set, boolean)}.
+   *
+   * @param resultSet the Spanner results to convert. The ResultSet is closed when it is exhausted
+   *     or when the stream is closed.
+   * @param entityClass the type of the objects the Spanner results represent.
+   * @param <T> the type of the objects the Spanner results represent.
+   * @param includeColumns the Set of columns to read. If this param is null then all columns will
+   *     be read.
+   * @param allowMissingColumns if true, then properties with no corresponding column are not
+   *     mapped. If false, then an exception is thrown.
+   * @return a stream of objects.
+   */
+  default <T> Stream<T> mapToStream(
+      ResultSet resultSet,
+      Class<T> entityClass,
+      Set<String> includeColumns,
+      boolean allowMissingColumns) {
+    return ConversionUtils.streamResultSet(
+        resultSet, struct -> read(entityClass, struct, includeColumns, allowMissingColumns));
+  }
+
   /**
    * Converts a set of Spanner {@link ResultSet} into a list of objects.
    *
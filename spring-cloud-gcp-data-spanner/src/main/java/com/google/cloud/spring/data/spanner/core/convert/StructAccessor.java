@@ -61,6 +61,22 @@ public class StructAccessor {
               .put(UUID.class, AbstractStructReader::getUuidList)
           .build();
 
+  static final Map<Class, BiFunction<Struct, Integer, List>> readIterableMappingIntCol =
+      new MapBuilder<Class, BiFunction<Struct, Integer, List>>()
+          .put(Boolean.class, AbstractStructReader::getBooleanList)
+          .put(Long.class, AbstractStructReader::getLongList)
+          .put(String.class, AbstractStructReader::getStringList)
+          .put(Double.class, AbstractStructReader::getDoubleList)
+          .put(Float.class, AbstractStructReader::getFloatList)
+          .put(Timestamp.class, AbstractStructReader::getTimestampList)
+          .put(Date.class, AbstractStructReader::getDateList)
+          .put(ByteArray.class, AbstractStructReader::getBytesList)
+          .put(BigDecimal.class, AbstractStructReader::getBigDecimalList)
+          .put(Struct.class, AbstractStructReader::getStructList)
+          .put(Interval.class, AbstractStructReader::getIntervalList)
+          .put(UUID.class, AbstractStructReader::getUuidList)
+          .build();
+
   static final Map<Class, BiFunction<Struct, String, ?>> singleItemReadMethodMapping =
       new MapBuilder<Class, BiFunction<Struct, String, ?>>()
           .put(Boolean.class, AbstractStructReader::getBoolean)
@@ -115,7 +131,7 @@ public class StructAccessor {
           .build();
 
   // @formatter:on
-  private static final String EXCEPTION_COL_NOT_ARRAY = "Column is not an ARRAY type: ";
+  static final String EXCEPTION_COL_NOT_ARRAY = "Column is not an ARRAY type: ";
 
   private Struct struct;
 
@@ -218,7 +234,7 @@ public class StructAccessor {
     return cols;
   }
 
-  private Class getSingleItemTypeCode(Type colType) {
+  static Class getSingleItemTypeCode(Type colType) {
     Code code = colType.getCode();
     return code.equals(Code.ARRAY)
         ? SpannerTypeMapper.getArrayJavaClassFor(colType.getArrayElementType().getCode())
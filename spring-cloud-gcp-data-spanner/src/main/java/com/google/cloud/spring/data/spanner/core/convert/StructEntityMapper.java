@@ -0,0 +1,281 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core.convert;
+
+import com.google.cloud.spanner.Struct;
+import com.google.cloud.spanner.Type;
+import com.google.cloud.spanner.Type.Code;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerDataException;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerPersistentEntity;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerPersistentProperty;
+import com.google.gson.Gson;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.springframework.data.mapping.InstanceCreatorMetadata;
+import org.springframework.data.mapping.Parameter;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.model.EntityInstantiator;
+import org.springframework.data.mapping.model.EntityInstantiators;
+import org.springframework.data.mapping.model.ParameterValueProvider;
+import org.springframework.data.mapping.model.PersistentEntityParameterValueProvider;
+
+/**
+ * Reads entities of one type from rows with one column layout. The column index and the read
+ * function of each property are resolved once from the row type, so that reading a row doesn't
+ * look up columns by name or dispatch on column types.
+ *
+ * @param <R> the type of the entity
+ */
+final class StructEntityMapper<R> {
+
+  private static final ParameterValueProvider<SpannerPersistentProperty> NO_PARAMETERS =
+      new ParameterValueProvider<SpannerPersistentProperty>() {
+        @Override
+        public <T> T getParameterValue(Parameter<T, SpannerPersistentProperty> parameter) {
+          throw new IllegalStateException(
+              "No parameter values available for: " + parameter.getName());
+        }
+      };
+
+  private final Class<R> type;
+
+  private final Type structType;
+
+  private final Set<String> includeColumns;
+
+  private final boolean allowMissingColumns;
+
+  private final SpannerPersistentEntity<R> persistentEntity;
+
+  private final EntityInstantiators instantiators;
+
+  private final EntityInstantiator instantiator;
+
+  private final boolean hasCreatorParameters;
+
+  private final List<PropertyReader> propertyReaders = new ArrayList<>();
+
+  private final SpannerCustomConverter readConverter;
+
+  private final SpannerEntityReader entityReader;
+
+  private final Gson gson;
+
+  StructEntityMapper(
+      Class<R> type,
+      Type structType,
+      Set<String> includeColumns,
+      boolean allowMissingColumns,
+      SpannerPersistentEntity<R> persistentEntity,
+      EntityInstantiators instantiators,
+      SpannerCustomConverter readConverter,
+      SpannerEntityReader entityReader,
+      Gson gson) {
+    this.type = type;
+    this.structType = structType;
+    this.includeColumns = includeColumns;
+    this.allowMissingColumns = allowMissingColumns;
+    this.persistentEntity = persistentEntity;
+    this.instantiators = instantiators;
+    this.instantiator = instantiators.getInstantiatorFor(persistentEntity);
+    this.readConverter = readConverter;
+    this.entityReader = entityReader;
+    this.gson = gson;
+
+    InstanceCreatorMetadata<SpannerPersistentProperty> instanceCreatorMetadata =
+        persistentEntity.getInstanceCreatorMetadata();
+    this.hasCreatorParameters =
+        instanceCreatorMetadata != null && instanceCreatorMetadata.hasParameters();
+
+    Map<String, Integer> columnIndexes = new HashMap<>();
+    List<Type.StructField> structFields = structType.getStructFields();
+    for (int i = 0; i < structFields.size(); i++) {
+      columnIndexes.putIfAbsent(structFields.get(i).getName(), i);
+    }
+
+    persistentEntity.doWithProperties(
+        (PropertyHandler<SpannerPersistentProperty>)
+            property -> {
+              if (property.isEmbedded()) {
+                this.propertyReaders.add(compileEmbedded(property));
+                return;
+              }
+              String columnName = property.getColumnName();
+              if (property.isLazyInterleaved()
+                  || (includeColumns != null && !includeColumns.contains(columnName))) {
+                return;
+              }
+              Integer columnIndex = columnIndexes.get(columnName);
+              if (columnIndex == null) {
+                if (!allowMissingColumns) {
+                  this.propertyReaders.add(
+                      (source, accessor) -> {
+                        throw new SpannerDataException(
+                            "Unable to read column from Cloud Spanner results: " + columnName);
+                      });
+                }
+                return;
+              }
+              if (instanceCreatorMetadata != null
+                  && instanceCreatorMetadata.isCreatorParameter(property)) {
+                return;
+              }
+              this.propertyReaders.add(compileColumn(property, columnIndex));
+            });
+  }
+
+  boolean matches(
+      Class<?> type, Type structType, Set<String> includeColumns, boolean allowMissingColumns) {
+    return this.type == type
+        && this.structType == structType
+        && this.includeColumns == includeColumns
+        && this.allowMissingColumns == allowMissingColumns;
+  }
+
+  R read(Struct source) {
+    ParameterValueProvider<SpannerPersistentProperty> parameterValueProvider =
+        this.hasCreatorParameters
+            ? new PersistentEntityParameterValueProvider<>(
+                this.persistentEntity,
+                new StructPropertyValueProvider(
+                    new StructAccessor(source, this.gson),
+                    this.readConverter,
+                    this.entityReader,
+                    this.allowMissingColumns),
+                null)
+            : NO_PARAMETERS;
+
+    R instance = this.instantiator.createInstance(this.persistentEntity, parameterValueProvider);
+    PersistentPropertyAccessor<R> accessor = this.persistentEntity.getPropertyAccessor(instance);
+    for (PropertyReader propertyReader : this.propertyReaders) {
+      propertyReader.read(source, accessor);
+    }
+    return instance;
+  }
+
+  @SuppressWarnings("unchecked")
+  private PropertyReader compileEmbedded(SpannerPersistentProperty property) {
+    Class<Object> embeddedType = (Class<Object>) property.getType();
+    StructEntityMapper<Object> embeddedMapper =
+        new StructEntityMapper<>(
+            embeddedType,
+            this.structType,
+            this.includeColumns,
+            this.allowMissingColumns,
+            (SpannerPersistentEntity<Object>)
+                this.persistentEntity
+                    .getSpannerMappingContext()
+                    .getPersistentEntityOrFail(embeddedType),
+            this.instantiators,
+            this.readConverter,
+            this.entityReader,
+            this.gson);
+    return (source, accessor) -> accessor.setProperty(property, embeddedMapper.read(source));
+  }
+
+  private PropertyReader compileColumn(SpannerPersistentProperty property, int columnIndex) {
+    Function<Struct, Object> valueReader =
+        ConversionUtils.isIterableNonByteArrayType(property.getType())
+            ? compileIterableRead(property, columnIndex)
+            : compileSingleRead(property, columnIndex);
+    return (source, accessor) -> {
+      if (source.isNull(columnIndex)) {
+        return;
+      }
+      Object value = valueReader.apply(source);
+      if (value == null) {
+        throw new SpannerDataException(
+            String.format(
+                "The value in column with name %s"
+                    + " could not be converted to the corresponding property in the entity."
+                    + " The property's type is %s.",
+                property.getColumnName(), property.getType()));
+      }
+      accessor.setProperty(property, value);
+    };
+  }
+
+  private Function<Struct, Object> compileSingleRead(
+      SpannerPersistentProperty property, int columnIndex) {
+    Class<?> propertyType = property.getType();
+    if (property.getAnnotatedColumnItemType() == Code.JSON) {
+      return source -> this.gson.fromJson(source.getJson(columnIndex), propertyType);
+    }
+    BiFunction<Struct, Integer, ?> readFunction =
+        StructAccessor.singleItemReadMethodMappingIntCol.get(
+            StructAccessor.getSingleItemTypeCode(
+                this.structType.getStructFields().get(columnIndex).getType()));
+    if (readFunction == null) {
+      // The property isn't Iterable, but the column is an ARRAY of a type that is only read as a
+      // list. This use-case is not supported.
+      return source -> null;
+    }
+    return source -> convertOrRead(propertyType, readFunction.apply(source, columnIndex));
+  }
+
+  private Function<Struct, Object> compileIterableRead(
+      SpannerPersistentProperty property, int columnIndex) {
+    Type columnType = this.structType.getStructFields().get(columnIndex).getType();
+    if (columnType.getCode() != Code.ARRAY) {
+      return source -> {
+        throw new SpannerDataException(
+            StructAccessor.EXCEPTION_COL_NOT_ARRAY + property.getColumnName());
+      };
+    }
+    Class<?> innerType = property.getColumnInnerType();
+    if (property.getAnnotatedColumnItemType() == Code.JSON) {
+      return source -> {
+        List<Object> result = new ArrayList<>();
+        for (String item : source.getJsonList(columnIndex)) {
+          result.add(this.gson.fromJson(item, innerType));
+        }
+        return result;
+      };
+    }
+    BiFunction<Struct, Integer, List> readFunction =
+        StructAccessor.readIterableMappingIntCol.get(
+            SpannerTypeMapper.getSimpleJavaClassFor(columnType.getArrayElementType().getCode()));
+    return source -> {
+      List<?> listValue = readFunction.apply(source, columnIndex);
+      List<Object> result = new ArrayList<>(listValue.size());
+      for (Object item : listValue) {
+        result.add(convertOrRead(innerType, item));
+      }
+      return result;
+    };
+  }
+
+  private Object convertOrRead(Class<?> targetType, Object sourceValue) {
+    Class<?> sourceClass = sourceValue.getClass();
+    return (Struct.class.isAssignableFrom(sourceClass)
+            && !this.readConverter.canConvert(sourceClass, targetType))
+        ? this.entityReader.read(targetType, (Struct) sourceValue, null, this.allowMissingColumns)
+        : this.readConverter.convert(sourceValue, targetType);
+  }
+
+  /** Reads the value of one property from a row and sets it on the entity. */
+  @FunctionalInterface
+  private interface PropertyReader {
+    void read(Struct source, PersistentPropertyAccessor<?> accessor);
+  }
+}
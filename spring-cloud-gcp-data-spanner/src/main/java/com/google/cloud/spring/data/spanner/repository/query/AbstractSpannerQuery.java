@@ -17,10 +17,12 @@
 package com.google.cloud.spring.data.spanner.repository.query;
 
 import com.google.cloud.spring.data.spanner.core.SpannerTemplate;
+import com.google.cloud.spring.data.spanner.core.convert.SpannerCustomConverter;
 import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.springframework.data.repository.query.RepositoryQuery;
 
 /**
@@ -60,6 +62,9 @@ abstract class AbstractSpannerQuery<T> implements RepositoryQuery {
 
   @Override
   public Object execute(Object[] parameters) {
+    if (this.queryMethod.isStreamQuery()) {
+      return executeStream(parameters);
+    }
     List results = executeRawResult(parameters);
     Class<?> simpleConvertedType = getReturnedSimpleConvertableItemType();
     if (simpleConvertedType != null) {
@@ -73,6 +78,17 @@ abstract class AbstractSpannerQuery<T> implements RepositoryQuery {
         : this.queryMethod.getResultProcessor().processResult(results.get(0));
   }
 
+  private Stream<?> executeStream(Object[] parameters) {
+    Stream<?> results = executeStreamResult(parameters);
+    Class<?> simpleConvertedType = getReturnedSimpleConvertableItemType();
+    if (simpleConvertedType != null) {
+      SpannerCustomConverter readConverter =
+          this.spannerTemplate.getSpannerEntityProcessor().getReadConverter();
+      return results.map(x -> readConverter.convert(x, simpleConvertedType));
+    }
+    return results.map(this::processRawObjectForProjection);
+  }
+
   Object convertToSimpleReturnType(List<?> results, Class<?> simpleConvertedType) {
     return this.queryMethod.isCollectionQuery()
         ? results.stream()
@@ -129,4 +145,17 @@ abstract class AbstractSpannerQuery<T> implements RepositoryQuery {
   }
 
   protected abstract List executeRawResult(Object[] parameters);
+
+  /**
+   * Executes the query of a query method that returns a {@link Stream}. By default the results are
+   * read fully by {@link #executeRawResult(Object[])}; implementations override this to map rows
+   * as the stream is consumed.
+   *
+   * @param parameters the parameters of the query method invocation.
+   * @return the stream of raw results.
+   */
+  protected Stream executeStreamResult(Object[] parameters) {
+    List results = executeRawResult(parameters);
+    return (results != null) ? results.stream() : Stream.empty();
+  }
 }
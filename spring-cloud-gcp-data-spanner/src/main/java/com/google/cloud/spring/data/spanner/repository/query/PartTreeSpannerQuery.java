@@ -20,7 +20,11 @@ import com.google.cloud.spring.data.spanner.core.SpannerTemplate;
 import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.parser.PartTree;
@@ -34,8 +38,16 @@ import org.springframework.data.repository.query.parser.PartTree;
  */
 public class PartTreeSpannerQuery<T> extends AbstractSpannerQuery<T> {
 
+  /**
+   * The maximum number of distinct sorts whose compiled SQL is kept per query method. Queries
+   * with further sorts are compiled on every invocation.
+   */
+  static final int MAX_CACHED_SQL_TEMPLATES = 64;
+
   private final PartTree tree;
 
+  private final Map<Sort, PartTreeSqlTemplate> sqlTemplates = new ConcurrentHashMap<>();
+
   /**
    * Constructor.
    *
@@ -60,12 +72,10 @@ public class PartTreeSpannerQuery<T> extends AbstractSpannerQuery<T> {
     if (isCountOrExistsQuery()) {
       return SpannerStatementQueryExecutor.executeQuery(
           struct -> isCountQuery() ? struct.getLong(0) : struct.getBoolean(0),
-          this.entityType,
           this.tree,
+          getSqlTemplate(paramAccessor),
           paramAccessor,
-          getQueryMethod().getQueryMethod().getParameters(),
-          this.spannerTemplate,
-          this.spannerMappingContext);
+          this.spannerTemplate);
     }
     if (this.tree.isDelete()) {
       return this.spannerTemplate.performReadWriteTransaction(getDeleteFunction(parameters));
@@ -73,10 +83,47 @@ public class PartTreeSpannerQuery<T> extends AbstractSpannerQuery<T> {
     return SpannerStatementQueryExecutor.executeQuery(
         this.entityType,
         this.tree,
+        getSqlTemplate(paramAccessor),
         paramAccessor,
-        getQueryMethod().getQueryMethod().getParameters(),
-        this.spannerTemplate,
-        this.spannerMappingContext);
+        this.spannerTemplate);
+  }
+
+  @Override
+  protected Stream executeStreamResult(Object[] parameters) {
+    if (isCountOrExistsQuery() || this.tree.isDelete()) {
+      return super.executeStreamResult(parameters);
+    }
+    ParameterAccessor paramAccessor =
+        new ParametersParameterAccessor(getQueryMethod().getParameters(), parameters);
+    return SpannerStatementQueryExecutor.executeStreamQuery(
+        this.entityType,
+        this.tree,
+        getSqlTemplate(paramAccessor),
+        paramAccessor,
+        this.spannerTemplate);
+  }
+
+  /**
+   * Gets the SQL of this query method for the sort of an invocation, compiling it on first use.
+   * Only the parameter values and the limit and offset of a page differ between invocations that
+   * share a sort.
+   */
+  PartTreeSqlTemplate getSqlTemplate(ParameterAccessor paramAccessor) {
+    Sort sort = SpannerStatementQueryExecutor.getPartTreeSort(this.tree, paramAccessor);
+    PartTreeSqlTemplate sqlTemplate = this.sqlTemplates.get(sort);
+    if (sqlTemplate == null) {
+      sqlTemplate =
+          SpannerStatementQueryExecutor.compilePartTreeSql(
+              this.tree,
+              this.spannerMappingContext,
+              this.entityType,
+              sort,
+              getQueryMethod().getQueryMethod().getParameters());
+      if (this.sqlTemplates.size() < MAX_CACHED_SQL_TEMPLATES) {
+        this.sqlTemplates.putIfAbsent(sort, sqlTemplate);
+      }
+    }
+    return sqlTemplate;
   }
 
   private Function<SpannerTemplate, List> getDeleteFunction(Object[] parameters) {
@@ -87,10 +134,9 @@ public class PartTreeSpannerQuery<T> extends AbstractSpannerQuery<T> {
           SpannerStatementQueryExecutor.executeQuery(
               this.entityType,
               this.tree,
+              getSqlTemplate(paramAccessor),
               paramAccessor,
-              getQueryMethod().getQueryMethod().getParameters(),
-              transactionTemplate,
-              this.spannerMappingContext);
+              transactionTemplate);
       transactionTemplate.deleteAll(entitiesToDelete);
 
       List result = null;
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.repository.query;
+
+import java.lang.reflect.Parameter;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The parts of a PartTree query's SQL that only depend on the query method and the sort: the
+ * select, from, where and order by clauses, their placeholders, and the query method parameter
+ * bound to each placeholder. The limit and offset of a page, and the count or exists wrapping,
+ * are applied per invocation.
+ */
+final class PartTreeSqlTemplate {
+
+  private final String selectSql;
+
+  private final List<String> placeholders;
+
+  private final Map<String, Parameter> paramMetadataMap;
+
+  PartTreeSqlTemplate(
+      String selectSql, List<String> placeholders, Map<String, Parameter> paramMetadataMap) {
+    this.selectSql = selectSql;
+    this.placeholders = placeholders;
+    this.paramMetadataMap = paramMetadataMap;
+  }
+
+  String getSelectSql() {
+    return this.selectSql;
+  }
+
+  List<String> getPlaceholders() {
+    return this.placeholders;
+  }
+
+  Map<String, Parameter> getParamMetadataMap() {
+    return this.paramMetadataMap;
+  }
+}
@@ -42,6 +42,7 @@ import java.util.StringJoiner;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -87,37 +88,70 @@ public final class SpannerStatementQueryExecutor {
       Parameter[] queryMethodParamsMetadata,
       SpannerTemplate spannerTemplate,
       SpannerMappingContext spannerMappingContext) {
-    SqlStringAndPlaceholders sqlStringAndPlaceholders =
-        buildPartTreeSqlString(tree, spannerMappingContext, type, parameterAccessor);
-    Map<String, Parameter> paramMetadataMap =
-        preparePartTreeSqlTagParameterMap(queryMethodParamsMetadata, sqlStringAndPlaceholders);
-    Object[] params = StreamSupport.stream(parameterAccessor.spliterator(), false).toArray();
+    return executeQuery(
+        type,
+        tree,
+        compilePartTreeSql(
+            tree,
+            spannerMappingContext,
+            type,
+            getPartTreeSort(tree, parameterAccessor),
+            queryMethodParamsMetadata),
+        parameterAccessor,
+        spannerTemplate);
+  }
+
+  static <T> List<T> executeQuery(
+      Class<T> type,
+      PartTree tree,
+      PartTreeSqlTemplate sqlTemplate,
+      ParameterAccessor parameterAccessor,
+      SpannerTemplate spannerTemplate) {
     return spannerTemplate.query(
+        type, buildPartTreeStatement(tree, sqlTemplate, parameterAccessor, spannerTemplate), null);
+  }
+
+  /**
+   * Executes a PartTree-based query and maps the resulting rows as the returned stream is
+   * consumed.
+   *
+   * @param type the type of the underlying entity
+   * @param tree the parsed metadata of the query
+   * @param parameterAccessor the parameters of this specific query
+   * @param queryMethodParamsMetadata parameter metadata from Query Method
+   * @param spannerTemplate used to execute the query
+   * @param spannerMappingContext used to get metadata about the entity type
+   * @param <T> the type of the underlying entity
+   * @return stream of entities.
+   */
+  public static <T> Stream<T> executeStreamQuery(
+      Class<T> type,
+      PartTree tree,
+      ParameterAccessor parameterAccessor,
+      Parameter[] queryMethodParamsMetadata,
+      SpannerTemplate spannerTemplate,
+      SpannerMappingContext spannerMappingContext) {
+    return executeStreamQuery(
         type,
-        buildStatementFromSqlWithArgs(
-            sqlStringAndPlaceholders.getSql(),
-            sqlStringAndPlaceholders.getPlaceholders(),
-            null,
-            spannerTemplate.getSpannerEntityProcessor().getWriteConverter(),
-            params,
-            paramMetadataMap),
-        null);
+        tree,
+        compilePartTreeSql(
+            tree,
+            spannerMappingContext,
+            type,
+            getPartTreeSort(tree, parameterAccessor),
+            queryMethodParamsMetadata),
+        parameterAccessor,
+        spannerTemplate);
   }
 
-  private static Map<String, Parameter> preparePartTreeSqlTagParameterMap(
-      Parameter[] paramsMetadata, SqlStringAndPlaceholders sqlStringAndPlaceholders) {
-    Map<String, Parameter> paramMetadataMap = new HashMap<>();
-    int nextPlaceholderIdx = 0;
-    for (int paramIdx = 0; paramIdx < paramsMetadata.length; paramIdx++) {
-      Parameter param = paramsMetadata[paramIdx];
-      // Skip Pageable and Sort parameters because they don't need to be bound to the tags in the
-      // query.
-      // They are processed separately in applySort and buildLimit methods.
-      if (param.getType() != Pageable.class && param.getType() != Sort.class) {
-        paramMetadataMap.put(sqlStringAndPlaceholders.getPlaceholders().get(nextPlaceholderIdx++), param);
-      }
-    }
-    return paramMetadataMap;
+  static <T> Stream<T> executeStreamQuery(
+      Class<T> type,
+      PartTree tree,
+      PartTreeSqlTemplate sqlTemplate,
+      ParameterAccessor parameterAccessor,
+      SpannerTemplate spannerTemplate) {
+    return spannerTemplate.queryStream(
+        type, buildPartTreeStatement(tree, sqlTemplate, parameterAccessor, spannerTemplate), null);
   }
 
   /**
@@ -142,23 +176,98 @@ public final class SpannerStatementQueryExecutor {
       Parameter[] queryMethodParamsMetadata,
       SpannerTemplate spannerTemplate,
       SpannerMappingContext spannerMappingContext) {
-    SqlStringAndPlaceholders sqlStringAndPlaceholders =
-        buildPartTreeSqlString(tree, spannerMappingContext, type, parameterAccessor);
-    Map<String, Parameter> paramMetadataMap =
-        preparePartTreeSqlTagParameterMap(queryMethodParamsMetadata, sqlStringAndPlaceholders);
-    Object[] params = StreamSupport.stream(parameterAccessor.spliterator(), false).toArray();
+    return executeQuery(
+        rowFunc,
+        tree,
+        compilePartTreeSql(
+            tree,
+            spannerMappingContext,
+            type,
+            getPartTreeSort(tree, parameterAccessor),
+            queryMethodParamsMetadata),
+        parameterAccessor,
+        spannerTemplate);
+  }
+
+  static <A> List<A> executeQuery(
+      Function<Struct, A> rowFunc,
+      PartTree tree,
+      PartTreeSqlTemplate sqlTemplate,
+      ParameterAccessor parameterAccessor,
+      SpannerTemplate spannerTemplate) {
     return spannerTemplate.query(
         rowFunc,
-        buildStatementFromSqlWithArgs(
-            sqlStringAndPlaceholders.getSql(),
-            sqlStringAndPlaceholders.getPlaceholders(),
-            null,
-            spannerTemplate.getSpannerEntityProcessor().getWriteConverter(),
-            params,
-            paramMetadataMap),
+        buildPartTreeStatement(tree, sqlTemplate, parameterAccessor, spannerTemplate),
         null);
   }
 
+  /**
+   * Gets the sort that applies to a PartTree query invocation: the sort given as a parameter, or
+   * else the sort of the query method name.
+   */
+  static Sort getPartTreeSort(PartTree tree, ParameterAccessor parameterAccessor) {
+    return parameterAccessor.getSort().isSorted() ? parameterAccessor.getSort() : tree.getSort();
+  }
+
+  /**
+   * Builds the parts of a PartTree query's SQL that don't change between invocations with the
+   * same sort.
+   */
+  static PartTreeSqlTemplate compilePartTreeSql(
+      PartTree tree,
+      SpannerMappingContext spannerMappingContext,
+      Class<?> type,
+      Sort sort,
+      Parameter[] queryMethodParamsMetadata) {
+    SpannerPersistentEntity<?> persistentEntity =
+        spannerMappingContext.getPersistentEntityOrFail(type);
+    List<String> tags = new ArrayList<>();
+    StringBuilder stringBuilder = new StringBuilder();
+
+    buildSelect(persistentEntity, tree, stringBuilder, spannerMappingContext);
+    buildFrom(persistentEntity, stringBuilder);
+    buildWhere(tree, persistentEntity, tags, stringBuilder);
+    applySort(sort, stringBuilder, persistentEntity);
+
+    return new PartTreeSqlTemplate(
+        stringBuilder.toString(),
+        tags,
+        preparePartTreeSqlTagParameterMap(queryMethodParamsMetadata, tags));
+  }
+
+  private static Statement buildPartTreeStatement(
+      PartTree tree,
+      PartTreeSqlTemplate sqlTemplate,
+      ParameterAccessor parameterAccessor,
+      SpannerTemplate spannerTemplate) {
+    StringBuilder stringBuilder = new StringBuilder(sqlTemplate.getSelectSql());
+    buildLimit(tree, stringBuilder, parameterAccessor.getPageable());
+    Object[] params = StreamSupport.stream(parameterAccessor.spliterator(), false).toArray();
+    return buildStatementFromSqlWithArgs(
+        wrapProjection(tree, stringBuilder.toString()),
+        sqlTemplate.getPlaceholders(),
+        null,
+        spannerTemplate.getSpannerEntityProcessor().getWriteConverter(),
+        params,
+        sqlTemplate.getParamMetadataMap());
+  }
+
+  private static Map<String, Parameter> preparePartTreeSqlTagParameterMap(
+      Parameter[] paramsMetadata, List<String> placeholders) {
+    Map<String, Parameter> paramMetadataMap = new HashMap<>();
+    int nextPlaceholderIdx = 0;
+    for (int paramIdx = 0; paramIdx < paramsMetadata.length; paramIdx++) {
+      Parameter param = paramsMetadata[paramIdx];
+      // Skip Pageable and Sort parameters because they don't need to be bound to the tags in the
+      // query.
+      // They are processed separately in applySort and buildLimit methods.
+      if (param.getType() != Pageable.class && param.getType() != Sort.class) {
+        paramMetadataMap.put(placeholders.get(nextPlaceholderIdx++), param);
+      }
+    }
+    return paramMetadataMap;
+  }
+
   /**
    * Apply paging and sorting options to a query string.
    *
@@ -247,12 +356,33 @@ public final class SpannerStatementQueryExecutor {
       SpannerPersistentProperty spannerPersistentProperty,
       SpannerCustomConverter writeConverter,
       SpannerMappingContext mappingContext) {
+    return getChildrenRowsQuery(
+        KeySet.singleKey(parentKey), spannerPersistentProperty, writeConverter, mappingContext);
+  }
+
+  /**
+   * Gets a {@link Statement} that returns the rows associated with any of a set of parent entities.
+   * The child rows of all the parents are returned by the single statement, so the caller needs to
+   * group them by the parent key prefix of their own keys.
+   *
+   * @param parentKeys the parent keys whose children to get.
+   * @param spannerPersistentProperty the property with interleaved list of child entries in the
+   *     parent entity.
+   * @param writeConverter a converter to convert key values as needed to bind to the query
+   *     statement.
+   * @param mappingContext mapping context
+   * @return the Spanner statement to perform the retrieval.
+   */
+  public static Statement getChildrenRowsQuery(
+      KeySet parentKeys,
+      SpannerPersistentProperty spannerPersistentProperty,
+      SpannerCustomConverter writeConverter,
+      SpannerMappingContext mappingContext) {
     Class<?> childType = spannerPersistentProperty.getColumnInnerType();
     SpannerPersistentEntity<?> persistentEntity =
         mappingContext.getPersistentEntityOrFail(childType);
     String whereClause = getWhere(spannerPersistentProperty, persistentEntity);
-    return buildQuery(
-        KeySet.singleKey(parentKey), persistentEntity, writeConverter, mappingContext, whereClause);
+    return buildQuery(parentKeys, persistentEntity, writeConverter, mappingContext, whereClause);
   }
 
   /**
@@ -334,8 +464,9 @@ public final class SpannerStatementQueryExecutor {
     for (Key key : keySet.getKeys()) {
       StringJoiner andJoiner = new StringJoiner(AND);
       Iterator parentKeyParts = key.getParts().iterator();
-      while (parentKeyParts.hasNext()) {
-        SpannerPersistentProperty keyProp = keyProperties.get(tagNum % keyProperties.size());
+      // a key may be a prefix of the primary key, e.g. the key of a parent row
+      for (int partNum = 0; parentKeyParts.hasNext(); partNum++) {
+        SpannerPersistentProperty keyProp = keyProperties.get(partNum);
         String tagName = "tag" + tagNum;
         andJoiner.add(keyProp.getColumnName() + " = @" + tagName);
         tags.add(tagName);
@@ -538,36 +669,13 @@ public final class SpannerStatementQueryExecutor {
     return joiner.toString();
   }
 
-  private static SqlStringAndPlaceholders buildPartTreeSqlString(
-      PartTree tree,
-      SpannerMappingContext spannerMappingContext,
-      Class type,
-      ParameterAccessor params) {
-
-    SpannerPersistentEntity<?> persistentEntity =
-        spannerMappingContext.getPersistentEntityOrFail(type);
-    List<String> tags = new ArrayList<>();
-    StringBuilder stringBuilder = new StringBuilder();
-
-    buildSelect(persistentEntity, tree, stringBuilder, spannerMappingContext);
-    buildFrom(persistentEntity, stringBuilder);
-    buildWhere(tree, persistentEntity, tags, stringBuilder);
-    applySort(
-        params.getSort().isSorted() ? params.getSort() : tree.getSort(),
-        stringBuilder,
-        persistentEntity);
-    buildLimit(tree, stringBuilder, params.getPageable());
-
-    String selectSql = stringBuilder.toString();
-
-    String finalSql = selectSql;
-
+  private static String wrapProjection(PartTree tree, String selectSql) {
     if (tree.isCountProjection()) {
-      finalSql = "SELECT COUNT(1) FROM (" + selectSql + ")";
+      return "SELECT COUNT(1) FROM (" + selectSql + ")";
     } else if (tree.isExistsProjection()) {
-      finalSql = "SELECT EXISTS(" + selectSql + ")";
+      return "SELECT EXISTS(" + selectSql + ")";
     }
-    return new SqlStringAndPlaceholders(finalSql, tags);
+    return selectSql;
   }
 
   private static void buildSelect(
@@ -38,6 +38,7 @@ import java.util.Set;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -87,6 +88,8 @@ public class SqlSpannerQuery<T> extends AbstractSpannerQuery<T> {
 
   private SpelExpressionParser expressionParser;
 
+  private volatile CompiledSql compiledSql;
+
   SqlSpannerQuery(
       Class<T> type,
       SpannerQueryMethod queryMethod,
@@ -189,8 +192,35 @@ public class SqlSpannerQuery<T> extends AbstractSpannerQuery<T> {
         .getEvaluationContext(queryTagValue.rawParams).getEvaluationContext();
   }
 
-  private void resolveSpelTags(QueryTagValue queryTagValue) {
-    Expression[] expressions = detectExpressions(queryTagValue.sql);
+  /**
+   * Gets the parts of this query that don't depend on the parameter values: the SQL with entity
+   * class names resolved to table names, split into literal and SpEL segments, the parameter tags,
+   * and the method parameter bound to each tag. They are compiled on the first execution because
+   * the query method metadata they are built from is only needed once the query runs.
+   */
+  private CompiledSql getCompiledSql() {
+    CompiledSql result = this.compiledSql;
+    if (result == null) {
+      result =
+          new CompiledSql(
+              getParamTags(),
+              detectExpressions(resolveEntityClassNames(this.sql, this.spannerMappingContext)),
+              buildParamMetadataMap());
+      this.compiledSql = result;
+    }
+    return result;
+  }
+
+  private Map<String, java.lang.reflect.Parameter> buildParamMetadataMap() {
+    Map<String, java.lang.reflect.Parameter> paramMetadataMap = new HashMap<>();
+    for (java.lang.reflect.Parameter param : getQueryMethod().getQueryMethod().getParameters()) {
+      Param annotation = param.getAnnotation(Param.class);
+      paramMetadataMap.put(annotation == null ? param.getName() : annotation.value(), param);
+    }
+    return paramMetadataMap;
+  }
+
+  private void resolveSpelTags(QueryTagValue queryTagValue, Expression[] expressions) {
     StringBuilder sb = new StringBuilder();
     Map<Object, String> valueToTag = new HashMap<>();
     int tagNum = 0;
@@ -227,16 +257,7 @@ public class SqlSpannerQuery<T> extends AbstractSpannerQuery<T> {
 
     ParameterAccessor paramAccessor =
         new ParametersParameterAccessor(getQueryMethod().getParameters(), parameters);
-    Object[] params = StreamSupport.stream(paramAccessor.spliterator(), false).toArray();
-
-    QueryTagValue queryTagValue =
-        new QueryTagValue(
-            getParamTags(),
-            parameters,
-            params,
-            resolveEntityClassNames(this.sql, this.spannerMappingContext));
-
-    resolveSpelTags(queryTagValue);
+    QueryTagValue queryTagValue = buildQueryTagValue(parameters, paramAccessor);
 
     return this.isDml
         ? Collections.singletonList(
@@ -244,7 +265,67 @@ public class SqlSpannerQuery<T> extends AbstractSpannerQuery<T> {
         : executeReadSql(paramAccessor.getPageable(), paramAccessor.getSort(), queryTagValue);
   }
 
+  @Override
+  protected Stream executeStreamResult(Object[] parameters) {
+    if (this.isDml) {
+      return super.executeStreamResult(parameters);
+    }
+    ParameterAccessor paramAccessor =
+        new ParametersParameterAccessor(getQueryMethod().getParameters(), parameters);
+    SpannerPageableQueryOptions spannerQueryOptions =
+        buildReadSqlOptions(paramAccessor.getPageable(), paramAccessor.getSort());
+    Statement statement =
+        buildReadSqlStatement(
+            spannerQueryOptions, buildQueryTagValue(parameters, paramAccessor));
+
+    Class<?> returnedType = getReturnedType();
+    if (getReturnedSimpleConvertableItemType() != null) {
+      return this.spannerTemplate.queryStream(
+          struct -> new StructAccessor(struct).getSingleValue(0), statement, spannerQueryOptions);
+    }
+    if (isJsonFieldType(returnedType)) {
+      return this.spannerTemplate.queryStream(
+          struct -> new StructAccessor(struct,
+              this.spannerMappingContext.getGson()).getJsonValue(0, returnedType),
+          statement,
+          spannerQueryOptions);
+    }
+    return this.spannerTemplate.queryStream(this.entityType, statement, spannerQueryOptions);
+  }
+
+  private QueryTagValue buildQueryTagValue(Object[] parameters, ParameterAccessor paramAccessor) {
+    Object[] params = StreamSupport.stream(paramAccessor.spliterator(), false).toArray();
+    CompiledSql compiled = getCompiledSql();
+
+    QueryTagValue queryTagValue =
+        new QueryTagValue(new ArrayList<>(compiled.tags), parameters, params, null);
+
+    resolveSpelTags(queryTagValue, compiled.expressions);
+    return queryTagValue;
+  }
+
   private List executeReadSql(Pageable pageable, Sort sort, QueryTagValue queryTagValue) {
+    SpannerPageableQueryOptions spannerQueryOptions = buildReadSqlOptions(pageable, sort);
+    Statement statement = buildReadSqlStatement(spannerQueryOptions, queryTagValue);
+
+    final Class<?> returnedType = getReturnedType();
+    if (getReturnedSimpleConvertableItemType() != null) {
+      return this.spannerTemplate.query(
+          struct -> new StructAccessor(struct).getSingleValue(0), statement, spannerQueryOptions);
+    }
+    // check if returnedType is a field annotated as json or is inner-type of a field annotated as json
+    if (isJsonFieldType(returnedType)) {
+      return this.spannerTemplate.query(
+          struct -> new StructAccessor(struct,
+              this.spannerMappingContext.getGson()).getJsonValue(0, returnedType),
+          statement,
+          spannerQueryOptions);
+    }
+
+    return this.spannerTemplate.query(this.entityType, statement, spannerQueryOptions);
+  }
+
+  private SpannerPageableQueryOptions buildReadSqlOptions(Pageable pageable, Sort sort) {
     SpannerPageableQueryOptions spannerQueryOptions =
         new SpannerPageableQueryOptions().setAllowPartialRead(true);
 
@@ -255,7 +336,11 @@ public class SqlSpannerQuery<T> extends AbstractSpannerQuery<T> {
     if (pageable != null && pageable.isPaged()) {
       spannerQueryOptions.setOffset(pageable.getOffset()).setLimit(pageable.getPageSize());
     }
+    return spannerQueryOptions;
+  }
 
+  private Statement buildReadSqlStatement(
+      SpannerPageableQueryOptions spannerQueryOptions, QueryTagValue queryTagValue) {
     final Class<?> returnedType = getReturnedType();
     final SpannerPersistentEntity<?> entity =
         returnedType == null ? null : this.spannerMappingContext.getPersistentEntity(returnedType);
@@ -268,22 +353,7 @@ public class SqlSpannerQuery<T> extends AbstractSpannerQuery<T> {
             this.spannerMappingContext,
             entity != null && entity.hasEagerlyLoadedProperties());
 
-    Statement statement = buildStatementFromQueryAndTags(queryTagValue);
-
-    if (getReturnedSimpleConvertableItemType() != null) {
-      return this.spannerTemplate.query(
-          struct -> new StructAccessor(struct).getSingleValue(0), statement, spannerQueryOptions);
-    }
-    // check if returnedType is a field annotated as json or is inner-type of a field annotated as json
-    if (isJsonFieldType(returnedType)) {
-      return this.spannerTemplate.query(
-          struct -> new StructAccessor(struct,
-              this.spannerMappingContext.getGson()).getJsonValue(0, returnedType),
-          statement,
-          spannerQueryOptions);
-    }
-
-    return this.spannerTemplate.query(this.entityType, statement, spannerQueryOptions);
+    return buildStatementFromQueryAndTags(queryTagValue);
   }
 
   private boolean isJsonFieldType(Class<?> returnedType) {
@@ -297,18 +367,13 @@ public class SqlSpannerQuery<T> extends AbstractSpannerQuery<T> {
   }
 
   private Statement buildStatementFromQueryAndTags(QueryTagValue queryTagValue) {
-    Map<String, java.lang.reflect.Parameter> paramMetadataMap = new HashMap<>();
-    for (java.lang.reflect.Parameter param : getQueryMethod().getQueryMethod().getParameters()) {
-      Param annotation = param.getAnnotation(Param.class);
-      paramMetadataMap.put(annotation == null ? param.getName() : annotation.value(), param);
-    }
     return SpannerStatementQueryExecutor.buildStatementFromSqlWithArgs(
         queryTagValue.sql,
         queryTagValue.tags,
         this.paramStructConvertFunc,
         this.spannerTemplate.getSpannerEntityProcessor().getWriteConverter(),
         queryTagValue.params.toArray(),
-        paramMetadataMap);
+        getCompiledSql().paramMetadataMap);
   }
 
   private Expression[] detectExpressions(String sql) {
@@ -325,6 +390,25 @@ public class SqlSpannerQuery<T> extends AbstractSpannerQuery<T> {
     }
   }
 
+  // The parts of the query that are the same for every execution.
+  private static final class CompiledSql {
+
+    final List<String> tags;
+
+    final Expression[] expressions;
+
+    final Map<String, java.lang.reflect.Parameter> paramMetadataMap;
+
+    CompiledSql(
+        List<String> tags,
+        Expression[] expressions,
+        Map<String, java.lang.reflect.Parameter> paramMetadataMap) {
+      this.tags = tags;
+      this.expressions = expressions;
+      this.paramMetadataMap = paramMetadataMap;
+    }
+  }
+
   // Convenience class to hold a grouping of SQL, tags, and parameter values.
   private static class QueryTagValue {
 
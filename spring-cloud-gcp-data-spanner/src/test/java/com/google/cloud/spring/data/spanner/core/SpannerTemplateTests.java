@@ -28,14 +28,18 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.google.api.gax.rpc.ServerStream;
 import com.google.cloud.ByteArray;
 import com.google.cloud.Timestamp;
 import com.google.cloud.spanner.DatabaseClient;
+import com.google.cloud.spanner.ErrorCode;
 import com.google.cloud.spanner.Key;
 import com.google.cloud.spanner.KeySet;
 import com.google.cloud.spanner.Mutation;
+import com.google.cloud.spanner.MutationGroup;
 import com.google.cloud.spanner.Options;
 import com.google.cloud.spanner.Options.ReadOption;
 import com.google.cloud.spanner.Options.ReadQueryUpdateTransactionOption;
@@ -43,7 +47,10 @@ import com.google.cloud.spanner.Options.RpcPriority;
 import com.google.cloud.spanner.ReadContext;
 import com.google.cloud.spanner.ReadOnlyTransaction;
 import com.google.cloud.spanner.ResultSet;
+import com.google.cloud.spanner.SpannerException;
+import com.google.cloud.spanner.SpannerExceptionFactory;
 import com.google.cloud.spanner.Statement;
+import com.google.cloud.spanner.Struct;
 import com.google.cloud.spanner.TimestampBound;
 import com.google.cloud.spanner.TransactionContext;
 import com.google.cloud.spanner.TransactionRunner;
@@ -56,6 +63,7 @@ import com.google.cloud.spring.data.spanner.core.mapping.Column;
 import com.google.cloud.spring.data.spanner.core.mapping.Embedded;
 import com.google.cloud.spring.data.spanner.core.mapping.Interleaved;
 import com.google.cloud.spring.data.spanner.core.mapping.PrimaryKey;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerDataException;
 import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
 import com.google.cloud.spring.data.spanner.core.mapping.Table;
 import com.google.cloud.spring.data.spanner.core.mapping.Where;
@@ -67,18 +75,30 @@ import com.google.cloud.spring.data.spanner.core.mapping.event.AfterSaveEvent;
 import com.google.cloud.spring.data.spanner.core.mapping.event.BeforeDeleteEvent;
 import com.google.cloud.spring.data.spanner.core.mapping.event.BeforeExecuteDmlEvent;
 import com.google.cloud.spring.data.spanner.core.mapping.event.BeforeSaveEvent;
+import com.google.rpc.Code;
+import com.google.rpc.Status;
+import com.google.spanner.v1.BatchWriteResponse;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
 import org.springframework.context.ApplicationEvent;
@@ -492,6 +512,59 @@ class SpannerTemplateTests {
         x -> {});
   }
 
+  @Test
+  void queryStreamFuncTest() {
+    ResultSet resultSet = mock(ResultSet.class);
+    when(resultSet.next()).thenReturn(true, true, false);
+    when(resultSet.getCurrentRowAsStruct())
+        .thenReturn(Struct.newBuilder().set("id").to("a").build())
+        .thenReturn(Struct.newBuilder().set("id").to("b").build());
+    Statement query = Statement.of("test");
+    when(this.readContext.executeQuery(query)).thenReturn(resultSet);
+    ApplicationEventPublisher mockPublisher = mock(ApplicationEventPublisher.class);
+    this.spannerTemplate.setApplicationEventPublisher(mockPublisher);
+
+    try (Stream<String> ids =
+        this.spannerTemplate.queryStream(struct -> struct.getString("id"), query, null)) {
+      assertThat(ids).containsExactly("a", "b");
+    }
+
+    verify(resultSet, times(1)).close();
+    verifyNoInteractions(mockPublisher);
+  }
+
+  @Test
+  void queryStreamResolvesChildrenTest() {
+    ParentEntity p1 = new ParentEntity();
+    p1.id = "key";
+    p1.id2 = "key2";
+    ParentEntity p2 = new ParentEntity();
+    p2.id = "other";
+    p2.id2 = "key2";
+    ChildEntity c1 = new ChildEntity();
+    c1.id = "other";
+    c1.id_2 = "key2";
+    c1.id3 = "a";
+    AtomicInteger closed = new AtomicInteger();
+    when(this.objectMapper.mapToStream(any(), eq(ParentEntity.class), any(), eq(false)))
+        .thenReturn(Stream.of(p1, p2).onClose(closed::incrementAndGet));
+    when(this.objectMapper.mapToList(any(), eq(ChildEntity.class), any(), eq(false)))
+        .thenReturn(Arrays.asList(c1));
+
+    List<ParentEntity> results;
+    try (Stream<ParentEntity> parents =
+        this.spannerTemplate.queryStream(ParentEntity.class, Statement.of("test"), null)) {
+      results = parents.collect(Collectors.toList());
+    }
+
+    assertThat(results).hasSize(2);
+    assertThat(results.get(0).childEntities).isEmpty();
+    assertThat(results.get(1).childEntities).hasSize(1);
+    assertThat(results.get(1).childEntities.get(0)).isSameAs(c1);
+    verify(this.objectMapper, times(1)).mapToList(any(), eq(ChildEntity.class), any(), eq(false));
+    assertThat(closed).hasValue(1);
+  }
+
   @Test
   void findSingleKeyTest() {
     SpannerTemplate spyTemplate = spy(this.spannerTemplate);
@@ -542,7 +615,7 @@ class SpannerTemplateTests {
                 "SELECT other, id, custom_col, id_2, ARRAY (SELECT AS STRUCT deleted, id3, id, id_2"
                     + " FROM child_test_table WHERE (child_test_table.id = parent_test_table.id AND"
                     + " child_test_table.id_2 = parent_test_table.id_2) AND (deleted = false)) AS"
-                    + " childEntities FROM parent_test_table WHERE (id = @tag0) OR (id_2 = @tag1)")
+                    + " childEntities FROM parent_test_table WHERE (id = @tag0) OR (id = @tag1)")
             .bind("tag0")
             .to("key1")
             .bind("tag1")
@@ -650,6 +723,332 @@ class SpannerTemplateTests {
         x -> x.verify(this.databaseClient, times(1)).write(mutations));
   }
 
+  @Test
+  void bulkInsertAllChunksByMutationCountTest() {
+    Mutation mutation =
+        Mutation.newInsertBuilder("custom_test_table").set("id").to("a").set("id2").to("b").build();
+    TestEntity entity = new TestEntity();
+    List<TestEntity> entities = Collections.nCopies(5, entity);
+    when(this.mutationFactory.insert(same(entity))).thenReturn(Collections.singletonList(mutation));
+    when(this.databaseClient.write(any())).thenReturn(Timestamp.ofTimeMicroseconds(333));
+
+    SpannerBulkWriteResult result =
+        this.spannerTemplate.insertAll(
+            entities, new SpannerBulkWriteOptions().setMaxMutationsPerCommit(4));
+
+    assertThat(result.isSuccessful()).isTrue();
+    assertThat(result.getWrittenEntityCount()).isEqualTo(5);
+    assertThat(result.getChunkResults())
+        .extracting(SpannerBulkWriteResult.ChunkResult::getEntityCount)
+        .containsExactly(2, 2, 1);
+    assertThat(result.getChunkResults())
+        .extracting(SpannerBulkWriteResult.ChunkResult::getMutationCount)
+        .containsExactly(4, 4, 2);
+    verify(this.databaseClient, times(2)).write(Arrays.asList(mutation, mutation));
+    verify(this.databaseClient, times(1)).write(Collections.singletonList(mutation));
+  }
+
+  @Test
+  void bulkUpsertAllRetriesRetryableFailuresTest() {
+    Mutation mutation =
+        Mutation.newInsertOrUpdateBuilder("custom_test_table").set("id").to("a").build();
+    TestEntity entity = new TestEntity();
+    when(this.mutationFactory.upsert(same(entity), isNull()))
+        .thenReturn(Collections.singletonList(mutation));
+    when(this.databaseClient.write(any()))
+        .thenThrow(SpannerExceptionFactory.newSpannerException(ErrorCode.UNAVAILABLE, "retry"))
+        .thenReturn(Timestamp.ofTimeMicroseconds(333));
+
+    SpannerBulkWriteResult result =
+        this.spannerTemplate.upsertAll(
+            Collections.singletonList(entity), new SpannerBulkWriteOptions());
+
+    assertThat(result.isSuccessful()).isTrue();
+    assertThat(result.getChunkResults().get(0).getAttempts()).isEqualTo(2);
+    assertThat(result.getChunkResults().get(0).getCommitTimestamp())
+        .isEqualTo(Timestamp.ofTimeMicroseconds(333));
+  }
+
+  @Test
+  void bulkUpsertAllBacksOffBeforeRetriesTest() {
+    Mutation mutation =
+        Mutation.newInsertOrUpdateBuilder("custom_test_table").set("id").to("a").build();
+    TestEntity entity = new TestEntity();
+    when(this.mutationFactory.upsert(same(entity), isNull()))
+        .thenReturn(Collections.singletonList(mutation));
+    when(this.databaseClient.write(any()))
+        .thenThrow(SpannerExceptionFactory.newSpannerException(ErrorCode.UNAVAILABLE, "retry"));
+
+    long start = System.nanoTime();
+    SpannerBulkWriteResult result =
+        this.spannerTemplate.upsertAll(
+            Collections.singletonList(entity),
+            new SpannerBulkWriteOptions()
+                .setMaxRetries(2)
+                .setInitialRetryDelay(Duration.ofMillis(100))
+                .setMaxRetryDelay(Duration.ofMillis(100)));
+
+    assertThat(result.isSuccessful()).isFalse();
+    assertThat(result.getChunkResults().get(0).getAttempts()).isEqualTo(3);
+    assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(
+        Duration.ofMillis(100));
+  }
+
+  @Test
+  void bulkUpsertAllReportsNonRetryableFailuresTest() {
+    Mutation mutation =
+        Mutation.newInsertOrUpdateBuilder("custom_test_table").set("id").to("a").build();
+    TestEntity entity = new TestEntity();
+    when(this.mutationFactory.upsert(same(entity), isNull()))
+        .thenReturn(Collections.singletonList(mutation));
+    when(this.databaseClient.write(any()))
+        .thenThrow(
+            SpannerExceptionFactory.newSpannerException(ErrorCode.INVALID_ARGUMENT, "invalid"));
+
+    SpannerBulkWriteResult result =
+        this.spannerTemplate.upsertAll(
+            Collections.singletonList(entity), new SpannerBulkWriteOptions());
+
+    assertThat(result.isSuccessful()).isFalse();
+    assertThat(result.getWrittenEntityCount()).isZero();
+    SpannerBulkWriteResult.ChunkResult chunkResult = result.getChunkResults().get(0);
+    assertThat(chunkResult.getAttempts()).isEqualTo(1);
+    assertThat(chunkResult.getFailedEntities()).containsExactly(entity);
+    assertThat(chunkResult.getException()).hasMessageContaining("invalid");
+  }
+
+  @Test
+  void bulkInsertAllDoesNotRetryCommitsWithUnknownOutcomeTest() {
+    Mutation mutation = Mutation.newInsertBuilder("custom_test_table").set("id").to("a").build();
+    TestEntity entity = new TestEntity();
+    when(this.mutationFactory.insert(same(entity))).thenReturn(Collections.singletonList(mutation));
+    when(this.databaseClient.write(any()))
+        .thenThrow(SpannerExceptionFactory.newSpannerException(ErrorCode.UNAVAILABLE, "unknown"))
+        .thenReturn(Timestamp.ofTimeMicroseconds(333));
+
+    SpannerBulkWriteResult result =
+        this.spannerTemplate.insertAll(
+            Collections.singletonList(entity), new SpannerBulkWriteOptions());
+
+    assertThat(result.isSuccessful()).isFalse();
+    SpannerBulkWriteResult.ChunkResult chunkResult = result.getChunkResults().get(0);
+    assertThat(chunkResult.getAttempts()).isEqualTo(1);
+    assertThat(chunkResult.getFailedEntities()).containsExactly(entity);
+    assertThat(chunkResult.getException()).hasMessageContaining("unknown");
+    verify(this.databaseClient, times(1)).write(any());
+  }
+
+  @Test
+  void bulkInsertAllRetriesAbortedCommitsTest() {
+    Mutation mutation = Mutation.newInsertBuilder("custom_test_table").set("id").to("a").build();
+    TestEntity entity = new TestEntity();
+    when(this.mutationFactory.insert(same(entity))).thenReturn(Collections.singletonList(mutation));
+    when(this.databaseClient.write(any()))
+        .thenThrow(SpannerExceptionFactory.newSpannerException(ErrorCode.ABORTED, "aborted"))
+        .thenReturn(Timestamp.ofTimeMicroseconds(333));
+
+    SpannerBulkWriteResult result =
+        this.spannerTemplate.insertAll(
+            Collections.singletonList(entity), new SpannerBulkWriteOptions());
+
+    assertThat(result.isSuccessful()).isTrue();
+    assertThat(result.getChunkResults().get(0).getAttempts()).isEqualTo(2);
+  }
+
+  @Test
+  void bulkUpsertAllRecordsListenerFailuresPerChunkTest() {
+    Mutation mutation =
+        Mutation.newInsertOrUpdateBuilder("custom_test_table").set("id").to("a").build();
+    TestEntity entity1 = new TestEntity();
+    TestEntity entity2 = new TestEntity();
+    when(this.mutationFactory.upsert(any(), isNull()))
+        .thenReturn(Collections.singletonList(mutation));
+    when(this.databaseClient.write(any())).thenReturn(Timestamp.ofTimeMicroseconds(333));
+    IllegalStateException listenerException = new IllegalStateException("listener failed");
+    ApplicationEventPublisher mockPublisher = mock(ApplicationEventPublisher.class);
+    doAnswer(
+            invocation -> {
+              if (invocation.getArgument(0) instanceof AfterSaveEvent) {
+                throw listenerException;
+              }
+              return null;
+            })
+        .when(mockPublisher)
+        .publishEvent(any());
+    this.spannerTemplate.setApplicationEventPublisher(mockPublisher);
+
+    SpannerBulkWriteResult result =
+        this.spannerTemplate.upsertAll(
+            Arrays.asList(entity1, entity2),
+            new SpannerBulkWriteOptions().setMaxMutationsPerCommit(1));
+
+    assertThat(result.isSuccessful()).isFalse();
+    assertThat(result.getWrittenEntityCount()).isEqualTo(2);
+    assertThat(result.getChunkResults()).hasSize(2);
+    assertThat(result.getChunkResults())
+        .extracting(SpannerBulkWriteResult.ChunkResult::getException)
+        .containsExactly(listenerException, listenerException);
+    assertThat(result.getChunkResults())
+        .extracting(SpannerBulkWriteResult.ChunkResult::getCommitTimestamp)
+        .containsOnly(Timestamp.ofTimeMicroseconds(333));
+  }
+
+  @Test
+  void bulkUpsertAllCommitsChunksInParallelTest() {
+    Mutation mutation =
+        Mutation.newInsertOrUpdateBuilder("custom_test_table").set("id").to("a").build();
+    TestEntity entity = new TestEntity();
+    when(this.mutationFactory.upsert(same(entity), isNull()))
+        .thenReturn(Collections.singletonList(mutation));
+    Set<String> threads = ConcurrentHashMap.newKeySet();
+    when(this.databaseClient.write(any()))
+        .thenAnswer(
+            invocation -> {
+              threads.add(Thread.currentThread().getName());
+              return Timestamp.ofTimeMicroseconds(333);
+            });
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      SpannerBulkWriteResult result =
+          this.spannerTemplate.upsertAll(
+              Collections.nCopies(10, entity),
+              new SpannerBulkWriteOptions()
+                  .setMaxMutationsPerCommit(1)
+                  .setMaxParallelism(3)
+                  .setExecutor(executor));
+
+      assertThat(result.isSuccessful()).isTrue();
+      assertThat(result.getWrittenEntityCount()).isEqualTo(10);
+      assertThat(result.getChunkResults())
+          .extracting(SpannerBulkWriteResult.ChunkResult::getChunkIndex)
+          .containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+      assertThat(threads).isNotEmpty().doesNotContain(Thread.currentThread().getName());
+      verify(this.databaseClient, times(10)).write(any());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void bulkUpsertAllRecordsRejectedChunksTest() {
+    Mutation mutation =
+        Mutation.newInsertOrUpdateBuilder("custom_test_table").set("id").to("a").build();
+    TestEntity entity = new TestEntity();
+    when(this.mutationFactory.upsert(same(entity), isNull()))
+        .thenReturn(Collections.singletonList(mutation));
+    Executor rejectingExecutor =
+        command -> {
+          throw new RejectedExecutionException("rejected");
+        };
+
+    // More chunks than permits, so a leaked permit would block the write.
+    SpannerBulkWriteResult result =
+        this.spannerTemplate.upsertAll(
+            Collections.nCopies(3, entity),
+            new SpannerBulkWriteOptions()
+                .setMaxMutationsPerCommit(1)
+                .setMaxParallelism(2)
+                .setExecutor(rejectingExecutor));
+
+    assertThat(result.isSuccessful()).isFalse();
+    assertThat(result.getWrittenEntityCount()).isZero();
+    assertThat(result.getChunkResults()).hasSize(3);
+    assertThat(result.getChunkResults())
+        .extracting(SpannerBulkWriteResult.ChunkResult::getException)
+        .allMatch(RejectedExecutionException.class::isInstance);
+    verifyNoInteractions(this.databaseClient);
+  }
+
+  @Test
+  void bulkInsertAllWithBatchWriteRetriesFailedGroupsTest() {
+    Mutation mutation =
+        Mutation.newInsertBuilder("custom_test_table").set("id").to("a").build();
+    TestEntity entity1 = new TestEntity();
+    TestEntity entity2 = new TestEntity();
+    when(this.mutationFactory.insert(any())).thenReturn(Collections.singletonList(mutation));
+    ServerStream<BatchWriteResponse> firstStream = mock(ServerStream.class);
+    when(firstStream.iterator())
+        .thenReturn(
+            Arrays.asList(
+                    batchWriteResponse(Code.OK_VALUE, 0),
+                    batchWriteResponse(Code.ABORTED_VALUE, 1))
+                .iterator());
+    ServerStream<BatchWriteResponse> secondStream = mock(ServerStream.class);
+    when(secondStream.iterator())
+        .thenReturn(Collections.singletonList(batchWriteResponse(Code.OK_VALUE, 0)).iterator());
+    when(this.databaseClient.batchWriteAtLeastOnce(any()))
+        .thenReturn(firstStream)
+        .thenReturn(secondStream);
+
+    SpannerBulkWriteResult result =
+        this.spannerTemplate.insertAll(
+            Arrays.asList(entity1, entity2), new SpannerBulkWriteOptions().setBatchWrite(true));
+
+    assertThat(result.isSuccessful()).isTrue();
+    assertThat(result.getWrittenEntityCount()).isEqualTo(2);
+    assertThat(result.getChunkResults().get(0).getAttempts()).isEqualTo(2);
+    ArgumentCaptor<Iterable<MutationGroup>> groups = ArgumentCaptor.forClass(Iterable.class);
+    verify(this.databaseClient, times(2)).batchWriteAtLeastOnce(groups.capture());
+    assertThat(groups.getAllValues().get(0)).hasSize(2);
+    assertThat(groups.getAllValues().get(1)).hasSize(1);
+  }
+
+  @Test
+  void bulkInsertAllWithBatchWriteDoesNotRetryPermanentlyFailedGroupsTest() {
+    Mutation mutation =
+        Mutation.newInsertBuilder("custom_test_table").set("id").to("a").build();
+    TestEntity entity1 = new TestEntity();
+    TestEntity entity2 = new TestEntity();
+    when(this.mutationFactory.insert(any())).thenReturn(Collections.singletonList(mutation));
+    ServerStream<BatchWriteResponse> stream = mock(ServerStream.class);
+    when(stream.iterator())
+        .thenReturn(
+            Arrays.asList(
+                    batchWriteResponse(Code.OK_VALUE, 0),
+                    batchWriteResponse(Code.ALREADY_EXISTS_VALUE, 1))
+                .iterator());
+    when(this.databaseClient.batchWriteAtLeastOnce(any())).thenReturn(stream);
+
+    SpannerBulkWriteResult result =
+        this.spannerTemplate.insertAll(
+            Arrays.asList(entity1, entity2), new SpannerBulkWriteOptions().setBatchWrite(true));
+
+    assertThat(result.isSuccessful()).isFalse();
+    assertThat(result.getWrittenEntityCount()).isEqualTo(1);
+    assertThat(result.getChunkResults().get(0).getAttempts()).isEqualTo(1);
+    assertThat(result.getChunkResults().get(0).getFailedEntities()).containsExactly(entity2);
+    assertThat(result.getChunkResults().get(0).getException())
+        .hasCauseInstanceOf(SpannerException.class);
+    verify(this.databaseClient, times(1)).batchWriteAtLeastOnce(any());
+  }
+
+  @Test
+  void bulkDeleteAllInTransactionTest() {
+    ReadWriteTransactionSpannerTemplate transactionTemplate =
+        new ReadWriteTransactionSpannerTemplate(
+            () -> this.databaseClient,
+            this.mappingContext,
+            this.objectMapper,
+            this.mutationFactory,
+            this.schemaUtils,
+            mock(TransactionContext.class));
+
+    assertThatThrownBy(
+            () ->
+                transactionTemplate.deleteAll(
+                    Collections.singletonList(new TestEntity()), new SpannerBulkWriteOptions()))
+        .isInstanceOf(SpannerDataException.class)
+        .hasMessage("A read-write transaction template cannot execute bulk writes.");
+  }
+
+  private static BatchWriteResponse batchWriteResponse(int code, int index) {
+    return BatchWriteResponse.newBuilder()
+        .setStatus(Status.newBuilder().setCode(code))
+        .addIndexes(index)
+        .setCommitTimestamp(Timestamp.ofTimeMicroseconds(333).toProto())
+        .build();
+  }
+
   @Test
   void updateTest() {
     Mutation mutation = Mutation.newUpdateBuilder("custom_test_table").build();
@@ -929,6 +1328,55 @@ class SpannerTemplateTests {
         x -> {});
   }
 
+  @Test
+  void resolveChildEntitiesInSingleQueryTest() {
+    ParentEntity p1 = new ParentEntity();
+    p1.id = "key";
+    p1.id2 = "key2";
+    ParentEntity p2 = new ParentEntity();
+    p2.id = "other";
+    p2.id2 = "key2";
+    ParentEntity p3 = new ParentEntity();
+    p3.id = "childless";
+    p3.id2 = "key2";
+    ChildEntity c1 = new ChildEntity();
+    c1.id = "key";
+    c1.id_2 = "key2";
+    c1.id3 = "a";
+    ChildEntity c2 = new ChildEntity();
+    c2.id = "other";
+    c2.id_2 = "key2";
+    c2.id3 = "b";
+    ChildEntity c3 = new ChildEntity();
+    c3.id = "key";
+    c3.id_2 = "key2";
+    c3.id3 = "c";
+    when(this.objectMapper.mapToList(any(), eq(ParentEntity.class), any(), eq(false)))
+        .thenReturn(Arrays.asList(p1, p2, p3));
+    when(this.objectMapper.mapToList(any(), eq(ChildEntity.class), any(), eq(false)))
+        .thenReturn(Arrays.asList(c1, c2, c3));
+
+    List<ParentEntity> results = this.spannerTemplate.readAll(ParentEntity.class);
+
+    assertThat(results.get(0).childEntities).hasSize(2);
+    assertThat(results.get(0).childEntities.get(0)).isSameAs(c1);
+    assertThat(results.get(0).childEntities.get(1)).isSameAs(c3);
+    assertThat(results.get(1).childEntities).hasSize(1);
+    assertThat(results.get(1).childEntities.get(0)).isSameAs(c2);
+    assertThat(results.get(2).childEntities).isEmpty();
+    verify(this.objectMapper, times(1)).mapToList(any(), eq(ChildEntity.class), any(), eq(false));
+    ArgumentCaptor<Statement> statementCaptor = ArgumentCaptor.forClass(Statement.class);
+    verify(this.readContext, times(2)).executeQuery(statementCaptor.capture());
+    Statement childStatement = statementCaptor.getAllValues().get(1);
+    assertThat(childStatement.getSql())
+        .isEqualTo(
+            "SELECT deleted, id3, id, id_2 FROM child_test_table WHERE ((id = @tag0 AND id_2 ="
+                + " @tag1) OR (id = @tag2 AND id_2 = @tag3) OR (id = @tag4 AND id_2 = @tag5))"
+                + " AND (deleted = false)");
+    assertThat(childStatement.getParameters()).hasSize(6);
+    assertThat(childStatement.getParameters().get("tag2").getString()).isEqualTo("other");
+  }
+
   @Test
   void lazyFetchChildrenTest() {
     ChildEntity c = new ChildEntity();
@@ -18,6 +18,7 @@ package com.google.cloud.spring.data.spanner.core.convert;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -39,8 +40,11 @@ import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 import org.assertj.core.data.Offset;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -412,6 +416,44 @@ class ConverterAwareMappingSpannerEntityProcessorTests {
     assertThat(t2.uuidList).containsExactly(UUID.fromString("ffffffff-ffff-ffff-ffff-ffffffffffff"));
   }
 
+  @Test
+  void mapToStreamReadsRowsLazilyTest() {
+    Struct struct1 =
+        Struct.newBuilder()
+            .set("id")
+            .to(Value.string("key1"))
+            .set("custom_col")
+            .to(Value.string("WHITE"))
+            .build();
+    Struct struct2 =
+        Struct.newBuilder()
+            .set("id")
+            .to(Value.string("key2"))
+            .set("custom_col")
+            .to(Value.string("BLACK"))
+            .build();
+
+    MockResults mockResults = new MockResults();
+    mockResults.structs = Arrays.asList(struct1, struct2);
+
+    ResultSet results = mock(ResultSet.class);
+    when(results.next()).thenAnswer(invocation -> mockResults.next());
+    when(results.getCurrentRowAsStruct()).thenAnswer(invocation -> mockResults.getCurrent());
+
+    Set<String> includeColumns = new HashSet<>(Arrays.asList("id", "custom_col"));
+    try (Stream<TestEntity> entities =
+        this.spannerEntityProcessor.mapToStream(results, TestEntity.class, includeColumns, false)) {
+      verify(results, never()).next();
+
+      TestEntity t1 = entities.findFirst().get();
+      assertThat(t1.id).isEqualTo("key1");
+      assertThat(t1.enumField).isEqualTo(TestEntity.Color.WHITE);
+      verify(results, times(1)).next();
+      verify(results, never()).close();
+    }
+    verify(results, times(1)).close();
+  }
+
   @Test
   void mapToListPartialColumnsTest() {
     List<Double> doubleList = new ArrayList<>();
@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -44,6 +45,8 @@ import com.google.gson.Gson;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.convert.ConversionFailedException;
@@ -121,6 +124,55 @@ class ConverterAwareMappingSpannerEntityReaderTests {
     assertThat(result.innerStruct.getString("value")).isEqualTo("inner-value");
   }
 
+  @Test
+  void readRowsOfDifferentColumnLayoutsTest() {
+    Struct innerStruct = Struct.newBuilder().set("value").to(Value.string("inner-value")).build();
+    Type innerType = Type.struct(StructField.of("value", Type.string()));
+    Struct idFirst =
+        Struct.newBuilder()
+            .set("id")
+            .to(Value.string("key1"))
+            .set("innerTestEntities")
+            .toStructArray(innerType, List.of(innerStruct))
+            .build();
+    Struct idLast =
+        Struct.newBuilder()
+            .set("innerTestEntities")
+            .toStructArray(innerType, List.of())
+            .set("id")
+            .to(Value.string("key2"))
+            .build();
+
+    List<OuterTestEntity> results =
+        Stream.of(idFirst, idLast, idFirst)
+            .map(row -> this.spannerEntityReader.read(OuterTestEntity.class, row, null, true))
+            .collect(Collectors.toList());
+
+    assertThat(results).extracting(outer -> outer.id).containsExactly("key1", "key2", "key1");
+    assertThat(results.get(0).innerTestEntities)
+        .extracting(inner -> inner.value)
+        .containsExactly("inner-value");
+    assertThat(results.get(1).innerTestEntities).isEmpty();
+    assertThatThrownBy(
+            () -> this.spannerEntityReader.read(OuterTestEntity.class, idFirst, null, false))
+        .isInstanceOf(SpannerDataException.class)
+        .hasMessage("Unable to read column from Cloud Spanner results: missingColumnValue");
+  }
+
+  @Test
+  void readColumnsByIndexTest() {
+    Struct row = mock(Struct.class);
+    when(row.getType()).thenReturn(Type.struct(StructField.of("value", Type.string())));
+    when(row.getString(0)).thenReturn("inner-value");
+
+    TestEntities.InnerTestEntity result =
+        this.spannerEntityReader.read(TestEntities.InnerTestEntity.class, row, null, true);
+
+    assertThat(result.value).isEqualTo("inner-value");
+    verify(row, never()).getString("value");
+    verify(row, never()).isNull("value");
+  }
+
   @Test
   void readArraySingularMismatchTest() {
     Struct rowStruct =
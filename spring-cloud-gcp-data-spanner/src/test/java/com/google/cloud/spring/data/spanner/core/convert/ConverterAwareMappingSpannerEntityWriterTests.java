@@ -62,6 +62,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
@@ -497,6 +498,34 @@ class ConverterAwareMappingSpannerEntityWriterTests {
                 + "class com.google.cloud.spring.data.spanner.core.convert.TestEntities$TestEntity");
   }
 
+  @Test
+  void writeEntitiesOfTypeWithUnsupportedPropertyTest() {
+    FaultyTestEntity first = new FaultyTestEntity();
+    first.id = "key1";
+    FaultyTestEntity second = new FaultyTestEntity();
+    second.id = "key2";
+    second.fieldWithUnsupportedType = new TestEntity();
+    Set<String> includeColumns = Set.of("id");
+
+    List<Mutation> mutations = new ArrayList<>();
+    for (FaultyTestEntity entity : List.of(first, second)) {
+      WriteBuilder writeBuilder = Mutation.newInsertBuilder("faulty_test_table");
+      this.spannerEntityWriter.write(entity, writeBuilder::set, includeColumns);
+      mutations.add(writeBuilder.build());
+    }
+
+    assertThat(mutations)
+        .extracting(Mutation::asMap)
+        .containsExactly(
+            Map.of("id", Value.string("key1")), Map.of("id", Value.string("key2")));
+    assertThatThrownBy(
+            () ->
+                this.spannerEntityWriter.write(
+                    second, Mutation.newInsertBuilder("faulty_test_table")::set))
+        .isInstanceOf(SpannerDataException.class)
+        .hasMessageStartingWith("Unsupported mapping for type: ");
+  }
+
   @Test
   void writingNullToKeyShouldThrowException() {
 
@@ -38,6 +38,7 @@ import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
 import com.google.cloud.spring.data.spanner.core.mapping.Table;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -51,6 +52,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Order;
 import org.springframework.data.repository.query.DefaultParameters;
+import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.ParametersSource;
 
 /** Tests Spanner statement queries. */
@@ -289,6 +291,55 @@ class SpannerStatementQueryTests {
     runPageableOrSortTest(params, method, expectedSql);
   }
 
+  @Test
+  void sqlCompiledOncePerSortTest() throws NoSuchMethodException {
+    Method method = QueryHolder.class.getMethod("repositoryMethod5", Double.class, Pageable.class);
+    when(this.queryMethod.getName()).thenReturn("findByPriceLessThan");
+    doReturn(new DefaultParameters(ParametersSource.of(method)))
+        .when(this.queryMethod)
+        .getParameters();
+    this.partTreeSpannerQuery = spy(createQuery());
+    doReturn(Object.class).when(this.partTreeSpannerQuery).getReturnedSimpleConvertableItemType();
+    doReturn(null).when(this.partTreeSpannerQuery).convertToSimpleReturnType(any(), any());
+
+    List<Statement> statements = new ArrayList<>();
+    when(this.spannerTemplate.query((Class) any(), any(), any()))
+        .thenAnswer(
+            invocation -> {
+              statements.add(invocation.getArgument(1));
+              return Collections.emptyList();
+            });
+
+    Object[] firstPage = new Object[] {8.88, PageRequest.of(0, 10, Sort.by("traderId"))};
+    Object[] secondPage = new Object[] {1.11, PageRequest.of(1, 10, Sort.by("traderId"))};
+    Object[] otherSort = new Object[] {8.88, PageRequest.of(0, 10, Sort.by("price"))};
+    this.partTreeSpannerQuery.execute(firstPage);
+    this.partTreeSpannerQuery.execute(secondPage);
+    this.partTreeSpannerQuery.execute(otherSort);
+
+    assertThat(statements)
+        .extracting(Statement::getSql)
+        .containsExactly(
+            "SELECT shares, trader_id, ticker, price, action, id, value FROM trades "
+                + "WHERE ( price<@tag0 ) ORDER BY trader_id ASC LIMIT 10 OFFSET 0",
+            "SELECT shares, trader_id, ticker, price, action, id, value FROM trades "
+                + "WHERE ( price<@tag0 ) ORDER BY trader_id ASC LIMIT 10 OFFSET 10",
+            "SELECT shares, trader_id, ticker, price, action, id, value FROM trades "
+                + "WHERE ( price<@tag0 ) ORDER BY price ASC LIMIT 10 OFFSET 0");
+    assertThat(statements.get(1).getParameters().get("tag0").getFloat64()).isEqualTo(1.11);
+
+    DefaultParameters parameters = new DefaultParameters(ParametersSource.of(method));
+    assertThat(
+            this.partTreeSpannerQuery.getSqlTemplate(
+                new ParametersParameterAccessor(parameters, firstPage)))
+        .isSameAs(
+            this.partTreeSpannerQuery.getSqlTemplate(
+                new ParametersParameterAccessor(parameters, secondPage)))
+        .isNotSameAs(
+            this.partTreeSpannerQuery.getSqlTemplate(
+                new ParametersParameterAccessor(parameters, otherSort)));
+  }
+
   private void runPageableOrSortTest(Object[] params, Method method, String expectedSql) {
     when(this.queryMethod.getName()).thenReturn("findByPriceLessThan");
     this.partTreeSpannerQuery = spy(createQuery());
@@ -23,6 +23,7 @@ import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -53,12 +54,15 @@ import com.google.common.base.Objects;
 import com.google.gson.Gson;
 import com.google.spanner.v1.TypeCode;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.stream.Stream;
 import org.assertj.core.data.Offset;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
@@ -640,6 +644,95 @@ class SqlSpannerQueryTests {
     verify(this.spannerTemplate).executeQuery(any(), any());
   }
 
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void streamQueryTest(boolean useValueExpressionDelegate) throws NoSuchMethodException {
+    String sql = "SELECT * from singer where stageName = @stageName";
+
+    Object[] params = new Object[] {"STAGENAME"};
+
+    when(this.queryMethod.isStreamQuery()).thenReturn(true);
+    when(this.queryMethod.getReturnedObjectType()).thenReturn((Class) Singer.class);
+    ResultProcessor resultProcessor = mock(ResultProcessor.class);
+    when(this.queryMethod.getResultProcessor()).thenReturn(resultProcessor);
+    when(resultProcessor.processResult(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+    SqlSpannerQuery sqlSpannerQuery =
+        createQuery(sql, Singer.class, false, useValueExpressionDelegate);
+
+    Singer singer = new Singer();
+    doAnswer(
+            invocation -> {
+              Statement statement = invocation.getArgument(1);
+              assertThat(statement.getSql()).isEqualTo(sql);
+              assertThat(statement.getParameters().get("stageName").getString())
+                  .isEqualTo(params[0]);
+              return Stream.of(singer);
+            })
+        .when(this.spannerTemplate)
+        .queryStream(eq(Singer.class), any(), any());
+
+    Method method = QueryHolder.class.getMethod("dummyMethod6", String.class);
+    when(this.queryMethod.getQueryMethod()).thenReturn(method);
+    Mockito.<Parameters>when(this.queryMethod.getParameters())
+        .thenReturn(new DefaultParameters(ParametersSource.of(method)));
+
+    Object result = sqlSpannerQuery.execute(params);
+
+    assertThat(result).isInstanceOf(Stream.class);
+    assertThat((Stream<Object>) result).containsExactly(singer);
+    verify(this.spannerTemplate, never()).query(eq(Singer.class), any(), any());
+  }
+
+  @Test
+  void compiledOnceAndBoundPerExecutionTest() throws NoSuchMethodException {
+    String sql =
+        "SELECT * FROM"
+            + " :com.google.cloud.spring.data.spanner.repository.query.SqlSpannerQueryTests$Singer:"
+            + " WHERE stageName = @stageName OR stageName = #{#stageName.toUpperCase()}";
+
+    when(this.queryMethod.isStreamQuery()).thenReturn(true);
+    when(this.queryMethod.getReturnedObjectType()).thenReturn((Class) Singer.class);
+    ResultProcessor resultProcessor = mock(ResultProcessor.class);
+    when(this.queryMethod.getResultProcessor()).thenReturn(resultProcessor);
+    when(resultProcessor.processResult(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    when(this.evaluationContextProvider.getEvaluationContext(any(), any()))
+        .thenAnswer(
+            invocation -> {
+              StandardEvaluationContext evaluationContext = new StandardEvaluationContext();
+              evaluationContext.setVariable(
+                  "stageName", ((Object[]) invocation.getArgument(1))[0]);
+              return evaluationContext;
+            });
+    Method method = QueryHolder.class.getMethod("dummyMethod6", String.class);
+    when(this.queryMethod.getQueryMethod()).thenReturn(method);
+    Mockito.<Parameters>when(this.queryMethod.getParameters())
+        .thenReturn(new DefaultParameters(ParametersSource.of(method)));
+
+    this.expressionParser = spy(this.expressionParser);
+    SqlSpannerQuery sqlSpannerQuery = createQuery(sql, Singer.class, false, false);
+
+    List<Statement> statements = new ArrayList<>();
+    doAnswer(
+            invocation -> {
+              statements.add(invocation.getArgument(1));
+              return Stream.empty();
+            })
+        .when(this.spannerTemplate)
+        .queryStream(eq(Singer.class), any(), any());
+
+    sqlSpannerQuery.execute(new Object[] {"first"});
+    sqlSpannerQuery.execute(new Object[] {"second"});
+
+    verify(this.expressionParser, times(1)).parseExpression(any(), any());
+    assertThat(statements)
+        .extracting(Statement::getSql)
+        .containsOnly("SELECT * FROM singer WHERE stageName = @stageName OR stageName = @SpELtag1");
+    assertThat(statements.get(0).getParameters().get("SpELtag1").getString()).isEqualTo("FIRST");
+    assertThat(statements.get(1).getParameters().get("SpELtag1").getString()).isEqualTo("SECOND");
+    assertThat(statements.get(1).getParameters().get("stageName").getString()).isEqualTo("second");
+  }
+
   @ParameterizedTest
   @ValueSource(booleans = {true, false})
   void sqlReturnTypeIsJsonFieldTest(boolean useValueExpressionDelegate) throws NoSuchMethodException {
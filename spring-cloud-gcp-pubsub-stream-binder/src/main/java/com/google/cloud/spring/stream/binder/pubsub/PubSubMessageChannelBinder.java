@@ -19,6 +19,7 @@ package com.google.cloud.spring.stream.binder.pubsub;
 import com.google.cloud.spring.pubsub.core.PubSubTemplate;
 import com.google.cloud.spring.pubsub.core.health.HealthTrackerRegistry;
 import com.google.cloud.spring.pubsub.integration.PubSubHeaderMapper;
+import com.google.cloud.spring.pubsub.integration.inbound.DuplicateMessageFilter;
 import com.google.cloud.spring.pubsub.integration.inbound.PubSubInboundChannelAdapter;
 import com.google.cloud.spring.pubsub.integration.inbound.PubSubMessageSource;
 import com.google.cloud.spring.pubsub.integration.outbound.PubSubMessageHandler;
@@ -114,6 +115,21 @@ public class PubSubMessageChannelBinder
         registerErrorInfrastructure(destination, group, properties);
     adapter.setErrorChannel(errorInfrastructure.getErrorChannel());
     adapter.setAckMode(properties.getExtension().getAckMode());
+    if (properties.isBatchMode()) {
+      adapter.setMaxBatchSize(properties.getExtension().getMaxBatchSize());
+      adapter.setMaxBatchWait(properties.getExtension().getMaxBatchWait());
+    }
+    adapter.setDispatchLanes(properties.getExtension().getDispatchLanes());
+    adapter.setDispatchKeyHeader(properties.getExtension().getDispatchKeyHeader());
+    adapter.setMaxInFlightPerLane(properties.getExtension().getMaxInFlightPerLane());
+    adapter.setVirtualThreadDispatch(properties.getExtension().isVirtualThreadDispatch());
+    if (properties.getExtension().getDeduplicationWindow() != null) {
+      DuplicateMessageFilter duplicateMessageFilter = new DuplicateMessageFilter();
+      duplicateMessageFilter.setWindow(properties.getExtension().getDeduplicationWindow());
+      duplicateMessageFilter.setKeyAttribute(properties.getExtension().getDeduplicationKeyHeader());
+      duplicateMessageFilter.setMaxEntries(properties.getExtension().getDeduplicationMaxEntries());
+      adapter.setDuplicateMessageFilter(duplicateMessageFilter);
+    }
     adapter.setBeanFactory(getBeanFactory());
 
     return adapter;
@@ -173,6 +189,10 @@ public class PubSubMessageChannelBinder
     PubSubMessageSource source =
         new PubSubMessageSource(this.pubSubTemplate, destination.getName());
     source.setMaxFetchSize(consumerProperties.getExtension().getMaxFetchSize());
+    source.setMaxPrefetchMessages(consumerProperties.getExtension().getMaxPrefetchMessages());
+    source.setMaxPrefetchBytes(consumerProperties.getExtension().getMaxPrefetchBytes());
+    source.setPrefetchAckDeadlineSeconds(
+        consumerProperties.getExtension().getPrefetchAckDeadlineSeconds());
     return source;
   }
 }
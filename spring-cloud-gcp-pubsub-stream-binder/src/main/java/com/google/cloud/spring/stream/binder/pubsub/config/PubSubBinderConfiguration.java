@@ -47,8 +47,12 @@ import org.springframework.lang.Nullable;
 public class PubSubBinderConfiguration {
 
   @Bean
-  public PubSubChannelProvisioner pubSubChannelProvisioner(PubSubAdmin pubSubAdmin) {
-    return new PubSubChannelProvisioner(pubSubAdmin);
+  public PubSubChannelProvisioner pubSubChannelProvisioner(
+      PubSubAdmin pubSubAdmin, PubSubExtendedBindingProperties pubSubExtendedBindingProperties) {
+    PubSubChannelProvisioner provisioner = new PubSubChannelProvisioner(pubSubAdmin);
+    provisioner.setProvisioningConcurrency(
+        pubSubExtendedBindingProperties.getProvisioningConcurrency());
+    return provisioner;
   }
 
   @Bean
@@ -25,6 +25,8 @@ public class PubSubCommonProperties {
 
   private boolean autoCreateResources = true;
 
+  private boolean trustExistingResources = false;
+
   public boolean isAutoCreateResources() {
     return this.autoCreateResources;
   }
@@ -33,6 +35,20 @@ public class PubSubCommonProperties {
     this.autoCreateResources = autoCreateResources;
   }
 
+  public boolean isTrustExistingResources() {
+    return this.trustExistingResources;
+  }
+
+  /**
+   * Set whether the topic and subscription of the binding are assumed to exist. When true, they
+   * are neither looked up nor created; anonymous subscriptions are still created.
+   *
+   * @param trustExistingResources whether to skip looking up the binding resources
+   */
+  public void setTrustExistingResources(boolean trustExistingResources) {
+    this.trustExistingResources = trustExistingResources;
+  }
+
   private  String[] allowedHeaders;
 
   public  String[] getAllowedHeaders() {
@@ -26,6 +26,54 @@ public class PubSubConsumerProperties extends PubSubCommonProperties {
 
   private Integer maxFetchSize = 1;
 
+  /**
+   * Maximum number of messages prefetched by polled consumers. When positive, messages are pulled
+   * asynchronously ahead of polling instead of on each poll.
+   */
+  private int maxPrefetchMessages = 0;
+
+  /** Maximum serialized size in bytes of the messages prefetched by polled consumers. */
+  private long maxPrefetchBytes = 0;
+
+  /** Ack deadline in seconds applied to, and renewed for, prefetched messages. */
+  private int prefetchAckDeadlineSeconds = 0;
+
+  /** Maximum number of messages delivered as one batch when the binding is in batch mode. */
+  private int maxBatchSize = 100;
+
+  /**
+   * Maximum time to wait for a batch to fill up, from its first message, when the binding is in
+   * batch mode.
+   */
+  private Duration maxBatchWait = Duration.ofSeconds(1);
+
+  /**
+   * Number of serial lanes messages are dispatched onto by key. When positive, messages are
+   * processed off the subscriber threads, in order per key and in parallel across keys.
+   */
+  private int dispatchLanes = 0;
+
+  /** Message attribute holding the dispatch key. The ordering key is used when not set. */
+  private String dispatchKeyHeader = null;
+
+  /** Maximum number of messages waiting or being processed on each dispatch lane. */
+  private int maxInFlightPerLane = 100;
+
+  /** Whether to process dispatched messages on virtual threads. Requires Java 21 or later. */
+  private boolean virtualThreadDispatch = false;
+
+  /**
+   * Time after the first delivery of a message during which its redeliveries are acked without
+   * being processed. Deduplication is disabled when not set.
+   */
+  private Duration deduplicationWindow = null;
+
+  /** Message attribute identifying duplicate messages. The message ID is used when not set. */
+  private String deduplicationKeyHeader = null;
+
+  /** Maximum number of message keys kept in memory for deduplication. */
+  private int deduplicationMaxEntries = 100_000;
+
   private String subscriptionName = null;
 
   private DeadLetterPolicy deadLetterPolicy = null;
@@ -55,6 +103,102 @@ public class PubSubConsumerProperties extends PubSubCommonProperties {
     this.maxFetchSize = maxFetchSize;
   }
 
+  public int getMaxPrefetchMessages() {
+    return maxPrefetchMessages;
+  }
+
+  public void setMaxPrefetchMessages(int maxPrefetchMessages) {
+    this.maxPrefetchMessages = maxPrefetchMessages;
+  }
+
+  public long getMaxPrefetchBytes() {
+    return maxPrefetchBytes;
+  }
+
+  public void setMaxPrefetchBytes(long maxPrefetchBytes) {
+    this.maxPrefetchBytes = maxPrefetchBytes;
+  }
+
+  public int getPrefetchAckDeadlineSeconds() {
+    return prefetchAckDeadlineSeconds;
+  }
+
+  public void setPrefetchAckDeadlineSeconds(int prefetchAckDeadlineSeconds) {
+    this.prefetchAckDeadlineSeconds = prefetchAckDeadlineSeconds;
+  }
+
+  public int getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  public void setMaxBatchSize(int maxBatchSize) {
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  public Duration getMaxBatchWait() {
+    return maxBatchWait;
+  }
+
+  public void setMaxBatchWait(Duration maxBatchWait) {
+    this.maxBatchWait = maxBatchWait;
+  }
+
+  public int getDispatchLanes() {
+    return dispatchLanes;
+  }
+
+  public void setDispatchLanes(int dispatchLanes) {
+    this.dispatchLanes = dispatchLanes;
+  }
+
+  public String getDispatchKeyHeader() {
+    return dispatchKeyHeader;
+  }
+
+  public void setDispatchKeyHeader(String dispatchKeyHeader) {
+    this.dispatchKeyHeader = dispatchKeyHeader;
+  }
+
+  public int getMaxInFlightPerLane() {
+    return maxInFlightPerLane;
+  }
+
+  public void setMaxInFlightPerLane(int maxInFlightPerLane) {
+    this.maxInFlightPerLane = maxInFlightPerLane;
+  }
+
+  public boolean isVirtualThreadDispatch() {
+    return virtualThreadDispatch;
+  }
+
+  public void setVirtualThreadDispatch(boolean virtualThreadDispatch) {
+    this.virtualThreadDispatch = virtualThreadDispatch;
+  }
+
+  public Duration getDeduplicationWindow() {
+    return deduplicationWindow;
+  }
+
+  public void setDeduplicationWindow(Duration deduplicationWindow) {
+    this.deduplicationWindow = deduplicationWindow;
+  }
+
+  public String getDeduplicationKeyHeader() {
+    return deduplicationKeyHeader;
+  }
+
+  public void setDeduplicationKeyHeader(String deduplicationKeyHeader) {
+    this.deduplicationKeyHeader = deduplicationKeyHeader;
+  }
+
+  public int getDeduplicationMaxEntries() {
+    return deduplicationMaxEntries;
+  }
+
+  public void setDeduplicationMaxEntries(int deduplicationMaxEntries) {
+    this.deduplicationMaxEntries = deduplicationMaxEntries;
+  }
+
   public String getSubscriptionName() {
     return subscriptionName;
   }
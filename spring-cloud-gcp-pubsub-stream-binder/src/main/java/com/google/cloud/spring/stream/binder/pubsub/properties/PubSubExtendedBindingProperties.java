@@ -28,6 +28,17 @@ public class PubSubExtendedBindingProperties
 
   private static final String DEFAULTS_PREFIX = "spring.cloud.stream.gcp.pubsub.default";
 
+  /** Maximum number of concurrent topic and subscription lookups while provisioning bindings. */
+  private int provisioningConcurrency = 4;
+
+  public int getProvisioningConcurrency() {
+    return this.provisioningConcurrency;
+  }
+
+  public void setProvisioningConcurrency(int provisioningConcurrency) {
+    this.provisioningConcurrency = provisioningConcurrency;
+  }
+
   @Override
   public String getDefaultsPrefix() {
     return DEFAULTS_PREFIX;
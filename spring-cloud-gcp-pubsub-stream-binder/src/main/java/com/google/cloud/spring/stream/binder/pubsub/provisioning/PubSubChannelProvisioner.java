@@ -26,8 +26,17 @@ import com.google.pubsub.v1.Subscription;
 import com.google.pubsub.v1.Topic;
 import com.google.pubsub.v1.TopicName;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.cloud.stream.binder.ExtendedConsumerProperties;
@@ -36,10 +45,20 @@ import org.springframework.cloud.stream.provisioning.ConsumerDestination;
 import org.springframework.cloud.stream.provisioning.ProducerDestination;
 import org.springframework.cloud.stream.provisioning.ProvisioningException;
 import org.springframework.cloud.stream.provisioning.ProvisioningProvider;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
-/** Provisioning provider for Pub/Sub. */
+/**
+ * Provisioning provider for Pub/Sub.
+ *
+ * <p>Topics and subscriptions found or created are remembered, so bindings sharing a topic, such as
+ * a dead letter topic, only look it up once. With a {@link #setProvisioningConcurrency(int)
+ * provisioning concurrency} greater than one, the independent lookups of a consumer binding, of its
+ * topic, subscription and dead letter topic, run concurrently on a bounded pool of threads. Bindings
+ * that {@link PubSubConsumerProperties#isTrustExistingResources() trust existing resources} skip
+ * the lookups entirely.
+ */
 public class PubSubChannelProvisioner
     implements ProvisioningProvider<
         ExtendedConsumerProperties<PubSubConsumerProperties>,
@@ -51,15 +70,58 @@ public class PubSubChannelProvisioner
 
   private final Set<String> anonymousGroupSubscriptionNames = new HashSet<>();
 
+  private final Map<String, Topic> knownTopics = new ConcurrentHashMap<>();
+
+  private final Map<String, Subscription> knownSubscriptions = new ConcurrentHashMap<>();
+
+  private ThreadPoolExecutor lookupExecutor;
+
   public PubSubChannelProvisioner(PubSubAdmin pubSubAdmin) {
     this.pubSubAdmin = pubSubAdmin;
   }
 
+  /**
+   * Set the maximum number of concurrent lookups. With 1, resources are looked up one after the
+   * other on the binding thread. Without a call to this method the lookups are not concurrent;
+   * the binder sets it from {@code spring.cloud.stream.gcp.pubsub.provisioning-concurrency}, which
+   * defaults to 4.
+   *
+   * <p>Calling it again shuts down the threads of the previous setting once their pending lookups
+   * complete.
+   *
+   * @param provisioningConcurrency the maximum number of concurrent lookups
+   */
+  public void setProvisioningConcurrency(int provisioningConcurrency) {
+    Assert.isTrue(provisioningConcurrency > 0, "The provisioning concurrency must be positive.");
+    ThreadPoolExecutor previousExecutor = this.lookupExecutor;
+    if (provisioningConcurrency == 1) {
+      this.lookupExecutor = null;
+    } else {
+      CustomizableThreadFactory threadFactory =
+          new CustomizableThreadFactory("gcp-pubsub-provisioning-");
+      threadFactory.setDaemon(true);
+      ThreadPoolExecutor executor =
+          new ThreadPoolExecutor(
+              provisioningConcurrency,
+              provisioningConcurrency,
+              10,
+              TimeUnit.SECONDS,
+              new LinkedBlockingQueue<>(),
+              threadFactory);
+      // Lookups only happen while bindings are created, so idle threads don't linger.
+      executor.allowCoreThreadTimeOut(true);
+      this.lookupExecutor = executor;
+    }
+    if (previousExecutor != null) {
+      previousExecutor.shutdown();
+    }
+  }
+
   @Override
   public ProducerDestination provisionProducerDestination(
       String topic, ExtendedProducerProperties<PubSubProducerProperties> properties) {
     boolean autoCreate = properties.getExtension().isAutoCreateResources();
-    if (autoCreate) {
+    if (autoCreate && !properties.getExtension().isTrustExistingResources()) {
       ensureTopicExists(topic, autoCreate);
     }
 
@@ -75,13 +137,11 @@ public class PubSubChannelProvisioner
     String customName = properties.getExtension().getSubscriptionName();
 
     boolean autoCreate = properties.getExtension().isAutoCreateResources();
+    boolean trustExisting = properties.getExtension().isTrustExistingResources();
 
     // topicName may be either the short or fully-qualified version.
     String topicShortName =
         TopicName.isParsableFrom(topicName) ? TopicName.parse(topicName).getTopic() : topicName;
-    if (autoCreate) {
-      ensureTopicExists(topicShortName, autoCreate);
-    }
 
     String subscriptionName = null;
     if (StringUtils.hasText(customName)) {
@@ -98,20 +158,78 @@ public class PubSubChannelProvisioner
     }
 
     if (autoCreate) {
-      if (!StringUtils.hasText(subscriptionName)) {
+      boolean anonymous = !StringUtils.hasText(subscriptionName);
+      if (anonymous) {
         // Generate anonymous random group since one wasn't provided
         subscriptionName = "anonymous." + topicShortName + "." + UUID.randomUUID();
         this.anonymousGroupSubscriptionNames.add(subscriptionName);
       }
-      ensureSubscriptionExists(subscriptionName, topicName, properties.getExtension());
+      if (anonymous || !trustExisting) {
+        provisionSubscription(
+            subscriptionName, topicName, topicShortName, anonymous, properties.getExtension());
+      }
     }
 
     Assert.hasText(subscriptionName, "Subscription Name cannot be null or empty");
     return new PubSubConsumerDestination(subscriptionName);
   }
 
+  private void provisionSubscription(
+      String subscriptionName,
+      String topicName,
+      String topicShortName,
+      boolean anonymous,
+      PubSubConsumerProperties properties) {
+    // The lookups are independent; the subscription is only created once its topics exist.
+    CompletableFuture<Topic> topic =
+        properties.isTrustExistingResources()
+            ? CompletableFuture.completedFuture(null)
+            : lookUp(() -> ensureTopicExists(topicShortName, true));
+    // An anonymous subscription has a new random name, so it can't exist yet.
+    CompletableFuture<Subscription> existingSubscription =
+        anonymous
+            ? CompletableFuture.completedFuture(null)
+            : lookUp(() -> findSubscription(subscriptionName));
+    PubSubConsumerProperties.DeadLetterPolicy deadLetterPolicy = properties.getDeadLetterPolicy();
+    CompletableFuture<Topic> deadLetterTopic =
+        (deadLetterPolicy != null && StringUtils.hasText(deadLetterPolicy.getDeadLetterTopic()))
+            ? lookUp(() -> findTopic(deadLetterPolicy.getDeadLetterTopic()))
+            : CompletableFuture.completedFuture(null);
+
+    await(topic);
+    Subscription subscription = await(existingSubscription);
+    await(deadLetterTopic);
+    if (subscription == null) {
+      createSubscription(subscriptionName, topicName, properties);
+    }
+  }
+
+  private <T> CompletableFuture<T> lookUp(Supplier<T> lookup) {
+    Executor executor = this.lookupExecutor;
+    if (executor != null) {
+      return CompletableFuture.supplyAsync(lookup, executor);
+    }
+    try {
+      return CompletableFuture.completedFuture(lookup.get());
+    } catch (RuntimeException ex) {
+      return CompletableFuture.failedFuture(ex);
+    }
+  }
+
+  private static <T> T await(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw ex;
+    }
+  }
+
   public void afterUnbindConsumer(ConsumerDestination destination) {
     if (this.anonymousGroupSubscriptionNames.remove(destination.getName())) {
+      this.knownSubscriptions.remove(destination.getName());
       try {
         this.pubSubAdmin.deleteSubscription(destination.getName());
       } catch (Exception ex) {
@@ -124,14 +242,18 @@ public class PubSubChannelProvisioner
   }
 
   Topic ensureTopicExists(String topicName, boolean autoCreate) {
-    Topic topic = this.pubSubAdmin.getTopic(topicName);
+    Topic topic = findTopic(topicName);
     if (topic != null) {
       return topic;
     }
 
     if (autoCreate) {
       try {
-        return this.pubSubAdmin.createTopic(topicName);
+        topic = this.pubSubAdmin.createTopic(topicName);
+        if (topic != null) {
+          this.knownTopics.put(topicName, topic);
+        }
+        return topic;
       } catch (AlreadyExistsException alreadyExistsException) {
         // Sometimes 2+ instances of this application will race to create the topic, so this ensures
         // we retry in the non-winning instances. In the rare case it fails, we throw an exception.
@@ -145,13 +267,35 @@ public class PubSubChannelProvisioner
       String subscriptionName,
       String topicName,
       PubSubConsumerProperties properties) {
-    Subscription subscription = this.pubSubAdmin.getSubscription(subscriptionName);
+    Subscription subscription = findSubscription(subscriptionName);
     if (subscription == null) {
       return createSubscription(subscriptionName, topicName, properties);
     }
     return subscription;
   }
 
+  private Topic findTopic(String topicName) {
+    Topic topic = this.knownTopics.get(topicName);
+    if (topic == null) {
+      topic = this.pubSubAdmin.getTopic(topicName);
+      if (topic != null) {
+        this.knownTopics.put(topicName, topic);
+      }
+    }
+    return topic;
+  }
+
+  private Subscription findSubscription(String subscriptionName) {
+    Subscription subscription = this.knownSubscriptions.get(subscriptionName);
+    if (subscription == null) {
+      subscription = this.pubSubAdmin.getSubscription(subscriptionName);
+      if (subscription != null) {
+        this.knownSubscriptions.put(subscriptionName, subscription);
+      }
+    }
+    return subscription;
+  }
+
   private Subscription createSubscription(
       String subscriptionName,
       String topicName,
@@ -189,6 +333,10 @@ public class PubSubChannelProvisioner
       builder.setExpirationPolicy(epBuilder);
     }
 
-    return this.pubSubAdmin.createSubscription(builder);
+    Subscription subscription = this.pubSubAdmin.createSubscription(builder);
+    if (subscription != null) {
+      this.knownSubscriptions.put(subscriptionName, subscription);
+    }
+    return subscription;
   }
 }
@@ -27,6 +27,7 @@ import com.google.cloud.spring.pubsub.core.PubSubTemplate;
 import com.google.cloud.spring.pubsub.core.health.HealthTrackerRegistry;
 import com.google.cloud.spring.pubsub.integration.AckMode;
 import com.google.cloud.spring.pubsub.integration.PubSubHeaderMapper;
+import com.google.cloud.spring.pubsub.integration.inbound.DuplicateMessageFilter;
 import com.google.cloud.spring.pubsub.integration.inbound.PubSubInboundChannelAdapter;
 import com.google.cloud.spring.pubsub.integration.inbound.PubSubMessageSource;
 import com.google.cloud.spring.pubsub.integration.outbound.PubSubMessageHandler;
@@ -34,6 +35,7 @@ import com.google.cloud.spring.stream.binder.pubsub.config.PubSubBinderConfigura
 import com.google.cloud.spring.stream.binder.pubsub.properties.PubSubConsumerProperties;
 import com.google.cloud.spring.stream.binder.pubsub.properties.PubSubExtendedBindingProperties;
 import com.google.cloud.spring.stream.binder.pubsub.provisioning.PubSubChannelProvisioner;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -215,6 +217,33 @@ class PubSubMessageChannelBinderTests {
             });
   }
 
+  @Test
+  void consumerPrefetchPropertiesPropagateToMessageSource() {
+    when(consumerDestination.getName()).thenReturn("test-subscription");
+    baseContext
+        .withPropertyValues(
+            "spring.cloud.stream.gcp.pubsub.default.consumer.maxPrefetchMessages=500",
+            "spring.cloud.stream.gcp.pubsub.default.consumer.maxPrefetchBytes=1048576",
+            "spring.cloud.stream.gcp.pubsub.default.consumer.prefetchAckDeadlineSeconds=60")
+        .run(
+            ctx -> {
+              PubSubMessageChannelBinder binder = ctx.getBean(PubSubMessageChannelBinder.class);
+              PubSubExtendedBindingProperties props =
+                  ctx.getBean(
+                      "pubSubExtendedBindingProperties", PubSubExtendedBindingProperties.class);
+
+              PubSubMessageSource source =
+                  binder.createPubSubMessageSource(
+                      consumerDestination,
+                      new ExtendedConsumerProperties<>(
+                          props.getExtendedConsumerProperties("test")));
+              assertThat(source)
+                  .hasFieldOrPropertyWithValue("maxPrefetchMessages", 500)
+                  .hasFieldOrPropertyWithValue("maxPrefetchBytes", 1048576L)
+                  .hasFieldOrPropertyWithValue("prefetchAckDeadlineSeconds", 60);
+            });
+  }
+
   @Test
   void testCreateConsumerWithRegistry() {
     when(consumerDestination.getName()).thenReturn("test-subscription");
@@ -306,6 +335,102 @@ class PubSubMessageChannelBinderTests {
             });
   }
 
+  @Test
+  void testConsumerEndpointCreationInBatchMode() {
+    when(consumerDestination.getName()).thenReturn("test-subscription");
+    baseContext
+        .withPropertyValues(
+            "spring.cloud.stream.gcp.pubsub.default.consumer.maxBatchSize=500",
+            "spring.cloud.stream.gcp.pubsub.default.consumer.maxBatchWait=2s")
+        .run(
+            ctx -> {
+              PubSubMessageChannelBinder binder = ctx.getBean(PubSubMessageChannelBinder.class);
+              PubSubExtendedBindingProperties props =
+                  ctx.getBean(
+                      "pubSubExtendedBindingProperties", PubSubExtendedBindingProperties.class);
+              ExtendedConsumerProperties<PubSubConsumerProperties> batchProperties =
+                  new ExtendedConsumerProperties<>(props.getExtendedConsumerProperties("test"));
+              batchProperties.setBatchMode(true);
+
+              PubSubInboundChannelAdapter inboundChannelAdapter =
+                  (PubSubInboundChannelAdapter)
+                      binder.createConsumerEndpoint(
+                          consumerDestination, "testGroup", batchProperties);
+
+              assertThat(inboundChannelAdapter.getMaxBatchSize()).isEqualTo(500);
+              assertThat(inboundChannelAdapter.getMaxBatchWait()).isEqualTo(Duration.ofSeconds(2));
+
+              PubSubInboundChannelAdapter singleMessageAdapter =
+                  (PubSubInboundChannelAdapter)
+                      binder.createConsumerEndpoint(
+                          consumerDestination,
+                          "testGroup",
+                          new ExtendedConsumerProperties<>(
+                              props.getExtendedConsumerProperties("test")));
+              assertThat(singleMessageAdapter.getMaxBatchSize()).isZero();
+            });
+  }
+
+  @Test
+  void testConsumerEndpointCreationWithDispatchLanes() {
+    when(consumerDestination.getName()).thenReturn("test-subscription");
+    baseContext
+        .withPropertyValues(
+            "spring.cloud.stream.gcp.pubsub.default.consumer.dispatchLanes=8",
+            "spring.cloud.stream.gcp.pubsub.default.consumer.dispatchKeyHeader=entity",
+            "spring.cloud.stream.gcp.pubsub.default.consumer.maxInFlightPerLane=10")
+        .run(
+            ctx -> {
+              PubSubMessageChannelBinder binder = ctx.getBean(PubSubMessageChannelBinder.class);
+              PubSubExtendedBindingProperties props =
+                  ctx.getBean(
+                      "pubSubExtendedBindingProperties", PubSubExtendedBindingProperties.class);
+
+              PubSubInboundChannelAdapter inboundChannelAdapter =
+                  (PubSubInboundChannelAdapter)
+                      binder.createConsumerEndpoint(
+                          consumerDestination,
+                          "testGroup",
+                          new ExtendedConsumerProperties<>(
+                              props.getExtendedConsumerProperties("test")));
+
+              assertThat(inboundChannelAdapter.getDispatchLanes()).isEqualTo(8);
+              assertThat(inboundChannelAdapter.getDispatchKeyHeader()).isEqualTo("entity");
+              assertThat(inboundChannelAdapter.getMaxInFlightPerLane()).isEqualTo(10);
+              assertThat(inboundChannelAdapter.isVirtualThreadDispatch()).isFalse();
+            });
+  }
+
+  @Test
+  void testConsumerEndpointCreationWithDeduplication() {
+    when(consumerDestination.getName()).thenReturn("test-subscription");
+    baseContext
+        .withPropertyValues(
+            "spring.cloud.stream.gcp.pubsub.default.consumer.deduplicationWindow=5m",
+            "spring.cloud.stream.gcp.pubsub.default.consumer.deduplicationKeyHeader=event-id",
+            "spring.cloud.stream.gcp.pubsub.default.consumer.deduplicationMaxEntries=1000")
+        .run(
+            ctx -> {
+              PubSubMessageChannelBinder binder = ctx.getBean(PubSubMessageChannelBinder.class);
+              PubSubExtendedBindingProperties props =
+                  ctx.getBean(
+                      "pubSubExtendedBindingProperties", PubSubExtendedBindingProperties.class);
+
+              PubSubInboundChannelAdapter inboundChannelAdapter =
+                  (PubSubInboundChannelAdapter)
+                      binder.createConsumerEndpoint(
+                          consumerDestination,
+                          "testGroup",
+                          new ExtendedConsumerProperties<>(
+                              props.getExtendedConsumerProperties("test")));
+
+              DuplicateMessageFilter filter = inboundChannelAdapter.getDuplicateMessageFilter();
+              assertThat(filter.getWindow()).isEqualTo(Duration.ofMinutes(5));
+              assertThat(filter.getKeyAttribute()).isEqualTo("event-id");
+              assertThat(filter.getMaxEntries()).isEqualTo(1000);
+            });
+  }
+
   @Test
   void testConsumerEndpointCreationWithNoHeadersProvided() {
     when(consumerDestination.getName()).thenReturn("test-subscription");
@@ -201,6 +201,78 @@ class PubSubChannelProvisionerTests {
     assertThat(policy.getMaxDeliveryAttempts()).isEqualTo(12);
   }
 
+  @Test
+  void testProvisionConsumerDestination_concurrentLookups() {
+    this.pubSubChannelProvisioner.setProvisioningConcurrency(3);
+    PubSubConsumerProperties.DeadLetterPolicy dlp = new PubSubConsumerProperties.DeadLetterPolicy();
+    dlp.setDeadLetterTopic("deadLetterTopic");
+    when(this.pubSubConsumerProperties.getDeadLetterPolicy()).thenReturn(dlp);
+
+    this.pubSubChannelProvisioner.provisionConsumerDestination(
+        "topic_A", "group_A", this.extendedConsumerProperties);
+
+    verify(this.pubSubAdminMock).getTopic("topic_A");
+    verify(this.pubSubAdminMock).getSubscription("topic_A.group_A");
+    verify(this.pubSubAdminMock).getTopic("deadLetterTopic");
+    ArgumentCaptor<Subscription.Builder> argCaptor =
+        ArgumentCaptor.forClass(Subscription.Builder.class);
+    verify(this.pubSubAdminMock).createSubscription(argCaptor.capture());
+    assertThat(argCaptor.getValue().getDeadLetterPolicy().getDeadLetterTopic())
+        .isEqualTo("projects/test-project/topics/deadLetterTopic");
+  }
+
+  @Test
+  void testProvisionConsumerDestination_concurrencyChanged() {
+    this.pubSubChannelProvisioner.setProvisioningConcurrency(3);
+    this.pubSubChannelProvisioner.setProvisioningConcurrency(2);
+
+    this.pubSubChannelProvisioner.provisionConsumerDestination(
+        "topic_A", "group_A", this.extendedConsumerProperties);
+
+    verify(this.pubSubAdminMock).getTopic("topic_A");
+    verify(this.pubSubAdminMock).getSubscription("topic_A.group_A");
+    verify(this.pubSubAdminMock).createSubscription(any(Subscription.Builder.class));
+  }
+
+  @Test
+  void testProvisionConsumerDestination_resourcesLookedUpOnce() {
+    PubSubConsumerProperties.DeadLetterPolicy dlp = new PubSubConsumerProperties.DeadLetterPolicy();
+    dlp.setDeadLetterTopic("deadLetterTopic");
+    when(this.pubSubConsumerProperties.getDeadLetterPolicy()).thenReturn(dlp);
+
+    this.pubSubChannelProvisioner.provisionConsumerDestination(
+        "topic_A", "group_A", this.extendedConsumerProperties);
+    this.pubSubChannelProvisioner.provisionConsumerDestination(
+        "topic_A", "group_B", this.extendedConsumerProperties);
+    this.pubSubChannelProvisioner.provisionConsumerDestination(
+        "topic_A", "group_A", this.extendedConsumerProperties);
+    this.pubSubChannelProvisioner.provisionProducerDestination(
+        "topic_A", this.extendedProducerProperties);
+
+    verify(this.pubSubAdminMock).getTopic("topic_A");
+    verify(this.pubSubAdminMock).getTopic("deadLetterTopic");
+    verify(this.pubSubAdminMock).getSubscription("topic_A.group_A");
+    verify(this.pubSubAdminMock, times(2)).createSubscription(any());
+  }
+
+  @Test
+  void testProvisionConsumerDestination_trustExistingResources() {
+    when(this.pubSubConsumerProperties.isTrustExistingResources()).thenReturn(true);
+    when(this.pubSubProducerProperties.isTrustExistingResources()).thenReturn(true);
+
+    PubSubConsumerDestination result =
+        (PubSubConsumerDestination)
+            this.pubSubChannelProvisioner.provisionConsumerDestination(
+                "topic_A", "group_A", this.extendedConsumerProperties);
+    this.pubSubChannelProvisioner.provisionProducerDestination(
+        "topic_B", this.extendedProducerProperties);
+
+    assertThat(result.getName()).isEqualTo("topic_A.group_A");
+    verify(this.pubSubAdminMock, never()).getTopic(any());
+    verify(this.pubSubAdminMock, never()).getSubscription(any());
+    verify(this.pubSubAdminMock, never()).createSubscription(any());
+  }
+
   @Test
   void testProvisionConsumerDestination_expirationPolicyNoneSet() {
     when(this.pubSubConsumerProperties.getExpirationPolicy()).thenReturn(null);
@@ -18,8 +18,11 @@ package com.google.cloud.spring.pubsub.core;
 
 import com.google.api.gax.batching.FlowController.LimitExceededBehavior;
 import com.google.api.gax.rpc.StatusCode.Code;
+import com.google.cloud.spring.pubsub.core.subscriber.AckExecutionMode;
 import com.google.cloud.spring.pubsub.support.PubSubSubscriptionUtils;
+import com.google.cloud.spring.pubsub.support.PubSubTopicUtils;
 import com.google.pubsub.v1.ProjectSubscriptionName;
+import com.google.pubsub.v1.TopicName;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -48,6 +51,11 @@ public class PubSubConfiguration {
    */
   private Map<ProjectSubscriptionName, Subscriber> fullyQualifiedSubscriptionProperties;
 
+  /** Topic-specific publisher properties keyed by fully qualified topic name.
+   * Initialized once; effectively a singleton.
+   */
+  private Map<TopicName, TopicPublisher> fullyQualifiedTopicProperties;
+
   /** Contains global and default subscriber settings. */
   private final Subscriber globalSubscriber = new Subscriber();
 
@@ -128,6 +136,35 @@ public class PubSubConfiguration {
     }
 
     this.fullyQualifiedSubscriptionProperties = Collections.unmodifiableMap(fullyQualifiedProps);
+
+    Map<TopicName, TopicPublisher> fullyQualifiedTopicProps = new HashMap<>();
+    for (Entry<String, TopicPublisher> entry : this.publisher.topic.entrySet()) {
+      TopicPublisher topicProperties = entry.getValue();
+      String qualifiedName = topicProperties.fullyQualifiedName != null
+          ? topicProperties.fullyQualifiedName : entry.getKey();
+      TopicName topicName = PubSubTopicUtils.toTopicName(qualifiedName, defaultProjectId);
+      if (fullyQualifiedTopicProps.containsKey(topicName)) {
+        logger.warn("Found multiple configurations for {}; ignoring properties with key {}",
+            topicName, entry.getKey());
+      } else {
+        fullyQualifiedTopicProps.put(topicName, topicProperties);
+      }
+    }
+
+    this.fullyQualifiedTopicProperties = Collections.unmodifiableMap(fullyQualifiedTopicProps);
+  }
+
+  /**
+   * Returns an immutable map of topic-specific publisher properties keyed by the fully-qualified
+   * {@link TopicName}.
+   *
+   * <p>Cannot be called before {@link #initialize(String)}.
+   *
+   * @return map of topic-specific publisher properties
+   */
+  public Map<TopicName, TopicPublisher> getFullyQualifiedTopicProperties() {
+    Assert.notNull(this.fullyQualifiedTopicProperties, "Please call initialize() prior to retrieving properties.");
+    return this.fullyQualifiedTopicProperties;
   }
 
   /**
@@ -171,6 +208,40 @@ public class PubSubConfiguration {
     return flowControl;
   }
 
+  /**
+   * Computes adaptive flow control settings to use. The subscription-specific property takes
+   * precedence if both global and subscription-specific properties are set. If
+   * subscription-specific settings are not set then global settings are picked.
+   *
+   * @param projectSubscriptionName Fully qualified subscription name
+   * @return adaptive flow control settings defaulting to global where not provided
+   */
+  public AdaptiveFlowControl computeAdaptiveFlowControlSettings(
+      ProjectSubscriptionName projectSubscriptionName) {
+    AdaptiveFlowControl adaptiveFlowControl =
+        getSubscriptionProperties(projectSubscriptionName).getAdaptiveFlowControl();
+    AdaptiveFlowControl global = this.globalSubscriber.getAdaptiveFlowControl();
+    if (adaptiveFlowControl.getEnabled() == null) {
+      adaptiveFlowControl.setEnabled(global.getEnabled());
+    }
+    if (adaptiveFlowControl.getMinOutstandingElementCount() == null) {
+      adaptiveFlowControl.setMinOutstandingElementCount(global.getMinOutstandingElementCount());
+    }
+    if (adaptiveFlowControl.getTargetLatencyMillis() == null) {
+      adaptiveFlowControl.setTargetLatencyMillis(global.getTargetLatencyMillis());
+    }
+    if (adaptiveFlowControl.getAdjustmentIntervalMillis() == null) {
+      adaptiveFlowControl.setAdjustmentIntervalMillis(global.getAdjustmentIntervalMillis());
+    }
+    if (adaptiveFlowControl.getAckDeadlineSeconds() == null) {
+      adaptiveFlowControl.setAckDeadlineSeconds(global.getAckDeadlineSeconds());
+    }
+    if (adaptiveFlowControl.getRedeliveryThreshold() == null) {
+      adaptiveFlowControl.setRedeliveryThreshold(global.getRedeliveryThreshold());
+    }
+    return adaptiveFlowControl;
+  }
+
   /**
    * Computes parallel pull count. The subscription-specific property takes precedence if both
    * global and subscription-specific properties are set. If subscription-specific configuration is
@@ -343,6 +414,91 @@ public class PubSubConfiguration {
     return retry;
   }
 
+  /**
+   * Computes the batching settings of the publishers of a topic. Topic-specific properties,
+   * including the batching flow control properties, take precedence over the global publisher
+   * properties.
+   *
+   * @param topicName the fully qualified topic name
+   * @return batching settings defaulting to global where not provided
+   */
+  public Batching computePublisherBatching(TopicName topicName) {
+    TopicPublisher topicProperties = getFullyQualifiedTopicProperties().get(topicName);
+    Batching globalBatching = this.publisher.getBatching();
+    if (topicProperties == null) {
+      return globalBatching;
+    }
+    Batching batching = topicProperties.getBatching();
+    if (batching.getElementCountThreshold() == null) {
+      batching.setElementCountThreshold(globalBatching.getElementCountThreshold());
+    }
+    if (batching.getRequestByteThreshold() == null) {
+      batching.setRequestByteThreshold(globalBatching.getRequestByteThreshold());
+    }
+    if (batching.getDelayThresholdSeconds() == null) {
+      batching.setDelayThresholdSeconds(globalBatching.getDelayThresholdSeconds());
+    }
+    if (batching.getEnabled() == null) {
+      batching.setEnabled(globalBatching.getEnabled());
+    }
+    FlowControl flowControl = batching.getFlowControl();
+    FlowControl globalFlowControl = globalBatching.getFlowControl();
+    if (flowControl.getMaxOutstandingRequestBytes() == null) {
+      flowControl.setMaxOutstandingRequestBytes(globalFlowControl.getMaxOutstandingRequestBytes());
+    }
+    if (flowControl.getMaxOutstandingElementCount() == null) {
+      flowControl.setMaxOutstandingElementCount(globalFlowControl.getMaxOutstandingElementCount());
+    }
+    if (flowControl.getLimitExceededBehavior() == null) {
+      flowControl.setLimitExceededBehavior(globalFlowControl.getLimitExceededBehavior());
+    }
+    return batching;
+  }
+
+  /**
+   * Computes the retry settings of the publishers of a topic. Topic-specific properties take
+   * precedence over the global publisher properties.
+   *
+   * @param topicName the fully qualified topic name
+   * @return retry settings defaulting to global where not provided
+   */
+  public Retry computePublisherRetrySettings(TopicName topicName) {
+    TopicPublisher topicProperties = getFullyQualifiedTopicProperties().get(topicName);
+    Retry globalRetry = this.publisher.getRetry();
+    if (topicProperties == null) {
+      return globalRetry;
+    }
+    Retry retry = topicProperties.getRetry();
+    if (retry.getTotalTimeoutSeconds() == null) {
+      retry.setTotalTimeoutSeconds(globalRetry.getTotalTimeoutSeconds());
+    }
+    if (retry.getInitialRetryDelaySeconds() == null) {
+      retry.setInitialRetryDelaySeconds(globalRetry.getInitialRetryDelaySeconds());
+    }
+    if (retry.getRetryDelayMultiplier() == null) {
+      retry.setRetryDelayMultiplier(globalRetry.getRetryDelayMultiplier());
+    }
+    if (retry.getMaxRetryDelaySeconds() == null) {
+      retry.setMaxRetryDelaySeconds(globalRetry.getMaxRetryDelaySeconds());
+    }
+    if (retry.getMaxAttempts() == null) {
+      retry.setMaxAttempts(globalRetry.getMaxAttempts());
+    }
+    if (retry.getJittered() == null) {
+      retry.setJittered(globalRetry.getJittered());
+    }
+    if (retry.getInitialRpcTimeoutSeconds() == null) {
+      retry.setInitialRpcTimeoutSeconds(globalRetry.getInitialRpcTimeoutSeconds());
+    }
+    if (retry.getRpcTimeoutMultiplier() == null) {
+      retry.setRpcTimeoutMultiplier(globalRetry.getRpcTimeoutMultiplier());
+    }
+    if (retry.getMaxRpcTimeoutSeconds() == null) {
+      retry.setMaxRpcTimeoutSeconds(globalRetry.getMaxRpcTimeoutSeconds());
+    }
+    return retry;
+  }
+
   /** Publisher settings. */
   public static class Publisher {
 
@@ -389,6 +545,9 @@ public class PubSubConfiguration {
     /** Batching properties. */
     private final Batching batching = new Batching();
 
+    /** Publisher cache properties. */
+    private final PublisherCache cache = new PublisherCache();
+
     /** Enable message ordering setting. */
     private Boolean enableMessageOrdering;
 
@@ -397,6 +556,12 @@ public class PubSubConfiguration {
 
     private String universeDomain;
 
+    /**
+     * Topic-specific publisher properties, keyed by short topic name or by a made-up name with
+     * {@code fully-qualified-name} set.
+     */
+    private Map<String, TopicPublisher> topic = new HashMap<>();
+
     public Batching getBatching() {
       return this.batching;
     }
@@ -405,6 +570,10 @@ public class PubSubConfiguration {
       return this.retry;
     }
 
+    public PublisherCache getCache() {
+      return this.cache;
+    }
+
     public int getExecutorThreads() {
       return this.executorThreads;
     }
@@ -462,6 +631,100 @@ public class PubSubConfiguration {
     public void setUniverseDomain(String universeDomain) {
       this.universeDomain = universeDomain;
     }
+
+    public Map<String, TopicPublisher> getTopic() {
+      return this.topic;
+    }
+
+    public void setTopic(Map<String, TopicPublisher> topic) {
+      this.topic = topic;
+    }
+  }
+
+  /** Settings of the cache holding one publisher per topic. */
+  public static class PublisherCache {
+
+    /**
+     * Maximum number of cached publishers. The least recently used publisher is flushed and shut
+     * down once the cache grows beyond it. 0 means no limit.
+     */
+    private int maxSize = 0;
+
+    /**
+     * Time in milliseconds after which a publisher that has not been used is flushed and shut down.
+     * 0 means publishers are never evicted for being idle.
+     */
+    private long idleTimeoutMillis = 0;
+
+    /** Maximum time in milliseconds to wait for an evicted publisher to send pending messages. */
+    private long evictionShutdownTimeoutMillis = 30000;
+
+    public int getMaxSize() {
+      return this.maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+      this.maxSize = maxSize;
+    }
+
+    public long getIdleTimeoutMillis() {
+      return this.idleTimeoutMillis;
+    }
+
+    public void setIdleTimeoutMillis(long idleTimeoutMillis) {
+      this.idleTimeoutMillis = idleTimeoutMillis;
+    }
+
+    public long getEvictionShutdownTimeoutMillis() {
+      return this.evictionShutdownTimeoutMillis;
+    }
+
+    public void setEvictionShutdownTimeoutMillis(long evictionShutdownTimeoutMillis) {
+      this.evictionShutdownTimeoutMillis = evictionShutdownTimeoutMillis;
+    }
+  }
+
+  /** Topic-specific publisher settings. Unset properties default to the global publisher ones. */
+  public static class TopicPublisher {
+
+    /** Fully-qualified topic name in the {@code projects/<project>/topics/<topic>} format. */
+    private String fullyQualifiedName;
+
+    /**
+     * Number of threads used by the publishers of this topic. If not set, the topic shares the
+     * global publisher executor.
+     */
+    private Integer executorThreads;
+
+    /** Retry properties. */
+    private final Retry retry = new Retry();
+
+    /** Batching properties, including publisher flow control. */
+    private final Batching batching = new Batching();
+
+    public String getFullyQualifiedName() {
+      return this.fullyQualifiedName;
+    }
+
+    public void setFullyQualifiedName(String fullyQualifiedName) {
+      this.fullyQualifiedName = fullyQualifiedName;
+    }
+
+    public Integer getExecutorThreads() {
+      return this.executorThreads;
+    }
+
+    public void setExecutorThreads(Integer executorThreads) {
+      this.executorThreads = executorThreads;
+    }
+
+    public Retry getRetry() {
+      return this.retry;
+    }
+
+    public Batching getBatching() {
+      return this.batching;
+    }
   }
 
   /** Subscriber settings. */
@@ -476,6 +739,18 @@ public class PubSubConfiguration {
     /** Number of threads used for batch acknowledgement. */
     private int maxAcknowledgementThreads = 4;
 
+    /**
+     * How acknowledgement completion callbacks are executed: on threads striped by subscription, on
+     * virtual threads (Java 21+) or directly on the completing thread.
+     */
+    private AckExecutionMode ackExecutionMode = AckExecutionMode.STRIPED;
+
+    /**
+     * Maximum number of queued (striped mode) or in-flight (virtual mode) acknowledgement
+     * callbacks. Further callbacks run on the submitting thread.
+     */
+    private int ackQueueCapacity = 10000;
+
     /** The optional pull endpoint setting for the subscriber factory. */
     private String pullEndpoint;
 
@@ -505,6 +780,12 @@ public class PubSubConfiguration {
     /** Flow control settings for subscriber factory. */
     private final FlowControl flowControl = new FlowControl();
 
+    /** Runtime adjustment of the number of outstanding messages. */
+    private final AdaptiveFlowControl adaptiveFlowControl = new AdaptiveFlowControl();
+
+    /** Batching settings for acknowledgements of individually acked pulled messages. */
+    private final AckBatching ackBatching = new AckBatching();
+
     /** RPC status codes that should be retried when pulling messages. */
     private Code[] retryableCodes = null;
 
@@ -538,6 +819,14 @@ public class PubSubConfiguration {
       return this.flowControl;
     }
 
+    public AdaptiveFlowControl getAdaptiveFlowControl() {
+      return this.adaptiveFlowControl;
+    }
+
+    public AckBatching getAckBatching() {
+      return this.ackBatching;
+    }
+
     public String getPullEndpoint() {
       return this.pullEndpoint;
     }
@@ -599,6 +888,22 @@ public class PubSubConfiguration {
       this.maxAcknowledgementThreads = maxAcknowledgementThreads;
     }
 
+    public AckExecutionMode getAckExecutionMode() {
+      return this.ackExecutionMode;
+    }
+
+    public void setAckExecutionMode(AckExecutionMode ackExecutionMode) {
+      this.ackExecutionMode = ackExecutionMode;
+    }
+
+    public int getAckQueueCapacity() {
+      return this.ackQueueCapacity;
+    }
+
+    public void setAckQueueCapacity(int ackQueueCapacity) {
+      this.ackQueueCapacity = ackQueueCapacity;
+    }
+
     public String getUniverseDomain() {
       return universeDomain;
     }
@@ -631,6 +936,12 @@ public class PubSubConfiguration {
     /** Number of threads used for Health Check Executors. */
     private int executorThreads = 4;
 
+    /**
+     * Interval in seconds between two refreshes of the backlog of all tracked subscriptions. Health
+     * checks read the backlog fetched by the last refresh.
+     */
+    private int backlogRefreshIntervalSeconds = 60;
+
     public Integer getLagThreshold() {
       return lagThreshold;
     }
@@ -662,6 +973,14 @@ public class PubSubConfiguration {
     public void setExecutorThreads(int executorThreads) {
       this.executorThreads = executorThreads;
     }
+
+    public int getBacklogRefreshIntervalSeconds() {
+      return backlogRefreshIntervalSeconds;
+    }
+
+    public void setBacklogRefreshIntervalSeconds(int backlogRefreshIntervalSeconds) {
+      this.backlogRefreshIntervalSeconds = backlogRefreshIntervalSeconds;
+    }
   }
 
   /** Retry settings. */
@@ -835,6 +1154,125 @@ public class PubSubConfiguration {
     }
   }
 
+  /**
+   * Adaptive flow control settings. The flow control maximum outstanding element count is the upper
+   * bound of the adaptive limit.
+   */
+  public static class AdaptiveFlowControl {
+
+    /** Adjusts the number of outstanding messages at runtime if true. */
+    private Boolean enabled;
+
+    /** Minimum number of outstanding messages, also the step by which the limit grows. */
+    private Long minOutstandingElementCount;
+
+    /** Average time from receipt to ack or nack above which the limit is decreased. */
+    private Long targetLatencyMillis;
+
+    /** Time between two adjustments of the limit. */
+    private Long adjustmentIntervalMillis;
+
+    /**
+     * Ack deadline of the subscription. Messages held longer needed deadline extensions, which
+     * decreases the limit.
+     */
+    private Long ackDeadlineSeconds;
+
+    /**
+     * Share of redelivered messages among the received ones in an adjustment interval above which
+     * the limit is decreased.
+     */
+    private Double redeliveryThreshold;
+
+    public Boolean getEnabled() {
+      return this.enabled;
+    }
+
+    public void setEnabled(Boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public Long getMinOutstandingElementCount() {
+      return this.minOutstandingElementCount;
+    }
+
+    public void setMinOutstandingElementCount(Long minOutstandingElementCount) {
+      this.minOutstandingElementCount = minOutstandingElementCount;
+    }
+
+    public Long getTargetLatencyMillis() {
+      return this.targetLatencyMillis;
+    }
+
+    public void setTargetLatencyMillis(Long targetLatencyMillis) {
+      this.targetLatencyMillis = targetLatencyMillis;
+    }
+
+    public Long getAdjustmentIntervalMillis() {
+      return this.adjustmentIntervalMillis;
+    }
+
+    public void setAdjustmentIntervalMillis(Long adjustmentIntervalMillis) {
+      this.adjustmentIntervalMillis = adjustmentIntervalMillis;
+    }
+
+    public Long getAckDeadlineSeconds() {
+      return this.ackDeadlineSeconds;
+    }
+
+    public void setAckDeadlineSeconds(Long ackDeadlineSeconds) {
+      this.ackDeadlineSeconds = ackDeadlineSeconds;
+    }
+
+    public Double getRedeliveryThreshold() {
+      return this.redeliveryThreshold;
+    }
+
+    public void setRedeliveryThreshold(Double redeliveryThreshold) {
+      this.redeliveryThreshold = redeliveryThreshold;
+    }
+  }
+
+  /** Acknowledgement batching settings for pulled messages. */
+  public static class AckBatching {
+
+    /**
+     * Coalesces ack, nack and modify-ack-deadline calls made on individual pulled messages into
+     * batched requests if true.
+     */
+    private boolean enabled = false;
+
+    /** Maximum number of ack IDs sent in a single request. Cannot exceed 2500. */
+    private int maxBatchSize = 2500;
+
+    /** Maximum time in milliseconds an ack ID is buffered before its batch is sent. */
+    private long maxDelayMillis = 100;
+
+    public boolean isEnabled() {
+      return this.enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public int getMaxBatchSize() {
+      return this.maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+      this.maxBatchSize = maxBatchSize;
+    }
+
+    public long getMaxDelayMillis() {
+      return this.maxDelayMillis;
+    }
+
+    public void setMaxDelayMillis(long maxDelayMillis) {
+      this.maxDelayMillis = maxDelayMillis;
+    }
+  }
+
   /** Batching settings. */
   public static class Batching {
 
@@ -41,6 +41,7 @@ public class HealthTrackerImpl implements HealthTracker {
   private static final long NO_MESSAGES_OVER_THRESHOLD = 0L;
   private final ProjectSubscriptionName projectSubscriptionName;
   private final MetricServiceClient metricServiceClient;
+  private final SubscriptionBacklogCache backlogCache;
   private final String undeliveredFilter;
   private final Integer lagThreshold;
   private final Integer backlogThreshold;
@@ -56,12 +57,36 @@ public class HealthTrackerImpl implements HealthTracker {
       Integer lookUpInterval) {
     this.projectSubscriptionName = projectSubscriptionName;
     this.metricServiceClient = metricServiceClient;
+    this.backlogCache = null;
     this.undeliveredFilter = undeliveredFilter(projectSubscriptionName.getSubscription());
     this.lagThreshold = lagThreshold;
     this.backlogThreshold = backlogThreshold;
     this.lookUpInternal = lookUpInterval;
   }
 
+  /**
+   * Create a tracker reading the subscription backlog from a {@link SubscriptionBacklogCache}
+   * instead of querying Cloud Monitoring on each check.
+   *
+   * @param projectSubscriptionName the subscription to track
+   * @param backlogCache the cache refreshed with the backlog of the subscription
+   * @param lagThreshold threshold in seconds over message processing lag
+   * @param backlogThreshold the threshold number of messages for the subscription backlog
+   */
+  public HealthTrackerImpl(
+      ProjectSubscriptionName projectSubscriptionName,
+      SubscriptionBacklogCache backlogCache,
+      Integer lagThreshold,
+      Integer backlogThreshold) {
+    this.projectSubscriptionName = projectSubscriptionName;
+    this.metricServiceClient = null;
+    this.backlogCache = backlogCache;
+    this.undeliveredFilter = undeliveredFilter(projectSubscriptionName.getSubscription());
+    this.lagThreshold = lagThreshold;
+    this.backlogThreshold = backlogThreshold;
+    this.lookUpInternal = null;
+  }
+
   @Override
   public void processedMessage() {
     long newValue = System.currentTimeMillis();
@@ -107,6 +132,10 @@ public class HealthTrackerImpl implements HealthTracker {
   }
 
   private Optional<Long> getBackLogMessages(long currentMillis) {
+    if (backlogCache != null) {
+      return backlogCache.getBacklog(projectSubscriptionName);
+    }
+
     TimeInterval timeInterval = timeInterval(currentMillis);
 
     ListTimeSeriesResponse timeSeriesResponse =
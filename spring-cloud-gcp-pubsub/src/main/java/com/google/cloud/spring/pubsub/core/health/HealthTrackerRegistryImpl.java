@@ -23,9 +23,12 @@ import com.google.cloud.monitoring.v3.MetricServiceClient;
 import com.google.cloud.pubsub.v1.Subscriber;
 import com.google.cloud.spring.pubsub.support.PubSubSubscriptionUtils;
 import com.google.pubsub.v1.ProjectSubscriptionName;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.util.Assert;
@@ -34,18 +37,29 @@ import org.springframework.util.Assert;
  * A registry for the {@link HealthTracker} health trackers created per {@link
  * ProjectSubscriptionName}.
  *
+ * <p>The trackers read the subscription backlog from a {@link SubscriptionBacklogCache}, refreshed
+ * on the executor of the registry every {@link #setBacklogRefreshInterval(Duration) backlog refresh
+ * interval} with one Cloud Monitoring query per project for all registered subscriptions. Health
+ * checks therefore never wait for Cloud Monitoring. The refresh starts when the first tracker is
+ * registered.
+ *
  * @since 2.0.6
  */
 public class HealthTrackerRegistryImpl implements HealthTrackerRegistry {
 
   private static final Log LOGGER = LogFactory.getLog(HealthTrackerRegistryImpl.class);
 
+  /** The default interval between two refreshes of the subscription backlog. */
+  public static final Duration DEFAULT_BACKLOG_REFRESH_INTERVAL = Duration.ofSeconds(60);
+
   private final String projectId;
-  private final MetricServiceClient metricServiceClient;
   private final Integer lagThreshold;
   private final Integer backlogThreshold;
-  private final Integer lookUpInterval;
   private final ExecutorProvider executorProvider;
+  private final SubscriptionBacklogCache backlogCache;
+  private final AtomicBoolean backlogRefreshScheduled = new AtomicBoolean();
+
+  private Duration backlogRefreshInterval = DEFAULT_BACKLOG_REFRESH_INTERVAL;
 
   private final ConcurrentMap<ProjectSubscriptionName, HealthTracker> healthTrackers;
 
@@ -76,12 +90,29 @@ public class HealthTrackerRegistryImpl implements HealthTrackerRegistry {
       ConcurrentMap<ProjectSubscriptionName, HealthTracker> healthTrackers) {
     Assert.notNull(metricServiceClient, "MetricServiceClient can't be null");
     this.projectId = projectId;
-    this.metricServiceClient = metricServiceClient;
     this.lagThreshold = lagThreshold;
     this.backlogThreshold = backlogThreshold;
-    this.lookUpInterval = lookUpInterval;
     this.healthTrackers = healthTrackers;
     this.executorProvider = executorProvider;
+    this.backlogCache = new SubscriptionBacklogCache(metricServiceClient, lookUpInterval);
+  }
+
+  /**
+   * Set the interval between two refreshes of the subscription backlog. Must be set before the
+   * first tracker is registered.
+   *
+   * @param backlogRefreshInterval the refresh interval
+   */
+  public void setBacklogRefreshInterval(Duration backlogRefreshInterval) {
+    Assert.notNull(backlogRefreshInterval, "The backlogRefreshInterval can't be null.");
+    Assert.isTrue(
+        !backlogRefreshInterval.isNegative() && !backlogRefreshInterval.isZero(),
+        "The backlogRefreshInterval must be positive.");
+    this.backlogRefreshInterval = backlogRefreshInterval;
+  }
+
+  public Duration getBacklogRefreshInterval() {
+    return this.backlogRefreshInterval;
   }
 
   @Override
@@ -95,15 +126,41 @@ public class HealthTrackerRegistryImpl implements HealthTrackerRegistry {
   public HealthTracker registerTracker(ProjectSubscriptionName projectSubscriptionName) {
     HealthTracker healthTracker =
         new HealthTrackerImpl(
-            projectSubscriptionName,
-            metricServiceClient,
-            lagThreshold,
-            backlogThreshold,
-            lookUpInterval);
+            projectSubscriptionName, backlogCache, lagThreshold, backlogThreshold);
     healthTrackers.put(projectSubscriptionName, healthTracker);
+    scheduleBacklogRefresh();
     return healthTracker;
   }
 
+  /**
+   * Query the backlog of all the registered subscriptions, one Cloud Monitoring query per project.
+   * Called periodically once a tracker is registered.
+   */
+  public void refreshBacklog() {
+    backlogCache.refresh(healthTrackers.keySet());
+  }
+
+  private void scheduleBacklogRefresh() {
+    if (backlogRefreshScheduled.compareAndSet(false, true)) {
+      executorProvider
+          .getExecutor()
+          .scheduleWithFixedDelay(
+              this::refreshBacklogSafely,
+              0,
+              backlogRefreshInterval.toMillis(),
+              TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void refreshBacklogSafely() {
+    try {
+      refreshBacklog();
+    } catch (RuntimeException ex) {
+      // An exception would cancel the periodic refresh.
+      LOGGER.warn("Failed to refresh the subscription backlog.", ex);
+    }
+  }
+
   @Override
   public boolean isTracked(ProjectSubscriptionName projectSubscriptionName) {
     return healthTrackers.containsKey(projectSubscriptionName);
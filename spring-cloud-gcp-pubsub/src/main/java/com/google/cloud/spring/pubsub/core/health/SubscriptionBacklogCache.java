@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.pubsub.core.health;
+
+import static com.google.monitoring.v3.ListTimeSeriesRequest.TimeSeriesView.FULL;
+
+import com.google.cloud.monitoring.v3.MetricServiceClient;
+import com.google.monitoring.v3.ProjectName;
+import com.google.monitoring.v3.TimeInterval;
+import com.google.monitoring.v3.TimeSeries;
+import com.google.protobuf.util.Timestamps;
+import com.google.pubsub.v1.ProjectSubscriptionName;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Caches the message backlog of Pub/Sub subscriptions, as reported by the {@code
+ * num_undelivered_messages} Cloud Monitoring metric. A {@link #refresh(Collection) refresh} issues
+ * one filtered query per project for all the given subscriptions, so that health checks read the
+ * backlog from memory instead of querying Cloud Monitoring for each subscription.
+ */
+public class SubscriptionBacklogCache {
+
+  private static final Log LOGGER = LogFactory.getLog(SubscriptionBacklogCache.class);
+
+  /** Template for the undelivered messages filter of several subscriptions of a project. */
+  static final String UNDELIVERED_FILTER_TEMPLATE =
+      "metric.type=\"pubsub.googleapis.com/subscription/num_undelivered_messages\""
+          + " resource.type=\"pubsub_subscription\" resource.label.subscription_id=one_of(%s)";
+
+  private static final String SUBSCRIPTION_ID_LABEL = "subscription_id";
+
+  private final MetricServiceClient metricServiceClient;
+
+  private final Integer lookUpInterval;
+
+  private final Map<ProjectSubscriptionName, Long> backlogs = new ConcurrentHashMap<>();
+
+  /**
+   * Create the cache.
+   *
+   * @param metricServiceClient the client used to query Cloud Monitoring
+   * @param lookUpInterval the interval in minutes over which the latest backlog is looked up
+   */
+  public SubscriptionBacklogCache(MetricServiceClient metricServiceClient, Integer lookUpInterval) {
+    Assert.notNull(metricServiceClient, "MetricServiceClient can't be null");
+    this.metricServiceClient = metricServiceClient;
+    this.lookUpInterval = lookUpInterval;
+  }
+
+  /**
+   * Returns the backlog of a subscription as of the last refresh.
+   *
+   * @param subscription the subscription
+   * @return the number of undelivered messages, or empty if none was reported
+   */
+  public Optional<Long> getBacklog(ProjectSubscriptionName subscription) {
+    return Optional.ofNullable(this.backlogs.get(subscription));
+  }
+
+  /**
+   * Query the backlog of the given subscriptions, one query per project, and replace the cached
+   * values. Subscriptions for which no backlog is reported are removed from the cache. If the query
+   * of a project fails, the values cached for that project are kept.
+   *
+   * @param subscriptions the subscriptions to refresh
+   */
+  public void refresh(Collection<ProjectSubscriptionName> subscriptions) {
+    Map<String, Set<ProjectSubscriptionName>> byProject =
+        subscriptions.stream()
+            .collect(
+                Collectors.groupingBy(ProjectSubscriptionName::getProject, Collectors.toSet()));
+    long currentMillis = System.currentTimeMillis();
+    for (Map.Entry<String, Set<ProjectSubscriptionName>> project : byProject.entrySet()) {
+      try {
+        refresh(project.getKey(), project.getValue(), currentMillis);
+      } catch (RuntimeException ex) {
+        LOGGER.warn("Failed to refresh the subscription backlog of project " + project.getKey(), ex);
+      }
+    }
+    this.backlogs.keySet().retainAll(new HashSet<>(subscriptions));
+  }
+
+  private void refresh(
+      String projectId, Set<ProjectSubscriptionName> subscriptions, long currentMillis) {
+    String subscriptionIds =
+        subscriptions.stream()
+            .map(subscription -> "\"" + subscription.getSubscription() + "\"")
+            .sorted()
+            .collect(Collectors.joining(", "));
+    String filter = String.format(UNDELIVERED_FILTER_TEMPLATE, subscriptionIds);
+
+    Map<ProjectSubscriptionName, Long> refreshed = new HashMap<>();
+    for (TimeSeries timeSeries :
+        this.metricServiceClient
+            .listTimeSeries(ProjectName.of(projectId), filter, timeInterval(currentMillis), FULL)
+            .iterateAll()) {
+      String subscriptionId = timeSeries.getResource().getLabelsMap().get(SUBSCRIPTION_ID_LABEL);
+      if (subscriptionId != null && timeSeries.getPointsCount() > 0) {
+        // Points are returned in reverse time order.
+        refreshed.putIfAbsent(
+            ProjectSubscriptionName.of(projectId, subscriptionId),
+            timeSeries.getPoints(0).getValue().getInt64Value());
+      }
+    }
+
+    for (ProjectSubscriptionName subscription : subscriptions) {
+      Long backlog = refreshed.get(subscription);
+      if (backlog != null) {
+        this.backlogs.put(subscription, backlog);
+      } else {
+        this.backlogs.remove(subscription);
+      }
+    }
+  }
+
+  private TimeInterval timeInterval(long currentMillis) {
+    return TimeInterval.newBuilder()
+        .setStartTime(Timestamps.fromMillis(currentMillis - this.lookUpInterval * 60 * 1000))
+        .setEndTime(Timestamps.fromMillis(currentMillis))
+        .build();
+  }
+}
@@ -47,6 +47,8 @@ public class PubSubPublisherTemplate implements PubSubPublisherOperations {
 
   private final PublisherFactory publisherFactory;
 
+  private PublishListener publishListener;
+
   /**
    * Default {@link PubSubPublisherTemplate} constructor that uses {@link
    * SimplePubSubMessageConverter} to serialize and deserialize payloads.
@@ -70,6 +72,19 @@ public class PubSubPublisherTemplate implements PubSubPublisherOperations {
     this.pubSubMessageConverter = pubSubMessageConverter;
   }
 
+  public PublishListener getPublishListener() {
+    return this.publishListener;
+  }
+
+  /**
+   * Set a listener notified of every published message, e.g. to record metrics.
+   *
+   * @param publishListener the listener, or null to remove it
+   */
+  public void setPublishListener(PublishListener publishListener) {
+    this.publishListener = publishListener;
+  }
+
   /**
    * Uses the configured message converter to first convert the payload and headers to a {@code
    * PubsubMessage} and then publish it.
@@ -90,8 +105,23 @@ public class PubSubPublisherTemplate implements PubSubPublisherOperations {
     Assert.hasText(topic, "The topic can't be null or empty.");
     Assert.notNull(pubsubMessage, "The pubsubMessage can't be null.");
 
-    ApiFuture<String> publishFuture =
-        this.publisherFactory.createPublisher(topic).publish(pubsubMessage);
+    PublishListener listener = this.publishListener;
+    long start = 0;
+    if (listener != null) {
+      start = System.nanoTime();
+      listener.onPublish(topic, pubsubMessage);
+    }
+    final long publishStart = start;
+
+    ApiFuture<String> publishFuture;
+    try {
+      publishFuture = this.publisherFactory.createPublisher(topic).publish(pubsubMessage);
+    } catch (RuntimeException ex) {
+      if (listener != null) {
+        listener.onPublishComplete(topic, pubsubMessage, System.nanoTime() - publishStart, ex);
+      }
+      throw ex;
+    }
 
     final CompletableFuture<String> completableFuture = new CompletableFuture<>();
     ApiFutures.addCallback(
@@ -100,6 +130,10 @@ public class PubSubPublisherTemplate implements PubSubPublisherOperations {
 
           @Override
           public void onFailure(Throwable throwable) {
+            if (listener != null) {
+              listener.onPublishComplete(
+                  topic, pubsubMessage, System.nanoTime() - publishStart, throwable);
+            }
             String errorMessage = "Publishing to " + topic + " topic failed.";
             LOGGER.warn(errorMessage, throwable);
             PubSubDeliveryException pubSubDeliveryException =
@@ -109,6 +143,10 @@ public class PubSubPublisherTemplate implements PubSubPublisherOperations {
 
           @Override
           public void onSuccess(String result) {
+            if (listener != null) {
+              listener.onPublishComplete(
+                  topic, pubsubMessage, System.nanoTime() - publishStart, null);
+            }
             if (LOGGER.isDebugEnabled()) {
               LOGGER.debug("Publishing to " + topic + " was successful. Message ID: " + result);
             }
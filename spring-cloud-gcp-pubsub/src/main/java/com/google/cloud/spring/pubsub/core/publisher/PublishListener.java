@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.pubsub.core.publisher;
+
+import com.google.pubsub.v1.PubsubMessage;
+import javax.annotation.Nullable;
+
+/**
+ * Notified of the messages published through a {@link PubSubPublisherTemplate}. Called on the
+ * publishing thread and on the threads completing publishes, so implementations must be
+ * thread-safe and must not block.
+ */
+public interface PublishListener {
+
+  /**
+   * Called before a message is handed to the publisher.
+   *
+   * @param topic the topic as passed to the template
+   * @param message the message being published
+   */
+  void onPublish(String topic, PubsubMessage message);
+
+  /**
+   * Called when a publish completes, successfully or not.
+   *
+   * @param topic the topic as passed to the template
+   * @param message the published message
+   * @param durationNanos time from {@link #onPublish(String, PubsubMessage)} to completion,
+   *     including the time spent in the publisher batch
+   * @param failure the cause of the failure, or null if the message was published
+   */
+  void onPublishComplete(
+      String topic, PubsubMessage message, long durationNanos, @Nullable Throwable failure);
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.pubsub.core.subscriber;
+
+/** Determines how {@link AcknowledgementExecutor} runs acknowledgement completion callbacks. */
+public enum AckExecutionMode {
+
+  /**
+   * Callbacks run on a fixed number of single-threaded lanes, each with its own bounded queue. The
+   * lane is chosen by subscription, so the callbacks of one subscription run in order. A slow
+   * callback delays all callbacks queued behind it on its lane, including those of other
+   * subscriptions that share the lane. Callbacks without a subscription are spread round-robin.
+   * When a lane's queue is full, the submitting thread waits for room, so that the order is kept.
+   */
+  STRIPED,
+
+  /**
+   * Each callback runs on its own virtual thread, with the number of in-flight callbacks bounded.
+   * When the bound is reached, the submitting thread runs the callback. Requires Java 21 or later.
+   */
+  VIRTUAL,
+
+  /** Callbacks run on the thread that completes the acknowledgement request. */
+  DIRECT
+}
@@ -0,0 +1,367 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.pubsub.core.subscriber;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.protobuf.Empty;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import org.springframework.util.Assert;
+
+/**
+ * Coalesces individual acknowledgement and deadline operations on pulled messages into batched
+ * {@code Acknowledge}/{@code ModifyAckDeadline} requests.
+ *
+ * <p>Ack IDs are buffered per subscription and per operation. A batch is sent when it reaches the
+ * configured maximum size (capped at {@value #MAX_ACK_IDS_PER_REQUEST}, the service limit) or when
+ * the maximum delay has elapsed since its first ack ID was added, whichever happens first. The
+ * future returned for each ack ID completes when the request carrying it completes.
+ *
+ * <p>Instances are created by {@link PubSubSubscriberTemplate} when acknowledgement batching is
+ * enabled, and expose cumulative statistics for monitoring purposes.
+ */
+public class AcknowledgementBatcher {
+
+  /** Maximum number of ack IDs accepted by Pub/Sub in a single request. */
+  public static final int MAX_ACK_IDS_PER_REQUEST = 2500;
+
+  private static final int ACK_OPERATION = -1;
+
+  private final BatchOperation ackOperation;
+
+  private final BatchOperation modifyAckDeadlineOperation;
+
+  private final int maxBatchSize;
+
+  private final long maxDelayNanos;
+
+  private final ScheduledExecutorService scheduler;
+
+  private final Function<String, Executor> callbackExecutors;
+
+  private final ConcurrentHashMap<BatchKey, Accumulator> accumulators = new ConcurrentHashMap<>();
+
+  private final LongAdder batchCount = new LongAdder();
+
+  private final LongAdder ackIdCount = new LongAdder();
+
+  private final LongAdder completedBatchCount = new LongAdder();
+
+  private final LongAdder failedBatchCount = new LongAdder();
+
+  private final LongAdder totalFlushNanos = new LongAdder();
+
+  private final AtomicLong pendingAckIdCount = new AtomicLong();
+
+  AcknowledgementBatcher(
+      BatchOperation ackOperation,
+      BatchOperation modifyAckDeadlineOperation,
+      int maxBatchSize,
+      Duration maxDelay,
+      ScheduledExecutorService scheduler,
+      Function<String, Executor> callbackExecutors) {
+    Assert.isTrue(
+        maxBatchSize > 0 && maxBatchSize <= MAX_ACK_IDS_PER_REQUEST,
+        "The maxBatchSize must be between 1 and " + MAX_ACK_IDS_PER_REQUEST + ".");
+    Assert.isTrue(
+        maxDelay != null && !maxDelay.isNegative() && !maxDelay.isZero(),
+        "The maxDelay must be positive.");
+    this.ackOperation = ackOperation;
+    this.modifyAckDeadlineOperation = modifyAckDeadlineOperation;
+    this.maxBatchSize = maxBatchSize;
+    this.maxDelayNanos = maxDelay.toNanos();
+    this.scheduler = scheduler;
+    this.callbackExecutors = callbackExecutors;
+  }
+
+  /**
+   * Queue an ack ID for acknowledgement.
+   *
+   * @param subscriptionName the fully-qualified subscription name
+   * @param ackId the ack ID to acknowledge
+   * @return future completed when the batch containing the ack ID is acknowledged
+   */
+  public CompletableFuture<Void> ack(String subscriptionName, String ackId) {
+    return add(new BatchKey(subscriptionName, ACK_OPERATION), ackId);
+  }
+
+  /**
+   * Queue an ack ID for a deadline modification. A deadline of {@code 0} is a nack.
+   *
+   * @param subscriptionName the fully-qualified subscription name
+   * @param ackId the ack ID whose deadline should be modified
+   * @param ackDeadlineSeconds the new ack deadline
+   * @return future completed when the batch containing the ack ID is sent and acknowledged
+   */
+  public CompletableFuture<Void> modifyAckDeadline(
+      String subscriptionName, String ackId, int ackDeadlineSeconds) {
+    Assert.isTrue(ackDeadlineSeconds >= 0, "The ackDeadlineSeconds must not be negative.");
+    return add(new BatchKey(subscriptionName, ackDeadlineSeconds), ackId);
+  }
+
+  /** Immediately send all buffered ack IDs, regardless of batch size or age. */
+  public void flush() {
+    this.accumulators.values().forEach(this::flush);
+  }
+
+  /**
+   * Get the number of batch requests sent so far.
+   *
+   * @return number of batch requests
+   */
+  public long getBatchCount() {
+    return this.batchCount.sum();
+  }
+
+  /**
+   * Get the number of ack IDs sent so far across all batches.
+   *
+   * @return number of ack IDs
+   */
+  public long getAckIdCount() {
+    return this.ackIdCount.sum();
+  }
+
+  /**
+   * Get the number of batch requests that completed, successfully or not.
+   *
+   * @return number of completed batch requests
+   */
+  public long getCompletedBatchCount() {
+    return this.completedBatchCount.sum();
+  }
+
+  /**
+   * Get the number of batch requests that completed exceptionally.
+   *
+   * @return number of failed batch requests
+   */
+  public long getFailedBatchCount() {
+    return this.failedBatchCount.sum();
+  }
+
+  /**
+   * Get the cumulative time spent between sending batch requests and their completion, across all
+   * {@link #getCompletedBatchCount() completed batches}.
+   *
+   * @param unit the time unit of the returned value
+   * @return cumulative flush latency
+   */
+  public double getTotalFlushTime(TimeUnit unit) {
+    return (double) this.totalFlushNanos.sum() / unit.toNanos(1);
+  }
+
+  /**
+   * Get the number of ack IDs currently buffered and not yet sent.
+   *
+   * @return number of pending ack IDs
+   */
+  public long getPendingAckIdCount() {
+    return this.pendingAckIdCount.get();
+  }
+
+  public int getMaxBatchSize() {
+    return this.maxBatchSize;
+  }
+
+  public Duration getMaxDelay() {
+    return Duration.ofNanos(this.maxDelayNanos);
+  }
+
+  int getAccumulatorCount() {
+    return this.accumulators.size();
+  }
+
+  private CompletableFuture<Void> add(BatchKey key, String ackId) {
+    CompletableFuture<Void> future = new CompletableFuture<>();
+    Batch fullBatch;
+    while (true) {
+      Accumulator accumulator = this.accumulators.computeIfAbsent(key, Accumulator::new);
+      synchronized (accumulator) {
+        // A drained accumulator is removed from the map; retry with a fresh one.
+        if (accumulator.retired) {
+          continue;
+        }
+        if (accumulator.ackIds.isEmpty()) {
+          accumulator.flushTask =
+              this.scheduler.schedule(
+                  () -> flush(accumulator), this.maxDelayNanos, TimeUnit.NANOSECONDS);
+        }
+        accumulator.ackIds.add(ackId);
+        accumulator.futures.add(future);
+        this.pendingAckIdCount.incrementAndGet();
+        fullBatch = accumulator.ackIds.size() >= this.maxBatchSize ? accumulator.drain() : null;
+      }
+      break;
+    }
+    if (fullBatch != null) {
+      send(key, fullBatch);
+    }
+    return future;
+  }
+
+  private void flush(Accumulator accumulator) {
+    Batch batch;
+    synchronized (accumulator) {
+      batch = accumulator.ackIds.isEmpty() ? null : accumulator.drain();
+    }
+    if (batch != null) {
+      send(accumulator.key, batch);
+    }
+  }
+
+  private void send(BatchKey key, Batch batch) {
+    int size = batch.ackIds.size();
+    this.pendingAckIdCount.addAndGet(-size);
+    this.batchCount.increment();
+    this.ackIdCount.add(size);
+
+    long startNanos = System.nanoTime();
+    ApiFuture<Empty> apiFuture;
+    try {
+      apiFuture =
+          key.ackDeadlineSeconds == ACK_OPERATION
+              ? this.ackOperation.apply(key.subscriptionName, batch.ackIds, key.ackDeadlineSeconds)
+              : this.modifyAckDeadlineOperation.apply(
+                  key.subscriptionName, batch.ackIds, key.ackDeadlineSeconds);
+    } catch (RuntimeException ex) {
+      this.completedBatchCount.increment();
+      this.failedBatchCount.increment();
+      batch.futures.forEach(future -> future.completeExceptionally(ex));
+      return;
+    }
+
+    ApiFutures.addCallback(
+        apiFuture,
+        new ApiFutureCallback<>() {
+          @Override
+          public void onFailure(Throwable throwable) {
+            recordCompletion(startNanos);
+            AcknowledgementBatcher.this.failedBatchCount.increment();
+            batch.futures.forEach(future -> future.completeExceptionally(throwable));
+          }
+
+          @Override
+          public void onSuccess(Empty empty) {
+            recordCompletion(startNanos);
+            batch.futures.forEach(future -> future.complete(null));
+          }
+        },
+        this.callbackExecutors.apply(key.subscriptionName));
+  }
+
+  private void recordCompletion(long startNanos) {
+    this.totalFlushNanos.add(System.nanoTime() - startNanos);
+    this.completedBatchCount.increment();
+  }
+
+  /** Sends a batch of ack IDs for one subscription. */
+  @FunctionalInterface
+  interface BatchOperation {
+    ApiFuture<Empty> apply(String subscriptionName, List<String> ackIds, int ackDeadlineSeconds);
+  }
+
+  private static final class BatchKey {
+
+    private final String subscriptionName;
+
+    private final int ackDeadlineSeconds;
+
+    BatchKey(String subscriptionName, int ackDeadlineSeconds) {
+      this.subscriptionName = subscriptionName;
+      this.ackDeadlineSeconds = ackDeadlineSeconds;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof BatchKey)) {
+        return false;
+      }
+      BatchKey that = (BatchKey) o;
+      return this.ackDeadlineSeconds == that.ackDeadlineSeconds
+          && this.subscriptionName.equals(that.subscriptionName);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(this.subscriptionName, this.ackDeadlineSeconds);
+    }
+  }
+
+  private static final class Batch {
+
+    private final List<String> ackIds;
+
+    private final List<CompletableFuture<Void>> futures;
+
+    Batch(List<String> ackIds, List<CompletableFuture<Void>> futures) {
+      this.ackIds = ackIds;
+      this.futures = futures;
+    }
+  }
+
+  private final class Accumulator {
+
+    private final BatchKey key;
+
+    private List<String> ackIds = new ArrayList<>();
+
+    private List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+    private ScheduledFuture<?> flushTask;
+
+    private boolean retired;
+
+    Accumulator(BatchKey key) {
+      this.key = key;
+    }
+
+    /**
+     * Must be called while holding this accumulator's monitor. The drained accumulator is removed
+     * from the map, so that idle subscriptions and deadlines don't keep an entry; ack IDs added
+     * afterwards go to a new accumulator.
+     */
+    Batch drain() {
+      if (this.flushTask != null) {
+        this.flushTask.cancel(false);
+        this.flushTask = null;
+      }
+      this.retired = true;
+      accumulators.remove(this.key, this);
+      Batch batch = new Batch(this.ackIds, this.futures);
+      this.ackIds = List.of();
+      this.futures = List.of();
+      return batch;
+    }
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.pubsub.core.subscriber;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.springframework.util.Assert;
+
+/**
+ * Binds the statistics of an {@link AcknowledgementBatcher} to a Micrometer {@link MeterRegistry}.
+ *
+ * <p>The average batch size can be derived from the ratio of {@code pubsub.ack.batch.ack.ids} to
+ * {@code pubsub.ack.batches}, and the flush latency is reported by the {@code
+ * pubsub.ack.batch.flush} timer.
+ */
+public class AcknowledgementBatcherMetrics implements MeterBinder {
+
+  private final AcknowledgementBatcher acknowledgementBatcher;
+
+  private final Iterable<Tag> tags;
+
+  public AcknowledgementBatcherMetrics(AcknowledgementBatcher acknowledgementBatcher) {
+    this(acknowledgementBatcher, Collections.emptyList());
+  }
+
+  public AcknowledgementBatcherMetrics(
+      AcknowledgementBatcher acknowledgementBatcher, Iterable<Tag> tags) {
+    Assert.notNull(acknowledgementBatcher, "The acknowledgementBatcher can't be null.");
+    this.acknowledgementBatcher = acknowledgementBatcher;
+    this.tags = tags;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    AcknowledgementBatcher batcher = this.acknowledgementBatcher;
+
+    FunctionCounter.builder("pubsub.ack.batches", batcher, AcknowledgementBatcher::getBatchCount)
+        .description("Number of batched acknowledgement requests sent")
+        .tags(this.tags)
+        .register(registry);
+    FunctionCounter.builder(
+            "pubsub.ack.batch.ack.ids", batcher, AcknowledgementBatcher::getAckIdCount)
+        .description("Number of ack IDs sent in batched acknowledgement requests")
+        .tags(this.tags)
+        .register(registry);
+    FunctionCounter.builder(
+            "pubsub.ack.batches.failed", batcher, AcknowledgementBatcher::getFailedBatchCount)
+        .description("Number of batched acknowledgement requests that failed")
+        .tags(this.tags)
+        .register(registry);
+    FunctionTimer.builder(
+            "pubsub.ack.batch.flush",
+            batcher,
+            AcknowledgementBatcher::getCompletedBatchCount,
+            b -> b.getTotalFlushTime(TimeUnit.NANOSECONDS),
+            TimeUnit.NANOSECONDS)
+        .description("Latency of batched acknowledgement requests")
+        .tags(this.tags)
+        .register(registry);
+    Gauge.builder("pubsub.ack.batch.pending", batcher, AcknowledgementBatcher::getPendingAckIdCount)
+        .description("Number of ack IDs buffered and not yet sent")
+        .tags(this.tags)
+        .register(registry);
+  }
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.pubsub.core.subscriber;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Bounded {@link Executor} for the completion callbacks of acknowledgement and deadline
+ * operations performed by {@link PubSubSubscriberTemplate}.
+ *
+ * <p>Depending on the {@link AckExecutionMode}, callbacks run on single-threaded lanes striped by
+ * subscription, on virtual threads, or directly on the completing thread. In the bounded modes, the
+ * producer is throttled instead of growing the backlog without limit: a callback submitted while
+ * its lane queue is full waits for room, which keeps the callbacks of a lane in order, and a
+ * callback submitted while the in-flight limit of virtual threads is reached runs on the submitting
+ * thread.
+ *
+ * <p>Queue depth and callback latency, measured from submission to completion, are exposed for
+ * monitoring purposes.
+ */
+public class AcknowledgementExecutor implements Executor, DisposableBean {
+
+  /** The default number of lanes in {@link AckExecutionMode#STRIPED} mode. */
+  public static final int DEFAULT_THREADS = 4;
+
+  /** The default number of queued or in-flight callbacks. */
+  public static final int DEFAULT_QUEUE_CAPACITY = 10000;
+
+  private static final String THREAD_NAME_PREFIX = "gcp-pubsub-ack-executor-";
+
+  /** The lane whose thread is running the current callback, if any. */
+  private static final ThreadLocal<ThreadPoolExecutor> CURRENT_LANE = new ThreadLocal<>();
+
+  private final AckExecutionMode mode;
+
+  private final ThreadPoolExecutor[] lanes;
+
+  private final AtomicInteger nextLane = new AtomicInteger();
+
+  private final VirtualThreadTaskExecutor virtualThreadExecutor;
+
+  private final Semaphore inFlightPermits;
+
+  private final int queueCapacity;
+
+  private final LongAdder completedCount = new LongAdder();
+
+  private final LongAdder callerRunsCount = new LongAdder();
+
+  private final LongAdder totalLatencyNanos = new LongAdder();
+
+  /**
+   * Create an executor.
+   *
+   * @param mode how callbacks are executed
+   * @param threads number of lanes in {@link AckExecutionMode#STRIPED} mode; ignored otherwise
+   * @param queueCapacity total number of queued callbacks in {@link AckExecutionMode#STRIPED} mode,
+   *     or of in-flight callbacks in {@link AckExecutionMode#VIRTUAL} mode; ignored otherwise
+   */
+  public AcknowledgementExecutor(AckExecutionMode mode, int threads, int queueCapacity) {
+    Assert.notNull(mode, "The mode can't be null.");
+    this.mode = mode;
+    this.queueCapacity = queueCapacity;
+
+    if (mode == AckExecutionMode.STRIPED) {
+      Assert.isTrue(threads > 0, "The number of threads must be positive.");
+      Assert.isTrue(
+          queueCapacity >= threads, "The queueCapacity must be at least the number of threads.");
+      CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(THREAD_NAME_PREFIX);
+      threadFactory.setDaemon(true);
+      this.lanes = new ThreadPoolExecutor[threads];
+      for (int i = 0; i < threads; i++) {
+        this.lanes[i] =
+            new ThreadPoolExecutor(
+                1,
+                1,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity / threads),
+                threadFactory,
+                this::enqueue);
+      }
+    } else {
+      this.lanes = new ThreadPoolExecutor[0];
+    }
+
+    if (mode == AckExecutionMode.VIRTUAL) {
+      Assert.isTrue(queueCapacity > 0, "The queueCapacity must be positive.");
+      try {
+        this.virtualThreadExecutor = new VirtualThreadTaskExecutor(THREAD_NAME_PREFIX);
+      } catch (UnsupportedOperationException ex) {
+        throw new IllegalStateException(
+            "Virtual thread acknowledgement execution requires Java 21 or later.", ex);
+      }
+      this.inFlightPermits = new Semaphore(queueCapacity);
+    } else {
+      this.virtualThreadExecutor = null;
+      this.inFlightPermits = null;
+    }
+  }
+
+  /**
+   * Run a callback that is not associated with a subscription. In {@link AckExecutionMode#STRIPED}
+   * mode, such callbacks are spread round-robin over the lanes.
+   *
+   * @param command the callback
+   */
+  @Override
+  public void execute(Runnable command) {
+    execute(command, this.nextLane.getAndIncrement());
+  }
+
+  /**
+   * Run a callback for the given key, typically a subscription name. In {@link
+   * AckExecutionMode#STRIPED} mode, callbacks with equal keys run in submission order on the same
+   * lane.
+   *
+   * @param key the key that selects the lane
+   * @param command the callback
+   */
+  public void execute(Object key, Runnable command) {
+    Assert.notNull(key, "The key can't be null.");
+    execute(command, key.hashCode());
+  }
+
+  /**
+   * Get an {@link Executor} that runs all of its callbacks with the given key.
+   *
+   * @param key the key that selects the lane, typically a subscription name
+   * @return the executor for the key
+   * @see #execute(Object, Runnable)
+   */
+  public Executor forKey(Object key) {
+    Assert.notNull(key, "The key can't be null.");
+    return command -> execute(key, command);
+  }
+
+  private void execute(Runnable command, int stripe) {
+    long submittedNanos = System.nanoTime();
+    switch (this.mode) {
+      case STRIPED:
+        ThreadPoolExecutor lane = this.lanes[Math.floorMod(stripe, this.lanes.length)];
+        Runnable timed =
+            () -> {
+              CURRENT_LANE.set(lane);
+              runTimed(command, submittedNanos);
+            };
+        if (lane.isShutdown()) {
+          callerRuns(timed);
+        } else {
+          lane.execute(timed);
+        }
+        break;
+      case VIRTUAL:
+        if (this.inFlightPermits.tryAcquire()) {
+          this.virtualThreadExecutor.execute(
+              () -> {
+                try {
+                  runTimed(command, submittedNanos);
+                } finally {
+                  this.inFlightPermits.release();
+                }
+              });
+        } else {
+          callerRuns(() -> runTimed(command, submittedNanos));
+        }
+        break;
+      default:
+        runTimed(command, submittedNanos);
+    }
+  }
+
+  public AckExecutionMode getMode() {
+    return this.mode;
+  }
+
+  /**
+   * Get the number of callbacks waiting to run, or running on virtual threads.
+   *
+   * @return current queue depth
+   */
+  public int getQueueDepth() {
+    switch (this.mode) {
+      case STRIPED:
+        int depth = 0;
+        for (ThreadPoolExecutor lane : this.lanes) {
+          depth += lane.getQueue().size();
+        }
+        return depth;
+      case VIRTUAL:
+        return this.queueCapacity - this.inFlightPermits.availablePermits();
+      default:
+        return 0;
+    }
+  }
+
+  /**
+   * Get the number of callbacks that completed.
+   *
+   * @return number of completed callbacks
+   */
+  public long getCompletedCount() {
+    return this.completedCount.sum();
+  }
+
+  /**
+   * Get the number of callbacks that ran on the submitting thread because the executor was
+   * saturated and the submitter could not wait, or the executor was shut down.
+   *
+   * @return number of callbacks run by the submitting thread
+   */
+  public long getCallerRunsCount() {
+    return this.callerRunsCount.sum();
+  }
+
+  /**
+   * Get the cumulative time from submission to completion across all {@link #getCompletedCount()
+   * completed} callbacks.
+   *
+   * @param unit the time unit of the returned value
+   * @return cumulative callback latency
+   */
+  public double getTotalLatency(TimeUnit unit) {
+    return (double) this.totalLatencyNanos.sum() / unit.toNanos(1);
+  }
+
+  @Override
+  public void destroy() {
+    for (ThreadPoolExecutor lane : this.lanes) {
+      lane.shutdown();
+    }
+  }
+
+  /**
+   * Wait for room in the queue of a full lane, so that its callbacks stay in submission order. A
+   * callback submitted from the lane's own thread, or after the lane was shut down, runs on the
+   * submitting thread instead, since waiting would never end.
+   */
+  private void enqueue(Runnable runnable, ThreadPoolExecutor lane) {
+    if (lane.isShutdown() || CURRENT_LANE.get() == lane) {
+      callerRuns(runnable);
+      return;
+    }
+    try {
+      lane.getQueue().put(runnable);
+      if (lane.isShutdown() && lane.getQueue().remove(runnable)) {
+        // The lane may have stopped before taking it.
+        callerRuns(runnable);
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      callerRuns(runnable);
+    }
+  }
+
+  private void callerRuns(Runnable runnable) {
+    this.callerRunsCount.increment();
+    runnable.run();
+  }
+
+  private void runTimed(Runnable command, long submittedNanos) {
+    try {
+      command.run();
+    } finally {
+      this.totalLatencyNanos.add(System.nanoTime() - submittedNanos);
+      this.completedCount.increment();
+    }
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.pubsub.core.subscriber;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.springframework.util.Assert;
+
+/**
+ * Binds the statistics of an {@link AcknowledgementExecutor} to a Micrometer {@link
+ * MeterRegistry}. All meters are tagged with the execution {@code mode}.
+ */
+public class AcknowledgementExecutorMetrics implements MeterBinder {
+
+  private final AcknowledgementExecutor acknowledgementExecutor;
+
+  private final Iterable<Tag> tags;
+
+  public AcknowledgementExecutorMetrics(AcknowledgementExecutor acknowledgementExecutor) {
+    this(acknowledgementExecutor, Collections.emptyList());
+  }
+
+  public AcknowledgementExecutorMetrics(
+      AcknowledgementExecutor acknowledgementExecutor, Iterable<Tag> tags) {
+    Assert.notNull(acknowledgementExecutor, "The acknowledgementExecutor can't be null.");
+    this.acknowledgementExecutor = acknowledgementExecutor;
+    this.tags =
+        Tags.concat(tags, "mode", acknowledgementExecutor.getMode().name().toLowerCase(Locale.ROOT));
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    AcknowledgementExecutor executor = this.acknowledgementExecutor;
+
+    Gauge.builder("pubsub.ack.executor.queued", executor, AcknowledgementExecutor::getQueueDepth)
+        .description("Number of acknowledgement callbacks waiting to run")
+        .tags(this.tags)
+        .register(registry);
+    FunctionTimer.builder(
+            "pubsub.ack.executor.callback",
+            executor,
+            AcknowledgementExecutor::getCompletedCount,
+            e -> e.getTotalLatency(TimeUnit.NANOSECONDS),
+            TimeUnit.NANOSECONDS)
+        .description("Time from submission to completion of acknowledgement callbacks")
+        .tags(this.tags)
+        .register(registry);
+    FunctionCounter.builder(
+            "pubsub.ack.executor.caller.runs",
+            executor,
+            AcknowledgementExecutor::getCallerRunsCount)
+        .description("Number of callbacks run on the submitting thread due to saturation")
+        .tags(this.tags)
+        .register(registry);
+  }
+}
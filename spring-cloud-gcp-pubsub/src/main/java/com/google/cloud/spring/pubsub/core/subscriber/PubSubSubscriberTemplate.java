@@ -38,6 +38,7 @@ import com.google.pubsub.v1.PubsubMessage;
 import com.google.pubsub.v1.PullRequest;
 import com.google.pubsub.v1.PullResponse;
 import com.google.pubsub.v1.ReceivedMessage;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -45,13 +46,14 @@ import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
 
 /**
@@ -61,13 +63,20 @@ import org.springframework.util.Assert;
  * asynchronously or by pulling.
  *
  * <p>A custom {@link Executor} can be injected to control per-subscription batch parallelization in
- * acknowledgement and deadline operations. By default, this is a single thread executor, created
- * per instance of the {@link PubSubSubscriberTemplate}.
+ * acknowledgement and deadline operations. By default, this is an {@link AcknowledgementExecutor}
+ * in {@link AckExecutionMode#STRIPED} mode with bounded queues, created per instance of the {@link
+ * PubSubSubscriberTemplate}. An {@link AcknowledgementExecutor} runs the callbacks of each
+ * subscription on its own lane.
  *
  * <p>A custom {@link Executor} can be injected to control the threads that process the responses of
  * the asynchronous pull callback operations. By default, this is executed on the same thread that
  * executes the callback.
  *
+ * <p>Acknowledgement batching can be enabled through {@link #enableAcknowledgementBatching(int,
+ * Duration)}, in which case {@code ack()}, {@code nack()} and {@code modifyAckDeadline()} calls on
+ * individual pulled messages are coalesced by an {@link AcknowledgementBatcher} instead of being
+ * sent as one request per message.
+ *
  * @since 1.1
  */
 public class PubSubSubscriberTemplate implements PubSubSubscriberOperations, DisposableBean {
@@ -76,12 +85,20 @@ public class PubSubSubscriberTemplate implements PubSubSubscriberOperations, Dis
 
   private PubSubMessageConverter pubSubMessageConverter = new SimplePubSubMessageConverter();
 
-  private final ExecutorService defaultAckExecutor = Executors.newSingleThreadExecutor();
+  private final AcknowledgementExecutor defaultAckExecutor =
+      new AcknowledgementExecutor(
+          AckExecutionMode.STRIPED,
+          AcknowledgementExecutor.DEFAULT_THREADS,
+          AcknowledgementExecutor.DEFAULT_QUEUE_CAPACITY);
 
   private Executor ackExecutor = this.defaultAckExecutor;
 
   private Executor asyncPullExecutor = Runnable::run;
 
+  private ScheduledExecutorService ackBatchingScheduler;
+
+  private AcknowledgementBatcher acknowledgementBatcher;
+
   private final ConcurrentHashMap<String, SubscriberStub> subscriptionNameToStubMap =
       new ConcurrentHashMap<>();
 
@@ -139,6 +156,48 @@ public class PubSubSubscriberTemplate implements PubSubSubscriberOperations, Dis
     this.asyncPullExecutor = asyncPullExecutor;
   }
 
+  /**
+   * Enable coalescing of {@code ack()}, {@code nack()} and {@code modifyAckDeadline()} calls made
+   * on individual pulled messages. Ack IDs are buffered per subscription and sent when either
+   * {@code maxBatchSize} ack IDs are buffered or {@code maxDelay} has elapsed since the first one
+   * was buffered. Batch operations taking a collection of messages are not affected.
+   *
+   * @param maxBatchSize the maximum number of ack IDs per request, up to {@value
+   *     AcknowledgementBatcher#MAX_ACK_IDS_PER_REQUEST}
+   * @param maxDelay the maximum time an ack ID is buffered before its batch is sent
+   */
+  public void enableAcknowledgementBatching(int maxBatchSize, Duration maxDelay) {
+    Assert.state(
+        this.acknowledgementBatcher == null, "Acknowledgement batching is already enabled.");
+    CustomizableThreadFactory threadFactory =
+        new CustomizableThreadFactory("gcp-pubsub-ack-batcher-");
+    threadFactory.setDaemon(true);
+    ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    try {
+      this.acknowledgementBatcher =
+          new AcknowledgementBatcher(
+              (subscriptionName, ackIds, ackDeadlineSeconds) -> ack(subscriptionName, ackIds),
+              this::modifyAckDeadline,
+              maxBatchSize,
+              maxDelay,
+              scheduler,
+              this::getAckExecutor);
+    } catch (IllegalArgumentException ex) {
+      scheduler.shutdown();
+      throw ex;
+    }
+    this.ackBatchingScheduler = scheduler;
+  }
+
+  /**
+   * Get the {@link AcknowledgementBatcher} coalescing acknowledgements of pulled messages.
+   *
+   * @return the batcher, or {@code null} if acknowledgement batching is not enabled
+   */
+  public AcknowledgementBatcher getAcknowledgementBatcher() {
+    return this.acknowledgementBatcher;
+  }
+
   @Override
   public Subscriber subscribe(
       String subscription, Consumer<BasicAcknowledgeablePubsubMessage> messageConsumer) {
@@ -435,10 +494,17 @@ public class PubSubSubscriberTemplate implements PubSubSubscriberOperations, Dis
             modifyAckDeadline(subscriptionName, ackIds, ackDeadlineSeconds));
   }
 
-  /** Destroys the default executor, regardless of whether it was used. */
+  /**
+   * Sends any buffered acknowledgements and destroys the default executor, regardless of whether
+   * it was used.
+   */
   @Override
   public void destroy() {
-    this.defaultAckExecutor.shutdown();
+    if (this.acknowledgementBatcher != null) {
+      this.acknowledgementBatcher.flush();
+      this.ackBatchingScheduler.shutdown();
+    }
+    this.defaultAckExecutor.destroy();
     for (SubscriberStub stub : subscriptionNameToStubMap.values()) {
       stub.close();
     }
@@ -528,12 +594,18 @@ public class PubSubSubscriberTemplate implements PubSubSubscriberOperations, Dis
                   }
                 }
               },
-              this.ackExecutor);
+              getAckExecutor(psName.toString()));
         });
 
     return completableFuture;
   }
 
+  private Executor getAckExecutor(String subscriptionName) {
+    return this.ackExecutor instanceof AcknowledgementExecutor acknowledgementExecutor
+        ? acknowledgementExecutor.forKey(subscriptionName)
+        : this.ackExecutor;
+  }
+
   private SubscriberStub getSubscriberStub(String subscription) {
     if (subscriptionNameToStubMap.containsKey(subscription)) {
       return subscriptionNameToStubMap.get(subscription);
@@ -584,6 +656,10 @@ public class PubSubSubscriberTemplate implements PubSubSubscriberOperations, Dis
 
     @Override
     public CompletableFuture<Void> ack() {
+      AcknowledgementBatcher batcher = PubSubSubscriberTemplate.this.acknowledgementBatcher;
+      if (batcher != null) {
+        return batcher.ack(getProjectSubscriptionName().toString(), this.ackId);
+      }
       return PubSubSubscriberTemplate.this.ack(Collections.singleton(this));
     }
 
@@ -594,6 +670,11 @@ public class PubSubSubscriberTemplate implements PubSubSubscriberOperations, Dis
 
     @Override
     public CompletableFuture<Void> modifyAckDeadline(int ackDeadlineSeconds) {
+      AcknowledgementBatcher batcher = PubSubSubscriberTemplate.this.acknowledgementBatcher;
+      if (batcher != null) {
+        return batcher.modifyAckDeadline(
+            getProjectSubscriptionName().toString(), this.ackId, ackDeadlineSeconds);
+      }
       return PubSubSubscriberTemplate.this.modifyAckDeadline(
           Collections.singleton(this), ackDeadlineSeconds);
     }
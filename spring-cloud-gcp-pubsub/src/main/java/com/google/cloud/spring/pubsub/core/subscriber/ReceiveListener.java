@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.pubsub.core.subscriber;
+
+import com.google.pubsub.v1.ProjectSubscriptionName;
+import com.google.pubsub.v1.PubsubMessage;
+
+/**
+ * Notified of the messages received by the streaming subscribers of a {@link
+ * com.google.cloud.spring.pubsub.support.DefaultSubscriberFactory}. Called on the subscriber
+ * threads and on the threads acking or nacking messages, so implementations must be thread-safe
+ * and must not block.
+ */
+public interface ReceiveListener {
+
+  /**
+   * Called before a received message is handed to the message receiver.
+   *
+   * @param subscription the subscription the message was received from
+   * @param message the received message
+   */
+  void onReceive(ProjectSubscriptionName subscription, PubsubMessage message);
+
+  /**
+   * Called when the message receiver returns or throws.
+   *
+   * @param subscription the subscription the message was received from
+   * @param message the received message
+   * @param durationNanos time spent in the message receiver
+   */
+  void onHandled(ProjectSubscriptionName subscription, PubsubMessage message, long durationNanos);
+
+  /**
+   * Called the first time a received message is acked or nacked.
+   *
+   * @param subscription the subscription the message was received from
+   * @param message the received message
+   * @param ack true if the message was acked, false if it was nacked
+   * @param durationNanos time from receipt to the ack or nack
+   */
+  void onReply(
+      ProjectSubscriptionName subscription,
+      PubsubMessage message,
+      boolean ack,
+      long durationNanos);
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.pubsub.integration;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.util.PatternMatchUtils;
+
+/**
+ * Header name matcher equivalent to {@link
+ * org.springframework.integration.support.utils.PatternMatchUtils#smartMatch(String, String...)}
+ * over a fixed list of patterns, where the first matching pattern decides whether a header is
+ * mapped.
+ *
+ * <p>Patterns are compiled once: names without wildcards are looked up in a map, and the common
+ * {@code prefix*}, {@code *suffix} and {@code *} forms are matched without regular expression or
+ * generic wildcard evaluation. Decisions are cached per header name, up to a fixed number of names.
+ */
+final class HeaderPatternMatcher {
+
+  private static final int MAX_CACHED_DECISIONS = 1024;
+
+  /** Index and decision of the first pattern without wildcards for each exact header name. */
+  private final Map<String, CompiledPattern> exactPatterns = new HashMap<>();
+
+  /** Patterns with wildcards, in declaration order. */
+  private final List<CompiledPattern> wildcardPatterns = new ArrayList<>();
+
+  private final Map<String, Boolean> decisions = new ConcurrentHashMap<>();
+
+  HeaderPatternMatcher(String[] patterns) {
+    for (int i = 0; i < patterns.length; i++) {
+      CompiledPattern compiled = new CompiledPattern(i, patterns[i]);
+      if (compiled.kind == Kind.EXACT) {
+        this.exactPatterns.putIfAbsent(compiled.text, compiled);
+      } else {
+        this.wildcardPatterns.add(compiled);
+      }
+    }
+  }
+
+  /**
+   * Whether the header of the given name is mapped.
+   *
+   * @param headerName the header name
+   * @return true if the first pattern matching the name is a positive one
+   */
+  boolean matches(String headerName) {
+    Boolean decision = this.decisions.get(headerName);
+    if (decision == null) {
+      decision = decide(headerName);
+      if (this.decisions.size() < MAX_CACHED_DECISIONS) {
+        this.decisions.put(headerName, decision);
+      }
+    }
+    return decision;
+  }
+
+  private boolean decide(String headerName) {
+    CompiledPattern exact = this.exactPatterns.get(headerName);
+    int exactIndex = (exact != null) ? exact.index : Integer.MAX_VALUE;
+    for (CompiledPattern pattern : this.wildcardPatterns) {
+      if (pattern.index > exactIndex) {
+        break;
+      }
+      if (pattern.matches(headerName)) {
+        return !pattern.negated;
+      }
+    }
+    return exact != null && !exact.negated;
+  }
+
+  private enum Kind {
+    EXACT,
+    ANY,
+    PREFIX,
+    SUFFIX,
+    GENERIC
+  }
+
+  private static final class CompiledPattern {
+
+    private final int index;
+
+    private final boolean negated;
+
+    private final String text;
+
+    private final Kind kind;
+
+    CompiledPattern(int index, String pattern) {
+      this.index = index;
+      this.negated = pattern.startsWith("!");
+      String text = (this.negated || pattern.startsWith("\\")) ? pattern.substring(1) : pattern;
+      int firstWildcard = text.indexOf('*');
+      int lastWildcard = text.lastIndexOf('*');
+      if (firstWildcard == -1) {
+        this.kind = Kind.EXACT;
+        this.text = text;
+      } else if (text.equals("*")) {
+        this.kind = Kind.ANY;
+        this.text = text;
+      } else if (firstWildcard == text.length() - 1) {
+        this.kind = Kind.PREFIX;
+        this.text = text.substring(0, firstWildcard);
+      } else if (lastWildcard == 0) {
+        this.kind = Kind.SUFFIX;
+        this.text = text.substring(1);
+      } else {
+        this.kind = Kind.GENERIC;
+        this.text = text;
+      }
+    }
+
+    boolean matches(String headerName) {
+      switch (this.kind) {
+        case ANY:
+          return true;
+        case PREFIX:
+          return headerName.startsWith(this.text);
+        case SUFFIX:
+          return headerName.endsWith(this.text);
+        case GENERIC:
+          return PatternMatchUtils.simpleMatch(this.text, headerName);
+        default:
+          return headerName.equals(this.text);
+      }
+    }
+  }
+}
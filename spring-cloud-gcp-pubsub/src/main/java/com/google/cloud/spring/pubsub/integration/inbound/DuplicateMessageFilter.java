@@ -0,0 +1,389 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.pubsub.integration.inbound;
+
+import com.google.cloud.spring.pubsub.support.BasicAcknowledgeablePubsubMessage;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.integration.metadata.ConcurrentMetadataStore;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Detects redeliveries of Pub/Sub messages, so that an idempotent consumer can acknowledge them
+ * without processing them again.
+ *
+ * <p>Messages are identified by their message ID, or by the value of a configurable {@link
+ * #setKeyAttribute(String) key attribute}, within the subscription they were received from. The key
+ * of a received message is tracked as {@link Status#IN_PROGRESS in progress} until the message is
+ * {@link #complete(BasicAcknowledgeablePubsubMessage) completed} after a successful ack, which
+ * marks it as {@link Status#PROCESSED processed} for the {@link #getWindow() window}, or {@link
+ * #release(BasicAcknowledgeablePubsubMessage) released} because it was nacked, its ack failed or
+ * it could not be processed. Only redeliveries of processed messages are duplicates that can be
+ * acked; redeliveries of messages still in progress must not be acked, since the original delivery
+ * may yet fail. A key that is neither completed nor released, for example because its message is
+ * acked manually or the instance processing it stopped, stays in progress for the {@link
+ * #getInProgressLease() in-progress lease}, after which its message is processed again.
+ *
+ * <p>Keys are tracked in memory, keeping at most {@link #getMaxEntries() maxEntries} keys; beyond
+ * that, the least recently tracked keys are forgotten early, so that a late redelivery of their
+ * message is processed again rather than lost.
+ *
+ * <p>To detect duplicates across application instances, a shared {@link ConcurrentMetadataStore}
+ * can be {@link #setMetadataStore(ConcurrentMetadataStore) set}; keys not found in memory are then
+ * claimed in the store, with their status and expiry time as the value. The store is responsible
+ * for removing expired entries, if it supports it.
+ */
+public class DuplicateMessageFilter {
+
+  /** The default time during which a redelivered message is detected as a duplicate. */
+  public static final Duration DEFAULT_WINDOW = Duration.ofMinutes(10);
+
+  /** The default time after which a message still in progress is processed again. */
+  public static final Duration DEFAULT_IN_PROGRESS_LEASE = Duration.ofMinutes(1);
+
+  /** The default maximum number of keys kept in memory. */
+  public static final int DEFAULT_MAX_ENTRIES = 100_000;
+
+  /** The tracked keys in the order they were last tracked, guarded by itself. */
+  private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+  private final LongAdder uniqueCount = new LongAdder();
+
+  private final LongAdder duplicateCount = new LongAdder();
+
+  private final LongAdder inProgressCount = new LongAdder();
+
+  private final LongAdder storeDuplicateCount = new LongAdder();
+
+  private final LongAdder earlyEvictionCount = new LongAdder();
+
+  private final LongAdder releaseCount = new LongAdder();
+
+  private Duration window = DEFAULT_WINDOW;
+
+  private Duration inProgressLease = DEFAULT_IN_PROGRESS_LEASE;
+
+  private int maxEntries = DEFAULT_MAX_ENTRIES;
+
+  private String keyAttribute;
+
+  private ConcurrentMetadataStore metadataStore;
+
+  private Clock clock = Clock.systemUTC();
+
+  public Duration getWindow() {
+    return this.window;
+  }
+
+  /**
+   * Set the time after a message was processed during which its redeliveries are detected. It
+   * should cover the time messages can take to be redelivered, such as the ack deadline and retry
+   * backoff of the subscription.
+   *
+   * @param window the deduplication window
+   */
+  public void setWindow(Duration window) {
+    Assert.notNull(window, "The window can't be null.");
+    Assert.isTrue(!window.isNegative() && !window.isZero(), "The window must be positive.");
+    this.window = window;
+  }
+
+  public Duration getInProgressLease() {
+    return this.inProgressLease;
+  }
+
+  /**
+   * Set the time after which a message that is still in progress is processed again, because its
+   * delivery was neither completed nor released. Until then, its redeliveries are nacked. It should
+   * cover the time it takes to process a message, such as the ack deadline of the subscription.
+   *
+   * @param inProgressLease the time a delivery in progress holds its key
+   */
+  public void setInProgressLease(Duration inProgressLease) {
+    Assert.notNull(inProgressLease, "The in-progress lease can't be null.");
+    Assert.isTrue(
+        !inProgressLease.isNegative() && !inProgressLease.isZero(),
+        "The in-progress lease must be positive.");
+    this.inProgressLease = inProgressLease;
+  }
+
+  public int getMaxEntries() {
+    return this.maxEntries;
+  }
+
+  /**
+   * Set the maximum number of keys kept in memory.
+   *
+   * @param maxEntries the maximum number of keys
+   */
+  public void setMaxEntries(int maxEntries) {
+    Assert.isTrue(maxEntries > 0, "The maxEntries must be positive.");
+    this.maxEntries = maxEntries;
+  }
+
+  public String getKeyAttribute() {
+    return this.keyAttribute;
+  }
+
+  /**
+   * Set the message attribute identifying messages, for publishers that may publish the same
+   * message more than once. Messages without the attribute are identified by their message ID.
+   *
+   * @param keyAttribute the attribute holding the key, or null to use the message ID
+   */
+  public void setKeyAttribute(String keyAttribute) {
+    this.keyAttribute = keyAttribute;
+  }
+
+  public ConcurrentMetadataStore getMetadataStore() {
+    return this.metadataStore;
+  }
+
+  /**
+   * Set the store shared by application instances to detect duplicates with.
+   *
+   * @param metadataStore the shared store, or null to only detect duplicates in memory
+   */
+  public void setMetadataStore(ConcurrentMetadataStore metadataStore) {
+    this.metadataStore = metadataStore;
+  }
+
+  void setClock(Clock clock) {
+    this.clock = clock;
+  }
+
+  /**
+   * Start tracking a received message as in progress, unless a delivery of it is already in
+   * progress or was processed during the window.
+   *
+   * @param message the received message
+   * @return {@link Status#NEW} if the message is to be processed, or the status of its earlier
+   *     delivery otherwise
+   */
+  public Status begin(BasicAcknowledgeablePubsubMessage message) {
+    String key = key(message);
+    long now = this.clock.millis();
+    Entry entry = new Entry(key, Status.IN_PROGRESS, now + this.inProgressLease.toMillis());
+
+    Status seenStatus = null;
+    synchronized (this.entries) {
+      Entry seen = this.entries.get(key);
+      if (seen != null && seen.expiry > now) {
+        seenStatus = seen.status;
+      } else {
+        track(entry, now);
+      }
+    }
+    if (seenStatus != null) {
+      return seen(seenStatus);
+    }
+
+    if (this.metadataStore != null) {
+      Status claimed = claim(key, now, entry.expiry);
+      if (claimed != Status.NEW) {
+        synchronized (this.entries) {
+          if (claimed == Status.PROCESSED) {
+            track(new Entry(key, Status.PROCESSED, now + this.window.toMillis()), now);
+          } else if (this.entries.get(key) == entry) {
+            // Check the store again on the next redelivery.
+            this.entries.remove(key);
+          }
+        }
+        this.storeDuplicateCount.increment();
+        return seen(claimed);
+      }
+    }
+    this.uniqueCount.increment();
+    return Status.NEW;
+  }
+
+  /**
+   * Mark a message as processed, so that its redeliveries during the window are detected as
+   * duplicates. Called when the message was acked successfully.
+   *
+   * @param message the processed message
+   */
+  public void complete(BasicAcknowledgeablePubsubMessage message) {
+    String key = key(message);
+    long now = this.clock.millis();
+    long expiry = now + this.window.toMillis();
+    synchronized (this.entries) {
+      track(new Entry(key, Status.PROCESSED, expiry), now);
+    }
+    if (this.metadataStore != null) {
+      this.metadataStore.put(key, storeValue(Status.PROCESSED, expiry));
+    }
+  }
+
+  /**
+   * Forget a message, so that its redelivery is processed. Called when the message is nacked, its
+   * ack fails, or its processing ends without acking it.
+   *
+   * @param message the message to forget
+   */
+  public void release(BasicAcknowledgeablePubsubMessage message) {
+    String key = key(message);
+    synchronized (this.entries) {
+      this.entries.remove(key);
+    }
+    if (this.metadataStore != null) {
+      this.metadataStore.remove(key);
+    }
+    this.releaseCount.increment();
+  }
+
+  public int getSize() {
+    synchronized (this.entries) {
+      return this.entries.size();
+    }
+  }
+
+  public long getUniqueCount() {
+    return this.uniqueCount.sum();
+  }
+
+  public long getDuplicateCount() {
+    return this.duplicateCount.sum();
+  }
+
+  /**
+   * Get the number of redeliveries received while an earlier delivery of their message was still
+   * in progress.
+   *
+   * @return the number of redeliveries of messages in progress
+   */
+  public long getInProgressCount() {
+    return this.inProgressCount.sum();
+  }
+
+  /**
+   * Get the number of duplicates that were not found in memory, but in the shared store.
+   *
+   * @return the number of duplicates detected by the shared store
+   */
+  public long getStoreDuplicateCount() {
+    return this.storeDuplicateCount.sum();
+  }
+
+  /**
+   * Get the number of keys forgotten before the end of their window to stay within the maximum
+   * number of entries. A redelivery of their message is not detected in memory.
+   *
+   * @return the number of keys evicted early
+   */
+  public long getEarlyEvictionCount() {
+    return this.earlyEvictionCount.sum();
+  }
+
+  public long getReleaseCount() {
+    return this.releaseCount.sum();
+  }
+
+  private String key(BasicAcknowledgeablePubsubMessage message) {
+    String key =
+        this.keyAttribute != null
+            ? message.getPubsubMessage().getAttributesOrDefault(this.keyAttribute, null)
+            : null;
+    if (!StringUtils.hasLength(key)) {
+      key = message.getPubsubMessage().getMessageId();
+    }
+    // The same message is delivered once to each subscription of its topic.
+    return message.getProjectSubscriptionName() + "/" + key;
+  }
+
+  private Status seen(Status status) {
+    if (status == Status.PROCESSED) {
+      this.duplicateCount.increment();
+    } else {
+      this.inProgressCount.increment();
+    }
+    return status;
+  }
+
+  /** Track an entry as the most recent one, replacing any earlier entry of its key. */
+  private void track(Entry entry, long now) {
+    this.entries.remove(entry.key);
+    this.entries.put(entry.key, entry);
+    evict(now);
+  }
+
+  private Status claim(String key, long now, long expiry) {
+    String newValue = storeValue(Status.IN_PROGRESS, expiry);
+    String existing = this.metadataStore.putIfAbsent(key, newValue);
+    if (existing == null) {
+      return Status.NEW;
+    }
+    int separator = existing.indexOf(':');
+    long existingExpiry = Long.parseLong(existing.substring(separator + 1));
+    if (existingExpiry > now) {
+      return Status.valueOf(existing.substring(0, separator));
+    }
+    return this.metadataStore.replace(key, existing, newValue) ? Status.NEW : Status.IN_PROGRESS;
+  }
+
+  private static String storeValue(Status status, long expiry) {
+    return status.name() + ":" + expiry;
+  }
+
+  private void evict(long now) {
+    // Entries are kept in the order they were tracked, so most expired entries are at the head.
+    // An in-progress entry that expired behind a later one is ignored until it reaches the head.
+    Iterator<Entry> iterator = this.entries.values().iterator();
+    while (iterator.hasNext()) {
+      Entry oldest = iterator.next();
+      if (oldest.expiry > now && this.entries.size() <= this.maxEntries) {
+        return;
+      }
+      iterator.remove();
+      if (oldest.expiry > now) {
+        this.earlyEvictionCount.increment();
+      }
+    }
+  }
+
+  /** The status of the earlier deliveries of a message. */
+  public enum Status {
+    /** No delivery of the message is in progress or was processed during the window. */
+    NEW,
+
+    /** An earlier delivery of the message is still being processed. */
+    IN_PROGRESS,
+
+    /** An earlier delivery of the message was processed and acked during the window. */
+    PROCESSED
+  }
+
+  private static final class Entry {
+
+    private final String key;
+
+    private final Status status;
+
+    private final long expiry;
+
+    Entry(String key, Status status, long expiry) {
+      this.key = key;
+      this.status = status;
+      this.expiry = expiry;
+    }
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.pubsub.integration.inbound;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Collections;
+import org.springframework.util.Assert;
+
+/**
+ * Binds the statistics of a {@link DuplicateMessageFilter} to a Micrometer {@link MeterRegistry}.
+ * The ratio of duplicate to unique messages gives the duplicate hit rate; in-progress results count
+ * the redeliveries nacked because their message was still being processed; early evictions count
+ * the keys forgotten before the end of their window, whose redeliveries are missed.
+ */
+public class DuplicateMessageFilterMetrics implements MeterBinder {
+
+  private final DuplicateMessageFilter filter;
+
+  private final Iterable<Tag> tags;
+
+  public DuplicateMessageFilterMetrics(DuplicateMessageFilter filter) {
+    this(filter, Collections.emptyList());
+  }
+
+  public DuplicateMessageFilterMetrics(DuplicateMessageFilter filter, Iterable<Tag> tags) {
+    Assert.notNull(filter, "The filter can't be null.");
+    this.filter = filter;
+    this.tags = Tags.of(tags);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder(
+            "pubsub.subscriber.dedup.messages",
+            this.filter,
+            DuplicateMessageFilter::getUniqueCount)
+        .description("Number of messages checked for duplicates")
+        .tags(this.tags)
+        .tag("result", "unique")
+        .register(registry);
+    FunctionCounter.builder(
+            "pubsub.subscriber.dedup.messages",
+            this.filter,
+            DuplicateMessageFilter::getDuplicateCount)
+        .description("Number of messages checked for duplicates")
+        .tags(this.tags)
+        .tag("result", "duplicate")
+        .register(registry);
+    FunctionCounter.builder(
+            "pubsub.subscriber.dedup.messages",
+            this.filter,
+            DuplicateMessageFilter::getInProgressCount)
+        .description("Number of messages checked for duplicates")
+        .tags(this.tags)
+        .tag("result", "in_progress")
+        .register(registry);
+    FunctionCounter.builder(
+            "pubsub.subscriber.dedup.store.duplicates",
+            this.filter,
+            DuplicateMessageFilter::getStoreDuplicateCount)
+        .description("Number of duplicates found in the shared store but not in memory")
+        .tags(this.tags)
+        .register(registry);
+    FunctionCounter.builder(
+            "pubsub.subscriber.dedup.early.evictions",
+            this.filter,
+            DuplicateMessageFilter::getEarlyEvictionCount)
+        .description("Number of keys forgotten before the end of the deduplication window")
+        .tags(this.tags)
+        .register(registry);
+    FunctionCounter.builder(
+            "pubsub.subscriber.dedup.releases",
+            this.filter,
+            DuplicateMessageFilter::getReleaseCount)
+        .description("Number of keys released because their message was not acked")
+        .tags(this.tags)
+        .register(registry);
+    Gauge.builder("pubsub.subscriber.dedup.keys", this.filter, DuplicateMessageFilter::getSize)
+        .description("Number of keys kept in memory")
+        .tags(this.tags)
+        .register(registry);
+  }
+}
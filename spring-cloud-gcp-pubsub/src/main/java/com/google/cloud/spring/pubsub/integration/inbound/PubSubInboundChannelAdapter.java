@@ -16,25 +16,74 @@
 
 package com.google.cloud.spring.pubsub.integration.inbound;
 
+import com.google.api.gax.core.ExecutorProvider;
 import com.google.cloud.pubsub.v1.Subscriber;
+import com.google.cloud.spring.pubsub.core.PubSubTemplate;
 import com.google.cloud.spring.pubsub.core.health.HealthTrackerRegistry;
 import com.google.cloud.spring.pubsub.core.subscriber.PubSubSubscriberOperations;
+import com.google.cloud.spring.pubsub.core.subscriber.PubSubSubscriberTemplate;
 import com.google.cloud.spring.pubsub.integration.AckMode;
 import com.google.cloud.spring.pubsub.integration.PubSubHeaderMapper;
+import com.google.cloud.spring.pubsub.support.DefaultSubscriberFactory;
 import com.google.cloud.spring.pubsub.support.GcpPubSubHeaders;
+import com.google.cloud.spring.pubsub.support.SubscriberFactory;
 import com.google.cloud.spring.pubsub.support.converter.ConvertedBasicAcknowledgeablePubsubMessage;
 import com.google.pubsub.v1.ProjectSubscriptionName;
+import com.google.pubsub.v1.PubsubMessage;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.integration.endpoint.MessageProducerSupport;
 import org.springframework.integration.mapping.HeaderMapper;
 import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
 /**
  * Converts from GCP Pub/Sub message to Spring message and sends the Spring message to the attached
  * channels.
+ *
+ * <p>When a {@link #setMaxBatchSize(int) maximum batch size} is set, received messages are instead
+ * aggregated into batches of up to that many messages, or of the messages received within the
+ * {@link #setMaxBatchWait(Duration) maximum batch wait}. Each batch is sent as a single Spring
+ * message whose payload is the {@link List} of converted payloads and whose {@link
+ * GcpPubSubHeaders#ORIGINAL_MESSAGES} header holds the original messages in the same order. The
+ * acknowledgement mode then applies to the batch as a whole.
+ *
+ * <p>When a number of {@link #setDispatchLanes(int) dispatch lanes} is set, individual messages are
+ * sent downstream on a dedicated executor instead of the subscriber thread that received them.
+ * Messages with an ordering key, or with the configured {@link #setDispatchKeyHeader(String)
+ * dispatch key header}, are hashed by key onto one of the lanes, each of which processes its
+ * messages one at a time and in the order they were received; messages without a key are processed
+ * fully in parallel. Messages are handed over without blocking the subscriber thread, so
+ * back-pressure comes from the subscriber flow control, whose outstanding message limit should not
+ * exceed the {@link #setMaxInFlightPerLane(int) maxInFlightPerLane} messages a lane holds; a
+ * message received for a full lane is nacked to be redelivered. Dispatch lanes do not apply to
+ * batches.
+ *
+ * <p>When a {@link #setDuplicateMessageFilter(DuplicateMessageFilter) duplicate message filter} is
+ * set, redeliveries of messages that were already processed and acked are acked without being sent
+ * downstream, and redeliveries of messages still being processed are nacked. A message that is
+ * nacked, whose ack fails, or that fails in {@link AckMode#AUTO_ACK} mode is released from the
+ * filter, so that its redelivery is processed.
  */
 public class PubSubInboundChannelAdapter extends MessageProducerSupport {
 
@@ -54,6 +103,32 @@ public class PubSubInboundChannelAdapter extends MessageProducerSupport {
 
   private HealthTrackerRegistry healthTrackerRegistry;
 
+  private int maxBatchSize;
+
+  private Duration maxBatchWait = Duration.ofSeconds(1);
+
+  private final Object batchMonitor = new Object();
+
+  private List<ConvertedBasicAcknowledgeablePubsubMessage<?>> batch = new ArrayList<>();
+
+  private ScheduledFuture<?> batchWaitFuture;
+
+  private Executor expiredBatchExecutor;
+
+  private ExecutorService ownedExpiredBatchExecutor;
+
+  private int dispatchLanes;
+
+  private String dispatchKeyHeader;
+
+  private int maxInFlightPerLane = 100;
+
+  private boolean virtualThreadDispatch;
+
+  private volatile Dispatcher dispatcher;
+
+  private DuplicateMessageFilter duplicateMessageFilter;
+
   /**
    * Instantiates a streaming Pub/Sub subscription adapter.
    *
@@ -101,6 +176,114 @@ public class PubSubInboundChannelAdapter extends MessageProducerSupport {
     this.payloadType = payloadType;
   }
 
+  public int getMaxBatchSize() {
+    return this.maxBatchSize;
+  }
+
+  /**
+   * Set the maximum number of messages sent downstream as a single batch. Batching is disabled by
+   * default. When enabled, the subscriber flow control should allow at least this many outstanding
+   * messages, or batches are only ever completed by the {@link #setMaxBatchWait(Duration) maximum
+   * batch wait}.
+   *
+   * @param maxBatchSize the maximum number of messages per batch, or 0 to send each message
+   *     individually
+   */
+  public void setMaxBatchSize(int maxBatchSize) {
+    Assert.isTrue(maxBatchSize >= 0, "The maximum batch size can't be negative.");
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  public Duration getMaxBatchWait() {
+    return this.maxBatchWait;
+  }
+
+  /**
+   * Set the maximum time to wait, after the first message of a batch is received, before sending an
+   * incomplete batch downstream. Only applies when a maximum batch size is set.
+   *
+   * @param maxBatchWait the maximum time a message waits for its batch to complete
+   */
+  public void setMaxBatchWait(Duration maxBatchWait) {
+    Assert.notNull(maxBatchWait, "The maximum batch wait can't be null.");
+    Assert.isTrue(!maxBatchWait.isNegative(), "The maximum batch wait can't be negative.");
+    this.maxBatchWait = maxBatchWait;
+  }
+
+  public int getDispatchLanes() {
+    return this.dispatchLanes;
+  }
+
+  /**
+   * Set the number of serial lanes that keyed messages are dispatched onto. Dispatching on lanes is
+   * disabled by default, in which case messages are sent downstream on the subscriber thread.
+   *
+   * @param dispatchLanes the number of dispatch lanes, or 0 to send messages on the subscriber
+   *     thread
+   */
+  public void setDispatchLanes(int dispatchLanes) {
+    Assert.isTrue(dispatchLanes >= 0, "The number of dispatch lanes can't be negative.");
+    this.dispatchLanes = dispatchLanes;
+  }
+
+  public String getDispatchKeyHeader() {
+    return this.dispatchKeyHeader;
+  }
+
+  /**
+   * Set the Pub/Sub message attribute whose value selects the dispatch lane of a message. By
+   * default, the message ordering key is used.
+   *
+   * @param dispatchKeyHeader the attribute holding the dispatch key, or null to use the ordering key
+   */
+  public void setDispatchKeyHeader(String dispatchKeyHeader) {
+    this.dispatchKeyHeader = dispatchKeyHeader;
+  }
+
+  public int getMaxInFlightPerLane() {
+    return this.maxInFlightPerLane;
+  }
+
+  /**
+   * Set the maximum number of messages waiting or being processed on each dispatch lane. Messages
+   * without a dispatch key may use the capacity of all lanes combined. Messages beyond it are
+   * nacked.
+   *
+   * @param maxInFlightPerLane the maximum number of in-flight messages per lane
+   */
+  public void setMaxInFlightPerLane(int maxInFlightPerLane) {
+    Assert.isTrue(maxInFlightPerLane > 0, "The maximum in-flight messages per lane must be positive.");
+    this.maxInFlightPerLane = maxInFlightPerLane;
+  }
+
+  public boolean isVirtualThreadDispatch() {
+    return this.virtualThreadDispatch;
+  }
+
+  /**
+   * Set whether messages dispatched on lanes are processed on virtual threads, one per task,
+   * rather than on a pool of one platform thread per lane. Requires Java 21 or later.
+   *
+   * @param virtualThreadDispatch whether to dispatch on virtual threads
+   */
+  public void setVirtualThreadDispatch(boolean virtualThreadDispatch) {
+    this.virtualThreadDispatch = virtualThreadDispatch;
+  }
+
+  public DuplicateMessageFilter getDuplicateMessageFilter() {
+    return this.duplicateMessageFilter;
+  }
+
+  /**
+   * Set the filter detecting redelivered messages, which are then acked without being processed.
+   * Deduplication is disabled by default.
+   *
+   * @param duplicateMessageFilter the filter, or null to process all messages
+   */
+  public void setDuplicateMessageFilter(DuplicateMessageFilter duplicateMessageFilter) {
+    this.duplicateMessageFilter = duplicateMessageFilter;
+  }
+
   /**
    * Set the header mapper to map headers from incoming {@link com.google.pubsub.v1.PubsubMessage}
    * into {@link org.springframework.messaging.Message}.
@@ -118,9 +301,16 @@ public class PubSubInboundChannelAdapter extends MessageProducerSupport {
 
     addToHealthRegistry();
 
+    if (this.dispatchLanes > 0 && this.maxBatchSize == 0) {
+      this.dispatcher = new Dispatcher();
+    }
+    if (this.maxBatchSize > 0) {
+      this.expiredBatchExecutor = resolveExpiredBatchExecutor();
+    }
+
     this.subscriber =
         this.pubSubSubscriberOperations.subscribeAndConvert(
-            this.subscriptionName, this::consumeMessage, this.payloadType);
+            this.subscriptionName, this::receiveMessage, this.payloadType);
 
     addListeners();
   }
@@ -131,9 +321,63 @@ public class PubSubInboundChannelAdapter extends MessageProducerSupport {
       this.subscriber.stopAsync();
     }
 
+    // Messages of an incomplete batch are redelivered rather than waiting for their deadline.
+    List<ConvertedBasicAcknowledgeablePubsubMessage<?>> pending;
+    synchronized (this.batchMonitor) {
+      pending = takeBatch();
+    }
+    pending.forEach(ConvertedBasicAcknowledgeablePubsubMessage::nack);
+    if (this.ownedExpiredBatchExecutor != null) {
+      this.ownedExpiredBatchExecutor.shutdown();
+      this.ownedExpiredBatchExecutor = null;
+    }
+
+    Dispatcher stoppedDispatcher = this.dispatcher;
+    if (stoppedDispatcher != null) {
+      this.dispatcher = null;
+      stoppedDispatcher.shutdown();
+    }
+
     super.doStop();
   }
 
+  private void receiveMessage(ConvertedBasicAcknowledgeablePubsubMessage<?> received) {
+    ConvertedBasicAcknowledgeablePubsubMessage<?> message = received;
+    DuplicateMessageFilter filter = this.duplicateMessageFilter;
+    if (filter != null) {
+      DuplicateMessageFilter.Status status = filter.begin(received);
+      if (status == DuplicateMessageFilter.Status.PROCESSED) {
+        if (LOGGER.isDebugEnabled()) {
+          LOGGER.debug(
+              "Acking duplicate message " + received.getPubsubMessage().getMessageId() + ".");
+        }
+        received.ack();
+        return;
+      }
+      if (status == DuplicateMessageFilter.Status.IN_PROGRESS) {
+        // The original delivery may still fail, so the redelivery must not be acked.
+        if (LOGGER.isDebugEnabled()) {
+          LOGGER.debug(
+              "Nacking redelivery of message "
+                  + received.getPubsubMessage().getMessageId()
+                  + " still being processed.");
+        }
+        received.nack();
+        return;
+      }
+      message = new DeduplicatedMessage<>(received, filter);
+    }
+
+    Dispatcher currentDispatcher = this.dispatcher;
+    if (this.maxBatchSize > 0) {
+      addToBatch(message);
+    } else if (currentDispatcher != null) {
+      currentDispatcher.dispatch(message);
+    } else {
+      consumeMessage(message);
+    }
+  }
+
   private void consumeMessage(ConvertedBasicAcknowledgeablePubsubMessage<?> message) {
     Map<String, Object> messageHeaders =
         this.headerMapper.toHeaders(message.getPubsubMessage().getAttributesMap());
@@ -157,19 +401,135 @@ public class PubSubInboundChannelAdapter extends MessageProducerSupport {
     } catch (RuntimeException re) {
       if (this.ackMode == AckMode.AUTO) {
         message.nack();
-        logWarning(message, re, "message nacked automatically.");
+        logWarning(message.getPubsubMessage().getMessageId(), re, "message nacked automatically.");
       } else {
-        logWarning(message, re, "message neither acked nor nacked.");
+        if (this.ackMode == AckMode.AUTO_ACK) {
+          abandon(message);
+        }
+        logWarning(
+            message.getPubsubMessage().getMessageId(), re, "message neither acked nor nacked.");
+      }
+    }
+  }
+
+  private void addToBatch(ConvertedBasicAcknowledgeablePubsubMessage<?> message) {
+    List<ConvertedBasicAcknowledgeablePubsubMessage<?>> completeBatch = null;
+    synchronized (this.batchMonitor) {
+      this.batch.add(message);
+      if (this.batch.size() >= this.maxBatchSize) {
+        completeBatch = takeBatch();
+      } else if (this.batch.size() == 1) {
+        List<ConvertedBasicAcknowledgeablePubsubMessage<?>> startedBatch = this.batch;
+        this.batchWaitFuture =
+            getTaskScheduler()
+                .schedule(
+                    () -> consumeExpiredBatch(startedBatch),
+                    Instant.now().plus(this.maxBatchWait));
+      }
+    }
+    if (completeBatch != null) {
+      consumeBatch(completeBatch);
+    }
+  }
+
+  private void consumeExpiredBatch(List<ConvertedBasicAcknowledgeablePubsubMessage<?>> expired) {
+    synchronized (this.batchMonitor) {
+      if (this.batch != expired) {
+        // Already completed by size.
+        return;
       }
+      takeBatch();
+    }
+    // Processed like the batches completed by size, rather than on the task scheduler.
+    try {
+      this.expiredBatchExecutor.execute(() -> consumeBatch(expired));
+    } catch (RejectedExecutionException ex) {
+      expired.forEach(ConvertedBasicAcknowledgeablePubsubMessage::nack);
     }
   }
 
-  private void logWarning(
-      ConvertedBasicAcknowledgeablePubsubMessage<?> message,
-      RuntimeException re,
-      String actionMessage) {
-    LOGGER.warn(String.format("Sending Spring message [%s] failed; %s",
-        message.getPubsubMessage().getMessageId(), actionMessage));
+  /**
+   * Use the executor of the subscriber for batches completed by the maximum batch wait if it is
+   * shared, and so not created anew for each subscriber, or else a thread of the adapter.
+   */
+  private Executor resolveExpiredBatchExecutor() {
+    SubscriberFactory subscriberFactory = null;
+    if (this.pubSubSubscriberOperations instanceof PubSubTemplate pubSubTemplate) {
+      subscriberFactory = pubSubTemplate.getSubscriberFactory();
+    } else if (this.pubSubSubscriberOperations instanceof PubSubSubscriberTemplate template) {
+      subscriberFactory = template.getSubscriberFactory();
+    }
+    if (subscriberFactory instanceof DefaultSubscriberFactory defaultSubscriberFactory) {
+      ExecutorProvider executorProvider =
+          defaultSubscriberFactory.getExecutorProvider(this.subscriptionName);
+      if (executorProvider != null && !executorProvider.shouldAutoClose()) {
+        return executorProvider.getExecutor();
+      }
+    }
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("gcp-pubsub-batch-");
+    threadFactory.setDaemon(true);
+    this.ownedExpiredBatchExecutor = Executors.newSingleThreadExecutor(threadFactory);
+    return this.ownedExpiredBatchExecutor;
+  }
+
+  /** Must be called while holding the {@code batchMonitor}. */
+  private List<ConvertedBasicAcknowledgeablePubsubMessage<?>> takeBatch() {
+    if (this.batchWaitFuture != null) {
+      this.batchWaitFuture.cancel(false);
+      this.batchWaitFuture = null;
+    }
+    List<ConvertedBasicAcknowledgeablePubsubMessage<?>> taken = this.batch;
+    this.batch = new ArrayList<>();
+    return taken;
+  }
+
+  private void consumeBatch(List<ConvertedBasicAcknowledgeablePubsubMessage<?>> messages) {
+    List<Object> payloads =
+        messages.stream()
+            .map(ConvertedBasicAcknowledgeablePubsubMessage::getPayload)
+            .collect(Collectors.toList());
+
+    try {
+      sendMessage(
+          getMessageBuilderFactory()
+              .withPayload(payloads)
+              .setHeader(GcpPubSubHeaders.ORIGINAL_MESSAGES, messages)
+              .build());
+
+      processedMessage(messages.get(0).getProjectSubscriptionName());
+
+      if (this.ackMode == AckMode.AUTO_ACK || this.ackMode == AckMode.AUTO) {
+        messages.forEach(ConvertedBasicAcknowledgeablePubsubMessage::ack);
+      }
+    } catch (RuntimeException re) {
+      String messageIds =
+          messages.stream()
+              .map(message -> message.getPubsubMessage().getMessageId())
+              .collect(Collectors.joining(", "));
+      if (this.ackMode == AckMode.AUTO) {
+        messages.forEach(ConvertedBasicAcknowledgeablePubsubMessage::nack);
+        logWarning(messageIds, re, "messages nacked automatically.");
+      } else {
+        if (this.ackMode == AckMode.AUTO_ACK) {
+          messages.forEach(PubSubInboundChannelAdapter::abandon);
+        }
+        logWarning(messageIds, re, "messages neither acked nor nacked.");
+      }
+    }
+  }
+
+  /**
+   * Release a message that will be neither acked nor nacked from the duplicate message filter, so
+   * that its redelivery is processed.
+   */
+  private static void abandon(ConvertedBasicAcknowledgeablePubsubMessage<?> message) {
+    if (message instanceof DeduplicatedMessage<?> deduplicatedMessage) {
+      deduplicatedMessage.release();
+    }
+  }
+
+  private void logWarning(String messageIds, RuntimeException re, String actionMessage) {
+    LOGGER.warn(String.format("Sending Spring message [%s] failed; %s", messageIds, actionMessage));
     // Starting from Spring 3.0, nested exception message is NOT included in stacktrace.
     // However, customers may still rely on messages in nested exception to troubleshoot,
     // so we explicitly log failure messages.
@@ -202,4 +562,230 @@ public class PubSubInboundChannelAdapter extends MessageProducerSupport {
   public boolean healthCheckEnabled() {
     return healthTrackerRegistry != null;
   }
+
+  /**
+   * Completes the message in the duplicate message filter when its ack succeeds, and releases it
+   * when its ack fails or it is nacked.
+   */
+  private static final class DeduplicatedMessage<T>
+      implements ConvertedBasicAcknowledgeablePubsubMessage<T> {
+
+    private final ConvertedBasicAcknowledgeablePubsubMessage<T> delegate;
+
+    private final DuplicateMessageFilter filter;
+
+    DeduplicatedMessage(
+        ConvertedBasicAcknowledgeablePubsubMessage<T> delegate, DuplicateMessageFilter filter) {
+      this.delegate = delegate;
+      this.filter = filter;
+    }
+
+    @Override
+    public T getPayload() {
+      return this.delegate.getPayload();
+    }
+
+    @Override
+    public ProjectSubscriptionName getProjectSubscriptionName() {
+      return this.delegate.getProjectSubscriptionName();
+    }
+
+    @Override
+    public PubsubMessage getPubsubMessage() {
+      return this.delegate.getPubsubMessage();
+    }
+
+    @Override
+    public CompletableFuture<Void> ack() {
+      return this.delegate
+          .ack()
+          .whenComplete(
+              (result, ex) -> {
+                if (ex == null) {
+                  this.filter.complete(this.delegate);
+                } else {
+                  this.filter.release(this.delegate);
+                }
+              });
+    }
+
+    @Override
+    public CompletableFuture<Void> nack() {
+      release();
+      return this.delegate.nack();
+    }
+
+    void release() {
+      this.filter.release(this.delegate);
+    }
+  }
+
+  /**
+   * Hands messages over to the dispatch executor, serializing the messages of each lane. A lane
+   * runs at most one drain task at a time, which processes the lane queue until it is empty.
+   */
+  private final class Dispatcher {
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 30_000;
+
+    private final Executor executor;
+
+    private final Lane[] lanes;
+
+    private final Semaphore unkeyedPermits;
+
+    Dispatcher() {
+      int laneCount = PubSubInboundChannelAdapter.this.dispatchLanes;
+      int permits = PubSubInboundChannelAdapter.this.maxInFlightPerLane;
+      this.executor = createExecutor(laneCount);
+      this.lanes = new Lane[laneCount];
+      for (int i = 0; i < laneCount; i++) {
+        this.lanes[i] = new Lane(permits);
+      }
+      this.unkeyedPermits = new Semaphore(laneCount * permits);
+    }
+
+    private Executor createExecutor(int laneCount) {
+      String threadNamePrefix = "gcp-pubsub-dispatch-";
+      if (PubSubInboundChannelAdapter.this.virtualThreadDispatch) {
+        SimpleAsyncTaskExecutor virtualThreadExecutor =
+            new SimpleAsyncTaskExecutor(threadNamePrefix);
+        virtualThreadExecutor.setVirtualThreads(true);
+        virtualThreadExecutor.setTaskTerminationTimeout(SHUTDOWN_TIMEOUT_MILLIS);
+        return virtualThreadExecutor;
+      }
+      CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(threadNamePrefix);
+      threadFactory.setDaemon(true);
+      return Executors.newFixedThreadPool(laneCount, threadFactory);
+    }
+
+    void dispatch(ConvertedBasicAcknowledgeablePubsubMessage<?> message) {
+      String key = dispatchKey(message);
+      if (StringUtils.hasLength(key)) {
+        this.lanes[Math.floorMod(key.hashCode(), this.lanes.length)].add(message);
+      } else {
+        dispatchUnkeyed(message);
+      }
+    }
+
+    private String dispatchKey(ConvertedBasicAcknowledgeablePubsubMessage<?> message) {
+      String keyHeader = PubSubInboundChannelAdapter.this.dispatchKeyHeader;
+      return keyHeader != null
+          ? message.getPubsubMessage().getAttributesOrDefault(keyHeader, null)
+          : message.getPubsubMessage().getOrderingKey();
+    }
+
+    private void dispatchUnkeyed(ConvertedBasicAcknowledgeablePubsubMessage<?> message) {
+      if (!tryAcquire(this.unkeyedPermits, message)) {
+        return;
+      }
+      try {
+        this.executor.execute(
+            () -> {
+              try {
+                consumeMessage(message);
+              } finally {
+                this.unkeyedPermits.release();
+              }
+            });
+      } catch (RejectedExecutionException ex) {
+        this.unkeyedPermits.release();
+        message.nack();
+      }
+    }
+
+    /** Stop accepting messages and wait for the dispatched ones to be processed. */
+    void shutdown() {
+      if (this.executor instanceof SimpleAsyncTaskExecutor virtualThreadExecutor) {
+        virtualThreadExecutor.close();
+        return;
+      }
+      ExecutorService pool = (ExecutorService) this.executor;
+      pool.shutdown();
+      try {
+        if (!pool.awaitTermination(SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+          LOGGER.warn("Dispatched messages did not complete within the shutdown timeout.");
+        }
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    /**
+     * Take in-flight capacity without waiting, so that the subscriber thread is never blocked,
+     * nacking the message if there is none.
+     */
+    private boolean tryAcquire(
+        Semaphore permits, ConvertedBasicAcknowledgeablePubsubMessage<?> message) {
+      if (permits.tryAcquire()) {
+        return true;
+      }
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug(
+            "Dispatch lane full; nacking message " + message.getPubsubMessage().getMessageId());
+      }
+      message.nack();
+      return false;
+    }
+
+    private final class Lane {
+
+      private final Queue<ConvertedBasicAcknowledgeablePubsubMessage<?>> queue =
+          new ConcurrentLinkedQueue<>();
+
+      private final AtomicInteger queued = new AtomicInteger();
+
+      private final Semaphore permits;
+
+      Lane(int permits) {
+        this.permits = new Semaphore(permits);
+      }
+
+      void add(ConvertedBasicAcknowledgeablePubsubMessage<?> message) {
+        if (!tryAcquire(this.permits, message)) {
+          return;
+        }
+        this.queue.add(message);
+        if (this.queued.getAndIncrement() == 0) {
+          scheduleDrain();
+        }
+      }
+
+      private void scheduleDrain() {
+        try {
+          Dispatcher.this.executor.execute(this::drain);
+        } catch (RejectedExecutionException ex) {
+          nackQueued();
+        }
+      }
+
+      private void drain() {
+        boolean more = true;
+        try {
+          do {
+            ConvertedBasicAcknowledgeablePubsubMessage<?> message = this.queue.poll();
+            try {
+              consumeMessage(message);
+            } finally {
+              this.permits.release();
+              more = this.queued.decrementAndGet() > 0;
+            }
+          } while (more);
+        } finally {
+          if (more) {
+            // An error escaped while messages were queued; continue the lane on a new task.
+            scheduleDrain();
+          }
+        }
+      }
+
+      /** Called in place of {@link #drain()} when the executor has been shut down. */
+      private void nackQueued() {
+        do {
+          this.queue.poll().nack();
+          this.permits.release();
+        } while (this.queued.decrementAndGet() > 0);
+      }
+    }
+  }
 }
@@ -22,8 +22,16 @@ import com.google.cloud.spring.pubsub.integration.PubSubHeaderMapper;
 import com.google.cloud.spring.pubsub.support.GcpPubSubHeaders;
 import com.google.cloud.spring.pubsub.support.converter.ConvertedAcknowledgeablePubsubMessage;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.springframework.integration.IntegrationMessageHeaderAccessor;
 import org.springframework.integration.endpoint.AbstractFetchLimitingMessageSource;
 import org.springframework.integration.endpoint.AbstractMessageSource;
@@ -36,10 +44,19 @@ import org.springframework.util.Assert;
  * A <a href="https://cloud.google.com/pubsub/docs/pull#pubsub-pull-messages-sync-java">PubSub
  * Synchronous pull</a> implementation of {@link AbstractMessageSource}.
  *
+ * <p>When {@link #setMaxPrefetchMessages(int) prefetching} is enabled, messages are instead pulled
+ * asynchronously into a bounded buffer: a pull is kept in flight while the buffer is below its
+ * message and byte limits, and each poll only takes the next buffered message, so the polling
+ * thread never waits on a pull request. The ack deadlines of buffered messages can be extended
+ * while the source is polled. Messages left in the buffer when polling stops are redelivered once
+ * their ack deadline expires.
+ *
  * @since 1.2
  */
 public class PubSubMessageSource extends AbstractFetchLimitingMessageSource<Object> {
 
+  private static final Log LOGGER = LogFactory.getLog(PubSubMessageSource.class);
+
   private final String subscriptionName;
 
   private final PubSubSubscriberOperations pubSubSubscriberOperations;
@@ -55,6 +72,23 @@ public class PubSubMessageSource extends AbstractFetchLimitingMessageSource<Obje
   private final ArrayDeque<ConvertedAcknowledgeablePubsubMessage<?>> cachedMessages =
       new ArrayDeque<>();
 
+  private int maxPrefetchMessages;
+
+  private long maxPrefetchBytes;
+
+  private int prefetchAckDeadlineSeconds;
+
+  private final ConcurrentLinkedDeque<ConvertedAcknowledgeablePubsubMessage<?>> prefetchedMessages =
+      new ConcurrentLinkedDeque<>();
+
+  private final AtomicInteger prefetchedCount = new AtomicInteger();
+
+  private final AtomicLong prefetchedBytes = new AtomicLong();
+
+  private final AtomicBoolean pullInFlight = new AtomicBoolean();
+
+  private volatile long lastDeadlineExtensionNanos = System.nanoTime();
+
   /**
    * Instantiates a Pub/Sub inbound message adapter to poll a given subscription for messages.
    *
@@ -93,6 +127,53 @@ public class PubSubMessageSource extends AbstractFetchLimitingMessageSource<Obje
     this.blockOnPull = blockOnPull;
   }
 
+  /**
+   * Enables prefetching and sets the maximum number of messages buffered ahead of polling. Pull
+   * requests are capped by the {@code fetchSize}, when positive, and by the remaining buffer
+   * capacity. In prefetch mode, pulls wait for messages to become available without blocking the
+   * polling thread, so {@link #setBlockOnPull(boolean)} does not apply.
+   *
+   * @param maxPrefetchMessages maximum number of buffered messages, or 0 to pull synchronously on
+   *     each poll that finds no cached message
+   */
+  public void setMaxPrefetchMessages(int maxPrefetchMessages) {
+    Assert.isTrue(maxPrefetchMessages >= 0, "The maxPrefetchMessages can't be negative.");
+    this.maxPrefetchMessages = maxPrefetchMessages;
+  }
+
+  /**
+   * Sets the maximum size of the prefetch buffer, in serialized message bytes. No further pull is
+   * started while the buffer holds at least that many bytes.
+   *
+   * @param maxPrefetchBytes maximum number of buffered bytes, or 0 for no limit
+   */
+  public void setMaxPrefetchBytes(long maxPrefetchBytes) {
+    Assert.isTrue(maxPrefetchBytes >= 0, "The maxPrefetchBytes can't be negative.");
+    this.maxPrefetchBytes = maxPrefetchBytes;
+  }
+
+  /**
+   * Sets the ack deadline applied to prefetched messages when they are buffered, and renewed at
+   * half that interval for all buffered messages while the source is polled.
+   *
+   * @param prefetchAckDeadlineSeconds the ack deadline of buffered messages, or 0 to keep the
+   *     subscription ack deadline
+   */
+  public void setPrefetchAckDeadlineSeconds(int prefetchAckDeadlineSeconds) {
+    Assert.isTrue(
+        prefetchAckDeadlineSeconds >= 0, "The prefetchAckDeadlineSeconds can't be negative.");
+    this.prefetchAckDeadlineSeconds = prefetchAckDeadlineSeconds;
+  }
+
+  /**
+   * Returns the number of messages currently held in the prefetch buffer.
+   *
+   * @return the number of prefetched messages
+   */
+  public int getPrefetchedMessageCount() {
+    return this.prefetchedCount.get();
+  }
+
   /**
    * Provides a single polled message.
    *
@@ -104,6 +185,10 @@ public class PubSubMessageSource extends AbstractFetchLimitingMessageSource<Obje
    */
   @Override
   protected Object doReceive(int fetchSize) {
+    if (this.maxPrefetchMessages > 0) {
+      return receivePrefetched(fetchSize);
+    }
+
     if (this.cachedMessages.isEmpty()) {
       Integer maxMessages = (fetchSize > 0) ? fetchSize : 1;
 
@@ -123,6 +208,81 @@ public class PubSubMessageSource extends AbstractFetchLimitingMessageSource<Obje
     return processMessage(this.cachedMessages.pollFirst());
   }
 
+  private AbstractIntegrationMessageBuilder<?> receivePrefetched(int fetchSize) {
+    ConvertedAcknowledgeablePubsubMessage<?> message = this.prefetchedMessages.pollFirst();
+    if (message != null) {
+      this.prefetchedCount.decrementAndGet();
+      this.prefetchedBytes.addAndGet(-message.getPubsubMessage().getSerializedSize());
+    }
+    extendPrefetchedDeadlinesIfDue();
+    prefetch(fetchSize);
+    return processMessage(message);
+  }
+
+  private void prefetch(int fetchSize) {
+    int capacity = this.maxPrefetchMessages - this.prefetchedCount.get();
+    if (capacity <= 0
+        || (this.maxPrefetchBytes > 0 && this.prefetchedBytes.get() >= this.maxPrefetchBytes)
+        || !this.pullInFlight.compareAndSet(false, true)) {
+      return;
+    }
+    int maxMessages = (fetchSize > 0) ? Math.min(fetchSize, capacity) : capacity;
+
+    this.pubSubSubscriberOperations
+        .pullAndConvertAsync(this.subscriptionName, maxMessages, false, this.payloadType)
+        .whenComplete(
+            (messages, throwable) -> {
+              this.pullInFlight.set(false);
+              if (throwable != null) {
+                LOGGER.warn(
+                    "Prefetching messages from " + this.subscriptionName + " failed.", throwable);
+              } else if (!messages.isEmpty()) {
+                buffer(messages);
+                // Keep the next pull in flight while there is room in the buffer.
+                prefetch(fetchSize);
+              }
+            });
+  }
+
+  private void buffer(List<? extends ConvertedAcknowledgeablePubsubMessage<?>> messages) {
+    if (this.prefetchAckDeadlineSeconds > 0) {
+      extendDeadlines(messages);
+    }
+    long bytes = 0;
+    for (ConvertedAcknowledgeablePubsubMessage<?> message : messages) {
+      bytes += message.getPubsubMessage().getSerializedSize();
+    }
+    this.prefetchedBytes.addAndGet(bytes);
+    this.prefetchedMessages.addAll(messages);
+    this.prefetchedCount.addAndGet(messages.size());
+  }
+
+  private void extendPrefetchedDeadlinesIfDue() {
+    long now = System.nanoTime();
+    long interval = TimeUnit.SECONDS.toNanos(this.prefetchAckDeadlineSeconds) / 2;
+    if (this.prefetchAckDeadlineSeconds > 0
+        && now - this.lastDeadlineExtensionNanos >= interval
+        && !this.prefetchedMessages.isEmpty()) {
+      this.lastDeadlineExtensionNanos = now;
+      extendDeadlines(new ArrayList<>(this.prefetchedMessages));
+    }
+  }
+
+  private void extendDeadlines(List<? extends ConvertedAcknowledgeablePubsubMessage<?>> messages) {
+    this.pubSubSubscriberOperations
+        .modifyAckDeadline(messages, this.prefetchAckDeadlineSeconds)
+        .whenComplete(
+            (result, throwable) -> {
+              if (throwable != null) {
+                LOGGER.warn(
+                    "Extending the ack deadline of prefetched messages from "
+                        + this.subscriptionName
+                        + " failed.",
+                    throwable);
+              }
+            });
+  }
+
   @Override
   public String getComponentType() {
     return "gcp-pubsub:message-source";
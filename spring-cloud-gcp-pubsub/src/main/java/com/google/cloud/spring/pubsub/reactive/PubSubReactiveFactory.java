@@ -16,9 +16,19 @@
 
 package com.google.cloud.spring.pubsub.reactive;
 
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+
+import com.google.api.core.ApiService;
+import com.google.api.gax.batching.FlowControlSettings;
 import com.google.api.gax.rpc.DeadlineExceededException;
+import com.google.cloud.pubsub.v1.Subscriber;
+import com.google.cloud.spring.pubsub.core.PubSubTemplate;
 import com.google.cloud.spring.pubsub.core.subscriber.PubSubSubscriberOperations;
+import com.google.cloud.spring.pubsub.core.subscriber.PubSubSubscriberTemplate;
 import com.google.cloud.spring.pubsub.support.AcknowledgeablePubsubMessage;
+import com.google.cloud.spring.pubsub.support.BasicAcknowledgeablePubsubMessage;
+import com.google.cloud.spring.pubsub.support.DefaultSubscriberFactory;
+import com.google.cloud.spring.pubsub.support.SubscriberFactory;
 import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -26,6 +36,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.util.Assert;
 import reactor.core.Disposable;
+import reactor.core.publisher.BufferOverflowStrategy;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
 import reactor.core.publisher.Mono;
@@ -38,12 +49,21 @@ import reactor.core.scheduler.Scheduler;
  * subscription, when the demand is unlimited. The scheduler is not used when there is a specific
  * demand (a.k.a backpressure).
  *
+ * <p>Alternatively, {@link #streamingPull(String)} produces a stream backed by a StreamingPull
+ * {@link Subscriber}, in which case the scheduler is not used at all.
+ *
  * @since 1.2
  */
 public final class PubSubReactiveFactory {
 
   private static final Log LOGGER = LogFactory.getLog(PubSubReactiveFactory.class);
 
+  /**
+   * Number of messages {@link #streamingPull(String)} buffers when the flow control settings of
+   * the subscription can't be resolved. Matches the Pub/Sub client library default.
+   */
+  public static final int DEFAULT_STREAMING_PULL_BUFFER_SIZE = 1000;
+
   private final PubSubSubscriberOperations subscriberOperations;
 
   private final Scheduler scheduler;
@@ -120,6 +140,85 @@ public final class PubSubReactiveFactory {
                 }));
   }
 
+  /**
+   * Create an infinite stream {@link Flux} of {@link BasicAcknowledgeablePubsubMessage} objects
+   * backed by a Pub/Sub StreamingPull {@link Subscriber}.
+   *
+   * <p>The subscriber is started when the {@link Flux} is subscribed to and stopped when the
+   * subscription is cancelled. Messages received while there is no downstream demand are held in
+   * a buffer sized to the maximum number of outstanding messages of the subscriber flow control
+   * settings ({@code spring.cloud.gcp.pubsub.[subscription.<name>.]subscriber.flow-control.*}), or
+   * to {@value #DEFAULT_STREAMING_PULL_BUFFER_SIZE} messages when they can't be resolved. Since the
+   * subscriber only releases flow control permits when a message is acked or nacked, StreamingPull
+   * stops delivering messages once downstream stops requesting them and the buffer is full. A
+   * message that still arrives while the buffer is full is nacked. The leases of buffered and
+   * in-flight messages are extended by the subscriber until they are acked or nacked, up to the
+   * configured maximum ack extension period.
+   *
+   * <p>Messages that are still buffered or that arrive after the stream has been cancelled are
+   * nacked, so they can be redelivered right away. A subscriber failure is passed as an error to
+   * the stream.
+   *
+   * @param subscriptionName subscription from which to retrieve messages.
+   * @return infinite stream of {@link BasicAcknowledgeablePubsubMessage} objects.
+   */
+  public Flux<BasicAcknowledgeablePubsubMessage> streamingPull(String subscriptionName) {
+    Assert.hasText(subscriptionName, "The subscriptionName can't be null or empty.");
+
+    // Messages dropped on overflow are passed to the discard hook, which nacks them.
+    return Flux.defer(
+        () ->
+            subscribe(subscriptionName)
+                .onBackpressureBuffer(
+                    resolveStreamingPullBufferSize(subscriptionName),
+                    dropped -> {},
+                    BufferOverflowStrategy.DROP_LATEST)
+                .doOnDiscard(
+                    BasicAcknowledgeablePubsubMessage.class,
+                    BasicAcknowledgeablePubsubMessage::nack));
+  }
+
+  private Flux<BasicAcknowledgeablePubsubMessage> subscribe(String subscriptionName) {
+    // The bounded buffer downstream always requests an unbounded amount, so an overflow here
+    // would signal a bug rather than a slow consumer.
+    return Flux.create(
+        sink -> {
+          Subscriber subscriber = this.subscriberOperations.subscribe(subscriptionName, sink::next);
+          subscriber.addListener(
+              new ApiService.Listener() {
+                @Override
+                public void failed(ApiService.State from, Throwable failure) {
+                  sink.error(failure);
+                }
+              },
+              directExecutor());
+          if (subscriber.state() == ApiService.State.FAILED) {
+            sink.error(subscriber.failureCause());
+          }
+          sink.onDispose(subscriber::stopAsync);
+        },
+        FluxSink.OverflowStrategy.ERROR);
+  }
+
+  private int resolveStreamingPullBufferSize(String subscriptionName) {
+    SubscriberFactory subscriberFactory = null;
+    if (this.subscriberOperations instanceof PubSubTemplate pubSubTemplate) {
+      subscriberFactory = pubSubTemplate.getSubscriberFactory();
+    } else if (this.subscriberOperations instanceof PubSubSubscriberTemplate template) {
+      subscriberFactory = template.getSubscriberFactory();
+    }
+    if (subscriberFactory instanceof DefaultSubscriberFactory defaultSubscriberFactory) {
+      FlowControlSettings flowControlSettings =
+          defaultSubscriberFactory.getFlowControlSettings(subscriptionName);
+      Long maxOutstanding =
+          flowControlSettings != null ? flowControlSettings.getMaxOutstandingElementCount() : null;
+      if (maxOutstanding != null && maxOutstanding > 0) {
+        return (int) Math.min(maxOutstanding, Integer.MAX_VALUE);
+      }
+    }
+    return DEFAULT_STREAMING_PULL_BUFFER_SIZE;
+  }
+
   private void pollingPull(
       String subscriptionName, long pollingPeriodMs, FluxSink<AcknowledgeablePubsubMessage> sink) {
     Disposable disposable =
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.pubsub.reactive;
+
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.cloud.pubsub.v1.Publisher;
+import com.google.cloud.spring.pubsub.core.PubSubDeliveryException;
+import com.google.cloud.spring.pubsub.support.PublisherFactory;
+import com.google.cloud.spring.pubsub.support.converter.PubSubMessageConverter;
+import com.google.cloud.spring.pubsub.support.converter.SimplePubSubMessageConverter;
+import com.google.pubsub.v1.PubsubMessage;
+import java.util.function.Function;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Publishes reactive streams of elements to Pub/Sub topics.
+ *
+ * <p>Each element of the source stream is converted to a {@link PubsubMessage} and handed to the
+ * {@link Publisher} obtained from the {@link PublisherFactory}, so publisher batching, flow
+ * control, retry and caching settings apply as they do for {@link
+ * com.google.cloud.spring.pubsub.core.publisher.PubSubPublisherTemplate}. The returned stream emits
+ * one {@link PublishResult} per element as soon as the corresponding publish completes.
+ *
+ * <p>At most {@link #getMaxInFlight() maxInFlight} publishes are outstanding at any time; elements
+ * are only requested from the source as publishes complete. Messages are handed to the publisher
+ * one at a time, on a worker of the {@link Scheduler} given to the constructor, in the order they
+ * are emitted by the source. When message ordering is enabled on the publisher, messages sharing
+ * an ordering key are therefore published in source order. If the publisher flow control is
+ * configured to block, a full publisher blocks that worker, which stops requesting elements from
+ * the source until capacity is available again; the scheduler must allow blocking.
+ *
+ * <p>A failed publish terminates the stream with a {@link PubSubDeliveryException}. Error handling
+ * operators can be used to recover. Note that after a failure the Pub/Sub client rejects further
+ * messages for the same ordering key until {@link Publisher#resumePublish(String)} is called.
+ */
+public final class PubSubReactivePublisher {
+
+  /** The default maximum number of outstanding publishes per stream. */
+  public static final int DEFAULT_MAX_IN_FLIGHT = 1000;
+
+  private final PublisherFactory publisherFactory;
+
+  private final Scheduler scheduler;
+
+  private PubSubMessageConverter messageConverter = new SimplePubSubMessageConverter();
+
+  private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+
+  /**
+   * Instantiate a {@link PubSubReactivePublisher}.
+   *
+   * @param publisherFactory the factory providing the publisher for each topic.
+   * @param scheduler scheduler on which messages are handed to the publisher. It must support
+   *     blocking work if the publisher flow control blocks.
+   */
+  public PubSubReactivePublisher(PublisherFactory publisherFactory, Scheduler scheduler) {
+    Assert.notNull(publisherFactory, "The publisherFactory can't be null.");
+    Assert.notNull(scheduler, "The scheduler can't be null.");
+    this.publisherFactory = publisherFactory;
+    this.scheduler = scheduler;
+  }
+
+  public PubSubMessageConverter getMessageConverter() {
+    return this.messageConverter;
+  }
+
+  public void setMessageConverter(PubSubMessageConverter messageConverter) {
+    Assert.notNull(messageConverter, "The messageConverter can't be null.");
+    this.messageConverter = messageConverter;
+  }
+
+  public int getMaxInFlight() {
+    return this.maxInFlight;
+  }
+
+  /**
+   * Set the maximum number of publishes outstanding at any time for each published stream.
+   *
+   * @param maxInFlight the maximum number of outstanding publishes
+   */
+  public void setMaxInFlight(int maxInFlight) {
+    Assert.isTrue(maxInFlight > 0, "The maxInFlight must be positive.");
+    this.maxInFlight = maxInFlight;
+  }
+
+  /**
+   * Publish each element of a stream, converted with the configured {@link
+   * PubSubMessageConverter}.
+   *
+   * @param topic the topic to publish to
+   * @param payloads the elements to publish
+   * @param <T> the type of the elements
+   * @return stream of results, one per successfully published element
+   */
+  public <T> Flux<PublishResult<T>> publish(
+      String topic, org.reactivestreams.Publisher<T> payloads) {
+    return publish(topic, payloads, payload -> this.messageConverter.toPubSubMessage(payload, null));
+  }
+
+  /**
+   * Publish each element of a stream, converted with the given mapping function. The function can
+   * set attributes and the ordering key of each message.
+   *
+   * @param topic the topic to publish to
+   * @param payloads the elements to publish
+   * @param messageMapper converts each element to the message to publish
+   * @param <T> the type of the elements
+   * @return stream of results, one per successfully published element
+   */
+  public <T> Flux<PublishResult<T>> publish(
+      String topic,
+      org.reactivestreams.Publisher<T> payloads,
+      Function<? super T, PubsubMessage> messageMapper) {
+    Assert.hasText(topic, "The topic can't be null or empty.");
+    Assert.notNull(payloads, "The payloads can't be null.");
+    Assert.notNull(messageMapper, "The messageMapper can't be null.");
+
+    int inFlight = this.maxInFlight;
+    return Flux.from(payloads)
+        .publishOn(this.scheduler, inFlight)
+        .flatMap(payload -> publish(topic, payload, messageMapper.apply(payload)), inFlight);
+  }
+
+  private <T> Mono<PublishResult<T>> publish(String topic, T payload, PubsubMessage pubsubMessage) {
+    // Looked up for every message so that a caching factory sees the publisher as in use.
+    ApiFuture<String> publishFuture =
+        this.publisherFactory.createPublisher(topic).publish(pubsubMessage);
+    return Mono.create(
+        sink ->
+            ApiFutures.addCallback(
+                publishFuture,
+                new ApiFutureCallback<>() {
+                  @Override
+                  public void onFailure(Throwable throwable) {
+                    sink.error(
+                        new PubSubDeliveryException(
+                            pubsubMessage, "Publishing to " + topic + " topic failed.", throwable));
+                  }
+
+                  @Override
+                  public void onSuccess(String messageId) {
+                    sink.success(new PublishResult<>(payload, pubsubMessage, messageId));
+                  }
+                },
+                directExecutor()));
+  }
+}
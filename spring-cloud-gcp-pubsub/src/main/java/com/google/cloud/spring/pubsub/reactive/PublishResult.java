@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.pubsub.reactive;
+
+import com.google.pubsub.v1.PubsubMessage;
+
+/**
+ * The outcome of successfully publishing one element through {@link PubSubReactivePublisher}.
+ *
+ * @param <T> the type of the published element
+ */
+public final class PublishResult<T> {
+
+  private final T payload;
+
+  private final PubsubMessage pubsubMessage;
+
+  private final String messageId;
+
+  PublishResult(T payload, PubsubMessage pubsubMessage, String messageId) {
+    this.payload = payload;
+    this.pubsubMessage = pubsubMessage;
+    this.messageId = messageId;
+  }
+
+  /**
+   * Get the element as it was emitted by the source {@link org.reactivestreams.Publisher}.
+   *
+   * @return the published element
+   */
+  public T getPayload() {
+    return this.payload;
+  }
+
+  /**
+   * Get the {@link PubsubMessage} the element was converted to.
+   *
+   * @return the published message
+   */
+  public PubsubMessage getPubsubMessage() {
+    return this.pubsubMessage;
+  }
+
+  /**
+   * Get the ID assigned to the message by Pub/Sub.
+   *
+   * @return the server-assigned message ID
+   */
+  public String getMessageId() {
+    return this.messageId;
+  }
+
+  @Override
+  public String toString() {
+    return "PublishResult{messageId='" + this.messageId + "', payload=" + this.payload + "}";
+  }
+}
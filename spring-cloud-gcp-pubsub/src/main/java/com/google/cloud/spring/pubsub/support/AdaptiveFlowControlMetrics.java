@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.pubsub.support;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.springframework.util.Assert;
+
+/**
+ * Binds the statistics of the {@link AdaptiveFlowController}s of a {@link
+ * DefaultSubscriberFactory} to a Micrometer {@link MeterRegistry}, tagged with the {@code
+ * subscription}. Controllers created after binding, when their subscription is first subscribed
+ * to, are bound as they are created.
+ */
+public class AdaptiveFlowControlMetrics implements MeterBinder {
+
+  private final DefaultSubscriberFactory subscriberFactory;
+
+  private final Iterable<Tag> tags;
+
+  public AdaptiveFlowControlMetrics(DefaultSubscriberFactory subscriberFactory) {
+    this(subscriberFactory, Collections.emptyList());
+  }
+
+  public AdaptiveFlowControlMetrics(
+      DefaultSubscriberFactory subscriberFactory, Iterable<Tag> tags) {
+    Assert.notNull(subscriberFactory, "The subscriberFactory can't be null.");
+    this.subscriberFactory = subscriberFactory;
+    this.tags = Tags.of(tags);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    this.subscriberFactory.addAdaptiveFlowControllerListener(
+        controller -> bindTo(registry, controller));
+    this.subscriberFactory.getAdaptiveFlowControllers()
+        .forEach(controller -> bindTo(registry, controller));
+  }
+
+  private void bindTo(MeterRegistry registry, AdaptiveFlowController controller) {
+    Tags controllerTags = Tags.of(this.tags).and("subscription", controller.getSubscriptionName());
+
+    Gauge.builder("pubsub.subscriber.flow.limit", controller, AdaptiveFlowController::getLimit)
+        .description("Current adaptive limit of outstanding messages")
+        .tags(controllerTags)
+        .register(registry);
+    Gauge.builder(
+            "pubsub.subscriber.flow.in.flight", controller, AdaptiveFlowController::getInFlight)
+        .description("Number of messages handed to the receiver and not yet acked or nacked")
+        .tags(controllerTags)
+        .register(registry);
+    FunctionCounter.builder(
+            "pubsub.subscriber.flow.adjustments",
+            controller,
+            AdaptiveFlowController::getIncreaseCount)
+        .description("Number of adjustments of the adaptive limit")
+        .tags(controllerTags)
+        .tag("direction", "increase")
+        .register(registry);
+    FunctionCounter.builder(
+            "pubsub.subscriber.flow.adjustments",
+            controller,
+            AdaptiveFlowController::getDecreaseCount)
+        .description("Number of adjustments of the adaptive limit")
+        .tags(controllerTags)
+        .tag("direction", "decrease")
+        .register(registry);
+    FunctionCounter.builder(
+            "pubsub.subscriber.flow.redeliveries",
+            controller,
+            AdaptiveFlowController::getRedeliveryCount)
+        .description("Number of received messages that had been delivered before")
+        .tags(controllerTags)
+        .register(registry);
+    FunctionCounter.builder(
+            "pubsub.subscriber.flow.deadline.exceeded",
+            controller,
+            AdaptiveFlowController::getDeadlineExceededCount)
+        .description("Number of messages held past the ack deadline")
+        .tags(controllerTags)
+        .register(registry);
+    FunctionTimer.builder(
+            "pubsub.subscriber.flow.handling",
+            controller,
+            AdaptiveFlowController::getHandledCount,
+            c -> c.getHandlingTime(TimeUnit.NANOSECONDS),
+            TimeUnit.NANOSECONDS)
+        .description("Time from receipt to ack or nack of messages")
+        .tags(controllerTags)
+        .register(registry);
+  }
+}
@@ -0,0 +1,533 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.pubsub.support;
+
+import com.google.cloud.pubsub.v1.AckReplyConsumer;
+import com.google.cloud.pubsub.v1.MessageReceiver;
+import com.google.cloud.pubsub.v1.Subscriber;
+import com.google.pubsub.v1.PubsubMessage;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.util.Assert;
+
+/**
+ * Limits the number of messages of a subscription that are handed to the message receiver and not
+ * yet acked or nacked, adjusting the limit at runtime.
+ *
+ * <p>The Pub/Sub client only supports flow control limits fixed when the {@link Subscriber} is
+ * built, which act as the upper bound of the adaptive limit. The limit is adjusted once per {@link
+ * #setAdjustmentInterval(Duration) adjustment interval} with an additive-increase,
+ * multiplicative-decrease policy: it is halved, down to the {@link #setMinLimit(long) minimum
+ * limit}, when the average time messages were held exceeded the {@link #setTargetLatency(Duration)
+ * target latency}, when messages were held past the {@link #setAckDeadline(Duration) ack deadline}
+ * and so needed deadline extensions, or when the share of redelivered messages among the received
+ * ones exceeded the {@link #setRedeliveryThreshold(double) redelivery threshold}. Otherwise, if
+ * the limit was reached during the interval, it grows by the minimum limit.
+ *
+ * <p>A message that finds the limit reached is parked without blocking the thread that received
+ * it, and handed to the receiver on the executor given to {@link #wrap(MessageReceiver, Executor)}
+ * once a permit is free. Parked messages stay outstanding for the client, which keeps extending
+ * their deadline and pauses pulling when its own flow control limits are reached. Messages that
+ * are never acked or nacked stop counting towards the limit after the {@link
+ * #setMaxAckExtensionPeriod(Duration) max ack extension period}, when the client gives up
+ * extending their deadline, and parked messages older than that are dropped.
+ */
+public class AdaptiveFlowController {
+
+  private static final int RECENT_MESSAGE_IDS = 10_000;
+
+  private final String subscriptionName;
+
+  private final long maxLimit;
+
+  private long minLimit = 10;
+
+  private long targetLatencyNanos = TimeUnit.SECONDS.toNanos(1);
+
+  private long adjustmentIntervalNanos = TimeUnit.SECONDS.toNanos(1);
+
+  private long ackDeadlineNanos = TimeUnit.SECONDS.toNanos(10);
+
+  private long maxAckExtensionPeriodNanos = TimeUnit.MINUTES.toNanos(60);
+
+  private double redeliveryThreshold = 0.1;
+
+  /** Outstanding permits; guarded by {@code this}. */
+  private final Set<Permit> permits = new HashSet<>();
+
+  /** Messages waiting for a permit, in order of receipt; guarded by {@code this}. */
+  private final Deque<Delivery> parked = new ArrayDeque<>();
+
+  /** IDs of recently received messages, to detect redeliveries; guarded by {@code this}. */
+  private final Map<String, Boolean> recentMessageIds =
+      new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+          return size() > RECENT_MESSAGE_IDS;
+        }
+      };
+
+  private volatile long limit;
+
+  private volatile long inFlight;
+
+  // Statistics of the current adjustment interval, guarded by this.
+
+  private long windowStartNanos = System.nanoTime();
+
+  private long windowCount;
+
+  private long windowReceived;
+
+  private long windowHeldNanos;
+
+  private long windowRedeliveries;
+
+  private long windowDeadlinesExceeded;
+
+  private boolean windowSaturated;
+
+  private final LongAdder handledCount = new LongAdder();
+
+  private final LongAdder handledNanos = new LongAdder();
+
+  private final LongAdder redeliveryCount = new LongAdder();
+
+  private final LongAdder deadlineExceededCount = new LongAdder();
+
+  private final LongAdder increaseCount = new LongAdder();
+
+  private final LongAdder decreaseCount = new LongAdder();
+
+  /**
+   * Create an adaptive flow controller starting at, and never exceeding, the given limit.
+   *
+   * @param subscriptionName the fully-qualified name of the controlled subscription
+   * @param maxLimit the maximum number of outstanding messages, usually the subscriber flow control
+   *     maximum outstanding element count
+   */
+  public AdaptiveFlowController(String subscriptionName, long maxLimit) {
+    Assert.hasText(subscriptionName, "The subscriptionName can't be null or empty.");
+    Assert.isTrue(maxLimit > 0, "The maxLimit must be positive.");
+    this.subscriptionName = subscriptionName;
+    this.maxLimit = maxLimit;
+    this.limit = maxLimit;
+  }
+
+  public String getSubscriptionName() {
+    return this.subscriptionName;
+  }
+
+  public long getMaxLimit() {
+    return this.maxLimit;
+  }
+
+  public long getMinLimit() {
+    return this.minLimit;
+  }
+
+  /**
+   * Set the limit below which the adaptive limit is never decreased. It is also the step by which
+   * the limit grows. Capped by the maximum limit.
+   *
+   * @param minLimit the minimum number of outstanding messages
+   */
+  public synchronized void setMinLimit(long minLimit) {
+    Assert.isTrue(minLimit > 0, "The minLimit must be positive.");
+    this.minLimit = Math.min(minLimit, this.maxLimit);
+  }
+
+  /**
+   * Set the average time from receipt to ack or nack above which the limit is decreased.
+   *
+   * @param targetLatency the target message handling latency
+   */
+  public void setTargetLatency(Duration targetLatency) {
+    Assert.notNull(targetLatency, "The targetLatency can't be null.");
+    this.targetLatencyNanos = targetLatency.toNanos();
+  }
+
+  /**
+   * Set how often the limit is adjusted.
+   *
+   * @param adjustmentInterval the time between two adjustments of the limit
+   */
+  public void setAdjustmentInterval(Duration adjustmentInterval) {
+    Assert.notNull(adjustmentInterval, "The adjustmentInterval can't be null.");
+    Assert.isTrue(!adjustmentInterval.isNegative() && !adjustmentInterval.isZero(),
+        "The adjustmentInterval must be positive.");
+    this.adjustmentIntervalNanos = adjustmentInterval.toNanos();
+  }
+
+  /**
+   * Set the ack deadline of the subscription. Messages held longer than this needed their deadline
+   * extended by the client, which decreases the limit.
+   *
+   * @param ackDeadline the subscription ack deadline
+   */
+  public void setAckDeadline(Duration ackDeadline) {
+    Assert.notNull(ackDeadline, "The ackDeadline can't be null.");
+    this.ackDeadlineNanos = ackDeadline.toNanos();
+  }
+
+  /**
+   * Set the time after which a message that was neither acked nor nacked stops counting towards
+   * the limit. Should match the max ack extension period of the subscriber.
+   *
+   * @param maxAckExtensionPeriod the maximum time a message is held
+   */
+  public void setMaxAckExtensionPeriod(Duration maxAckExtensionPeriod) {
+    Assert.notNull(maxAckExtensionPeriod, "The maxAckExtensionPeriod can't be null.");
+    this.maxAckExtensionPeriodNanos = maxAckExtensionPeriod.toNanos();
+  }
+
+  /**
+   * Set the share of redelivered messages among the messages received in an adjustment interval
+   * above which the limit is decreased. Redeliveries caused by occasional nacks stay below it.
+   *
+   * @param redeliveryThreshold the redelivery rate, between 0 and 1
+   */
+  public void setRedeliveryThreshold(double redeliveryThreshold) {
+    Assert.isTrue(
+        redeliveryThreshold >= 0 && redeliveryThreshold <= 1,
+        "The redeliveryThreshold must be between 0 and 1.");
+    this.redeliveryThreshold = redeliveryThreshold;
+  }
+
+  /**
+   * Wrap a message receiver so that messages are only handed to it while the number of outstanding
+   * messages is below the current limit. Parked messages are handed to the receiver on the thread
+   * that frees their permit.
+   *
+   * @param receiver the receiver to wrap
+   * @return the flow controlled receiver
+   */
+  public MessageReceiver wrap(MessageReceiver receiver) {
+    return wrap(receiver, Runnable::run);
+  }
+
+  /**
+   * Wrap a message receiver so that messages are only handed to it while the number of outstanding
+   * messages is below the current limit.
+   *
+   * @param receiver the receiver to wrap
+   * @param executor the executor handing parked messages to the receiver, usually the executor of
+   *     the subscriber
+   * @return the flow controlled receiver
+   */
+  public MessageReceiver wrap(MessageReceiver receiver, Executor executor) {
+    Assert.notNull(receiver, "The receiver can't be null.");
+    Assert.notNull(executor, "The executor can't be null.");
+    return (message, consumer) -> {
+      Delivery delivery = new Delivery(receiver, executor, message, consumer);
+      for (Delivery admitted : admit(delivery)) {
+        if (admitted == delivery) {
+          admitted.deliver();
+        } else {
+          admitted.dispatch();
+        }
+      }
+    };
+  }
+
+  /**
+   * Get the current limit of outstanding messages.
+   *
+   * @return the current limit
+   */
+  public long getLimit() {
+    return this.limit;
+  }
+
+  /**
+   * Get the number of messages handed to the receiver and not yet acked or nacked.
+   *
+   * @return the number of outstanding messages
+   */
+  public long getInFlight() {
+    return this.inFlight;
+  }
+
+  /**
+   * Get the number of messages acked or nacked.
+   *
+   * @return number of handled messages
+   */
+  public long getHandledCount() {
+    return this.handledCount.sum();
+  }
+
+  /**
+   * Get the cumulative time from receipt to ack or nack of the handled messages.
+   *
+   * @param unit the time unit of the returned value
+   * @return cumulative handling latency
+   */
+  public double getHandlingTime(TimeUnit unit) {
+    return (double) this.handledNanos.sum() / unit.toNanos(1);
+  }
+
+  /**
+   * Get the number of received messages that had been delivered before.
+   *
+   * @return number of redeliveries
+   */
+  public long getRedeliveryCount() {
+    return this.redeliveryCount.sum();
+  }
+
+  /**
+   * Get the number of messages held past the ack deadline.
+   *
+   * @return number of messages whose deadline had to be extended
+   */
+  public long getDeadlineExceededCount() {
+    return this.deadlineExceededCount.sum();
+  }
+
+  /**
+   * Get the number of times the limit was increased.
+   *
+   * @return number of increases
+   */
+  public long getIncreaseCount() {
+    return this.increaseCount.sum();
+  }
+
+  /**
+   * Get the number of times the limit was decreased.
+   *
+   * @return number of decreases
+   */
+  public long getDecreaseCount() {
+    return this.decreaseCount.sum();
+  }
+
+  /**
+   * Park a received message and take as many parked messages as the limit allows, in order of
+   * receipt.
+   */
+  private synchronized List<Delivery> admit(Delivery delivery) {
+    PubsubMessage message = delivery.message;
+    boolean redelivered = this.recentMessageIds.put(message.getMessageId(), Boolean.TRUE) != null;
+    Integer deliveryAttempt = Subscriber.getDeliveryAttempt(message);
+    this.windowReceived++;
+    if (redelivered || (deliveryAttempt != null && deliveryAttempt > 1)) {
+      this.windowRedeliveries++;
+      this.redeliveryCount.increment();
+    }
+    this.parked.add(delivery);
+    long now = System.nanoTime();
+    adjust(now);
+    return unpark(now);
+  }
+
+  private void release(Permit permit) {
+    List<Delivery> unparked;
+    synchronized (this) {
+      if (!this.permits.remove(permit)) {
+        // Already expired.
+        return;
+      }
+      long now = System.nanoTime();
+      long heldNanos = now - permit.acquiredNanos;
+      this.inFlight--;
+      this.windowCount++;
+      this.windowHeldNanos += heldNanos;
+      this.handledCount.increment();
+      this.handledNanos.add(heldNanos);
+      if (heldNanos > this.ackDeadlineNanos) {
+        this.windowDeadlinesExceeded++;
+        this.deadlineExceededCount.increment();
+      }
+      adjust(now);
+      unparked = unpark(now);
+    }
+    unparked.forEach(Delivery::dispatch);
+  }
+
+  /** Must be called while holding the monitor. */
+  private List<Delivery> unpark(long now) {
+    List<Delivery> unparked = new ArrayList<>();
+    while (!this.parked.isEmpty()) {
+      Delivery delivery = this.parked.peek();
+      if (now - delivery.parkedNanos > this.maxAckExtensionPeriodNanos) {
+        // The client no longer extends the deadline of the message, which is redelivered.
+        this.parked.poll();
+        continue;
+      }
+      if (this.inFlight >= this.limit) {
+        this.windowSaturated = true;
+        break;
+      }
+      this.parked.poll();
+      this.inFlight++;
+      delivery.permit = new Permit();
+      this.permits.add(delivery.permit);
+      unparked.add(delivery);
+    }
+    if (this.inFlight >= this.limit) {
+      this.windowSaturated = true;
+    }
+    return unparked;
+  }
+
+  /** Must be called while holding the monitor. */
+  private void adjust(long now) {
+    if (now - this.windowStartNanos < this.adjustmentIntervalNanos) {
+      return;
+    }
+    expireStalePermits(now);
+
+    boolean congested =
+        this.windowRedeliveries > this.windowReceived * this.redeliveryThreshold
+            || this.windowDeadlinesExceeded > 0
+            || (this.windowCount > 0
+                && this.windowHeldNanos / this.windowCount > this.targetLatencyNanos);
+    if (congested) {
+      if (this.limit > this.minLimit) {
+        this.limit = Math.max(this.minLimit, this.limit / 2);
+        this.decreaseCount.increment();
+      }
+    } else if (this.windowSaturated && this.limit < this.maxLimit) {
+      this.limit = Math.min(this.maxLimit, this.limit + this.minLimit);
+      this.increaseCount.increment();
+    }
+
+    this.windowStartNanos = now;
+    this.windowCount = 0;
+    this.windowReceived = 0;
+    this.windowHeldNanos = 0;
+    this.windowRedeliveries = 0;
+    this.windowDeadlinesExceeded = 0;
+    this.windowSaturated = this.inFlight >= this.limit;
+  }
+
+  private void expireStalePermits(long now) {
+    Iterator<Permit> iterator = this.permits.iterator();
+    while (iterator.hasNext()) {
+      if (now - iterator.next().acquiredNanos > this.maxAckExtensionPeriodNanos) {
+        iterator.remove();
+        this.inFlight--;
+      }
+    }
+  }
+
+  private final class Permit {
+
+    private final long acquiredNanos = System.nanoTime();
+
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    void release() {
+      if (this.released.compareAndSet(false, true)) {
+        AdaptiveFlowController.this.release(this);
+      }
+    }
+  }
+
+  /** A received message, with the permit it holds once admitted. */
+  private static final class Delivery {
+
+    private final MessageReceiver receiver;
+
+    private final Executor executor;
+
+    private final PubsubMessage message;
+
+    private final AckReplyConsumer consumer;
+
+    private final long parkedNanos = System.nanoTime();
+
+    private Permit permit;
+
+    Delivery(
+        MessageReceiver receiver,
+        Executor executor,
+        PubsubMessage message,
+        AckReplyConsumer consumer) {
+      this.receiver = receiver;
+      this.executor = executor;
+      this.message = message;
+      this.consumer = consumer;
+    }
+
+    void deliver() {
+      try {
+        this.receiver.receiveMessage(
+            this.message, new PermitReleasingAckReplyConsumer(this.consumer, this.permit));
+      } catch (RuntimeException ex) {
+        this.permit.release();
+        throw ex;
+      }
+    }
+
+    /** Hands a parked message to the receiver, nacking it if that fails. */
+    void dispatch() {
+      try {
+        this.executor.execute(
+            () -> {
+              try {
+                deliver();
+              } catch (RuntimeException ex) {
+                this.consumer.nack();
+              }
+            });
+      } catch (RejectedExecutionException ex) {
+        this.permit.release();
+        this.consumer.nack();
+      }
+    }
+  }
+
+  private static final class PermitReleasingAckReplyConsumer implements AckReplyConsumer {
+
+    private final AckReplyConsumer delegate;
+
+    private final Permit permit;
+
+    PermitReleasingAckReplyConsumer(AckReplyConsumer delegate, Permit permit) {
+      this.delegate = delegate;
+      this.permit = permit;
+    }
+
+    @Override
+    public void ack() {
+      this.permit.release();
+      this.delegate.ack();
+    }
+
+    @Override
+    public void nack() {
+      this.permit.release();
+      this.delegate.nack();
+    }
+  }
+}
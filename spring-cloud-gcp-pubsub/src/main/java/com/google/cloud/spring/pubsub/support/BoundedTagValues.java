@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.pubsub.support;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounds the cardinality of a metric tag. The first values seen are used as they are; once the
+ * maximum number of distinct values is reached, any new value is replaced by {@link #OTHER}.
+ */
+final class BoundedTagValues {
+
+  static final String OTHER = "other";
+
+  private final int maxValues;
+
+  private final Set<String> values = ConcurrentHashMap.newKeySet();
+
+  BoundedTagValues(int maxValues) {
+    this.maxValues = maxValues;
+  }
+
+  String tagValue(String value) {
+    if (this.values.contains(value)) {
+      return value;
+    }
+    synchronized (this.values) {
+      if (this.values.size() < this.maxValues) {
+        this.values.add(value);
+        return value;
+      }
+    }
+    return OTHER;
+  }
+}
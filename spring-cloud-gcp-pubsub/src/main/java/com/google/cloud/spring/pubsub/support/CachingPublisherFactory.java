@@ -17,21 +17,90 @@
 package com.google.cloud.spring.pubsub.support;
 
 import com.google.cloud.pubsub.v1.Publisher;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import javax.annotation.PreDestroy;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
 
 /**
  * The caching implementation of the {@link PublisherFactory}.
  *
  * <p>Creates {@link Publisher}s for topics once using delegate, caches and reuses them.
+ *
+ * <p>By default the cache is unbounded. When a {@link #setMaxSize(int) maximum size} is set, a
+ * publisher that has not been requested recently is evicted once the cache grows beyond it, using
+ * the second-chance approximation of least-recently-used eviction. When an {@link
+ * #setIdleTimeout(Duration) idle timeout} is set, publishers that have not been requested for
+ * longer than the timeout are evicted periodically. Evicted publishers are flushed and shut down
+ * in the background, in parallel, waiting at most the {@link
+ * #setEvictionShutdownTimeout(Duration) eviction shutdown timeout} for outstanding messages to be
+ * sent.
+ *
+ * <p>Callers should obtain the publisher from this factory for every publish rather than hold on
+ * to it. Since a publisher can be evicted right after it was returned, an evicted publisher is
+ * only shut down after a grace period, during which messages can still be published on it.
  */
 public class CachingPublisherFactory implements PublisherFactory {
+
+  private static final Log LOGGER = LogFactory.getLog(CachingPublisherFactory.class);
+
+  private static final Duration DEFAULT_EVICTION_SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+  private static final long MIN_IDLE_SWEEP_PERIOD_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  private static final int EVICTION_FLUSH_THREADS = 4;
+
+  /** How long an evicted publisher keeps accepting messages from callers that obtained it. */
+  private static final Duration EVICTION_GRACE_PERIOD = Duration.ofSeconds(1);
+
   /** {@link Publisher} cache, enforces only one {@link Publisher} per Pub/Sub topic exists. */
-  private final ConcurrentHashMap<String, Publisher> publishers =
-      new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<String, CachedPublisher> publishers = new ConcurrentHashMap<>();
+
+  /** Cached publishers in the order they are considered for eviction, guarded by itself. */
+  private final Queue<CachedPublisher> evictionQueue = new ArrayDeque<>();
+
+  /** Evicted publishers in their grace period, not yet handed over to be flushed. */
+  private final Set<CachedPublisher> evictedPublishers = ConcurrentHashMap.newKeySet();
 
   private final PublisherFactory delegate;
 
+  private int maxSize;
+
+  private volatile Duration idleTimeout = Duration.ZERO;
+
+  private Duration evictionShutdownTimeout = DEFAULT_EVICTION_SHUTDOWN_TIMEOUT;
+
+  private ScheduledExecutorService evictionExecutor;
+
+  private ScheduledFuture<?> idleSweep;
+
+  private ThreadPoolExecutor flushExecutor;
+
+  private boolean closed;
+
+  private final LongAdder hitCount = new LongAdder();
+
+  private final LongAdder missCount = new LongAdder();
+
+  private final LongAdder evictionCount = new LongAdder();
+
+  private final LongAdder evictionFlushCount = new LongAdder();
+
+  private final LongAdder evictionFlushNanos = new LongAdder();
+
   /**
    * Constructs a caching {@link PublisherFactory} using the delegate.
    *
@@ -43,7 +112,29 @@ public class CachingPublisherFactory implements PublisherFactory {
 
   @Override
   public Publisher createPublisher(String topic) {
-    return this.publishers.computeIfAbsent(topic, delegate::createPublisher);
+    CachedPublisher cached = this.publishers.get(topic);
+    if (cached == null) {
+      Assert.state(!isClosed(), "The publisher factory has been shut down.");
+      boolean[] created = new boolean[1];
+      cached =
+          this.publishers.computeIfAbsent(
+              topic,
+              key -> {
+                created[0] = true;
+                return new CachedPublisher(key);
+              });
+      if (created[0]) {
+        this.missCount.increment();
+        synchronized (this.evictionQueue) {
+          this.evictionQueue.add(cached);
+          evictLeastRecentlyUsed(cached);
+        }
+        return cached.publisher;
+      }
+    }
+    this.hitCount.increment();
+    cached.lastAccessNanos = System.nanoTime();
+    return cached.publisher;
   }
 
   /**
@@ -55,11 +146,328 @@ public class CachingPublisherFactory implements PublisherFactory {
     return delegate;
   }
 
+  public int getMaxSize() {
+    return this.maxSize;
+  }
+
   /**
-   * Shutdown all cached {@link Publisher} gracefully.
+   * Set the maximum number of cached publishers.
+   *
+   * @param maxSize the maximum number of cached publishers, or 0 for no limit
+   */
+  public void setMaxSize(int maxSize) {
+    Assert.isTrue(maxSize >= 0, "The maxSize can't be negative.");
+    this.maxSize = maxSize;
+  }
+
+  public Duration getIdleTimeout() {
+    return this.idleTimeout;
+  }
+
+  /**
+   * Set the time after which a publisher that has not been requested is evicted.
+   *
+   * @param idleTimeout the idle timeout, or {@link Duration#ZERO} to never evict idle publishers
+   */
+  public synchronized void setIdleTimeout(Duration idleTimeout) {
+    Assert.notNull(idleTimeout, "The idleTimeout can't be null.");
+    Assert.isTrue(!idleTimeout.isNegative(), "The idleTimeout can't be negative.");
+    this.idleTimeout = idleTimeout;
+    if (this.idleSweep != null) {
+      this.idleSweep.cancel(false);
+      this.idleSweep = null;
+    }
+    if (!idleTimeout.isZero() && !this.closed) {
+      long periodNanos = Math.max(idleTimeout.toNanos() / 2, MIN_IDLE_SWEEP_PERIOD_NANOS);
+      this.idleSweep =
+          getEvictionExecutor()
+              .scheduleWithFixedDelay(
+                  this::evictIdlePublishers, periodNanos, periodNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  public Duration getEvictionShutdownTimeout() {
+    return this.evictionShutdownTimeout;
+  }
+
+  /**
+   * Set how long to wait for an evicted publisher to send its outstanding messages.
+   *
+   * @param evictionShutdownTimeout the maximum time to wait for an evicted publisher to terminate
+   */
+  public void setEvictionShutdownTimeout(Duration evictionShutdownTimeout) {
+    Assert.notNull(evictionShutdownTimeout, "The evictionShutdownTimeout can't be null.");
+    this.evictionShutdownTimeout = evictionShutdownTimeout;
+  }
+
+  /**
+   * Evict all publishers that have not been requested for longer than the idle timeout. Called
+   * periodically when an idle timeout is set.
+   */
+  public void evictIdlePublishers() {
+    long idleTimeoutNanos = this.idleTimeout.toNanos();
+    if (idleTimeoutNanos == 0) {
+      return;
+    }
+    long now = System.nanoTime();
+    boolean evicted = false;
+    for (CachedPublisher cached : this.publishers.values()) {
+      if (now - cached.lastAccessNanos > idleTimeoutNanos) {
+        evicted |= evict(cached);
+      }
+    }
+    if (evicted) {
+      synchronized (this.evictionQueue) {
+        this.evictionQueue.removeIf(cached -> cached.evicted);
+      }
+    }
+  }
+
+  /**
+   * Get the number of publishers currently cached.
+   *
+   * @return number of cached publishers
+   */
+  public int getSize() {
+    return this.publishers.size();
+  }
+
+  /**
+   * Get the number of requests served by an already cached publisher.
+   *
+   * @return number of cache hits
+   */
+  public long getHitCount() {
+    return this.hitCount.sum();
+  }
+
+  /**
+   * Get the number of requests that created a new publisher.
+   *
+   * @return number of cache misses
+   */
+  public long getMissCount() {
+    return this.missCount.sum();
+  }
+
+  /**
+   * Get the number of publishers evicted because the cache was full or they were idle.
+   *
+   * @return number of evicted publishers
+   */
+  public long getEvictionCount() {
+    return this.evictionCount.sum();
+  }
+
+  /**
+   * Get the number of evicted publishers that finished flushing and shutting down.
+   *
+   * @return number of completed eviction flushes
+   */
+  public long getEvictionFlushCount() {
+    return this.evictionFlushCount.sum();
+  }
+
+  /**
+   * Get the cumulative time spent flushing and shutting down evicted publishers.
+   *
+   * @param unit the time unit of the returned value
+   * @return cumulative eviction flush latency
+   */
+  public double getEvictionFlushTime(TimeUnit unit) {
+    return (double) this.evictionFlushNanos.sum() / unit.toNanos(1);
+  }
+
+  /**
+   * Shutdown all cached {@link Publisher} gracefully. Publishers can no longer be created
+   * afterwards.
    */
   @PreDestroy
   public void shutdown() {
-    publishers.forEachValue(1L, Publisher::shutdown);
+    ScheduledExecutorService executor;
+    ThreadPoolExecutor flushes;
+    synchronized (this) {
+      this.closed = true;
+      if (this.idleSweep != null) {
+        this.idleSweep.cancel(false);
+        this.idleSweep = null;
+      }
+      executor = this.evictionExecutor;
+      flushes = this.flushExecutor;
+      this.evictionExecutor = null;
+      this.flushExecutor = null;
+    }
+    if (executor != null) {
+      // Evicted publishers still in their grace period are shut down below.
+      executor.shutdownNow();
+    }
+    for (CachedPublisher cached : this.publishers.values()) {
+      if (this.publishers.remove(cached.topic, cached)) {
+        cached.evicted = true;
+        cached.publisher.shutdown();
+      }
+    }
+    synchronized (this.evictionQueue) {
+      this.evictionQueue.clear();
+    }
+    for (CachedPublisher cached : this.evictedPublishers) {
+      if (this.evictedPublishers.remove(cached)) {
+        cached.publisher.shutdown();
+      }
+    }
+    if (flushes != null) {
+      flushes.shutdown();
+      try {
+        flushes.awaitTermination(this.evictionShutdownTimeout.toMillis(), TimeUnit.MILLISECONDS);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * Evict publishers until the cache is within its maximum size. Publishers are considered in
+   * queue order; one requested since it was last considered is given a second chance at the back
+   * of the queue, so that each miss takes amortized constant time. Must be called while holding
+   * the {@code evictionQueue}.
+   */
+  private void evictLeastRecentlyUsed(CachedPublisher created) {
+    // Bounds the second chances given when all publishers are in use.
+    int secondChances = 2 * this.evictionQueue.size();
+    while (this.maxSize > 0 && this.publishers.size() > this.maxSize) {
+      CachedPublisher candidate = this.evictionQueue.poll();
+      if (candidate == null) {
+        return;
+      }
+      if (candidate.evicted) {
+        continue;
+      }
+      long lastAccessNanos = candidate.lastAccessNanos;
+      if (candidate == created
+          || (secondChances-- > 0 && lastAccessNanos != candidate.queuedAccessNanos)) {
+        candidate.queuedAccessNanos = lastAccessNanos;
+        this.evictionQueue.add(candidate);
+        if (this.evictionQueue.size() == 1) {
+          return;
+        }
+      } else {
+        evict(candidate);
+      }
+    }
+  }
+
+  private boolean evict(CachedPublisher cached) {
+    if (!this.publishers.remove(cached.topic, cached)) {
+      return false;
+    }
+    cached.evicted = true;
+    this.evictionCount.increment();
+    this.evictedPublishers.add(cached);
+    if (!scheduleFlush(cached)) {
+      flush(cached);
+    }
+    return true;
+  }
+
+  private synchronized boolean scheduleFlush(CachedPublisher cached) {
+    if (this.closed) {
+      return false;
+    }
+    getEvictionExecutor()
+        .schedule(() -> flush(cached), EVICTION_GRACE_PERIOD.toNanos(), TimeUnit.NANOSECONDS);
+    return true;
+  }
+
+  private void flush(CachedPublisher cached) {
+    if (!this.evictedPublishers.remove(cached)) {
+      // Already shut down with the factory.
+      return;
+    }
+    if (!executeFlush(() -> flushAndShutdown(cached.topic, cached.publisher))) {
+      cached.publisher.shutdown();
+    }
+  }
+
+  private synchronized boolean executeFlush(Runnable flush) {
+    if (this.closed) {
+      return false;
+    }
+    getFlushExecutor().execute(flush);
+    return true;
+  }
+
+  private synchronized boolean isClosed() {
+    return this.closed;
+  }
+
+  private void flushAndShutdown(String topic, Publisher publisher) {
+    long start = System.nanoTime();
+    try {
+      publisher.publishAllOutstanding();
+      publisher.shutdown();
+      if (!publisher.awaitTermination(
+          this.evictionShutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+        LOGGER.warn("Evicted publisher for topic " + topic + " did not terminate in time.");
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    } catch (RuntimeException ex) {
+      LOGGER.warn("Failed to shut down evicted publisher for topic " + topic + ".", ex);
+    } finally {
+      this.evictionFlushNanos.add(System.nanoTime() - start);
+      this.evictionFlushCount.increment();
+    }
+  }
+
+  private synchronized ScheduledExecutorService getEvictionExecutor() {
+    if (this.evictionExecutor == null) {
+      CustomizableThreadFactory threadFactory =
+          new CustomizableThreadFactory("gcp-pubsub-publisher-cache-");
+      threadFactory.setDaemon(true);
+      ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, threadFactory);
+      executor.setRemoveOnCancelPolicy(true);
+      this.evictionExecutor = executor;
+    }
+    return this.evictionExecutor;
+  }
+
+  private synchronized ThreadPoolExecutor getFlushExecutor() {
+    if (this.flushExecutor == null) {
+      CustomizableThreadFactory threadFactory =
+          new CustomizableThreadFactory("gcp-pubsub-publisher-flush-");
+      threadFactory.setDaemon(true);
+      // Flushes block until the evicted publisher terminates, so they must not share the thread
+      // of the idle sweep nor wait for each other.
+      ThreadPoolExecutor executor =
+          new ThreadPoolExecutor(
+              EVICTION_FLUSH_THREADS,
+              EVICTION_FLUSH_THREADS,
+              60,
+              TimeUnit.SECONDS,
+              new LinkedBlockingQueue<>(),
+              threadFactory);
+      executor.allowCoreThreadTimeOut(true);
+      this.flushExecutor = executor;
+    }
+    return this.flushExecutor;
+  }
+
+  private final class CachedPublisher {
+
+    private final String topic;
+
+    private final Publisher publisher;
+
+    private volatile long lastAccessNanos = System.nanoTime();
+
+    /** The access time when last considered for eviction, guarded by the {@code evictionQueue}. */
+    private long queuedAccessNanos = this.lastAccessNanos;
+
+    private volatile boolean evicted;
+
+    CachedPublisher(String topic) {
+      this.topic = topic;
+      this.publisher = CachingPublisherFactory.this.delegate.createPublisher(topic);
+    }
   }
 }
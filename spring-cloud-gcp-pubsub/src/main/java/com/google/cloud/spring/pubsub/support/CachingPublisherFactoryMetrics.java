@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.pubsub.support;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.springframework.util.Assert;
+
+/**
+ * Binds the statistics of a {@link CachingPublisherFactory} to a Micrometer {@link MeterRegistry}.
+ * The hit rate can be derived from the {@code pubsub.publisher.cache.gets} counter, which is tagged
+ * with the {@code result} of each lookup.
+ */
+public class CachingPublisherFactoryMetrics implements MeterBinder {
+
+  private final CachingPublisherFactory publisherFactory;
+
+  private final Iterable<Tag> tags;
+
+  public CachingPublisherFactoryMetrics(CachingPublisherFactory publisherFactory) {
+    this(publisherFactory, Collections.emptyList());
+  }
+
+  public CachingPublisherFactoryMetrics(
+      CachingPublisherFactory publisherFactory, Iterable<Tag> tags) {
+    Assert.notNull(publisherFactory, "The publisherFactory can't be null.");
+    this.publisherFactory = publisherFactory;
+    this.tags = Tags.of(tags);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    CachingPublisherFactory factory = this.publisherFactory;
+
+    Gauge.builder("pubsub.publisher.cache.size", factory, CachingPublisherFactory::getSize)
+        .description("Number of live publishers in the cache")
+        .tags(this.tags)
+        .register(registry);
+    FunctionCounter.builder(
+            "pubsub.publisher.cache.gets", factory, CachingPublisherFactory::getHitCount)
+        .description("Number of publisher requests served from the cache")
+        .tags(this.tags)
+        .tag("result", "hit")
+        .register(registry);
+    FunctionCounter.builder(
+            "pubsub.publisher.cache.gets", factory, CachingPublisherFactory::getMissCount)
+        .description("Number of publisher requests that created a new publisher")
+        .tags(this.tags)
+        .tag("result", "miss")
+        .register(registry);
+    FunctionCounter.builder(
+            "pubsub.publisher.cache.evictions", factory, CachingPublisherFactory::getEvictionCount)
+        .description("Number of publishers evicted because the cache was full or they were idle")
+        .tags(this.tags)
+        .register(registry);
+    FunctionTimer.builder(
+            "pubsub.publisher.cache.eviction.flush",
+            factory,
+            CachingPublisherFactory::getEvictionFlushCount,
+            f -> f.getEvictionFlushTime(TimeUnit.NANOSECONDS),
+            TimeUnit.NANOSECONDS)
+        .description("Time taken to flush and shut down evicted publishers")
+        .tags(this.tags)
+        .register(registry);
+  }
+}
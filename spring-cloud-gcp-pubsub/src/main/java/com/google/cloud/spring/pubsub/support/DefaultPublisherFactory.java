@@ -26,9 +26,11 @@ import com.google.cloud.pubsub.v1.Publisher;
 import com.google.cloud.spring.core.GcpProjectIdProvider;
 import com.google.cloud.spring.pubsub.core.PubSubException;
 import com.google.cloud.spring.pubsub.core.publisher.PublisherCustomizer;
+import com.google.pubsub.v1.TopicName;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import org.springframework.util.Assert;
 
 /**
@@ -60,6 +62,12 @@ public class DefaultPublisherFactory implements PublisherFactory {
 
   private List<PublisherCustomizer> customizers;
 
+  private Map<TopicName, ExecutorProvider> executorProviderMap = Collections.emptyMap();
+
+  private Map<TopicName, RetrySettings> retrySettingsMap = Collections.emptyMap();
+
+  private Map<TopicName, BatchingSettings> batchingSettingsMap = Collections.emptyMap();
+
   /**
    * Create {@link DefaultPublisherFactory} instance based on the provided {@link
    * GcpProjectIdProvider}.
@@ -157,6 +165,39 @@ public class DefaultPublisherFactory implements PublisherFactory {
     this.universeDomain = universeDomain;
   }
 
+  /**
+   * Set topic-specific executor providers, which take precedence over the executor provider set
+   * with {@link #setExecutorProvider(ExecutorProvider)} for their topic.
+   *
+   * @param executorProviderMap executor providers keyed by fully-qualified topic name
+   */
+  public void setExecutorProviderMap(Map<TopicName, ExecutorProvider> executorProviderMap) {
+    Assert.notNull(executorProviderMap, "The executorProviderMap can't be null.");
+    this.executorProviderMap = executorProviderMap;
+  }
+
+  /**
+   * Set topic-specific retry settings, which take precedence over the retry settings set with
+   * {@link #setRetrySettings(RetrySettings)} for their topic.
+   *
+   * @param retrySettingsMap retry settings keyed by fully-qualified topic name
+   */
+  public void setRetrySettingsMap(Map<TopicName, RetrySettings> retrySettingsMap) {
+    Assert.notNull(retrySettingsMap, "The retrySettingsMap can't be null.");
+    this.retrySettingsMap = retrySettingsMap;
+  }
+
+  /**
+   * Set topic-specific batching settings, which take precedence over the batching settings set
+   * with {@link #setBatchingSettings(BatchingSettings)} for their topic.
+   *
+   * @param batchingSettingsMap batching settings keyed by fully-qualified topic name
+   */
+  public void setBatchingSettingsMap(Map<TopicName, BatchingSettings> batchingSettingsMap) {
+    Assert.notNull(batchingSettingsMap, "The batchingSettingsMap can't be null.");
+    this.batchingSettingsMap = batchingSettingsMap;
+  }
+
   /**
    * Accepts a list of {@link Publisher.Builder} customizers.
    * The customizers are applied in the order provided, so the later customizers can override
@@ -173,6 +214,7 @@ public class DefaultPublisherFactory implements PublisherFactory {
    * <p></p>Configuration precedence:
    * <ol>
    *   <li>modifications applied by the factory customizers
+   *   <li>topic-specific settings ({@code spring.cloud.gcp.pubsub.publisher.topic.[name]})
    *   <li>{@code spring.cloud.gcp.pubsub.publisher} configuration options
    *   <li>client library defaults
    *</ol>
@@ -183,10 +225,10 @@ public class DefaultPublisherFactory implements PublisherFactory {
   @Override
   public Publisher createPublisher(String topic) {
     try {
-      Publisher.Builder publisherBuilder =
-          Publisher.newBuilder(PubSubTopicUtils.toTopicName(topic, this.projectId));
+      TopicName topicName = PubSubTopicUtils.toTopicName(topic, this.projectId);
+      Publisher.Builder publisherBuilder = Publisher.newBuilder(topicName);
 
-      applyPublisherSettings(publisherBuilder);
+      applyPublisherSettings(publisherBuilder, topicName);
       applyCustomizers(publisherBuilder, topic);
 
       return publisherBuilder.build();
@@ -196,9 +238,11 @@ public class DefaultPublisherFactory implements PublisherFactory {
     }
   }
 
-  void applyPublisherSettings(Publisher.Builder publisherBuilder) {
-    if (this.executorProvider != null) {
-      publisherBuilder.setExecutorProvider(this.executorProvider);
+  void applyPublisherSettings(Publisher.Builder publisherBuilder, TopicName topicName) {
+    ExecutorProvider topicExecutorProvider =
+        this.executorProviderMap.getOrDefault(topicName, this.executorProvider);
+    if (topicExecutorProvider != null) {
+      publisherBuilder.setExecutorProvider(topicExecutorProvider);
     }
 
     if (this.channelProvider != null) {
@@ -213,12 +257,16 @@ public class DefaultPublisherFactory implements PublisherFactory {
       publisherBuilder.setHeaderProvider(this.headerProvider);
     }
 
-    if (this.retrySettings != null) {
-      publisherBuilder.setRetrySettings(this.retrySettings);
+    RetrySettings topicRetrySettings =
+        this.retrySettingsMap.getOrDefault(topicName, this.retrySettings);
+    if (topicRetrySettings != null) {
+      publisherBuilder.setRetrySettings(topicRetrySettings);
     }
 
-    if (this.batchingSettings != null) {
-      publisherBuilder.setBatchingSettings(this.batchingSettings);
+    BatchingSettings topicBatchingSettings =
+        this.batchingSettingsMap.getOrDefault(topicName, this.batchingSettings);
+    if (topicBatchingSettings != null) {
+      publisherBuilder.setBatchingSettings(topicBatchingSettings);
     }
 
     if (this.enableMessageOrdering != null) {
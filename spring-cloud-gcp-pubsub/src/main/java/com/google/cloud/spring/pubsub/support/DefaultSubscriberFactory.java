@@ -16,6 +16,9 @@
 
 package com.google.cloud.spring.pubsub.support;
 
+import static java.time.Duration.ofMillis;
+import static java.time.Duration.ofSeconds;
+
 import com.google.api.core.ApiClock;
 import com.google.api.gax.batching.FlowControlSettings;
 import com.google.api.gax.core.CredentialsProvider;
@@ -24,6 +27,7 @@ import com.google.api.gax.retrying.RetrySettings;
 import com.google.api.gax.rpc.HeaderProvider;
 import com.google.api.gax.rpc.StatusCode.Code;
 import com.google.api.gax.rpc.TransportChannelProvider;
+import com.google.cloud.pubsub.v1.AckReplyConsumer;
 import com.google.cloud.pubsub.v1.MessageReceiver;
 import com.google.cloud.pubsub.v1.Subscriber;
 import com.google.cloud.pubsub.v1.stub.GrpcSubscriberStub;
@@ -33,15 +37,21 @@ import com.google.cloud.spring.core.GcpProjectIdProvider;
 import com.google.cloud.spring.pubsub.core.PubSubConfiguration;
 import com.google.cloud.spring.pubsub.core.PubSubException;
 import com.google.cloud.spring.pubsub.core.health.HealthTrackerRegistry;
+import com.google.cloud.spring.pubsub.core.subscriber.ReceiveListener;
 import com.google.cloud.spring.pubsub.core.subscriber.SubscriberCustomizer;
 import com.google.pubsub.v1.ProjectSubscriptionName;
+import com.google.pubsub.v1.PubsubMessage;
 import com.google.pubsub.v1.PullRequest;
 import java.io.IOException;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import javax.annotation.Nullable;
 import org.springframework.util.Assert;
 import org.threeten.bp.Duration;
@@ -100,6 +110,14 @@ public class DefaultSubscriberFactory implements SubscriberFactory {
   
   private List<SubscriberCustomizer> customizers;
 
+  private ReceiveListener receiveListener;
+
+  private final Map<ProjectSubscriptionName, AdaptiveFlowController> adaptiveFlowControllers =
+      new ConcurrentHashMap<>();
+
+  private final List<Consumer<AdaptiveFlowController>> adaptiveFlowControllerListeners =
+      new CopyOnWriteArrayList<>();
+
   /**
    * Default {@link DefaultSubscriberFactory} constructor.
    *
@@ -253,13 +271,28 @@ public class DefaultSubscriberFactory implements SubscriberFactory {
       receiver = healthTrackerRegistry.wrap(projectSubscriptionName, receiver);
     }
 
+    ReceiveListener listener = this.receiveListener;
+    if (listener != null) {
+      receiver = new ListenerNotifyingMessageReceiver(receiver, projectSubscriptionName, listener);
+    }
+
+    ExecutorProvider executor = getExecutorProvider(subscriptionName);
+    AdaptiveFlowController adaptiveFlowController = getAdaptiveFlowController(subscriptionName);
+    if (adaptiveFlowController != null) {
+      // Parked messages are handed over on the subscriber executor if it is shared, and so not
+      // created anew by each call.
+      receiver =
+          executor != null && !executor.shouldAutoClose()
+              ? adaptiveFlowController.wrap(receiver, executor.getExecutor())
+              : adaptiveFlowController.wrap(receiver);
+    }
+
     Subscriber.Builder subscriberBuilder = Subscriber.newBuilder(projectSubscriptionName, receiver);
 
     if (this.channelProvider != null) {
       subscriberBuilder.setChannelProvider(this.channelProvider);
     }
 
-    ExecutorProvider executor = getExecutorProvider(subscriptionName);
     if (executor != null) {
       subscriberBuilder.setExecutorProvider(executor);
     }
@@ -511,6 +544,103 @@ public class DefaultSubscriberFactory implements SubscriberFactory {
     return this.globalFlowControlSettings;
   }
 
+  /**
+   * Set a listener notified of the messages received by the created subscribers, e.g. to record
+   * metrics.
+   *
+   * @param receiveListener the listener, or null to remove it
+   */
+  public void setReceiveListener(ReceiveListener receiveListener) {
+    this.receiveListener = receiveListener;
+  }
+
+  /**
+   * Returns the {@link AdaptiveFlowController} shared by the subscribers of a subscription, creating
+   * it on first use.
+   *
+   * @param subscriptionName subscription name
+   * @return the adaptive flow controller, or null if adaptive flow control is not enabled
+   */
+  @Nullable
+  public AdaptiveFlowController getAdaptiveFlowController(String subscriptionName) {
+    ProjectSubscriptionName projectSubscriptionName =
+        PubSubSubscriptionUtils.toProjectSubscriptionName(subscriptionName, this.projectId);
+    AdaptiveFlowController existing = this.adaptiveFlowControllers.get(projectSubscriptionName);
+    if (existing != null) {
+      return existing;
+    }
+    PubSubConfiguration.AdaptiveFlowControl settings =
+        this.pubSubConfiguration.computeAdaptiveFlowControlSettings(projectSubscriptionName);
+    if (settings == null || !Boolean.TRUE.equals(settings.getEnabled())) {
+      return null;
+    }
+    boolean[] created = new boolean[1];
+    AdaptiveFlowController controller =
+        this.adaptiveFlowControllers.computeIfAbsent(
+            projectSubscriptionName,
+            key -> {
+              created[0] = true;
+              return createAdaptiveFlowController(subscriptionName, key, settings);
+            });
+    if (created[0]) {
+      this.adaptiveFlowControllerListeners.forEach(listener -> listener.accept(controller));
+    }
+    return controller;
+  }
+
+  private AdaptiveFlowController createAdaptiveFlowController(
+      String subscriptionName,
+      ProjectSubscriptionName projectSubscriptionName,
+      PubSubConfiguration.AdaptiveFlowControl settings) {
+    FlowControlSettings flowControl = getFlowControlSettings(subscriptionName);
+    Long maxOutstanding = flowControl != null ? flowControl.getMaxOutstandingElementCount() : null;
+    if (maxOutstanding == null) {
+      maxOutstanding =
+          Subscriber.Builder.getDefaultFlowControlSettings().getMaxOutstandingElementCount();
+    }
+    AdaptiveFlowController controller =
+        new AdaptiveFlowController(projectSubscriptionName.toString(), maxOutstanding);
+    if (settings.getMinOutstandingElementCount() != null) {
+      controller.setMinLimit(settings.getMinOutstandingElementCount());
+    }
+    if (settings.getTargetLatencyMillis() != null) {
+      controller.setTargetLatency(ofMillis(settings.getTargetLatencyMillis()));
+    }
+    if (settings.getAdjustmentIntervalMillis() != null) {
+      controller.setAdjustmentInterval(ofMillis(settings.getAdjustmentIntervalMillis()));
+    }
+    if (settings.getAckDeadlineSeconds() != null) {
+      controller.setAckDeadline(ofSeconds(settings.getAckDeadlineSeconds()));
+    }
+    if (settings.getRedeliveryThreshold() != null) {
+      controller.setRedeliveryThreshold(settings.getRedeliveryThreshold());
+    }
+    Duration ackExtensionPeriod = getMaxAckExtensionPeriod(subscriptionName);
+    if (ackExtensionPeriod != null) {
+      controller.setMaxAckExtensionPeriod(ofSeconds(ackExtensionPeriod.getSeconds()));
+    }
+    return controller;
+  }
+
+  /**
+   * Returns the adaptive flow controllers created so far.
+   *
+   * @return the adaptive flow controllers
+   */
+  public Collection<AdaptiveFlowController> getAdaptiveFlowControllers() {
+    return Collections.unmodifiableCollection(this.adaptiveFlowControllers.values());
+  }
+
+  /**
+   * Register a callback invoked whenever an adaptive flow controller is created.
+   *
+   * @param listener the callback receiving each new adaptive flow controller
+   */
+  public void addAdaptiveFlowControllerListener(Consumer<AdaptiveFlowController> listener) {
+    Assert.notNull(listener, "The listener can't be null.");
+    this.adaptiveFlowControllerListeners.add(listener);
+  }
+
   Duration getMaxAckExtensionPeriod(String subscriptionName) {
     if (this.maxAckExtensionPeriod != null) {
       return this.maxAckExtensionPeriod;
@@ -634,6 +764,58 @@ public class DefaultSubscriberFactory implements SubscriberFactory {
     this.customizers = Collections.unmodifiableList(customizers);
   }
   
+  /** Notifies a {@link ReceiveListener} of the messages handed to the delegate receiver. */
+  static final class ListenerNotifyingMessageReceiver implements MessageReceiver {
+
+    private final MessageReceiver delegate;
+
+    private final ProjectSubscriptionName subscription;
+
+    private final ReceiveListener listener;
+
+    ListenerNotifyingMessageReceiver(
+        MessageReceiver delegate,
+        ProjectSubscriptionName subscription,
+        ReceiveListener listener) {
+      this.delegate = delegate;
+      this.subscription = subscription;
+      this.listener = listener;
+    }
+
+    @Override
+    public void receiveMessage(PubsubMessage message, AckReplyConsumer consumer) {
+      long start = System.nanoTime();
+      this.listener.onReceive(this.subscription, message);
+      AtomicBoolean replied = new AtomicBoolean();
+      AckReplyConsumer notifyingConsumer =
+          new AckReplyConsumer() {
+            @Override
+            public void ack() {
+              notifyReply(message, replied, true, start);
+              consumer.ack();
+            }
+
+            @Override
+            public void nack() {
+              notifyReply(message, replied, false, start);
+              consumer.nack();
+            }
+          };
+      try {
+        this.delegate.receiveMessage(message, notifyingConsumer);
+      } finally {
+        this.listener.onHandled(this.subscription, message, System.nanoTime() - start);
+      }
+    }
+
+    private void notifyReply(
+        PubsubMessage message, AtomicBoolean replied, boolean ack, long start) {
+      if (replied.compareAndSet(false, true)) {
+        this.listener.onReply(this.subscription, message, ack, System.nanoTime() - start);
+      }
+    }
+  }
+
   private boolean shouldAddToHealthCheck(String subscriptionName) {
     if (healthTrackerRegistry == null) {
       return false;
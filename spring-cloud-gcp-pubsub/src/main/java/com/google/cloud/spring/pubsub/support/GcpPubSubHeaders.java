@@ -16,6 +16,8 @@
 
 package com.google.cloud.spring.pubsub.support;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.messaging.Message;
 
@@ -35,6 +37,12 @@ public abstract class GcpPubSubHeaders {
   /** The original message header text. */
   public static final String ORIGINAL_MESSAGE = PREFIX + "original_message";
 
+  /**
+   * The original messages header text, set on batches produced by a {@link
+   * com.google.cloud.spring.pubsub.integration.inbound.PubSubInboundChannelAdapter} in batch mode.
+   */
+  public static final String ORIGINAL_MESSAGES = PREFIX + "original_messages";
+
   /** The Pub/Sub message ordering key. */
   public static final String ORDERING_KEY = PREFIX + "ordering_key";
 
@@ -54,4 +62,23 @@ public abstract class GcpPubSubHeaders {
     }
     return Optional.empty();
   }
+
+  /**
+   * A simple utility method for pulling the {@link #ORIGINAL_MESSAGES} header out of a {@link
+   * Message} carrying a batch.
+   *
+   * @param message The Spring Message that was produced by a {@link
+   *     com.google.cloud.spring.pubsub.integration.inbound.PubSubInboundChannelAdapter} in batch
+   *     mode.
+   * @return the BasicAcknowledgeablePubsubMessages of the batch, in payload order, or an empty list
+   *     if the header is absent.
+   */
+  @SuppressWarnings("unchecked")
+  public static List<BasicAcknowledgeablePubsubMessage> getOriginalMessages(Message<?> message) {
+    Object originalMessages = message.getHeaders().get(ORIGINAL_MESSAGES);
+    if (originalMessages instanceof List) {
+      return (List<BasicAcknowledgeablePubsubMessage>) originalMessages;
+    }
+    return Collections.emptyList();
+  }
 }
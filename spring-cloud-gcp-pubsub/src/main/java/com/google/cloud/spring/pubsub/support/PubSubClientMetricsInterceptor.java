@@ -0,0 +1,321 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.pubsub.support;
+
+import com.google.pubsub.v1.AcknowledgeRequest;
+import com.google.pubsub.v1.ModifyAckDeadlineRequest;
+import com.google.pubsub.v1.PublishRequest;
+import com.google.pubsub.v1.PullRequest;
+import com.google.pubsub.v1.PullResponse;
+import com.google.pubsub.v1.StreamingPullRequest;
+import com.google.pubsub.v1.StreamingPullResponse;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.springframework.util.Assert;
+
+/**
+ * A gRPC {@link ClientInterceptor} recording Micrometer metrics for the RPCs the Pub/Sub client
+ * library sends on its own, such as the batches it publishes and the acknowledgements it
+ * sends, once bound to a {@link MeterRegistry}. It is added to the transport channel providers of
+ * the publishers and subscribers.
+ *
+ * <p>The following meters are recorded:
+ *
+ * <ul>
+ *   <li>{@code pubsub.publisher.rpc}: latency of {@code Publish} calls, per {@code topic} and
+ *       {@code status};
+ *   <li>{@code pubsub.publisher.batch.size} and {@code pubsub.publisher.batch.bytes}: number of
+ *       messages and serialized size of each published batch, per {@code topic};
+ *   <li>{@code pubsub.subscriber.rpc}: latency of {@code Pull}, {@code Acknowledge} and {@code
+ *       ModifyAckDeadline} calls, per {@code subscription}, {@code operation} ({@code pull}, {@code
+ *       ack}, {@code modack} or {@code nack} for deadlines set to zero) and {@code status};
+ *   <li>{@code pubsub.subscriber.received}: number of messages received by pull and streaming pull,
+ *       per {@code subscription}.
+ * </ul>
+ *
+ * <p>Other RPCs, including the administrative ones, are not recorded. At most {@code maxTagValues}
+ * distinct topics and subscriptions are used as tag values; further ones are recorded under {@code
+ * other}. Meters are registered once per tag combination and reused by later calls.
+ */
+public class PubSubClientMetricsInterceptor implements ClientInterceptor, MeterBinder {
+
+  private static final Set<String> SERVICES =
+      Set.of("google.pubsub.v1.Publisher", "google.pubsub.v1.Subscriber");
+
+  private final Tags tags;
+
+  private final BoundedTagValues topics;
+
+  private final BoundedTagValues subscriptions;
+
+  private volatile RegisteredMeters meters;
+
+  public PubSubClientMetricsInterceptor() {
+    this(PubSubMessagingMetrics.DEFAULT_MAX_TAG_VALUES, Collections.emptyList());
+  }
+
+  /**
+   * Create the interceptor.
+   *
+   * @param maxTagValues maximum number of distinct topics, and of distinct subscriptions, used as
+   *     tag values
+   * @param tags tags added to all meters
+   */
+  public PubSubClientMetricsInterceptor(int maxTagValues, Iterable<Tag> tags) {
+    Assert.isTrue(maxTagValues > 0, "The maxTagValues must be positive.");
+    this.topics = new BoundedTagValues(maxTagValues);
+    this.subscriptions = new BoundedTagValues(maxTagValues);
+    this.tags = Tags.of(tags);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    this.meters = new RegisteredMeters(registry);
+  }
+
+  @Override
+  public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+      MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+    RegisteredMeters registeredMeters = this.meters;
+    if (registeredMeters == null || !SERVICES.contains(method.getServiceName())) {
+      return next.newCall(method, callOptions);
+    }
+    return new MetricsClientCall<>(next.newCall(method, callOptions), registeredMeters);
+  }
+
+  /** The meters registered with one registry, by tag values. */
+  private final class RegisteredMeters {
+
+    private final MeterRegistry registry;
+
+    private final Map<String, DistributionSummary> batchSizes = new ConcurrentHashMap<>();
+
+    private final Map<String, DistributionSummary> batchBytes = new ConcurrentHashMap<>();
+
+    private final Map<String, Counter> received = new ConcurrentHashMap<>();
+
+    private final Map<RpcKey, Timer> rpcTimers = new ConcurrentHashMap<>();
+
+    RegisteredMeters(MeterRegistry registry) {
+      this.registry = registry;
+    }
+
+    DistributionSummary batchSize(String topic) {
+      return this.batchSizes.computeIfAbsent(
+          topic,
+          key ->
+              DistributionSummary.builder("pubsub.publisher.batch.size")
+                  .description("Number of messages in each published batch")
+                  .tags(PubSubClientMetricsInterceptor.this.tags.and("topic", key))
+                  .register(this.registry));
+    }
+
+    DistributionSummary batchBytes(String topic) {
+      return this.batchBytes.computeIfAbsent(
+          topic,
+          key ->
+              DistributionSummary.builder("pubsub.publisher.batch.bytes")
+                  .description("Serialized size of each published batch")
+                  .baseUnit("bytes")
+                  .tags(PubSubClientMetricsInterceptor.this.tags.and("topic", key))
+                  .register(this.registry));
+    }
+
+    Counter received(String subscription) {
+      return this.received.computeIfAbsent(
+          subscription,
+          key ->
+              Counter.builder("pubsub.subscriber.received")
+                  .description("Number of messages received from the server")
+                  .tags(PubSubClientMetricsInterceptor.this.tags.and("subscription", key))
+                  .register(this.registry));
+    }
+
+    Timer publishRpc(String topic, Status.Code status) {
+      return this.rpcTimers.computeIfAbsent(
+          new RpcKey(topic, null, status),
+          key -> rpcTimer("pubsub.publisher.rpc", Tags.of("topic", topic), status));
+    }
+
+    Timer subscriberRpc(String subscription, String operation, Status.Code status) {
+      return this.rpcTimers.computeIfAbsent(
+          new RpcKey(subscription, operation, status),
+          key ->
+              rpcTimer(
+                  "pubsub.subscriber.rpc",
+                  Tags.of("subscription", subscription, "operation", operation),
+                  status));
+    }
+
+    private Timer rpcTimer(String name, Tags callTags, Status.Code status) {
+      return Timer.builder(name)
+          .description("Latency of the calls to the Pub/Sub service")
+          .tags(PubSubClientMetricsInterceptor.this.tags.and(callTags).and("status", status.name()))
+          .register(this.registry);
+    }
+  }
+
+  /**
+   * The topic or subscription, operation and status of an RPC timer. Publish calls have no
+   * operation.
+   */
+  private static final class RpcKey {
+
+    private final String target;
+
+    private final String operation;
+
+    private final Status.Code status;
+
+    RpcKey(String target, String operation, Status.Code status) {
+      this.target = target;
+      this.operation = operation;
+      this.status = status;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof RpcKey key
+          && this.target.equals(key.target)
+          && Objects.equals(this.operation, key.operation)
+          && this.status == key.status;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(this.target, this.operation, this.status);
+    }
+  }
+
+  private final class MetricsClientCall<ReqT, RespT>
+      extends ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT> {
+
+    private final RegisteredMeters meters;
+
+    private volatile long startNanos;
+
+    // The timer of the call by status, known once its (first) request is sent.
+    private volatile Function<Status.Code, Timer> rpcTimer;
+
+    private volatile String subscription;
+
+    MetricsClientCall(ClientCall<ReqT, RespT> delegate, RegisteredMeters meters) {
+      super(delegate);
+      this.meters = meters;
+    }
+
+    @Override
+    public void start(Listener<RespT> responseListener, Metadata headers) {
+      this.startNanos = System.nanoTime();
+      super.start(
+          new ForwardingClientCallListener.SimpleForwardingClientCallListener<>(responseListener) {
+            @Override
+            public void onMessage(RespT message) {
+              received(message);
+              super.onMessage(message);
+            }
+
+            @Override
+            public void onClose(Status status, Metadata trailers) {
+              closed(status);
+              super.onClose(status, trailers);
+            }
+          },
+          headers);
+    }
+
+    @Override
+    public void sendMessage(ReqT message) {
+      sent(message);
+      super.sendMessage(message);
+    }
+
+    private void sent(Object message) {
+      if (message instanceof PublishRequest request) {
+        String topic = PubSubClientMetricsInterceptor.this.topics.tagValue(request.getTopic());
+        this.meters.batchSize(topic).record(request.getMessagesCount());
+        this.meters.batchBytes(topic).record(request.getSerializedSize());
+        this.rpcTimer = status -> this.meters.publishRpc(topic, status);
+      } else if (message instanceof PullRequest request) {
+        subscriberCall(request.getSubscription(), "pull");
+      } else if (message instanceof AcknowledgeRequest request) {
+        subscriberCall(request.getSubscription(), "ack");
+      } else if (message instanceof ModifyAckDeadlineRequest request) {
+        subscriberCall(
+            request.getSubscription(), request.getAckDeadlineSeconds() == 0 ? "nack" : "modack");
+      } else if (message instanceof StreamingPullRequest request
+          && this.subscription == null
+          && !request.getSubscription().isEmpty()) {
+        // Only the first request of a stream names the subscription. The stream itself is
+        // long-lived, so only the messages it delivers are recorded.
+        this.subscription =
+            PubSubClientMetricsInterceptor.this.subscriptions.tagValue(request.getSubscription());
+      }
+    }
+
+    private void subscriberCall(String subscription, String operation) {
+      String tagValue = PubSubClientMetricsInterceptor.this.subscriptions.tagValue(subscription);
+      this.subscription = tagValue;
+      this.rpcTimer = status -> this.meters.subscriberRpc(tagValue, operation, status);
+    }
+
+    private void received(Object message) {
+      int count;
+      if (message instanceof PullResponse response) {
+        count = response.getReceivedMessagesCount();
+      } else if (message instanceof StreamingPullResponse response) {
+        count = response.getReceivedMessagesCount();
+      } else {
+        return;
+      }
+      String receivedFrom = this.subscription;
+      if (receivedFrom != null) {
+        this.meters.received(receivedFrom).increment(count);
+      }
+    }
+
+    private void closed(Status status) {
+      Function<Status.Code, Timer> timer = this.rpcTimer;
+      if (timer != null) {
+        timer
+            .apply(status.getCode())
+            .record(System.nanoTime() - this.startNanos, TimeUnit.NANOSECONDS);
+      }
+    }
+  }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.pubsub.support;
+
+import com.google.cloud.spring.pubsub.core.publisher.PublishListener;
+import com.google.cloud.spring.pubsub.core.subscriber.ReceiveListener;
+import com.google.pubsub.v1.ProjectSubscriptionName;
+import com.google.pubsub.v1.PubsubMessage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Records Micrometer metrics for the messages published through a {@link
+ * com.google.cloud.spring.pubsub.core.publisher.PubSubPublisherTemplate} and received by the
+ * subscribers of a {@link DefaultSubscriberFactory}, once bound to a {@link MeterRegistry}.
+ *
+ * <p>Publishes are recorded per {@code topic} as {@code pubsub.publisher.publish}, a timer with a
+ * percentile histogram tagged with the {@code result}, and as the {@code pubsub.publisher.in.flight}
+ * gauge. Received messages are recorded per {@code subscription} as {@code
+ * pubsub.subscriber.handler}, the time spent in the message receiver, {@code
+ * pubsub.subscriber.reply}, the time from receipt to ack or nack tagged with the {@code reply}, and
+ * the {@code pubsub.subscriber.outstanding} gauge of messages neither acked nor nacked.
+ *
+ * <p>At most {@code maxTagValues} distinct topics and subscriptions are used as tag values; further
+ * ones are recorded under {@code other}.
+ */
+public class PubSubMessagingMetrics implements PublishListener, ReceiveListener, MeterBinder {
+
+  /** The default maximum number of distinct topic or subscription tag values. */
+  public static final int DEFAULT_MAX_TAG_VALUES = 100;
+
+  private final Iterable<Tag> tags;
+
+  private final BoundedTagValues topics;
+
+  private final BoundedTagValues subscriptions;
+
+  private final Map<String, TopicMeters> topicMeters = new ConcurrentHashMap<>();
+
+  private final Map<String, SubscriptionMeters> subscriptionMetersByTag = new ConcurrentHashMap<>();
+
+  private final Map<ProjectSubscriptionName, SubscriptionMeters> subscriptionMeters =
+      new ConcurrentHashMap<>();
+
+  private volatile MeterRegistry registry;
+
+  public PubSubMessagingMetrics() {
+    this(DEFAULT_MAX_TAG_VALUES, Collections.emptyList());
+  }
+
+  /**
+   * Create the metrics recorder.
+   *
+   * @param maxTagValues maximum number of distinct topics, and of distinct subscriptions, used as
+   *     tag values
+   * @param tags tags added to all meters
+   */
+  public PubSubMessagingMetrics(int maxTagValues, Iterable<Tag> tags) {
+    Assert.isTrue(maxTagValues > 0, "The maxTagValues must be positive.");
+    this.topics = new BoundedTagValues(maxTagValues);
+    this.subscriptions = new BoundedTagValues(maxTagValues);
+    this.tags = Tags.of(tags);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    this.registry = registry;
+  }
+
+  @Override
+  public void onPublish(String topic, PubsubMessage message) {
+    TopicMeters meters = topicMeters(topic);
+    if (meters != null) {
+      meters.inFlight.incrementAndGet();
+    }
+  }
+
+  @Override
+  public void onPublishComplete(
+      String topic, PubsubMessage message, long durationNanos, @Nullable Throwable failure) {
+    TopicMeters meters = topicMeters(topic);
+    if (meters != null) {
+      meters.inFlight.decrementAndGet();
+      (failure == null ? meters.success : meters.failure)
+          .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  @Override
+  public void onReceive(ProjectSubscriptionName subscription, PubsubMessage message) {
+    SubscriptionMeters meters = subscriptionMeters(subscription);
+    if (meters != null) {
+      meters.outstanding.incrementAndGet();
+    }
+  }
+
+  @Override
+  public void onHandled(
+      ProjectSubscriptionName subscription, PubsubMessage message, long durationNanos) {
+    SubscriptionMeters meters = subscriptionMeters(subscription);
+    if (meters != null) {
+      meters.handler.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  @Override
+  public void onReply(
+      ProjectSubscriptionName subscription,
+      PubsubMessage message,
+      boolean ack,
+      long durationNanos) {
+    SubscriptionMeters meters = subscriptionMeters(subscription);
+    if (meters != null) {
+      meters.outstanding.decrementAndGet();
+      (ack ? meters.ack : meters.nack).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  @Nullable
+  private TopicMeters topicMeters(String topic) {
+    MeterRegistry meterRegistry = this.registry;
+    if (meterRegistry == null) {
+      return null;
+    }
+    // Keyed by tag value, so that all topics recorded as "other" share their meters.
+    return this.topicMeters.computeIfAbsent(
+        this.topics.tagValue(topic), key -> new TopicMeters(meterRegistry, key));
+  }
+
+  @Nullable
+  private SubscriptionMeters subscriptionMeters(ProjectSubscriptionName subscription) {
+    MeterRegistry meterRegistry = this.registry;
+    if (meterRegistry == null) {
+      return null;
+    }
+    SubscriptionMeters meters = this.subscriptionMeters.get(subscription);
+    if (meters == null) {
+      meters =
+          this.subscriptionMeters.computeIfAbsent(
+              subscription,
+              key ->
+                  this.subscriptionMetersByTag.computeIfAbsent(
+                      this.subscriptions.tagValue(key.toString()),
+                      tag -> new SubscriptionMeters(meterRegistry, tag)));
+    }
+    return meters;
+  }
+
+  private final class TopicMeters {
+
+    private final AtomicLong inFlight;
+
+    private final Timer success;
+
+    private final Timer failure;
+
+    TopicMeters(MeterRegistry registry, String topic) {
+      Tags topicTags = Tags.of(PubSubMessagingMetrics.this.tags).and("topic", topic);
+      this.inFlight =
+          registry.gauge(
+              "pubsub.publisher.in.flight", topicTags, new AtomicLong(), AtomicLong::get);
+      this.success = publishTimer(registry, topicTags, "success");
+      this.failure = publishTimer(registry, topicTags, "failure");
+    }
+
+    private Timer publishTimer(MeterRegistry registry, Tags topicTags, String result) {
+      return Timer.builder("pubsub.publisher.publish")
+          .description("Time from publishing a message to its completion")
+          .tags(topicTags)
+          .tag("result", result)
+          .publishPercentileHistogram()
+          .register(registry);
+    }
+  }
+
+  private final class SubscriptionMeters {
+
+    private final AtomicLong outstanding;
+
+    private final Timer handler;
+
+    private final Timer ack;
+
+    private final Timer nack;
+
+    SubscriptionMeters(MeterRegistry registry, String subscription) {
+      Tags subscriptionTags =
+          Tags.of(PubSubMessagingMetrics.this.tags).and("subscription", subscription);
+      this.outstanding =
+          registry.gauge(
+              "pubsub.subscriber.outstanding",
+              subscriptionTags,
+              new AtomicLong(),
+              AtomicLong::get);
+      this.handler =
+          Timer.builder("pubsub.subscriber.handler")
+              .description("Time spent in the message receiver")
+              .tags(subscriptionTags)
+              .publishPercentileHistogram()
+              .register(registry);
+      this.ack = replyTimer(registry, subscriptionTags, "ack");
+      this.nack = replyTimer(registry, subscriptionTags, "nack");
+    }
+
+    private Timer replyTimer(MeterRegistry registry, Tags subscriptionTags, String reply) {
+      return Timer.builder("pubsub.subscriber.reply")
+          .description("Time from receiving a message to acking or nacking it")
+          .tags(subscriptionTags)
+          .tag("reply", reply)
+          .register(registry);
+    }
+  }
+}
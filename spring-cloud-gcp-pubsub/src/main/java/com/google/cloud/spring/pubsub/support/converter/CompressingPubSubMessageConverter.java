@@ -0,0 +1,194 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.pubsub.support.converter;
+
+import com.google.protobuf.ByteString;
+import com.google.pubsub.v1.PubsubMessage;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link PubSubMessageConverter} compressing the data produced by another converter.
+ *
+ * <p>Data of at least {@link #getCompressionThreshold() compressionThreshold} bytes is compressed
+ * with the configured {@link PayloadCodec}, whose name is stored in the {@value
+ * #CONTENT_ENCODING_ATTRIBUTE} attribute of the message. Data that does not shrink is published
+ * uncompressed, without the attribute.
+ *
+ * <p>Received messages with the attribute are decompressed with the codec of that name before
+ * being converted by the delegate, so that, set on a {@link
+ * com.google.cloud.spring.pubsub.core.subscriber.PubSubSubscriberTemplate}, compressed and
+ * uncompressed messages are handled transparently. Besides the codec used for compression, gzip is
+ * always recognized; other codecs can be {@link #addCodec(PayloadCodec) added} to read messages
+ * from publishers using them. Messages whose data decompresses to more than {@link
+ * #getMaxDecompressedSize() maxDecompressedSize} bytes are rejected.
+ */
+public class CompressingPubSubMessageConverter implements PubSubMessageConverter {
+
+  /** The attribute holding the name of the codec compressing the message data. */
+  public static final String CONTENT_ENCODING_ATTRIBUTE = "content-encoding";
+
+  /** The default minimum size of the data to compress, in bytes. */
+  public static final int DEFAULT_COMPRESSION_THRESHOLD = 1024;
+
+  private final PubSubMessageConverter delegate;
+
+  private final PayloadCodec codec;
+
+  private final Map<String, PayloadCodec> codecs = new ConcurrentHashMap<>();
+
+  private int compressionThreshold = DEFAULT_COMPRESSION_THRESHOLD;
+
+  private int maxDecompressedSize = PayloadCodec.DEFAULT_MAX_DECOMPRESSED_SIZE;
+
+  /**
+   * Instantiate a converter compressing with gzip.
+   *
+   * @param delegate the converter serializing payloads and deserializing decompressed data
+   */
+  public CompressingPubSubMessageConverter(PubSubMessageConverter delegate) {
+    this(delegate, new GzipPayloadCodec());
+  }
+
+  /**
+   * Instantiate a converter compressing with the given codec.
+   *
+   * @param delegate the converter serializing payloads and deserializing decompressed data
+   * @param codec the codec compressing the data of published messages
+   */
+  public CompressingPubSubMessageConverter(PubSubMessageConverter delegate, PayloadCodec codec) {
+    Assert.notNull(delegate, "The delegate can't be null.");
+    Assert.notNull(codec, "The codec can't be null.");
+    this.delegate = delegate;
+    this.codec = codec;
+    this.codecs.put(GzipPayloadCodec.NAME, new GzipPayloadCodec());
+    addCodec(codec);
+  }
+
+  public PubSubMessageConverter getDelegate() {
+    return this.delegate;
+  }
+
+  public PayloadCodec getCodec() {
+    return this.codec;
+  }
+
+  public int getMaxDecompressedSize() {
+    return this.maxDecompressedSize;
+  }
+
+  /**
+   * Set the maximum size of decompressed message data. Received messages whose data decompresses
+   * to more are rejected, so that a small malicious message cannot exhaust the memory.
+   *
+   * @param maxDecompressedSize the maximum size in bytes
+   */
+  public void setMaxDecompressedSize(int maxDecompressedSize) {
+    Assert.isTrue(maxDecompressedSize > 0, "The maxDecompressedSize must be positive.");
+    this.maxDecompressedSize = maxDecompressedSize;
+  }
+
+  public int getCompressionThreshold() {
+    return this.compressionThreshold;
+  }
+
+  /**
+   * Set the minimum size of the data to compress. Small messages rarely shrink enough to be worth
+   * the CPU cost of compressing them.
+   *
+   * @param compressionThreshold the minimum size in bytes
+   */
+  public void setCompressionThreshold(int compressionThreshold) {
+    Assert.isTrue(compressionThreshold >= 0, "The compressionThreshold can't be negative.");
+    this.compressionThreshold = compressionThreshold;
+  }
+
+  /**
+   * Add a codec to decompress received messages with, replacing any codec of the same name.
+   *
+   * @param codec the codec to add
+   */
+  public void addCodec(PayloadCodec codec) {
+    Assert.notNull(codec, "The codec can't be null.");
+    Assert.hasText(codec.getName(), "The codec name can't be null or empty.");
+    this.codecs.put(codec.getName(), codec);
+  }
+
+  @Override
+  public PubsubMessage toPubSubMessage(Object payload, Map<String, String> headers) {
+    return compress(this.delegate.toPubSubMessage(payload, headers));
+  }
+
+  @Override
+  public PubsubMessage byteStringToPubSubMessage(
+      ByteString payload, Map<String, String> headers) {
+    return compress(this.delegate.byteStringToPubSubMessage(payload, headers));
+  }
+
+  @Override
+  public <T> T fromPubSubMessage(PubsubMessage message, Class<T> payloadType) {
+    return this.delegate.fromPubSubMessage(decompress(message), payloadType);
+  }
+
+  /**
+   * Compress the data of a message, if it is large enough and not compressed yet.
+   *
+   * @param message the message to compress
+   * @return the message with compressed data, or the given message
+   */
+  public PubsubMessage compress(PubsubMessage message) {
+    ByteString data = message.getData();
+    if (data.size() < this.compressionThreshold
+        || message.containsAttributes(CONTENT_ENCODING_ATTRIBUTE)) {
+      return message;
+    }
+    ByteString compressed = this.codec.compress(data);
+    if (compressed.size() >= data.size()) {
+      return message;
+    }
+    return message.toBuilder()
+        .setData(compressed)
+        .putAttributes(CONTENT_ENCODING_ATTRIBUTE, this.codec.getName())
+        .build();
+  }
+
+  /**
+   * Decompress the data of a message compressed with a known codec.
+   *
+   * @param message the message to decompress
+   * @return the message with decompressed data and without the codec attribute, or the given
+   *     message if it is not compressed
+   * @throws PubSubMessageConversionException if the codec is unknown, or the data is invalid or
+   *     decompresses to more than the maximum size
+   */
+  public PubsubMessage decompress(PubsubMessage message) {
+    String codecName = message.getAttributesOrDefault(CONTENT_ENCODING_ATTRIBUTE, null);
+    if (codecName == null) {
+      return message;
+    }
+    PayloadCodec messageCodec = this.codecs.get(codecName);
+    if (messageCodec == null) {
+      throw new PubSubMessageConversionException(
+          "No codec is registered for the " + codecName + " content encoding.");
+    }
+    return message.toBuilder()
+        .setData(messageCodec.decompress(message.getData(), this.maxDecompressedSize))
+        .removeAttributes(CONTENT_ENCODING_ATTRIBUTE)
+        .build();
+  }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.pubsub.support.converter;
+
+import com.google.protobuf.ByteString;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link PayloadCodec} producing the gzip format with the JDK {@link Deflater}, readable by any
+ * gzip implementation.
+ *
+ * <p>Unlike {@link java.util.zip.GZIPOutputStream}, which allocates a native compression context
+ * for every stream, each thread reuses its own {@link Deflater}, {@link Inflater} and buffers.
+ */
+public class GzipPayloadCodec implements PayloadCodec {
+
+  /** The name of the codec in message attributes. */
+  public static final String NAME = "gzip";
+
+  private static final int GZIP_MAGIC = 0x8b1f;
+
+  private static final int DEFLATE_METHOD = 8;
+
+  private static final int FHCRC = 2;
+
+  private static final int FEXTRA = 4;
+
+  private static final int FNAME = 8;
+
+  private static final int FCOMMENT = 16;
+
+  private static final byte[] HEADER = {0x1f, (byte) 0x8b, DEFLATE_METHOD, 0, 0, 0, 0, 0, 0, -1};
+
+  private static final int TRAILER_SIZE = 8;
+
+  private static final int BUFFER_SIZE = 8192;
+
+  private final ThreadLocal<Deflater> deflaters;
+
+  private final ThreadLocal<Inflater> inflaters = ThreadLocal.withInitial(() -> new Inflater(true));
+
+  private final ThreadLocal<CRC32> checksums = ThreadLocal.withInitial(CRC32::new);
+
+  private final ThreadLocal<byte[]> buffers = ThreadLocal.withInitial(() -> new byte[BUFFER_SIZE]);
+
+  public GzipPayloadCodec() {
+    this(Deflater.DEFAULT_COMPRESSION);
+  }
+
+  /**
+   * Instantiate a codec compressing at the given level.
+   *
+   * @param level the compression level, from 0 to 9, or {@link Deflater#DEFAULT_COMPRESSION}
+   */
+  public GzipPayloadCodec(int level) {
+    Assert.isTrue(
+        (level >= Deflater.NO_COMPRESSION && level <= Deflater.BEST_COMPRESSION)
+            || level == Deflater.DEFAULT_COMPRESSION,
+        "The level must be between 0 and 9, or -1 for the default level.");
+    this.deflaters = ThreadLocal.withInitial(() -> new Deflater(level, true));
+  }
+
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  @Override
+  public ByteString compress(ByteString data) {
+    Deflater deflater = this.deflaters.get();
+    CRC32 checksum = this.checksums.get();
+    byte[] buffer = this.buffers.get();
+    try {
+      ByteBuffer input = data.asReadOnlyByteBuffer();
+      checksum.update(input.duplicate());
+      deflater.setInput(input);
+      deflater.finish();
+
+      ByteString.Output output =
+          ByteString.newOutput(HEADER.length + data.size() / 2 + TRAILER_SIZE);
+      output.write(HEADER, 0, HEADER.length);
+      while (!deflater.finished()) {
+        output.write(buffer, 0, deflater.deflate(buffer));
+      }
+      writeIntLittleEndian(output, (int) checksum.getValue());
+      writeIntLittleEndian(output, data.size());
+      return output.toByteString();
+    } finally {
+      deflater.reset();
+      checksum.reset();
+    }
+  }
+
+  @Override
+  public ByteString decompress(ByteString data, int maxDecompressedSize) {
+    Inflater inflater = this.inflaters.get();
+    CRC32 checksum = this.checksums.get();
+    byte[] buffer = this.buffers.get();
+    try {
+      ByteBuffer input = data.asReadOnlyByteBuffer().order(ByteOrder.LITTLE_ENDIAN);
+      skipHeader(input);
+      inflater.setInput(input);
+
+      ByteString.Output output =
+          ByteString.newOutput((int) Math.min(data.size() * 4L, maxDecompressedSize));
+      while (!inflater.finished()) {
+        int length = inflater.inflate(buffer);
+        if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          throw new PubSubMessageConversionException("The gzip data is truncated.");
+        }
+        if (length > maxDecompressedSize - output.size()) {
+          throw new PubSubMessageConversionException(
+              "The gzip data decompresses to more than " + maxDecompressedSize + " bytes.");
+        }
+        checksum.update(buffer, 0, length);
+        output.write(buffer, 0, length);
+      }
+      // The inflater advanced the input past the compressed data, to the trailer.
+      if (input.getInt() != (int) checksum.getValue() || input.getInt() != output.size()) {
+        throw new PubSubMessageConversionException("The gzip data is corrupted.");
+      }
+      return output.toByteString();
+    } catch (DataFormatException ex) {
+      throw new PubSubMessageConversionException("The gzip data is corrupted.", ex);
+    } catch (BufferUnderflowException | IllegalArgumentException ex) {
+      throw new PubSubMessageConversionException("The gzip data is truncated.", ex);
+    } finally {
+      inflater.reset();
+      checksum.reset();
+    }
+  }
+
+  private static void skipHeader(ByteBuffer input) {
+    if (input.remaining() < HEADER.length
+        || (input.getShort() & 0xffff) != GZIP_MAGIC
+        || input.get() != DEFLATE_METHOD) {
+      throw new PubSubMessageConversionException("The data is not in the gzip format.");
+    }
+    int flags = input.get() & 0xff;
+    // Modification time, extra flags and operating system.
+    input.position(input.position() + 6);
+    if ((flags & FEXTRA) != 0) {
+      int length = input.getShort() & 0xffff;
+      input.position(input.position() + length);
+    }
+    if ((flags & FNAME) != 0) {
+      skipZeroTerminated(input);
+    }
+    if ((flags & FCOMMENT) != 0) {
+      skipZeroTerminated(input);
+    }
+    if ((flags & FHCRC) != 0) {
+      input.position(input.position() + 2);
+    }
+  }
+
+  private static void skipZeroTerminated(ByteBuffer input) {
+    while (input.get() != 0) {
+      // Skip to the terminating zero.
+    }
+  }
+
+  private static void writeIntLittleEndian(ByteString.Output output, int value) {
+    output.write(value);
+    output.write(value >>> 8);
+    output.write(value >>> 16);
+    output.write(value >>> 24);
+  }
+}
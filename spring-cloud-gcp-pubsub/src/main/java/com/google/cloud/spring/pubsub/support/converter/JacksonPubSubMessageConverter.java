@@ -18,13 +18,18 @@ package com.google.cloud.spring.pubsub.support.converter;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import com.google.pubsub.v1.PubsubMessage;
 import java.io.IOException;
 import java.util.Map;
 import org.springframework.util.Assert;
 
-/** A converter using Jackson JSON. */
+/**
+ * A converter using Jackson JSON.
+ *
+ * <p>Payloads are read directly from the message data and serialized payloads are wrapped without
+ * copying, so each message payload is only materialized once.
+ */
 public class JacksonPubSubMessageConverter implements PubSubMessageConverter {
 
   private final ObjectMapper objectMapper;
@@ -42,8 +47,9 @@ public class JacksonPubSubMessageConverter implements PubSubMessageConverter {
   @Override
   public PubsubMessage toPubSubMessage(Object payload, Map<String, String> headers) {
     try {
+      // The serialized array is not shared, so it can back the message data without a copy.
       return byteStringToPubSubMessage(
-          ByteString.copyFrom(this.objectMapper.writeValueAsBytes(payload)), headers);
+          UnsafeByteOperations.unsafeWrap(this.objectMapper.writeValueAsBytes(payload)), headers);
     } catch (JsonProcessingException ex) {
       throw new PubSubMessageConversionException(
           "JSON serialization of an object of type " + payload.getClass().getName() + " failed.",
@@ -54,8 +60,7 @@ public class JacksonPubSubMessageConverter implements PubSubMessageConverter {
   @Override
   public <T> T fromPubSubMessage(PubsubMessage message, Class<T> payloadType) {
     try {
-      return (T)
-          this.objectMapper.readerFor(payloadType).readValue(message.getData().toByteArray());
+      return (T) this.objectMapper.readerFor(payloadType).readValue(message.getData().newInput());
     } catch (IOException ex) {
       throw new PubSubMessageConversionException(
           "JSON deserialization of an object of type " + payloadType.getName() + " failed.", ex);
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.pubsub.support.converter;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Compresses and decompresses Pub/Sub message data for a {@link
+ * CompressingPubSubMessageConverter}. The {@link #getName() name} of the codec is stored in a
+ * message attribute, so a subscriber can pick the codec that reverses the compression.
+ *
+ * <p>Implementations must be thread-safe.
+ */
+public interface PayloadCodec {
+
+  /** The default maximum size of decompressed data, in bytes. */
+  int DEFAULT_MAX_DECOMPRESSED_SIZE = 64 * 1024 * 1024;
+
+  /**
+   * Get the name identifying the compression format in message attributes.
+   *
+   * @return the name of the codec
+   */
+  String getName();
+
+  /**
+   * Compress message data.
+   *
+   * @param data the data to compress
+   * @return the compressed data
+   */
+  ByteString compress(ByteString data);
+
+  /**
+   * Decompress message data compressed by this codec, up to the {@link
+   * #DEFAULT_MAX_DECOMPRESSED_SIZE default maximum size}.
+   *
+   * @param data the compressed data
+   * @return the decompressed data
+   * @throws PubSubMessageConversionException if the data is not valid for this codec or too large
+   */
+  default ByteString decompress(ByteString data) {
+    return decompress(data, DEFAULT_MAX_DECOMPRESSED_SIZE);
+  }
+
+  /**
+   * Decompress message data compressed by this codec. Since the data comes from untrusted
+   * messages, implementations must reject data decompressing to more than the maximum size before
+   * allocating memory for it.
+   *
+   * @param data the compressed data
+   * @param maxDecompressedSize the maximum size of the decompressed data, in bytes
+   * @return the decompressed data
+   * @throws PubSubMessageConversionException if the data is not valid for this codec or
+   *     decompresses to more than the maximum size
+   */
+  ByteString decompress(ByteString data, int maxDecompressedSize);
+}
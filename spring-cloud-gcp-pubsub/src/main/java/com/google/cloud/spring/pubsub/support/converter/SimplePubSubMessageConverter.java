@@ -25,11 +25,18 @@ import java.util.Map;
 /**
  * A simple {@link PubSubMessageConverter} that directly maps payloads of type {@code byte[]},
  * {@code ByteString}, {@code ByteBuffer}, and {@code String} to Pub/Sub messages.
+ *
+ * <p>{@code ByteString} payloads are used as-is, and {@code String} payloads are encoded and
+ * decoded without intermediate arrays. {@code ByteBuffer} payloads of received messages are
+ * writable copies backed by an array, unless {@link #setReadOnlyByteBuffers(boolean) read-only
+ * byte buffers} are enabled, in which case they are read-only views of the message data.
  */
 public class SimplePubSubMessageConverter implements PubSubMessageConverter {
 
   private final Charset charset;
 
+  private boolean readOnlyByteBuffers;
+
   public SimplePubSubMessageConverter() {
     this(Charset.defaultCharset());
   }
@@ -38,6 +45,21 @@ public class SimplePubSubMessageConverter implements PubSubMessageConverter {
     this.charset = charset;
   }
 
+  public boolean isReadOnlyByteBuffers() {
+    return this.readOnlyByteBuffers;
+  }
+
+  /**
+   * Set whether {@code ByteBuffer} payloads of received messages are read-only views of the
+   * message data rather than copies. Views avoid copying the data, but have no accessible {@link
+   * ByteBuffer#array() array} and cannot be written to.
+   *
+   * @param readOnlyByteBuffers whether to return read-only views of the message data
+   */
+  public void setReadOnlyByteBuffers(boolean readOnlyByteBuffers) {
+    this.readOnlyByteBuffers = readOnlyByteBuffers;
+  }
+
   @Override
   public PubsubMessage toPubSubMessage(Object payload, Map<String, String> headers) {
 
@@ -46,7 +68,7 @@ public class SimplePubSubMessageConverter implements PubSubMessageConverter {
     if (payload instanceof ByteString) {
       convertedPayload = (ByteString) payload;
     } else if (payload instanceof String) {
-      convertedPayload = ByteString.copyFrom(((String) payload).getBytes(this.charset));
+      convertedPayload = ByteString.copyFrom((String) payload, this.charset);
     } else if (payload instanceof ByteBuffer) {
       convertedPayload = ByteString.copyFrom((ByteBuffer) payload);
     } else if (payload instanceof byte[]) {
@@ -64,16 +86,19 @@ public class SimplePubSubMessageConverter implements PubSubMessageConverter {
   @Override
   public <T> T fromPubSubMessage(PubsubMessage message, Class<T> payloadType) {
     T result;
-    byte[] payload = message.getData().toByteArray();
 
     if (payloadType == ByteString.class) {
       result = (T) message.getData();
     } else if (payloadType == String.class) {
-      result = (T) new String(payload, this.charset);
+      result = (T) message.getData().toString(this.charset);
     } else if (payloadType == ByteBuffer.class) {
-      result = (T) ByteBuffer.wrap(payload);
+      result =
+          (T)
+              (this.readOnlyByteBuffers
+                  ? message.getData().asReadOnlyByteBuffer()
+                  : ByteBuffer.wrap(message.getData().toByteArray()));
     } else if (payloadType == byte[].class) {
-      result = (T) payload;
+      result = (T) message.getData().toByteArray();
     } else {
       throw new PubSubMessageConversionException(
           "Unable to convert Pub/Sub message to payload of type " + payloadType.getName() + ".");
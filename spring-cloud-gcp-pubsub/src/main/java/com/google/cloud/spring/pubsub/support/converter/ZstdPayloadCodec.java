@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.pubsub.support.converter;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import io.airlift.compress.MalformedInputException;
+import io.airlift.compress.zstd.ZstdCompressor;
+import io.airlift.compress.zstd.ZstdDecompressor;
+
+/**
+ * A {@link PayloadCodec} producing Zstandard frames with the pure-Java implementation of <a
+ * href="https://github.com/airlift/aircompressor">aircompressor</a>, which must be on the
+ * classpath. The frames record the size of the original data and can be read by any Zstandard
+ * implementation.
+ *
+ * <p>Each thread reuses its own decompression context.
+ */
+public class ZstdPayloadCodec implements PayloadCodec {
+
+  /** The name of the codec in message attributes. */
+  public static final String NAME = "zstd";
+
+  private final ZstdCompressor compressor = new ZstdCompressor();
+
+  private final ThreadLocal<ZstdDecompressor> decompressors =
+      ThreadLocal.withInitial(ZstdDecompressor::new);
+
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  @Override
+  public ByteString compress(ByteString data) {
+    byte[] input = data.toByteArray();
+    byte[] output = new byte[this.compressor.maxCompressedLength(input.length)];
+    int length = this.compressor.compress(input, 0, input.length, output, 0, output.length);
+    // The output array is not shared, so it can back the compressed data without a copy.
+    return UnsafeByteOperations.unsafeWrap(output, 0, length);
+  }
+
+  @Override
+  public ByteString decompress(ByteString data, int maxDecompressedSize) {
+    byte[] input = data.toByteArray();
+    try {
+      long size = ZstdDecompressor.getDecompressedSize(input, 0, input.length);
+      if (size < 0 || size > Integer.MAX_VALUE) {
+        throw new PubSubMessageConversionException(
+            "The zstd frame does not record a supported decompressed size.");
+      }
+      if (size > maxDecompressedSize) {
+        throw new PubSubMessageConversionException(
+            "The zstd data decompresses to more than " + maxDecompressedSize + " bytes.");
+      }
+      byte[] output = new byte[(int) size];
+      int length =
+          this.decompressors.get().decompress(input, 0, input.length, output, 0, output.length);
+      return UnsafeByteOperations.unsafeWrap(output, 0, length);
+    } catch (MalformedInputException ex) {
+      throw new PubSubMessageConversionException("The zstd data is corrupted.", ex);
+    }
+  }
+}
@@ -20,8 +20,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.google.api.gax.batching.FlowController;
 import com.google.api.gax.rpc.StatusCode.Code;
+import com.google.cloud.spring.pubsub.core.subscriber.AckExecutionMode;
 import com.google.cloud.spring.pubsub.support.PubSubSubscriptionUtils;
 import com.google.pubsub.v1.ProjectSubscriptionName;
+import com.google.pubsub.v1.TopicName;
 import java.util.Collections;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -63,6 +65,9 @@ class PubSubConfigurationTests {
 
     assertThat(subscriber.getExecutorThreads()).isNull();
     assertThat(subscriber.getMaxAcknowledgementThreads()).isEqualTo(4);
+    assertThat(subscriber.getAckExecutionMode()).isEqualTo(AckExecutionMode.STRIPED);
+    assertThat(subscriber.getAckQueueCapacity()).isEqualTo(10000);
+    assertThat(subscriber.getAckBatching().isEnabled()).isFalse();
     assertThat(subscriber.getParallelPullCount()).isNull();
 
     assertThat(subscriber.getMaxAckExtensionPeriod()).isNull();
@@ -633,4 +638,77 @@ class PubSubConfigurationTests {
     assertThat(retrySettings.getRpcTimeoutMultiplier()).isEqualTo(12.0);
     assertThat(retrySettings.getMaxRpcTimeoutSeconds()).isEqualTo(8L);
   }
+
+  @Test
+  void testTopicPublisherMapProperties_fullyQualifiedNameUsedAsKey() {
+    PubSubConfiguration.TopicPublisher topicPublisher = new PubSubConfiguration.TopicPublisher();
+    topicPublisher.setFullyQualifiedName("projects/otherProjectId/topics/topic-name");
+    topicPublisher.setExecutorThreads(2);
+    publisher.setTopic(Collections.singletonMap("telemetry", topicPublisher));
+
+    pubSubConfiguration.initialize("projectId");
+
+    assertThat(pubSubConfiguration.getFullyQualifiedTopicProperties())
+        .containsOnlyKeys(TopicName.of("otherProjectId", "topic-name"));
+    assertThat(
+            pubSubConfiguration
+                .getFullyQualifiedTopicProperties()
+                .get(TopicName.of("otherProjectId", "topic-name"))
+                .getExecutorThreads())
+        .isEqualTo(2);
+  }
+
+  @Test
+  void testComputePublisherBatching_returnCustom() {
+    publisher.getBatching().setElementCountThreshold(100L);
+    publisher.getBatching().setDelayThresholdSeconds(2L);
+    publisher.getBatching().getFlowControl().setMaxOutstandingElementCount(1000L);
+    PubSubConfiguration.TopicPublisher topicPublisher = new PubSubConfiguration.TopicPublisher();
+    topicPublisher.getBatching().setElementCountThreshold(1L);
+    topicPublisher.getBatching().getFlowControl().setLimitExceededBehavior(
+        FlowController.LimitExceededBehavior.Block);
+    publisher.setTopic(Collections.singletonMap("topic-name", topicPublisher));
+
+    pubSubConfiguration.initialize("projectId");
+
+    PubSubConfiguration.Batching result =
+        pubSubConfiguration.computePublisherBatching(TopicName.of("projectId", "topic-name"));
+
+    assertThat(result.getElementCountThreshold()).isEqualTo(1L);
+    assertThat(result.getDelayThresholdSeconds()).isEqualTo(2L);
+    assertThat(result.getFlowControl().getMaxOutstandingElementCount()).isEqualTo(1000L);
+    assertThat(result.getFlowControl().getLimitExceededBehavior())
+        .isEqualTo(FlowController.LimitExceededBehavior.Block);
+  }
+
+  @Test
+  void testComputePublisherBatching_returnGlobal() {
+    publisher.getBatching().setElementCountThreshold(100L);
+
+    pubSubConfiguration.initialize("projectId");
+
+    assertThat(
+            pubSubConfiguration.computePublisherBatching(TopicName.of("projectId", "topic-name")))
+        .isSameAs(publisher.getBatching());
+  }
+
+  @Test
+  void testComputePublisherRetrySettings_returnCustom() {
+    publisher.getRetry().setTotalTimeoutSeconds(600L);
+    publisher.getRetry().setMaxAttempts(5);
+    PubSubConfiguration.TopicPublisher topicPublisher = new PubSubConfiguration.TopicPublisher();
+    topicPublisher.getRetry().setTotalTimeoutSeconds(5L);
+    publisher.setTopic(Collections.singletonMap("topic-name", topicPublisher));
+
+    pubSubConfiguration.initialize("projectId");
+
+    PubSubConfiguration.Retry result =
+        pubSubConfiguration.computePublisherRetrySettings(TopicName.of("projectId", "topic-name"));
+
+    assertThat(result.getTotalTimeoutSeconds()).isEqualTo(5L);
+    assertThat(result.getMaxAttempts()).isEqualTo(5);
+    assertThat(
+            pubSubConfiguration.computePublisherRetrySettings(TopicName.of("projectId", "other")))
+        .isSameAs(publisher.getRetry());
+  }
 }
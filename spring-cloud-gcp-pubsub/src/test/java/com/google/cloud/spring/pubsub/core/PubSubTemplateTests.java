@@ -19,11 +19,13 @@ package com.google.cloud.spring.pubsub.core;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -37,6 +39,7 @@ import com.google.cloud.pubsub.v1.MessageReceiver;
 import com.google.cloud.pubsub.v1.Publisher;
 import com.google.cloud.pubsub.v1.Subscriber;
 import com.google.cloud.spring.pubsub.core.publisher.PubSubPublisherTemplate;
+import com.google.cloud.spring.pubsub.core.publisher.PublishListener;
 import com.google.cloud.spring.pubsub.core.test.allowed.AllowedPayload;
 import com.google.cloud.spring.pubsub.support.PublisherFactory;
 import com.google.cloud.spring.pubsub.support.SubscriberFactory;
@@ -105,6 +108,25 @@ class PubSubTemplateTests {
     assertThat(future.get()).isEqualTo("result");
   }
 
+  @Test
+  void testPublish_notifiesPublishListener() {
+    when(this.mockPublisherFactory.createPublisher("testTopic")).thenReturn(this.mockPublisher);
+    when(this.mockPublisher.publish(isA(PubsubMessage.class))).thenReturn(this.settableApiFuture);
+    PublishListener listener = mock(PublishListener.class);
+    PubSubPublisherTemplate pubSubPublisherTemplate =
+        new PubSubPublisherTemplate(this.mockPublisherFactory);
+    pubSubPublisherTemplate.setPublishListener(listener);
+
+    pubSubPublisherTemplate.publish("testTopic", this.pubsubMessage);
+    verify(listener).onPublish("testTopic", this.pubsubMessage);
+    verify(listener, never()).onPublishComplete(any(), any(), anyLong(), any());
+
+    RuntimeException failure = new RuntimeException("boom");
+    this.settableApiFuture.setException(failure);
+    verify(listener)
+        .onPublishComplete(eq("testTopic"), eq(this.pubsubMessage), anyLong(), eq(failure));
+  }
+
   @Test
   void testPublish_String() {
     when(this.mockPublisherFactory.createPublisher("testTopic")).thenReturn(this.mockPublisher);
@@ -18,20 +18,35 @@ package com.google.cloud.spring.pubsub.core.health;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.api.MonitoredResource;
 import com.google.api.core.ApiService;
 import com.google.api.core.ApiService.State;
 import com.google.api.gax.core.ExecutorProvider;
 import com.google.cloud.monitoring.v3.MetricServiceClient;
+import com.google.cloud.monitoring.v3.MetricServiceClient.ListTimeSeriesPagedResponse;
 import com.google.cloud.pubsub.v1.MessageReceiver;
 import com.google.cloud.pubsub.v1.Subscriber;
+import com.google.monitoring.v3.Point;
+import com.google.monitoring.v3.ProjectName;
+import com.google.monitoring.v3.TimeSeries;
+import com.google.monitoring.v3.TypedValue;
 import com.google.pubsub.v1.ProjectSubscriptionName;
+import java.time.Duration;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -48,6 +63,8 @@ class HealthTrackerRegistryImplTests {
 
   @Mock private ExecutorProvider executorProvider;
 
+  @Mock private ScheduledExecutorService scheduledExecutorService;
+
   @Captor private ArgumentCaptor<ApiService.Listener> captor;
 
   private HealthTrackerRegistry healthTrackerRegistry;
@@ -62,6 +79,7 @@ class HealthTrackerRegistryImplTests {
 
   @BeforeEach
   void setUp() throws Exception {
+    lenient().when(executorProvider.getExecutor()).thenReturn(scheduledExecutorService);
     healthTrackerRegistry =
         new HealthTrackerRegistryImpl(
             DEFAULT_PROJECT_ID,
@@ -222,4 +240,65 @@ class HealthTrackerRegistryImplTests {
 
     verify(healthTrackers).containsKey(subscriptionName);
   }
+
+  @Test
+  void testRegisterTrackerSchedulesBacklogRefreshOnce() {
+    ((HealthTrackerRegistryImpl) healthTrackerRegistry)
+        .setBacklogRefreshInterval(Duration.ofSeconds(30));
+
+    healthTrackerRegistry.registerTracker("subscription-1");
+    healthTrackerRegistry.registerTracker("subscription-2");
+
+    verify(scheduledExecutorService)
+        .scheduleWithFixedDelay(any(), eq(0L), eq(30_000L), eq(TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  void testRefreshBacklogQueriesEachProjectOnce() {
+    HealthTrackerRegistryImpl registry =
+        new HealthTrackerRegistryImpl(
+            DEFAULT_PROJECT_ID,
+            metricServiceClient,
+            0,
+            DEFAULT_BACKLOG_THRESHOLD,
+            MINUTE_INTERNAL,
+            executorProvider);
+    HealthTracker first = registry.registerTracker("subscription-1");
+    HealthTracker second = registry.registerTracker("subscription-2");
+    HealthTracker other =
+        registry.registerTracker(ProjectSubscriptionName.of("other-project", "subscription-3"));
+    ListTimeSeriesPagedResponse response = mock(ListTimeSeriesPagedResponse.class);
+    when(response.iterateAll())
+        .thenReturn(List.of(backlog("subscription-1", 150), backlog("subscription-2", 50)));
+    doReturn(response)
+        .when(metricServiceClient)
+        .listTimeSeries(any(ProjectName.class), anyString(), any(), any());
+
+    registry.refreshBacklog();
+
+    verify(metricServiceClient)
+        .listTimeSeries(
+            eq(ProjectName.of(DEFAULT_PROJECT_ID)),
+            eq(
+                String.format(
+                    SubscriptionBacklogCache.UNDELIVERED_FILTER_TEMPLATE,
+                    "\"subscription-1\", \"subscription-2\"")),
+            any(),
+            any());
+    verify(metricServiceClient)
+        .listTimeSeries(eq(ProjectName.of("other-project")), anyString(), any(), any());
+    assertThat(first.messagesOverThreshold()).isEqualTo(50);
+    assertThat(second.messagesOverThreshold()).isEqualTo(-50);
+    assertThat(other.messagesOverThreshold()).isZero();
+  }
+
+  private static TimeSeries backlog(String subscriptionId, long backlog) {
+    return TimeSeries.newBuilder()
+        .setResource(
+            MonitoredResource.newBuilder()
+                .putLabels("subscription_id", subscriptionId))
+        .addPoints(
+            Point.newBuilder().setValue(TypedValue.newBuilder().setInt64Value(backlog).build()))
+        .build();
+  }
 }
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.pubsub.core.subscriber;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.api.core.SettableApiFuture;
+import com.google.protobuf.Empty;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link AcknowledgementBatcher}. */
+class AcknowledgementBatcherTests {
+
+  private static final String SUBSCRIPTION = "projects/test-project/subscriptions/test-sub";
+
+  private final List<SentBatch> sentBatches = new CopyOnWriteArrayList<>();
+
+  private ScheduledExecutorService scheduler;
+
+  @BeforeEach
+  void setUp() {
+    this.scheduler = Executors.newSingleThreadScheduledExecutor();
+  }
+
+  @AfterEach
+  void tearDown() {
+    this.scheduler.shutdownNow();
+  }
+
+  @Test
+  void testBatchSentWhenSizeThresholdReached() {
+    AcknowledgementBatcher batcher = createBatcher(3, Duration.ofMinutes(1));
+
+    CompletableFuture<Void> first = batcher.ack(SUBSCRIPTION, "ack1");
+    CompletableFuture<Void> second = batcher.ack(SUBSCRIPTION, "ack2");
+    assertThat(this.sentBatches).isEmpty();
+    assertThat(batcher.getPendingAckIdCount()).isEqualTo(2);
+
+    CompletableFuture<Void> third = batcher.ack(SUBSCRIPTION, "ack3");
+
+    assertThat(this.sentBatches).hasSize(1);
+    SentBatch batch = this.sentBatches.get(0);
+    assertThat(batch.subscriptionName).isEqualTo(SUBSCRIPTION);
+    assertThat(batch.ackIds).containsExactly("ack1", "ack2", "ack3");
+    assertThat(batch.ackDeadlineSeconds).isEqualTo(-1);
+    assertThat(first).isNotDone();
+
+    batch.future.set(Empty.getDefaultInstance());
+
+    assertThat(first).isCompleted();
+    assertThat(second).isCompleted();
+    assertThat(third).isCompleted();
+    assertThat(batcher.getBatchCount()).isEqualTo(1);
+    assertThat(batcher.getCompletedBatchCount()).isEqualTo(1);
+    assertThat(batcher.getAckIdCount()).isEqualTo(3);
+    assertThat(batcher.getPendingAckIdCount()).isZero();
+  }
+
+  @Test
+  void testBatchSentWhenDelayElapses() throws Exception {
+    AcknowledgementBatcher batcher = createBatcher(100, Duration.ofMillis(20));
+
+    CompletableFuture<Void> future = batcher.ack(SUBSCRIPTION, "ack1");
+    this.scheduler.schedule(() -> { }, 50, TimeUnit.MILLISECONDS).get();
+
+    assertThat(this.sentBatches).hasSize(1);
+    assertThat(this.sentBatches.get(0).ackIds).containsExactly("ack1");
+    this.sentBatches.get(0).future.set(Empty.getDefaultInstance());
+    assertThat(future).isCompleted();
+  }
+
+  @Test
+  void testOperationsAndDeadlinesAreBatchedSeparately() {
+    AcknowledgementBatcher batcher = createBatcher(100, Duration.ofMinutes(1));
+
+    batcher.ack(SUBSCRIPTION, "ack1");
+    batcher.modifyAckDeadline(SUBSCRIPTION, "nack1", 0);
+    batcher.modifyAckDeadline(SUBSCRIPTION, "nack2", 0);
+    batcher.modifyAckDeadline(SUBSCRIPTION, "extend1", 30);
+    batcher.ack("projects/test-project/subscriptions/other-sub", "ack2");
+    batcher.flush();
+
+    assertThat(this.sentBatches).hasSize(4);
+    assertThat(this.sentBatches)
+        .anySatisfy(
+            batch -> {
+              assertThat(batch.ackDeadlineSeconds).isZero();
+              assertThat(batch.ackIds).containsExactly("nack1", "nack2");
+            })
+        .anySatisfy(
+            batch -> {
+              assertThat(batch.ackDeadlineSeconds).isEqualTo(30);
+              assertThat(batch.ackIds).containsExactly("extend1");
+            });
+  }
+
+  @Test
+  void testFlushedAccumulatorsAreRemoved() throws Exception {
+    AcknowledgementBatcher batcher = createBatcher(2, Duration.ofMillis(20));
+
+    batcher.ack(SUBSCRIPTION, "ack1");
+    batcher.modifyAckDeadline(SUBSCRIPTION, "extend1", 30);
+    assertThat(batcher.getAccumulatorCount()).isEqualTo(2);
+
+    batcher.ack(SUBSCRIPTION, "ack2");
+    assertThat(batcher.getAccumulatorCount()).isEqualTo(1);
+    this.scheduler.schedule(() -> { }, 50, TimeUnit.MILLISECONDS).get();
+    assertThat(batcher.getAccumulatorCount()).isZero();
+
+    batcher.ack(SUBSCRIPTION, "ack3");
+    batcher.flush();
+
+    assertThat(batcher.getAccumulatorCount()).isZero();
+    assertThat(this.sentBatches).hasSize(3);
+    assertThat(this.sentBatches.get(2).ackIds).containsExactly("ack3");
+  }
+
+  @Test
+  void testFailedBatchCompletesAllFuturesExceptionally() {
+    AcknowledgementBatcher batcher = createBatcher(2, Duration.ofMinutes(1));
+
+    CompletableFuture<Void> first = batcher.ack(SUBSCRIPTION, "ack1");
+    CompletableFuture<Void> second = batcher.ack(SUBSCRIPTION, "ack2");
+    this.sentBatches.get(0).future.setException(new IllegalStateException("boom"));
+
+    assertThatThrownBy(first::get)
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(IllegalStateException.class);
+    assertThat(second).isCompletedExceptionally();
+    assertThat(batcher.getFailedBatchCount()).isEqualTo(1);
+  }
+
+  @Test
+  void testMetricsBoundToRegistry() {
+    AcknowledgementBatcher batcher = createBatcher(2, Duration.ofMinutes(1));
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    new AcknowledgementBatcherMetrics(batcher).bindTo(registry);
+
+    batcher.ack(SUBSCRIPTION, "ack1");
+    assertThat(registry.get("pubsub.ack.batch.pending").gauge().value()).isEqualTo(1.0);
+    batcher.ack(SUBSCRIPTION, "ack2");
+    this.sentBatches.get(0).future.set(Empty.getDefaultInstance());
+
+    assertThat(registry.get("pubsub.ack.batches").functionCounter().count()).isEqualTo(1.0);
+    assertThat(registry.get("pubsub.ack.batch.ack.ids").functionCounter().count())
+        .isEqualTo(2.0);
+    assertThat(registry.get("pubsub.ack.batch.flush").functionTimer().count()).isEqualTo(1.0);
+    assertThat(registry.get("pubsub.ack.batch.pending").gauge().value()).isZero();
+  }
+
+  @Test
+  void testInvalidBatchSize() {
+    assertThatThrownBy(() -> createBatcher(2501, Duration.ofMillis(10)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("The maxBatchSize must be between 1 and 2500.");
+  }
+
+  private AcknowledgementBatcher createBatcher(int maxBatchSize, Duration maxDelay) {
+    AcknowledgementBatcher.BatchOperation operation =
+        (subscriptionName, ackIds, ackDeadlineSeconds) -> {
+          SentBatch batch =
+              new SentBatch(subscriptionName, new ArrayList<>(ackIds), ackDeadlineSeconds);
+          this.sentBatches.add(batch);
+          return batch.future;
+        };
+    return new AcknowledgementBatcher(
+        (subscriptionName, ackIds, ackDeadlineSeconds) ->
+            operation.apply(subscriptionName, ackIds, -1),
+        operation,
+        maxBatchSize,
+        maxDelay,
+        this.scheduler,
+        subscriptionName -> Runnable::run);
+  }
+
+  private static class SentBatch {
+
+    private final String subscriptionName;
+
+    private final List<String> ackIds;
+
+    private final int ackDeadlineSeconds;
+
+    private final SettableApiFuture<Empty> future = SettableApiFuture.create();
+
+    SentBatch(String subscriptionName, List<String> ackIds, int ackDeadlineSeconds) {
+      this.subscriptionName = subscriptionName;
+      this.ackIds = ackIds;
+      this.ackDeadlineSeconds = ackDeadlineSeconds;
+    }
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.pubsub.core.subscriber;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link AcknowledgementExecutor}. */
+class AcknowledgementExecutorTests {
+
+  @Test
+  void testStripedModeUsesMultipleThreads() throws InterruptedException {
+    AcknowledgementExecutor executor = new AcknowledgementExecutor(AckExecutionMode.STRIPED, 4, 100);
+    Set<String> threadNames = ConcurrentHashMap.newKeySet();
+    CountDownLatch latch = new CountDownLatch(8);
+
+    try {
+      for (int i = 0; i < 8; i++) {
+        executor.execute(
+            () -> {
+              threadNames.add(Thread.currentThread().getName());
+              latch.countDown();
+            });
+      }
+
+      assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+      assertThat(threadNames).hasSize(4).allMatch(n -> n.startsWith("gcp-pubsub-ack-executor-"));
+      await().atMost(Duration.ofSeconds(10)).until(() -> executor.getCompletedCount() == 8);
+    } finally {
+      executor.destroy();
+    }
+  }
+
+  @Test
+  void testStripedModeRunsCallbacksWithSameKeyInOrderOnOneLane() throws InterruptedException {
+    AcknowledgementExecutor executor = new AcknowledgementExecutor(AckExecutionMode.STRIPED, 4, 100);
+    Set<String> threadNames = ConcurrentHashMap.newKeySet();
+    List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch latch = new CountDownLatch(8);
+
+    try {
+      Executor subscriptionExecutor = executor.forKey("projects/p/subscriptions/s");
+      for (int i = 0; i < 8; i++) {
+        int index = i;
+        subscriptionExecutor.execute(
+            () -> {
+              threadNames.add(Thread.currentThread().getName());
+              order.add(index);
+              latch.countDown();
+            });
+      }
+
+      assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+      assertThat(threadNames).hasSize(1);
+      assertThat(order).containsExactly(0, 1, 2, 3, 4, 5, 6, 7);
+    } finally {
+      executor.destroy();
+    }
+  }
+
+  @Test
+  void testStripedModeBlocksCallerWhenQueueIsFull() throws InterruptedException {
+    AcknowledgementExecutor executor = new AcknowledgementExecutor(AckExecutionMode.STRIPED, 1, 1);
+    CountDownLatch blocker = new CountDownLatch(1);
+    CountDownLatch started = new CountDownLatch(1);
+    List<Integer> order = new CopyOnWriteArrayList<>();
+
+    try {
+      executor.execute(
+          () -> {
+            started.countDown();
+            awaitQuietly(blocker);
+          });
+      assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+      executor.execute(() -> order.add(1));
+      assertThat(executor.getQueueDepth()).isEqualTo(1);
+
+      Thread submitter = new Thread(() -> executor.execute(() -> order.add(2)));
+      submitter.start();
+      await().until(() -> submitter.getState() == Thread.State.WAITING);
+      assertThat(order).isEmpty();
+
+      blocker.countDown();
+      submitter.join(10_000);
+      await().until(() -> order.size() == 2);
+      assertThat(order).containsExactly(1, 2);
+      assertThat(executor.getCallerRunsCount()).isZero();
+    } finally {
+      blocker.countDown();
+      executor.destroy();
+    }
+  }
+
+  @Test
+  void testStripedModeRunsOnLaneThreadWhenItsOwnQueueIsFull() throws InterruptedException {
+    AcknowledgementExecutor executor = new AcknowledgementExecutor(AckExecutionMode.STRIPED, 1, 1);
+    CountDownLatch done = new CountDownLatch(1);
+
+    try {
+      executor.execute(
+          () -> {
+            executor.execute(() -> { });
+            // The lane can't wait for room in its own queue.
+            executor.execute(done::countDown);
+          });
+
+      assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+      assertThat(executor.getCallerRunsCount()).isEqualTo(1);
+    } finally {
+      executor.destroy();
+    }
+  }
+
+  @Test
+  void testDirectModeRunsOnCallingThread() {
+    AcknowledgementExecutor executor = new AcknowledgementExecutor(AckExecutionMode.DIRECT, 0, 0);
+    String[] threadName = new String[1];
+
+    executor.execute(() -> threadName[0] = Thread.currentThread().getName());
+
+    assertThat(threadName[0]).isEqualTo(Thread.currentThread().getName());
+    assertThat(executor.getCompletedCount()).isEqualTo(1);
+    assertThat(executor.getQueueDepth()).isZero();
+    assertThat(executor.getCallerRunsCount()).isZero();
+  }
+
+  @Test
+  void testCallbacksRunAfterShutdown() {
+    AcknowledgementExecutor executor = new AcknowledgementExecutor(AckExecutionMode.STRIPED, 2, 10);
+    executor.destroy();
+    boolean[] ran = new boolean[1];
+
+    executor.execute(() -> ran[0] = true);
+
+    assertThat(ran[0]).isTrue();
+  }
+
+  @Test
+  void testMetricsBoundToRegistry() {
+    AcknowledgementExecutor executor = new AcknowledgementExecutor(AckExecutionMode.DIRECT, 0, 0);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    new AcknowledgementExecutorMetrics(executor).bindTo(registry);
+
+    executor.execute(() -> { });
+
+    assertThat(
+            registry.get("pubsub.ack.executor.callback").tag("mode", "direct").functionTimer().count())
+        .isEqualTo(1.0);
+    assertThat(registry.get("pubsub.ack.executor.queued").gauge().value()).isZero();
+  }
+
+  @Test
+  void testInvalidStripedConfiguration() {
+    assertThatThrownBy(() -> new AcknowledgementExecutor(AckExecutionMode.STRIPED, 4, 2))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("The queueCapacity must be at least the number of threads.");
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
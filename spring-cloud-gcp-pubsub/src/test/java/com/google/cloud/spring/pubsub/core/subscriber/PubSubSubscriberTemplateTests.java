@@ -49,6 +49,7 @@ import com.google.pubsub.v1.PullRequest;
 import com.google.pubsub.v1.PullResponse;
 import com.google.pubsub.v1.ReceivedMessage;
 import java.math.BigInteger;
+import java.time.Duration;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -411,6 +412,42 @@ class PubSubSubscriberTemplateTests {
     verify(this.ackApiFuture, times(2)).addListener(any(), same(mockExecutor));
   }
 
+  @Test
+  void testPull_AndBatchedIndividualAcks() throws Exception {
+    when(this.pullCallable.call(any(PullRequest.class)))
+        .thenReturn(
+            PullResponse.newBuilder()
+                .addReceivedMessages(
+                    ReceivedMessage.newBuilder().setMessage(this.pubsubMessage).setAckId("ack1"))
+                .addReceivedMessages(
+                    ReceivedMessage.newBuilder().setMessage(this.pubsubMessage).setAckId("ack2"))
+                .addReceivedMessages(
+                    ReceivedMessage.newBuilder().setMessage(this.pubsubMessage).setAckId("ack3"))
+                .build());
+    this.pubSubSubscriberTemplate.enableAcknowledgementBatching(2, Duration.ofMinutes(1));
+
+    List<AcknowledgeablePubsubMessage> result = this.pubSubSubscriberTemplate.pull("sub2", 3, true);
+    List<CompletableFuture<Void>> futures =
+        result.stream().map(AcknowledgeablePubsubMessage::ack).toList();
+
+    ArgumentCaptor<AcknowledgeRequest> requestCaptor =
+        ArgumentCaptor.forClass(AcknowledgeRequest.class);
+    verify(this.ackCallable).futureCall(requestCaptor.capture());
+    assertThat(requestCaptor.getValue().getAckIdsList()).containsExactly("ack1", "ack2");
+    assertThat(requestCaptor.getValue().getSubscription())
+        .isEqualTo("projects/testProject/subscriptions/sub2");
+    assertThat(futures.get(0)).isCompleted();
+    assertThat(futures.get(1)).isCompleted();
+    assertThat(futures.get(2)).isNotDone();
+
+    this.pubSubSubscriberTemplate.destroy();
+
+    verify(this.ackCallable, times(2)).futureCall(any(AcknowledgeRequest.class));
+    assertThat(futures.get(2)).isCompleted();
+    assertThat(this.pubSubSubscriberTemplate.getAcknowledgementBatcher().getAckIdCount())
+        .isEqualTo(3);
+  }
+
   @Test
   void testPullAsync_AndManualAck()
       throws InterruptedException, ExecutionException, TimeoutException {
@@ -102,6 +102,52 @@ class PubSubHeaderMapperTests {
         .doesNotContainKey("my header");
   }
 
+  @Test
+  void testFirstMatchingPatternTakesPrecedence() {
+    PubSubHeaderMapper mapper = new PubSubHeaderMapper();
+    mapper.setInboundHeaderPatterns("!x-secret*", "x-secret-allowed", "x-*", "!x-other");
+
+    Map<String, String> originalHeaders = new HashMap<>();
+    originalHeaders.put("x-secret-allowed", "negated by an earlier pattern");
+    originalHeaders.put("x-secret", "negated");
+    originalHeaders.put("x-other", "matched by an earlier pattern");
+    originalHeaders.put("y-header", "not matched");
+
+    // Mapped twice to exercise the cached decisions.
+    for (int i = 0; i < 2; i++) {
+      assertThat(mapper.toHeaders(originalHeaders)).containsOnlyKeys("x-other");
+    }
+  }
+
+  @Test
+  void testWildcardPatterns() {
+    PubSubHeaderMapper mapper = new PubSubHeaderMapper();
+    mapper.setInboundHeaderPatterns("*-suffix", "prefix-*", "*mid*", "a*b*c");
+
+    Map<String, String> originalHeaders = new HashMap<>();
+    originalHeaders.put("my-suffix", "suffix");
+    originalHeaders.put("prefix-mine", "prefix");
+    originalHeaders.put("in-the-mid-dle", "generic");
+    originalHeaders.put("a-b-c", "generic");
+    originalHeaders.put("a-c-b", "not matched");
+    originalHeaders.put("suffix-my", "not matched");
+
+    assertThat(mapper.toHeaders(originalHeaders))
+        .containsOnlyKeys("my-suffix", "prefix-mine", "in-the-mid-dle", "a-b-c");
+  }
+
+  @Test
+  void testEscapedNegationPattern() {
+    PubSubHeaderMapper mapper = new PubSubHeaderMapper();
+    mapper.setInboundHeaderPatterns("\\!important", "!*");
+
+    Map<String, String> originalHeaders = new HashMap<>();
+    originalHeaders.put("!important", "escaped");
+    originalHeaders.put("important", "negated");
+
+    assertThat(mapper.toHeaders(originalHeaders)).containsOnlyKeys("!important");
+  }
+
   @Test
   void testSetInboundHeaderPatternsNullPatterns() {
 
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.pubsub.integration.inbound;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.cloud.spring.pubsub.integration.inbound.DuplicateMessageFilter.Status;
+import com.google.cloud.spring.pubsub.support.BasicAcknowledgeablePubsubMessage;
+import com.google.pubsub.v1.ProjectSubscriptionName;
+import com.google.pubsub.v1.PubsubMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+import org.springframework.integration.metadata.SimpleMetadataStore;
+
+/** Tests for {@link DuplicateMessageFilter}. */
+class DuplicateMessageFilterTests {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+  private final DuplicateMessageFilter filter = new DuplicateMessageFilter();
+
+  @Test
+  void testDetectsDuplicatesOfProcessedMessagesWithinWindow() {
+    this.filter.setWindow(Duration.ofMinutes(1));
+    this.filter.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+
+    assertThat(this.filter.begin(message("s", "1"))).isEqualTo(Status.NEW);
+    this.filter.complete(message("s", "1"));
+    assertThat(this.filter.begin(message("s", "1"))).isEqualTo(Status.PROCESSED);
+    assertThat(this.filter.begin(message("s", "2"))).isEqualTo(Status.NEW);
+    // The same message is delivered to each subscription of its topic.
+    assertThat(this.filter.begin(message("other", "1"))).isEqualTo(Status.NEW);
+
+    this.filter.setClock(Clock.fixed(NOW.plusSeconds(61), ZoneOffset.UTC));
+    assertThat(this.filter.begin(message("s", "1"))).isEqualTo(Status.NEW);
+    assertThat(this.filter.getUniqueCount()).isEqualTo(4);
+    assertThat(this.filter.getDuplicateCount()).isEqualTo(1);
+  }
+
+  @Test
+  void testRedeliveryOfMessageInProgressIsNotDuplicate() {
+    this.filter.setWindow(Duration.ofMinutes(10));
+    this.filter.setInProgressLease(Duration.ofMinutes(1));
+    this.filter.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+
+    assertThat(this.filter.begin(message("s", "1"))).isEqualTo(Status.NEW);
+    assertThat(this.filter.begin(message("s", "1"))).isEqualTo(Status.IN_PROGRESS);
+
+    // A message that is never completed nor released is processed again after the lease.
+    this.filter.setClock(Clock.fixed(NOW.plusSeconds(61), ZoneOffset.UTC));
+    assertThat(this.filter.begin(message("s", "1"))).isEqualTo(Status.NEW);
+    assertThat(this.filter.getInProgressCount()).isEqualTo(1);
+    assertThat(this.filter.getDuplicateCount()).isZero();
+  }
+
+  @Test
+  void testReleasedMessageIsNotDuplicate() {
+    BasicAcknowledgeablePubsubMessage message = message("s", "1");
+
+    assertThat(this.filter.begin(message)).isEqualTo(Status.NEW);
+    this.filter.release(message);
+
+    assertThat(this.filter.begin(message)).isEqualTo(Status.NEW);
+    assertThat(this.filter.getReleaseCount()).isEqualTo(1);
+  }
+
+  @Test
+  void testEvictsOldestKeysBeyondMaxEntries() {
+    this.filter.setMaxEntries(2);
+
+    this.filter.begin(message("s", "1"));
+    this.filter.begin(message("s", "2"));
+    this.filter.begin(message("s", "3"));
+
+    assertThat(this.filter.getSize()).isEqualTo(2);
+    assertThat(this.filter.getEarlyEvictionCount()).isEqualTo(1);
+    assertThat(this.filter.begin(message("s", "3"))).isEqualTo(Status.IN_PROGRESS);
+    assertThat(this.filter.begin(message("s", "1"))).isEqualTo(Status.NEW);
+  }
+
+  @Test
+  void testCompletedAndReleasedKeysAreTrackedOnce() {
+    this.filter.setMaxEntries(51);
+
+    for (int i = 0; i < 100; i++) {
+      BasicAcknowledgeablePubsubMessage message = message("s", Integer.toString(i));
+      this.filter.begin(message);
+      if (i % 2 == 0) {
+        this.filter.complete(message);
+      } else {
+        this.filter.release(message);
+      }
+    }
+
+    assertThat(this.filter.getSize()).isEqualTo(50);
+    assertThat(this.filter.getEarlyEvictionCount()).isZero();
+    assertThat(this.filter.begin(message("s", "0"))).isEqualTo(Status.PROCESSED);
+    assertThat(this.filter.begin(message("s", "98"))).isEqualTo(Status.PROCESSED);
+    assertThat(this.filter.begin(message("s", "99"))).isEqualTo(Status.NEW);
+  }
+
+  @Test
+  void testKeyAttribute() {
+    this.filter.setKeyAttribute("event-id");
+    BasicAcknowledgeablePubsubMessage original =
+        message(
+            "s", PubsubMessage.newBuilder().setMessageId("1").putAttributes("event-id", "e1"));
+    BasicAcknowledgeablePubsubMessage republished =
+        message(
+            "s", PubsubMessage.newBuilder().setMessageId("2").putAttributes("event-id", "e1"));
+
+    assertThat(this.filter.begin(original)).isEqualTo(Status.NEW);
+    this.filter.complete(original);
+    assertThat(this.filter.begin(republished)).isEqualTo(Status.PROCESSED);
+    assertThat(this.filter.begin(message("s", "1"))).isEqualTo(Status.NEW);
+  }
+
+  @Test
+  void testSharedStoreDetectsDuplicatesAcrossInstances() {
+    SimpleMetadataStore store = new SimpleMetadataStore();
+    this.filter.setMetadataStore(store);
+    DuplicateMessageFilter otherInstance = new DuplicateMessageFilter();
+    otherInstance.setMetadataStore(store);
+
+    assertThat(this.filter.begin(message("s", "1"))).isEqualTo(Status.NEW);
+    assertThat(otherInstance.begin(message("s", "1"))).isEqualTo(Status.IN_PROGRESS);
+    this.filter.complete(message("s", "1"));
+    assertThat(otherInstance.begin(message("s", "1"))).isEqualTo(Status.PROCESSED);
+    assertThat(otherInstance.getStoreDuplicateCount()).isEqualTo(2);
+    // Found in memory once processed.
+    assertThat(otherInstance.begin(message("s", "1"))).isEqualTo(Status.PROCESSED);
+    assertThat(otherInstance.getStoreDuplicateCount()).isEqualTo(2);
+
+    this.filter.release(message("s", "1"));
+    assertThat(store.get("projects/p/subscriptions/s/1")).isNull();
+  }
+
+  @Test
+  void testSharedStoreReleasesKeysOfStoppedInstancesAfterLease() {
+    SimpleMetadataStore store = new SimpleMetadataStore();
+    this.filter.setMetadataStore(store);
+    this.filter.setInProgressLease(Duration.ofMinutes(1));
+    this.filter.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+    DuplicateMessageFilter otherInstance = new DuplicateMessageFilter();
+    otherInstance.setMetadataStore(store);
+
+    // This instance stops without completing or releasing the message.
+    assertThat(this.filter.begin(message("s", "1"))).isEqualTo(Status.NEW);
+
+    otherInstance.setClock(Clock.fixed(NOW.plusSeconds(30), ZoneOffset.UTC));
+    assertThat(otherInstance.begin(message("s", "1"))).isEqualTo(Status.IN_PROGRESS);
+    otherInstance.setClock(Clock.fixed(NOW.plusSeconds(61), ZoneOffset.UTC));
+    assertThat(otherInstance.begin(message("s", "1"))).isEqualTo(Status.NEW);
+  }
+
+  @Test
+  void testMetrics() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    new DuplicateMessageFilterMetrics(this.filter).bindTo(registry);
+
+    this.filter.begin(message("s", "1"));
+    this.filter.begin(message("s", "1"));
+    this.filter.complete(message("s", "1"));
+    this.filter.begin(message("s", "1"));
+
+    assertThat(
+            registry
+                .get("pubsub.subscriber.dedup.messages")
+                .tag("result", "duplicate")
+                .functionCounter()
+                .count())
+        .isEqualTo(1);
+    assertThat(
+            registry
+                .get("pubsub.subscriber.dedup.messages")
+                .tag("result", "in_progress")
+                .functionCounter()
+                .count())
+        .isEqualTo(1);
+    assertThat(registry.get("pubsub.subscriber.dedup.keys").gauge().value()).isEqualTo(1);
+  }
+
+  private static BasicAcknowledgeablePubsubMessage message(String subscription, String messageId) {
+    return message(subscription, PubsubMessage.newBuilder().setMessageId(messageId));
+  }
+
+  private static BasicAcknowledgeablePubsubMessage message(
+      String subscription, PubsubMessage.Builder pubsubMessage) {
+    BasicAcknowledgeablePubsubMessage message = mock(BasicAcknowledgeablePubsubMessage.class);
+    when(message.getPubsubMessage()).thenReturn(pubsubMessage.build());
+    when(message.getProjectSubscriptionName())
+        .thenReturn(ProjectSubscriptionName.of("p", subscription));
+    return message;
+  }
+}
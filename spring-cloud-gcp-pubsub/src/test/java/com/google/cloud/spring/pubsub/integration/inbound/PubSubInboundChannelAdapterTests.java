@@ -18,19 +18,35 @@ package com.google.cloud.spring.pubsub.integration.inbound;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.api.gax.core.FixedExecutorProvider;
 import com.google.cloud.spring.pubsub.core.health.HealthTrackerRegistry;
 import com.google.cloud.spring.pubsub.core.subscriber.PubSubSubscriberOperations;
+import com.google.cloud.spring.pubsub.core.subscriber.PubSubSubscriberTemplate;
 import com.google.cloud.spring.pubsub.integration.AckMode;
+import com.google.cloud.spring.pubsub.support.DefaultSubscriberFactory;
 import com.google.cloud.spring.pubsub.support.GcpPubSubHeaders;
 import com.google.cloud.spring.pubsub.support.converter.ConvertedBasicAcknowledgeablePubsubMessage;
 import com.google.pubsub.v1.PubsubMessage;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -51,6 +67,7 @@ import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.MessageHandler;
 import org.springframework.messaging.MessageHeaders;
 import org.springframework.messaging.support.GenericMessage;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
 /** {@link PubSubInboundChannelAdapter} unit tests. */
 @ExtendWith(MockitoExtension.class)
@@ -287,4 +304,381 @@ class PubSubInboundChannelAdapterTests {
     assertThat(headers)
         .containsEntry(GcpPubSubHeaders.ORIGINAL_MESSAGE, mockAcknowledgeableMessage);
   }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void batchModeSendsBatchOnceMaxSizeReached() {
+    Consumer<ConvertedBasicAcknowledgeablePubsubMessage<?>> messageConsumer = startBatching(2);
+    when(this.mockMessageChannel.send(any())).thenReturn(true);
+    ConvertedBasicAcknowledgeablePubsubMessage<String> message1 = mockMessage("payload1");
+    ConvertedBasicAcknowledgeablePubsubMessage<String> message2 = mockMessage("payload2");
+
+    messageConsumer.accept(message1);
+    verify(this.mockMessageChannel, never()).send(any());
+    messageConsumer.accept(message2);
+
+    ArgumentCaptor<Message<?>> argument = ArgumentCaptor.forClass(Message.class);
+    verify(this.mockMessageChannel).send(argument.capture());
+    assertThat((List<Object>) argument.getValue().getPayload())
+        .containsExactly("payload1", "payload2");
+    assertThat(GcpPubSubHeaders.getOriginalMessages(argument.getValue()))
+        .containsExactly(message1, message2);
+    verify(message1).ack();
+    verify(message2).ack();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void batchModeSendsIncompleteBatchAfterMaxWait() {
+    this.adapter.setMaxBatchWait(Duration.ofMillis(50));
+    Consumer<ConvertedBasicAcknowledgeablePubsubMessage<?>> messageConsumer = startBatching(10);
+    when(this.mockMessageChannel.send(any())).thenReturn(true);
+    ConvertedBasicAcknowledgeablePubsubMessage<String> message = mockMessage("payload");
+
+    messageConsumer.accept(message);
+
+    ArgumentCaptor<Message<?>> argument = ArgumentCaptor.forClass(Message.class);
+    await().untilAsserted(() -> verify(this.mockMessageChannel).send(argument.capture()));
+    assertThat((List<Object>) argument.getValue().getPayload()).containsExactly("payload");
+    verify(message).ack();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void batchModeSendsIncompleteBatchOnSubscriberExecutor() {
+    ScheduledExecutorService subscriberExecutor =
+        Executors.newSingleThreadScheduledExecutor(
+            new CustomizableThreadFactory("test-subscriber-"));
+    DefaultSubscriberFactory subscriberFactory = mock(DefaultSubscriberFactory.class);
+    when(subscriberFactory.getExecutorProvider("testSubscription"))
+        .thenReturn(FixedExecutorProvider.create(subscriberExecutor));
+    PubSubSubscriberTemplate subscriberTemplate = mock(PubSubSubscriberTemplate.class);
+    when(subscriberTemplate.getSubscriberFactory()).thenReturn(subscriberFactory);
+    AtomicReference<Consumer<ConvertedBasicAcknowledgeablePubsubMessage<?>>> messageConsumer =
+        new AtomicReference<>();
+    when(subscriberTemplate.subscribeAndConvert(
+            anyString(), any(Consumer.class), any(Class.class)))
+        .then(
+            invocationOnMock -> {
+              messageConsumer.set(invocationOnMock.getArgument(1));
+              return null;
+            });
+    this.adapter = new PubSubInboundChannelAdapter(subscriberTemplate, "testSubscription");
+    this.adapter.setOutputChannel(this.mockMessageChannel);
+    this.adapter.setBeanFactory(this.context);
+    this.context.refresh();
+    this.adapter.setMaxBatchSize(10);
+    this.adapter.setMaxBatchWait(Duration.ofMillis(50));
+    this.adapter.start();
+    List<String> sendingThreads = new CopyOnWriteArrayList<>();
+    when(this.mockMessageChannel.send(any()))
+        .then(
+            invocation -> {
+              sendingThreads.add(Thread.currentThread().getName());
+              return true;
+            });
+    ConvertedBasicAcknowledgeablePubsubMessage<String> message = mockMessage("payload");
+
+    try {
+      messageConsumer.get().accept(message);
+
+      await().untilAsserted(() -> verify(message).ack());
+      assertThat(sendingThreads).singleElement().asString().startsWith("test-subscriber-");
+    } finally {
+      this.adapter.stop();
+      subscriberExecutor.shutdown();
+    }
+  }
+
+  @Test
+  void batchModeNacksWholeBatchWhenDownstreamProcessingFails(CapturedOutput capturedOutput) {
+    Consumer<ConvertedBasicAcknowledgeablePubsubMessage<?>> messageConsumer = startBatching(2);
+    when(this.mockMessageChannel.send(any())).thenThrow(new RuntimeException(EXCEPTION_MESSAGE));
+    ConvertedBasicAcknowledgeablePubsubMessage<String> message1 = mockMessage("payload1");
+    ConvertedBasicAcknowledgeablePubsubMessage<String> message2 = mockMessage("payload2");
+    when(message1.getPubsubMessage())
+        .thenReturn(PubsubMessage.newBuilder().setMessageId("id1").build());
+    when(message2.getPubsubMessage())
+        .thenReturn(PubsubMessage.newBuilder().setMessageId("id2").build());
+
+    messageConsumer.accept(message1);
+    messageConsumer.accept(message2);
+
+    verify(message1).nack();
+    verify(message2).nack();
+    assertThat(capturedOutput).contains("[id1, id2] failed; messages nacked automatically");
+  }
+
+  @Test
+  void batchModeNacksIncompleteBatchOnStop() {
+    Consumer<ConvertedBasicAcknowledgeablePubsubMessage<?>> messageConsumer = startBatching(10);
+    ConvertedBasicAcknowledgeablePubsubMessage<String> message = mock(
+        ConvertedBasicAcknowledgeablePubsubMessage.class);
+
+    messageConsumer.accept(message);
+    this.adapter.stop();
+
+    verify(message).nack();
+    verify(this.mockMessageChannel, never()).send(any());
+  }
+
+  @Test
+  void laneDispatchPreservesOrderPerKey() {
+    List<String> received = new CopyOnWriteArrayList<>();
+    List<String> threadNames = new CopyOnWriteArrayList<>();
+    when(this.mockMessageChannel.send(any()))
+        .then(
+            invocation -> {
+              received.add((String) invocation.<Message<?>>getArgument(0).getPayload());
+              threadNames.add(Thread.currentThread().getName());
+              return true;
+            });
+    Consumer<ConvertedBasicAcknowledgeablePubsubMessage<?>> messageConsumer = startDispatching(4);
+    List<ConvertedBasicAcknowledgeablePubsubMessage<String>> messages = new ArrayList<>();
+    for (int i = 0; i < 30; i++) {
+      String key = "key" + (i % 3);
+      messages.add(mockMessage(key + ":" + i, PubsubMessage.newBuilder().setOrderingKey(key)));
+    }
+
+    messages.forEach(messageConsumer);
+
+    await().untilAsserted(() -> assertThat(received).hasSize(30));
+    for (int key = 0; key < 3; key++) {
+      String prefix = "key" + key + ":";
+      assertThat(received.stream().filter(payload -> payload.startsWith(prefix)))
+          .isSortedAccordingTo(
+              Comparator.comparingInt(payload -> Integer.parseInt(payload.substring(5))));
+    }
+    assertThat(threadNames).allMatch(name -> name.startsWith("gcp-pubsub-dispatch-"));
+    messages.forEach(message -> verify(message).ack());
+  }
+
+  @Test
+  void laneDispatchProcessesUnkeyedMessagesInParallel() throws InterruptedException {
+    CountDownLatch bothProcessing = new CountDownLatch(2);
+    when(this.mockMessageChannel.send(any()))
+        .then(
+            invocation -> {
+              bothProcessing.countDown();
+              return bothProcessing.await(10, TimeUnit.SECONDS);
+            });
+    this.adapter.setDispatchKeyHeader("entity");
+    Consumer<ConvertedBasicAcknowledgeablePubsubMessage<?>> messageConsumer = startDispatching(2);
+    // Only the configured header is used, so a message with an ordering key is still unkeyed.
+    ConvertedBasicAcknowledgeablePubsubMessage<String> message1 =
+        mockMessage("payload1", PubsubMessage.newBuilder().setOrderingKey("key"));
+    ConvertedBasicAcknowledgeablePubsubMessage<String> message2 =
+        mockMessage("payload2", PubsubMessage.newBuilder().setOrderingKey("key"));
+
+    messageConsumer.accept(message1);
+    messageConsumer.accept(message2);
+
+    assertThat(bothProcessing.await(10, TimeUnit.SECONDS)).isTrue();
+    await().untilAsserted(() -> verify(message2).ack());
+    verify(message1).ack();
+  }
+
+  @Test
+  void laneDispatchNacksWithoutBlockingWhenLaneIsFull() {
+    CountDownLatch release = new CountDownLatch(1);
+    when(this.mockMessageChannel.send(any())).then(invocation -> release.await(10, TimeUnit.SECONDS));
+    this.adapter.setDispatchKeyHeader("entity");
+    this.adapter.setMaxInFlightPerLane(1);
+    Consumer<ConvertedBasicAcknowledgeablePubsubMessage<?>> messageConsumer = startDispatching(1);
+    ConvertedBasicAcknowledgeablePubsubMessage<String> message1 =
+        mockMessage("payload1", PubsubMessage.newBuilder().putAttributes("entity", "a"));
+    // Never sent downstream.
+    ConvertedBasicAcknowledgeablePubsubMessage<String> message2 =
+        mockRedelivery(PubsubMessage.newBuilder().putAttributes("entity", "b"));
+
+    messageConsumer.accept(message1);
+    messageConsumer.accept(message2);
+
+    verify(message2).nack();
+    release.countDown();
+    await().untilAsserted(() -> verify(message1).ack());
+    verify(message2, never()).ack();
+  }
+
+  @Test
+  void laneDispatchContinuesAfterError() {
+    when(this.mockMessageChannel.send(any()))
+        .thenThrow(new StackOverflowError())
+        .thenReturn(true);
+    this.adapter.setDispatchKeyHeader("entity");
+    Consumer<ConvertedBasicAcknowledgeablePubsubMessage<?>> messageConsumer = startDispatching(1);
+    ConvertedBasicAcknowledgeablePubsubMessage<String> message1 =
+        mockMessage("payload1", PubsubMessage.newBuilder().putAttributes("entity", "a"));
+    ConvertedBasicAcknowledgeablePubsubMessage<String> message2 =
+        mockMessage("payload2", PubsubMessage.newBuilder().putAttributes("entity", "a"));
+
+    messageConsumer.accept(message1);
+    messageConsumer.accept(message2);
+
+    // The error escapes to the dispatch thread.
+    await().dontCatchUncaughtExceptions().untilAsserted(() -> verify(message2).ack());
+    verify(message1, never()).ack();
+  }
+
+  @Test
+  void testNegativeDispatchLanes() {
+    assertThatThrownBy(() -> this.adapter.setDispatchLanes(-1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("The number of dispatch lanes can't be negative.");
+  }
+
+  @Test
+  void duplicateMessageFilterAcksDuplicatesWithoutSendingThem() {
+    this.adapter.setDuplicateMessageFilter(new DuplicateMessageFilter());
+    Consumer<ConvertedBasicAcknowledgeablePubsubMessage<?>> messageConsumer = startDispatching(0);
+    when(this.mockMessageChannel.send(any())).thenReturn(true);
+    ConvertedBasicAcknowledgeablePubsubMessage<String> message =
+        mockMessage("payload", PubsubMessage.newBuilder().setMessageId("1"));
+    ConvertedBasicAcknowledgeablePubsubMessage<String> redelivery =
+        mockRedelivery(PubsubMessage.newBuilder().setMessageId("1"));
+    when(message.ack()).thenReturn(CompletableFuture.completedFuture(null));
+
+    messageConsumer.accept(message);
+    messageConsumer.accept(redelivery);
+
+    verify(this.mockMessageChannel, times(1)).send(any());
+    verify(message).ack();
+    verify(redelivery).ack();
+  }
+
+  @Test
+  void duplicateMessageFilterProcessesRedeliveryOfNackedMessage(CapturedOutput capturedOutput) {
+    this.adapter.setDuplicateMessageFilter(new DuplicateMessageFilter());
+    Consumer<ConvertedBasicAcknowledgeablePubsubMessage<?>> messageConsumer = startDispatching(0);
+    when(this.mockMessageChannel.send(any()))
+        .thenThrow(new RuntimeException(EXCEPTION_MESSAGE))
+        .thenReturn(true);
+    ConvertedBasicAcknowledgeablePubsubMessage<String> message =
+        mockMessage("payload", PubsubMessage.newBuilder().setMessageId("1"));
+    ConvertedBasicAcknowledgeablePubsubMessage<String> redelivery =
+        mockMessage("payload", PubsubMessage.newBuilder().setMessageId("1"));
+    when(redelivery.ack()).thenReturn(CompletableFuture.completedFuture(null));
+
+    messageConsumer.accept(message);
+    messageConsumer.accept(redelivery);
+
+    verify(this.mockMessageChannel, times(2)).send(any());
+    verify(message).nack();
+    verify(redelivery).ack();
+    assertThat(capturedOutput).contains(EXCEPTION_MESSAGE);
+  }
+
+  @Test
+  void duplicateMessageFilterProcessesRedeliveryOfFailedAutoAckMessage(
+      CapturedOutput capturedOutput) {
+    this.adapter.setAckMode(AckMode.AUTO_ACK);
+    this.adapter.setDuplicateMessageFilter(new DuplicateMessageFilter());
+    Consumer<ConvertedBasicAcknowledgeablePubsubMessage<?>> messageConsumer = startDispatching(0);
+    when(this.mockMessageChannel.send(any()))
+        .thenThrow(new RuntimeException(EXCEPTION_MESSAGE))
+        .thenReturn(true);
+    ConvertedBasicAcknowledgeablePubsubMessage<String> message =
+        mockMessage("payload", PubsubMessage.newBuilder().setMessageId("1"));
+    ConvertedBasicAcknowledgeablePubsubMessage<String> redelivery =
+        mockMessage("payload", PubsubMessage.newBuilder().setMessageId("1"));
+    when(redelivery.ack()).thenReturn(CompletableFuture.completedFuture(null));
+
+    messageConsumer.accept(message);
+    // Redelivered after the ack deadline of the message that was neither acked nor nacked.
+    messageConsumer.accept(redelivery);
+
+    verify(this.mockMessageChannel, times(2)).send(any());
+    verify(message, never()).ack();
+    verify(message, never()).nack();
+    verify(redelivery).ack();
+    assertThat(capturedOutput).contains("failed; message neither acked nor nacked");
+  }
+
+  @Test
+  void duplicateMessageFilterNacksRedeliveryOfMessageInProgress() {
+    this.adapter.setAckMode(AckMode.MANUAL);
+    this.adapter.setDuplicateMessageFilter(new DuplicateMessageFilter());
+    Consumer<ConvertedBasicAcknowledgeablePubsubMessage<?>> messageConsumer = startDispatching(0);
+    ArgumentCaptor<Message<?>> sent = ArgumentCaptor.forClass(Message.class);
+    when(this.mockMessageChannel.send(sent.capture())).thenReturn(true);
+    ConvertedBasicAcknowledgeablePubsubMessage<String> message =
+        mockMessage("payload", PubsubMessage.newBuilder().setMessageId("1"));
+    when(message.ack()).thenReturn(CompletableFuture.completedFuture(null));
+    ConvertedBasicAcknowledgeablePubsubMessage<String> redelivery =
+        mockRedelivery(PubsubMessage.newBuilder().setMessageId("1"));
+    ConvertedBasicAcknowledgeablePubsubMessage<String> lateRedelivery =
+        mockRedelivery(PubsubMessage.newBuilder().setMessageId("1"));
+
+    messageConsumer.accept(message);
+    messageConsumer.accept(redelivery);
+    ConvertedBasicAcknowledgeablePubsubMessage<?> original =
+        sent.getValue()
+            .getHeaders()
+            .get(GcpPubSubHeaders.ORIGINAL_MESSAGE, ConvertedBasicAcknowledgeablePubsubMessage.class);
+    original.ack();
+    messageConsumer.accept(lateRedelivery);
+
+    verify(this.mockMessageChannel, times(1)).send(any());
+    verify(redelivery).nack();
+    verify(redelivery, never()).ack();
+    verify(message).ack();
+    verify(lateRedelivery).ack();
+  }
+
+  @SuppressWarnings("unchecked")
+  private Consumer<ConvertedBasicAcknowledgeablePubsubMessage<?>> startDispatching(int lanes) {
+    AtomicReference<Consumer<ConvertedBasicAcknowledgeablePubsubMessage<?>>> messageConsumer =
+        new AtomicReference<>();
+    when(this.mockPubSubSubscriberOperations.subscribeAndConvert(
+            anyString(), any(Consumer.class), any(Class.class)))
+        .then(
+            invocationOnMock -> {
+              messageConsumer.set(invocationOnMock.getArgument(1));
+              return null;
+            });
+    this.adapter.setDispatchLanes(lanes);
+    this.adapter.start();
+    return messageConsumer.get();
+  }
+
+  @SuppressWarnings("unchecked")
+  private Consumer<ConvertedBasicAcknowledgeablePubsubMessage<?>> startBatching(int maxBatchSize) {
+    AtomicReference<Consumer<ConvertedBasicAcknowledgeablePubsubMessage<?>>> messageConsumer =
+        new AtomicReference<>();
+    when(this.mockPubSubSubscriberOperations.subscribeAndConvert(
+            anyString(), any(Consumer.class), any(Class.class)))
+        .then(
+            invocationOnMock -> {
+              messageConsumer.set(invocationOnMock.getArgument(1));
+              return null;
+            });
+    this.context.refresh();
+    this.adapter.setMaxBatchSize(maxBatchSize);
+    this.adapter.start();
+    return messageConsumer.get();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static ConvertedBasicAcknowledgeablePubsubMessage<String> mockMessage(String payload) {
+    ConvertedBasicAcknowledgeablePubsubMessage<String> message =
+        mock(ConvertedBasicAcknowledgeablePubsubMessage.class);
+    when(message.getPayload()).thenReturn(payload);
+    return message;
+  }
+
+  private static ConvertedBasicAcknowledgeablePubsubMessage<String> mockMessage(
+      String payload, PubsubMessage.Builder pubsubMessage) {
+    ConvertedBasicAcknowledgeablePubsubMessage<String> message = mockMessage(payload);
+    when(message.getPubsubMessage()).thenReturn(pubsubMessage.build());
+    return message;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static ConvertedBasicAcknowledgeablePubsubMessage<String> mockRedelivery(
+      PubsubMessage.Builder pubsubMessage) {
+    ConvertedBasicAcknowledgeablePubsubMessage<String> message =
+        mock(ConvertedBasicAcknowledgeablePubsubMessage.class);
+    when(message.getPubsubMessage()).thenReturn(pubsubMessage.build());
+    return message;
+  }
 }
@@ -18,7 +18,10 @@ package com.google.cloud.spring.pubsub.integration.inbound;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -27,9 +30,12 @@ import com.google.cloud.spring.pubsub.core.subscriber.PubSubSubscriberOperations
 import com.google.cloud.spring.pubsub.integration.AckMode;
 import com.google.cloud.spring.pubsub.support.GcpPubSubHeaders;
 import com.google.cloud.spring.pubsub.support.converter.ConvertedAcknowledgeablePubsubMessage;
+import com.google.protobuf.ByteString;
 import com.google.pubsub.v1.PubsubMessage;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -300,4 +306,77 @@ class PubSubMessageSourceTests {
 
     verify(this.mockPubSubSubscriberOperations).pullAndConvert("sub1", 1, false, String.class);
   }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void doReceive_prefetchKeepsPullInFlightWithoutBlocking() {
+    CompletableFuture<List<ConvertedAcknowledgeablePubsubMessage<String>>> firstPull =
+        new CompletableFuture<>();
+    CompletableFuture<List<ConvertedAcknowledgeablePubsubMessage<String>>> secondPull =
+        new CompletableFuture<>();
+    when(this.mockPubSubSubscriberOperations.pullAndConvertAsync("sub1", 3, false, String.class))
+        .thenReturn(firstPull);
+    when(this.mockPubSubSubscriberOperations.pullAndConvertAsync("sub1", 1, false, String.class))
+        .thenReturn(secondPull);
+    PubSubMessageSource pubSubMessageSource =
+        new PubSubMessageSource(this.mockPubSubSubscriberOperations, "sub1");
+    pubSubMessageSource.setPayloadType(String.class);
+    pubSubMessageSource.setMaxPrefetchMessages(3);
+
+    assertThat(pubSubMessageSource.doReceive(0)).isNull();
+    assertThat(pubSubMessageSource.doReceive(0)).isNull();
+    firstPull.complete(Arrays.asList(this.msg1, this.msg2));
+
+    assertThat(pubSubMessageSource.getPrefetchedMessageCount()).isEqualTo(2);
+    MessageBuilder<String> message1 = (MessageBuilder<String>) pubSubMessageSource.doReceive(0);
+    MessageBuilder<String> message2 = (MessageBuilder<String>) pubSubMessageSource.doReceive(0);
+    assertThat(message1.getPayload()).isEqualTo("msg1");
+    assertThat(message2.getPayload()).isEqualTo("msg2");
+
+    verify(this.mockPubSubSubscriberOperations, times(1))
+        .pullAndConvertAsync("sub1", 3, false, String.class);
+    verify(this.mockPubSubSubscriberOperations, times(1))
+        .pullAndConvertAsync("sub1", 1, false, String.class);
+    verify(this.mockPubSubSubscriberOperations, never())
+        .pullAndConvert("sub1", 1, true, String.class);
+  }
+
+  @Test
+  void doReceive_prefetchStopsPullingWhenBufferHoldsMaxBytes() {
+    when(this.msg1.getPubsubMessage())
+        .thenReturn(
+            PubsubMessage.newBuilder().setData(ByteString.copyFromUtf8("0123456789")).build());
+    when(this.mockPubSubSubscriberOperations.pullAndConvertAsync("sub1", 10, false, String.class))
+        .thenReturn(CompletableFuture.completedFuture(Arrays.asList(this.msg1, this.msg2)));
+    PubSubMessageSource pubSubMessageSource =
+        new PubSubMessageSource(this.mockPubSubSubscriberOperations, "sub1");
+    pubSubMessageSource.setPayloadType(String.class);
+    pubSubMessageSource.setMaxPrefetchMessages(10);
+    pubSubMessageSource.setMaxPrefetchBytes(5);
+
+    assertThat(pubSubMessageSource.doReceive(0)).isNull();
+
+    assertThat(pubSubMessageSource.getPrefetchedMessageCount()).isEqualTo(2);
+    verify(this.mockPubSubSubscriberOperations, times(1))
+        .pullAndConvertAsync(eq("sub1"), anyInt(), eq(false), eq(String.class));
+  }
+
+  @Test
+  void doReceive_prefetchExtendsAckDeadlineOfBufferedMessages() {
+    when(this.mockPubSubSubscriberOperations.pullAndConvertAsync("sub1", 2, false, String.class))
+        .thenReturn(CompletableFuture.completedFuture(Arrays.asList(this.msg1, this.msg2)));
+    when(this.mockPubSubSubscriberOperations.modifyAckDeadline(
+            Arrays.asList(this.msg1, this.msg2), 60))
+        .thenReturn(CompletableFuture.completedFuture(null));
+    PubSubMessageSource pubSubMessageSource =
+        new PubSubMessageSource(this.mockPubSubSubscriberOperations, "sub1");
+    pubSubMessageSource.setPayloadType(String.class);
+    pubSubMessageSource.setMaxPrefetchMessages(2);
+    pubSubMessageSource.setPrefetchAckDeadlineSeconds(60);
+
+    pubSubMessageSource.doReceive(0);
+
+    verify(this.mockPubSubSubscriberOperations)
+        .modifyAckDeadline(Arrays.asList(this.msg1, this.msg2), 60);
+  }
 }
@@ -22,12 +22,19 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.api.core.ApiService;
+import com.google.api.gax.batching.FlowControlSettings;
 import com.google.api.gax.grpc.GrpcStatusCode;
 import com.google.api.gax.rpc.DeadlineExceededException;
+import com.google.cloud.pubsub.v1.Subscriber;
 import com.google.cloud.spring.pubsub.core.subscriber.PubSubSubscriberOperations;
+import com.google.cloud.spring.pubsub.core.subscriber.PubSubSubscriberTemplate;
 import com.google.cloud.spring.pubsub.support.AcknowledgeablePubsubMessage;
+import com.google.cloud.spring.pubsub.support.BasicAcknowledgeablePubsubMessage;
+import com.google.cloud.spring.pubsub.support.DefaultSubscriberFactory;
 import com.google.protobuf.ByteString;
 import com.google.pubsub.v1.PubsubMessage;
 import io.grpc.Status;
@@ -37,9 +44,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -203,7 +213,123 @@ class PubSubReactiveFactoryTests {
     methodOrder.verifyNoMoreInteractions();
   }
 
-  private String messageToString(AcknowledgeablePubsubMessage message) {
+  @Test
+  void testStreamingPullRespectsDemand() {
+    Subscriber subscriber = mock(Subscriber.class);
+    AtomicReference<Consumer<BasicAcknowledgeablePubsubMessage>> consumer = new AtomicReference<>();
+    when(subscriberOperations.subscribe(eq("sub1"), any()))
+        .then(
+            invocationOnMock -> {
+              consumer.set(invocationOnMock.getArgument(1));
+              return subscriber;
+            });
+    BasicAcknowledgeablePubsubMessage msg1 = streamingMessage("msg1");
+    BasicAcknowledgeablePubsubMessage msg2 = streamingMessage("msg2");
+    BasicAcknowledgeablePubsubMessage msg3 = mock(BasicAcknowledgeablePubsubMessage.class);
+
+    StepVerifier.create(factory.streamingPull("sub1").map(this::messageToString), 1)
+        .then(
+            () -> {
+              consumer.get().accept(msg1);
+              consumer.get().accept(msg2);
+              consumer.get().accept(msg3);
+            })
+        .expectNext("msg1")
+        .expectNoEvent(Duration.ofMillis(50))
+        .thenRequest(1)
+        .expectNext("msg2")
+        .thenCancel()
+        .verify();
+
+    verify(subscriber).stopAsync();
+    verify(msg3).nack();
+    verify(msg1, times(0)).nack();
+  }
+
+  @Test
+  void testStreamingPullBufferIsBoundedByFlowControl() {
+    PubSubSubscriberTemplate template = mock(PubSubSubscriberTemplate.class);
+    DefaultSubscriberFactory subscriberFactory = mock(DefaultSubscriberFactory.class);
+    when(template.getSubscriberFactory()).thenReturn(subscriberFactory);
+    when(subscriberFactory.getFlowControlSettings("sub1"))
+        .thenReturn(FlowControlSettings.newBuilder().setMaxOutstandingElementCount(2L).build());
+    Subscriber subscriber = mock(Subscriber.class);
+    AtomicReference<Consumer<BasicAcknowledgeablePubsubMessage>> consumer = new AtomicReference<>();
+    when(template.subscribe(eq("sub1"), any()))
+        .then(
+            invocationOnMock -> {
+              consumer.set(invocationOnMock.getArgument(1));
+              return subscriber;
+            });
+    BasicAcknowledgeablePubsubMessage msg1 = streamingMessage("msg1");
+    BasicAcknowledgeablePubsubMessage msg2 = streamingMessage("msg2");
+    BasicAcknowledgeablePubsubMessage msg3 = mock(BasicAcknowledgeablePubsubMessage.class);
+    BasicAcknowledgeablePubsubMessage msg4 = streamingMessage("msg4");
+    PubSubReactiveFactory boundedFactory =
+        new PubSubReactiveFactory(template, VirtualTimeScheduler.getOrSet());
+
+    StepVerifier.create(boundedFactory.streamingPull("sub1").map(this::messageToString), 0)
+        .then(
+            () -> {
+              consumer.get().accept(msg1);
+              consumer.get().accept(msg2);
+              consumer.get().accept(msg3);
+            })
+        .expectNoEvent(Duration.ofMillis(50))
+        .then(() -> verify(msg3).nack())
+        .thenRequest(1)
+        .expectNext("msg1")
+        .then(() -> consumer.get().accept(msg4))
+        .thenRequest(2)
+        .expectNext("msg2", "msg4")
+        .thenCancel()
+        .verify();
+
+    verify(msg1, times(0)).nack();
+    verify(msg4, times(0)).nack();
+  }
+
+  @Test
+  void testStreamingPullSubscriberFailureResultsInErrorStream() {
+    Subscriber subscriber = mock(Subscriber.class);
+    when(subscriberOperations.subscribe(eq("sub1"), any())).thenReturn(subscriber);
+    ArgumentCaptor<ApiService.Listener> listener =
+        ArgumentCaptor.forClass(ApiService.Listener.class);
+
+    StepVerifier.create(factory.streamingPull("sub1"))
+        .expectSubscription()
+        .then(
+            () -> {
+              verify(subscriber).addListener(listener.capture(), any());
+              listener
+                  .getValue()
+                  .failed(ApiService.State.RUNNING, new IllegalStateException("stream broke"));
+            })
+        .expectErrorMessage("stream broke")
+        .verify();
+
+    verify(subscriber).stopAsync();
+  }
+
+  @Test
+  void testStreamingPullStartsSubscriberOnSubscription() {
+    factory.streamingPull("sub1");
+
+    Mockito.verifyNoInteractions(subscriberOperations);
+    assertThatThrownBy(() -> factory.streamingPull(""))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("The subscriptionName can't be null or empty.");
+  }
+
+  private BasicAcknowledgeablePubsubMessage streamingMessage(String payload) {
+    BasicAcknowledgeablePubsubMessage msg = mock(BasicAcknowledgeablePubsubMessage.class);
+    when(msg.getPubsubMessage())
+        .thenReturn(
+            PubsubMessage.newBuilder().setData(ByteString.copyFrom(payload.getBytes())).build());
+    return msg;
+  }
+
+  private String messageToString(BasicAcknowledgeablePubsubMessage message) {
     return new String(message.getPubsubMessage().getData().toByteArray(), Charset.defaultCharset());
   }
 
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.pubsub.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import com.google.api.core.SettableApiFuture;
+import com.google.cloud.pubsub.v1.Publisher;
+import com.google.cloud.spring.pubsub.core.PubSubDeliveryException;
+import com.google.cloud.spring.pubsub.support.PublisherFactory;
+import com.google.protobuf.ByteString;
+import com.google.pubsub.v1.PubsubMessage;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+/** Tests for {@link PubSubReactivePublisher}. */
+@ExtendWith(MockitoExtension.class)
+class PubSubReactivePublisherTests {
+
+  @Mock PublisherFactory publisherFactory;
+
+  @Mock Publisher publisher;
+
+  private final List<PublishCall> publishCalls = new CopyOnWriteArrayList<>();
+
+  private PubSubReactivePublisher reactivePublisher;
+
+  @BeforeEach
+  void setUp() {
+    when(this.publisherFactory.createPublisher("topic1")).thenReturn(this.publisher);
+    when(this.publisher.publish(any()))
+        .then(
+            invocation -> {
+              PublishCall call = new PublishCall(invocation.getArgument(0));
+              this.publishCalls.add(call);
+              return call.future;
+            });
+    this.reactivePublisher =
+        new PubSubReactivePublisher(this.publisherFactory, Schedulers.immediate());
+  }
+
+  @Test
+  void testPublishesElementsInSourceOrder() {
+    StepVerifier.create(
+            this.reactivePublisher
+                .publish(
+                    "topic1",
+                    Flux.just("a", "b", "c"),
+                    payload ->
+                        PubsubMessage.newBuilder()
+                            .setData(ByteString.copyFromUtf8(payload))
+                            .setOrderingKey("key")
+                            .build())
+                .map(result -> result.getPayload() + ":" + result.getMessageId()))
+        .then(() -> this.publishCalls.forEach(call -> call.complete()))
+        .expectNext("a:id-a", "b:id-b", "c:id-c")
+        .verifyComplete();
+
+    assertThat(this.publishCalls)
+        .extracting(call -> call.message.getData().toStringUtf8())
+        .containsExactly("a", "b", "c");
+    assertThat(this.publishCalls).allMatch(call -> call.message.getOrderingKey().equals("key"));
+  }
+
+  @Test
+  void testOutstandingPublishesAreBounded() {
+    assertThatThrownBy(() -> this.reactivePublisher.setMaxInFlight(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("The maxInFlight must be positive.");
+    this.reactivePublisher.setMaxInFlight(2);
+
+    StepVerifier.create(
+            this.reactivePublisher.publish("topic1", Flux.range(0, 5).map(String::valueOf)))
+        .then(() -> assertThat(this.publishCalls).hasSize(2))
+        .then(() -> this.publishCalls.get(0).complete())
+        .expectNextCount(1)
+        .then(() -> assertThat(this.publishCalls).hasSize(3))
+        .then(() -> this.publishCalls.subList(1, 3).forEach(call -> call.complete()))
+        .expectNextCount(2)
+        .then(() -> assertThat(this.publishCalls).hasSize(5))
+        .then(() -> this.publishCalls.subList(3, 5).forEach(call -> call.complete()))
+        .expectNextCount(2)
+        .verifyComplete();
+  }
+
+  @Test
+  void testFailedPublishTerminatesStream() {
+    StepVerifier.create(this.reactivePublisher.publish("topic1", Flux.just("a", "b")))
+        .then(
+            () -> {
+              this.publishCalls.get(0).complete();
+              this.publishCalls.get(1).future.setException(new IllegalStateException("boom"));
+            })
+        .expectNextCount(1)
+        .expectErrorSatisfies(
+            error ->
+                assertThat(error)
+                    .isInstanceOf(PubSubDeliveryException.class)
+                    .hasMessage("Publishing to topic1 topic failed.")
+                    .hasCauseInstanceOf(IllegalStateException.class))
+        .verify();
+  }
+
+  private static final class PublishCall {
+
+    private final PubsubMessage message;
+
+    private final SettableApiFuture<String> future = SettableApiFuture.create();
+
+    PublishCall(PubsubMessage message) {
+      this.message = message;
+    }
+
+    void complete() {
+      this.future.set("id-" + this.message.getData().toStringUtf8());
+    }
+  }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.pubsub.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.google.cloud.pubsub.v1.AckReplyConsumer;
+import com.google.cloud.pubsub.v1.MessageReceiver;
+import com.google.cloud.spring.pubsub.core.PubSubConfiguration;
+import com.google.pubsub.v1.PubsubMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link AdaptiveFlowController}. */
+class AdaptiveFlowControllerTests {
+
+  private final List<AckReplyConsumer> received = new CopyOnWriteArrayList<>();
+
+  private final MessageReceiver receiver = (message, consumer) -> this.received.add(consumer);
+
+  @Test
+  void testParksMessagesWithoutBlockingWhileLimitReached() {
+    AdaptiveFlowController controller = new AdaptiveFlowController("projects/p/subscriptions/s", 1);
+    List<Runnable> dispatched = new ArrayList<>();
+    MessageReceiver flowControlled = controller.wrap(this.receiver, dispatched::add);
+
+    flowControlled.receiveMessage(message("1"), mock(AckReplyConsumer.class));
+    flowControlled.receiveMessage(message("2"), mock(AckReplyConsumer.class));
+
+    assertThat(this.received).hasSize(1);
+    assertThat(controller.getInFlight()).isEqualTo(1);
+    assertThat(dispatched).isEmpty();
+
+    this.received.get(0).ack();
+    assertThat(dispatched).hasSize(1);
+    assertThat(controller.getInFlight()).isEqualTo(1);
+    assertThat(controller.getHandledCount()).isEqualTo(1);
+
+    dispatched.get(0).run();
+    assertThat(this.received).hasSize(2);
+  }
+
+  @Test
+  void testNacksParkedMessageWhenExecutorRejectsIt() {
+    AdaptiveFlowController controller = new AdaptiveFlowController("projects/p/subscriptions/s", 1);
+    MessageReceiver flowControlled =
+        controller.wrap(
+            this.receiver,
+            command -> {
+              throw new RejectedExecutionException("shut down");
+            });
+    AckReplyConsumer parkedConsumer = mock(AckReplyConsumer.class);
+
+    flowControlled.receiveMessage(message("1"), mock(AckReplyConsumer.class));
+    flowControlled.receiveMessage(message("2"), parkedConsumer);
+    this.received.get(0).ack();
+
+    verify(parkedConsumer).nack();
+    assertThat(controller.getInFlight()).isZero();
+  }
+
+  @Test
+  void testReleasesPermitOnce() {
+    AdaptiveFlowController controller = new AdaptiveFlowController("projects/p/subscriptions/s", 5);
+    AckReplyConsumer consumer = mock(AckReplyConsumer.class);
+
+    controller.wrap(this.receiver).receiveMessage(message("1"), consumer);
+    this.received.get(0).nack();
+    this.received.get(0).nack();
+
+    verify(consumer, times(2)).nack();
+    assertThat(controller.getInFlight()).isZero();
+    assertThat(controller.getHandledCount()).isEqualTo(1);
+  }
+
+  @Test
+  void testDecreasesLimitWhenHandlingIsSlowerThanTarget() throws InterruptedException {
+    AdaptiveFlowController controller =
+        new AdaptiveFlowController("projects/p/subscriptions/s", 100);
+    controller.setMinLimit(30);
+    controller.setTargetLatency(Duration.ofMillis(1));
+    controller.setAdjustmentInterval(Duration.ofMillis(10));
+    MessageReceiver flowControlled = controller.wrap(this.receiver);
+
+    flowControlled.receiveMessage(message("1"), mock(AckReplyConsumer.class));
+    TimeUnit.MILLISECONDS.sleep(20);
+    this.received.get(0).ack();
+    assertThat(controller.getLimit()).isEqualTo(50);
+
+    flowControlled.receiveMessage(message("2"), mock(AckReplyConsumer.class));
+    TimeUnit.MILLISECONDS.sleep(20);
+    this.received.get(1).ack();
+    assertThat(controller.getLimit()).isEqualTo(30);
+    assertThat(controller.getDecreaseCount()).isEqualTo(2);
+  }
+
+  @Test
+  void testDecreasesLimitOnRedeliveryAndIncreasesWhenSaturated() throws InterruptedException {
+    AdaptiveFlowController controller = new AdaptiveFlowController("projects/p/subscriptions/s", 4);
+    controller.setMinLimit(1);
+    controller.setAdjustmentInterval(Duration.ofMillis(10));
+    MessageReceiver flowControlled = controller.wrap(this.receiver);
+
+    flowControlled.receiveMessage(message("1"), mock(AckReplyConsumer.class));
+    flowControlled.receiveMessage(message("1"), mock(AckReplyConsumer.class));
+    TimeUnit.MILLISECONDS.sleep(20);
+    this.received.forEach(AckReplyConsumer::ack);
+    assertThat(controller.getRedeliveryCount()).isEqualTo(1);
+    assertThat(controller.getLimit()).isEqualTo(2);
+
+    // Fill the limit with fast messages, so the next adjustment increases it.
+    flowControlled.receiveMessage(message("2"), mock(AckReplyConsumer.class));
+    flowControlled.receiveMessage(message("3"), mock(AckReplyConsumer.class));
+    this.received.get(2).ack();
+    TimeUnit.MILLISECONDS.sleep(20);
+    this.received.get(3).ack();
+    assertThat(controller.getLimit()).isEqualTo(3);
+    assertThat(controller.getIncreaseCount()).isEqualTo(1);
+  }
+
+  @Test
+  void testKeepsLimitWhenRedeliveriesStayBelowThreshold() throws InterruptedException {
+    AdaptiveFlowController controller =
+        new AdaptiveFlowController("projects/p/subscriptions/s", 100);
+    controller.setMinLimit(10);
+    controller.setAdjustmentInterval(Duration.ofMillis(10));
+    MessageReceiver flowControlled = controller.wrap(this.receiver);
+
+    // One nacked message redelivered among 20 received ones.
+    flowControlled.receiveMessage(message("0"), mock(AckReplyConsumer.class));
+    for (int i = 0; i < 20; i++) {
+      flowControlled.receiveMessage(message(Integer.toString(i)), mock(AckReplyConsumer.class));
+    }
+    TimeUnit.MILLISECONDS.sleep(20);
+    this.received.forEach(AckReplyConsumer::ack);
+
+    assertThat(controller.getRedeliveryCount()).isEqualTo(1);
+    assertThat(controller.getLimit()).isEqualTo(100);
+    assertThat(controller.getDecreaseCount()).isZero();
+  }
+
+  @Test
+  void testReleasesPermitWhenReceiverThrows() {
+    AdaptiveFlowController controller = new AdaptiveFlowController("projects/p/subscriptions/s", 1);
+    MessageReceiver failing =
+        controller.wrap(
+            (message, consumer) -> {
+              throw new IllegalStateException("boom");
+            });
+
+    assertThatThrownBy(() -> failing.receiveMessage(message("1"), mock(AckReplyConsumer.class)))
+        .isInstanceOf(IllegalStateException.class);
+    assertThat(controller.getInFlight()).isZero();
+  }
+
+  @Test
+  void testMetricsBindControllersCreatedAfterBinding() {
+    PubSubConfiguration pubSubConfiguration = new PubSubConfiguration();
+    pubSubConfiguration.getSubscriber().getAdaptiveFlowControl().setEnabled(true);
+    pubSubConfiguration.initialize("p");
+    DefaultSubscriberFactory factory = new DefaultSubscriberFactory(() -> "p", pubSubConfiguration);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    new AdaptiveFlowControlMetrics(factory).bindTo(registry);
+
+    AdaptiveFlowController controller = factory.getAdaptiveFlowController("s");
+
+    assertThat(
+            registry
+                .get("pubsub.subscriber.flow.limit")
+                .tag("subscription", "projects/p/subscriptions/s")
+                .gauge()
+                .value())
+        .isEqualTo(controller.getLimit());
+    assertThat(
+            registry
+                .get("pubsub.subscriber.flow.adjustments")
+                .tag("direction", "decrease")
+                .functionCounter()
+                .count())
+        .isZero();
+  }
+
+  private static PubsubMessage message(String messageId) {
+    return PubsubMessage.newBuilder().setMessageId(messageId).build();
+  }
+}
@@ -17,13 +17,27 @@
 package com.google.cloud.spring.pubsub.support;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
 import com.google.cloud.pubsub.v1.Publisher;
+import com.google.pubsub.v1.PubsubMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -37,6 +51,8 @@ class CachingPublisherFactoryTests {
 
   @Mock private Publisher publisher2;
 
+  @Mock private Publisher publisher3;
+
   @Test
   void testGetPublisherCaching() {
     CachingPublisherFactory cachingPublisherFactory = new CachingPublisherFactory(delegate);
@@ -58,4 +74,146 @@ class CachingPublisherFactoryTests {
     verify(publisher1, times(1)).shutdown();
     verify(publisher2, times(1)).shutdown();
   }
+
+  @Test
+  void testLeastRecentlyUsedPublisherEvictedWhenFull() throws InterruptedException {
+    CachingPublisherFactory cachingPublisherFactory = new CachingPublisherFactory(delegate);
+    cachingPublisherFactory.setMaxSize(2);
+
+    when(delegate.createPublisher("topic1")).thenReturn(publisher1);
+    when(delegate.createPublisher("topic2")).thenReturn(publisher2);
+    when(delegate.createPublisher("topic3")).thenReturn(publisher3);
+    when(publisher2.awaitTermination(anyLong(), eq(TimeUnit.MILLISECONDS))).thenReturn(true);
+
+    cachingPublisherFactory.createPublisher("topic1");
+    cachingPublisherFactory.createPublisher("topic2");
+    cachingPublisherFactory.createPublisher("topic1");
+    cachingPublisherFactory.createPublisher("topic3");
+
+    assertThat(cachingPublisherFactory.getSize()).isEqualTo(2);
+    assertThat(cachingPublisherFactory.getEvictionCount()).isEqualTo(1);
+    await().until(() -> cachingPublisherFactory.getEvictionFlushCount() == 1);
+
+    InOrder inOrder = inOrder(publisher2);
+    inOrder.verify(publisher2).publishAllOutstanding();
+    inOrder.verify(publisher2).shutdown();
+    inOrder.verify(publisher2).awaitTermination(30000L, TimeUnit.MILLISECONDS);
+    verify(publisher1, never()).shutdown();
+
+    assertThat(cachingPublisherFactory.createPublisher("topic1")).isEqualTo(publisher1);
+    assertThat(cachingPublisherFactory.createPublisher("topic3")).isEqualTo(publisher3);
+    cachingPublisherFactory.shutdown();
+  }
+
+  @Test
+  void testIdlePublishersEvicted() throws InterruptedException {
+    CachingPublisherFactory cachingPublisherFactory = new CachingPublisherFactory(delegate);
+    cachingPublisherFactory.setIdleTimeout(Duration.ofMillis(200));
+
+    when(delegate.createPublisher("topic1")).thenReturn(publisher1);
+    when(publisher1.awaitTermination(anyLong(), eq(TimeUnit.MILLISECONDS))).thenReturn(true);
+
+    cachingPublisherFactory.createPublisher("topic1");
+
+    await().atMost(Duration.ofSeconds(10)).until(() -> cachingPublisherFactory.getSize() == 0);
+    await().until(() -> cachingPublisherFactory.getEvictionFlushCount() == 1);
+    verify(publisher1).publishAllOutstanding();
+    verify(publisher1).shutdown();
+    cachingPublisherFactory.shutdown();
+  }
+
+  @Test
+  void testEvictedPublishersFlushedInParallel() throws InterruptedException {
+    CachingPublisherFactory cachingPublisherFactory = new CachingPublisherFactory(delegate);
+    cachingPublisherFactory.setMaxSize(1);
+    CountDownLatch slowFlush = new CountDownLatch(1);
+
+    when(delegate.createPublisher("topic1")).thenReturn(publisher1);
+    when(delegate.createPublisher("topic2")).thenReturn(publisher2);
+    when(delegate.createPublisher("topic3")).thenReturn(publisher3);
+    when(publisher1.awaitTermination(anyLong(), eq(TimeUnit.MILLISECONDS)))
+        .then(invocation -> slowFlush.await(10, TimeUnit.SECONDS));
+    when(publisher2.awaitTermination(anyLong(), eq(TimeUnit.MILLISECONDS))).thenReturn(true);
+
+    cachingPublisherFactory.createPublisher("topic1");
+    cachingPublisherFactory.createPublisher("topic2");
+    cachingPublisherFactory.createPublisher("topic3");
+
+    // The flush of the second publisher does not wait for the first one to terminate.
+    await().until(() -> cachingPublisherFactory.getEvictionFlushCount() == 1);
+    verify(publisher2).shutdown();
+    slowFlush.countDown();
+    await().until(() -> cachingPublisherFactory.getEvictionFlushCount() == 2);
+    cachingPublisherFactory.shutdown();
+  }
+
+  @Test
+  void testEvictedPublisherAcceptsMessagesDuringGracePeriod() throws InterruptedException {
+    CachingPublisherFactory cachingPublisherFactory = new CachingPublisherFactory(delegate);
+    cachingPublisherFactory.setMaxSize(1);
+    PubsubMessage message = PubsubMessage.newBuilder().setMessageId("1").build();
+    ApiFuture<String> published = ApiFutures.immediateFuture("1");
+
+    when(delegate.createPublisher("topic1")).thenReturn(publisher1);
+    when(delegate.createPublisher("topic2")).thenReturn(publisher2);
+    when(publisher1.publish(message)).thenReturn(published);
+    when(publisher1.awaitTermination(anyLong(), eq(TimeUnit.MILLISECONDS))).thenReturn(true);
+
+    Publisher publisher = cachingPublisherFactory.createPublisher("topic1");
+    // Evicted after it was returned, before the message is published on it.
+    cachingPublisherFactory.createPublisher("topic2");
+
+    assertThat(publisher.publish(message)).isSameAs(published);
+    verify(publisher1, never()).shutdown();
+    await().until(() -> cachingPublisherFactory.getEvictionFlushCount() == 1);
+    InOrder inOrder = inOrder(publisher1);
+    inOrder.verify(publisher1).publish(message);
+    inOrder.verify(publisher1).publishAllOutstanding();
+    inOrder.verify(publisher1).shutdown();
+    cachingPublisherFactory.shutdown();
+  }
+
+  @Test
+  void testShutdownClosesFactory() {
+    CachingPublisherFactory cachingPublisherFactory = new CachingPublisherFactory(delegate);
+    cachingPublisherFactory.setMaxSize(1);
+
+    when(delegate.createPublisher("topic1")).thenReturn(publisher1);
+    when(delegate.createPublisher("topic2")).thenReturn(publisher2);
+
+    cachingPublisherFactory.createPublisher("topic1");
+    cachingPublisherFactory.createPublisher("topic2");
+    cachingPublisherFactory.shutdown();
+
+    // Also shuts down the evicted publisher still in its grace period.
+    verify(publisher1).shutdown();
+    verify(publisher2).shutdown();
+    assertThat(cachingPublisherFactory.getSize()).isZero();
+    assertThatThrownBy(() -> cachingPublisherFactory.createPublisher("topic3"))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("The publisher factory has been shut down.");
+    verify(delegate, never()).createPublisher("topic3");
+  }
+
+  @Test
+  void testMetricsBoundToRegistry() {
+    CachingPublisherFactory cachingPublisherFactory = new CachingPublisherFactory(delegate);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    new CachingPublisherFactoryMetrics(cachingPublisherFactory).bindTo(registry);
+
+    when(delegate.createPublisher("topic1")).thenReturn(publisher1);
+    cachingPublisherFactory.createPublisher("topic1");
+    cachingPublisherFactory.createPublisher("topic1");
+    cachingPublisherFactory.createPublisher("topic1");
+
+    assertThat(registry.get("pubsub.publisher.cache.gets").tag("result", "hit").functionCounter()
+            .count())
+        .isEqualTo(2.0);
+    assertThat(registry.get("pubsub.publisher.cache.gets").tag("result", "miss").functionCounter()
+            .count())
+        .isEqualTo(1.0);
+    assertThat(registry.get("pubsub.publisher.cache.size").gauge().value()).isEqualTo(1.0);
+    assertThat(registry.get("pubsub.publisher.cache.eviction.flush").functionTimer().count())
+        .isZero();
+  }
 }
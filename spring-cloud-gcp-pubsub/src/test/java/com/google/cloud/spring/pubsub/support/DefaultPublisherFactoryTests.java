@@ -23,6 +23,7 @@ import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import com.google.api.gax.batching.BatchingSettings;
 import com.google.api.gax.core.NoCredentialsProvider;
 import com.google.api.gax.rpc.ApiCallContext;
 import com.google.api.gax.rpc.TransportChannel;
@@ -30,8 +31,10 @@ import com.google.api.gax.rpc.TransportChannelProvider;
 import com.google.cloud.pubsub.v1.Publisher;
 import com.google.cloud.spring.pubsub.core.publisher.PublisherCustomizer;
 import com.google.pubsub.v1.ProjectTopicName;
+import com.google.pubsub.v1.TopicName;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -117,4 +120,21 @@ class DefaultPublisherFactoryTests {
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessage("Non-null customizers expected");
   }
+
+  @Test
+  void createPublisherAppliesTopicSpecificSettings() {
+    BatchingSettings globalBatching =
+        BatchingSettings.newBuilder().setElementCountThreshold(100L).build();
+    BatchingSettings topicBatching =
+        BatchingSettings.newBuilder().setElementCountThreshold(1L).build();
+    factory.setBatchingSettings(globalBatching);
+    factory.setBatchingSettingsMap(
+        Collections.singletonMap(TopicName.of("projectId", "rpcTopic"), topicBatching));
+
+    assertThat(factory.createPublisher("rpcTopic").getBatchingSettings()).isSameAs(topicBatching);
+    assertThat(factory.createPublisher("projects/projectId/topics/rpcTopic").getBatchingSettings())
+        .isSameAs(topicBatching);
+    assertThat(factory.createPublisher("telemetryTopic").getBatchingSettings())
+        .isSameAs(globalBatching);
+  }
 }
@@ -46,7 +46,9 @@ import com.google.cloud.spring.pubsub.core.subscriber.SubscriberCustomizer;
 import com.google.pubsub.v1.ProjectSubscriptionName;
 import com.google.pubsub.v1.PullRequest;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.commons.lang3.reflect.FieldUtils;
@@ -413,6 +415,49 @@ class DefaultSubscriberFactoryTests {
         .hasFieldOrPropertyWithValue("subStubSettings.universeDomain", "example.com");
   }
 
+  @Test
+  void testCreateSubscriber_adaptiveFlowControlEnabled() {
+    PubSubConfiguration pubSubConfiguration = new PubSubConfiguration();
+    PubSubConfiguration.AdaptiveFlowControl adaptiveFlowControl =
+        pubSubConfiguration.getSubscriber().getAdaptiveFlowControl();
+    adaptiveFlowControl.setEnabled(true);
+    adaptiveFlowControl.setMinOutstandingElementCount(5L);
+    pubSubConfiguration.getSubscriber().getFlowControl().setMaxOutstandingElementCount(50L);
+    pubSubConfiguration.initialize("project");
+    DefaultSubscriberFactory factory =
+        new DefaultSubscriberFactory(() -> "project", pubSubConfiguration);
+    factory.setCredentialsProvider(this.credentialsProvider);
+    factory.setGlobalFlowControlSettings(
+        FlowControlSettings.newBuilder().setMaxOutstandingElementCount(50L).build());
+    List<AdaptiveFlowController> created = new ArrayList<>();
+    factory.addAdaptiveFlowControllerListener(created::add);
+
+    factory.createSubscriber("defaultSubscription", (message, consumer) -> {});
+    factory.createSubscriber("defaultSubscription", (message, consumer) -> {});
+
+    assertThat(created).hasSize(1);
+    AdaptiveFlowController controller = created.get(0);
+    assertThat(factory.getAdaptiveFlowControllers()).containsExactly(controller);
+    assertThat(controller.getSubscriptionName())
+        .isEqualTo("projects/project/subscriptions/defaultSubscription");
+    assertThat(controller.getMaxLimit()).isEqualTo(50L);
+    assertThat(controller.getMinLimit()).isEqualTo(5L);
+  }
+
+  @Test
+  void testCreateSubscriber_adaptiveFlowControlDisabledByDefault() {
+    PubSubConfiguration pubSubConfiguration = new PubSubConfiguration();
+    pubSubConfiguration.initialize("project");
+    DefaultSubscriberFactory factory =
+        new DefaultSubscriberFactory(() -> "project", pubSubConfiguration);
+    factory.setCredentialsProvider(this.credentialsProvider);
+
+    factory.createSubscriber("defaultSubscription", (message, consumer) -> {});
+
+    assertThat(factory.getAdaptiveFlowController("defaultSubscription")).isNull();
+    assertThat(factory.getAdaptiveFlowControllers()).isEmpty();
+  }
+
   @Test
   void testCreateSubscriber_invalidMinDurationPerAckExtension_throwsException() {
     GcpProjectIdProvider projectIdProvider = () -> "project";
@@ -0,0 +1,605 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.pubsub.support;
+
+import com.google.api.gax.core.CredentialsProvider;
+import com.google.api.gax.core.NoCredentialsProvider;
+import com.google.api.gax.grpc.GrpcTransportChannel;
+import com.google.api.gax.rpc.FixedTransportChannelProvider;
+import com.google.api.gax.rpc.TransportChannelProvider;
+import com.google.protobuf.Empty;
+import com.google.protobuf.Message;
+import com.google.protobuf.Timestamp;
+import com.google.pubsub.v1.AcknowledgeRequest;
+import com.google.pubsub.v1.DeleteSubscriptionRequest;
+import com.google.pubsub.v1.DeleteTopicRequest;
+import com.google.pubsub.v1.GetSubscriptionRequest;
+import com.google.pubsub.v1.GetTopicRequest;
+import com.google.pubsub.v1.ModifyAckDeadlineRequest;
+import com.google.pubsub.v1.ProjectSubscriptionName;
+import com.google.pubsub.v1.PublishRequest;
+import com.google.pubsub.v1.PublishResponse;
+import com.google.pubsub.v1.PubsubMessage;
+import com.google.pubsub.v1.PullRequest;
+import com.google.pubsub.v1.PullResponse;
+import com.google.pubsub.v1.ReceivedMessage;
+import com.google.pubsub.v1.StreamingPullRequest;
+import com.google.pubsub.v1.StreamingPullResponse;
+import com.google.pubsub.v1.Subscription;
+import com.google.pubsub.v1.Topic;
+import com.google.pubsub.v1.TopicName;
+import io.grpc.ManagedChannel;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.MethodType;
+import io.grpc.Server;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.protobuf.ProtoUtils;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.ServerCalls;
+import io.grpc.stub.StreamObserver;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * An in-process gRPC server implementing the Pub/Sub topic, subscription, publish, pull, streaming
+ * pull, ack and modify ack deadline operations in memory, so that the Pub/Sub clients created by
+ * {@link DefaultPublisherFactory} and {@link DefaultSubscriberFactory} can be tested without the
+ * emulator or cloud access.
+ *
+ * <p>Messages published to a topic are queued for each of its subscriptions, handed to their open
+ * streaming pulls in turn, or returned by pulls. Outstanding messages whose ack deadline expires,
+ * and nacked messages, are delivered again.
+ */
+public final class FakePubSubServer implements AutoCloseable {
+
+  private static final String PUBLISHER_SERVICE = "google.pubsub.v1.Publisher";
+
+  private static final String SUBSCRIBER_SERVICE = "google.pubsub.v1.Subscriber";
+
+  private static final int MAX_MESSAGES_PER_RESPONSE = 100;
+
+  private static final int DEFAULT_ACK_DEADLINE_SECONDS = 10;
+
+  private final Map<String, Topic> topics = new ConcurrentHashMap<>();
+
+  private final Map<String, SubscriptionState> subscriptions = new ConcurrentHashMap<>();
+
+  private final AtomicLong lastMessageId = new AtomicLong();
+
+  private final AtomicLong lastAckId = new AtomicLong();
+
+  private final Server server;
+
+  private final ManagedChannel channel;
+
+  private final ScheduledExecutorService deadlineChecker;
+
+  private FakePubSubServer() throws IOException {
+    String serverName = "fake-pubsub-" + UUID.randomUUID();
+    this.server =
+        InProcessServerBuilder.forName(serverName)
+            .addService(publisherService())
+            .addService(subscriberService())
+            .build()
+            .start();
+    this.channel = InProcessChannelBuilder.forName(serverName).build();
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("fake-pubsub-");
+    threadFactory.setDaemon(true);
+    this.deadlineChecker = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    this.deadlineChecker.scheduleWithFixedDelay(
+        this::redeliverExpired, 100, 100, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Start a server.
+   *
+   * @return the started server
+   * @throws IOException if the server fails to start
+   */
+  public static FakePubSubServer start() throws IOException {
+    return new FakePubSubServer();
+  }
+
+  /**
+   * Get a channel provider connecting the Pub/Sub clients to this server. The channel is shared
+   * by all clients and closed with the server.
+   *
+   * @return the channel provider
+   */
+  public TransportChannelProvider getChannelProvider() {
+    return FixedTransportChannelProvider.create(GrpcTransportChannel.create(this.channel));
+  }
+
+  public CredentialsProvider getCredentialsProvider() {
+    return NoCredentialsProvider.create();
+  }
+
+  public void createTopic(String projectId, String topic) {
+    String name = TopicName.of(projectId, topic).toString();
+    this.topics.put(name, Topic.newBuilder().setName(name).build());
+  }
+
+  public void createSubscription(String projectId, String subscription, String topic) {
+    String name = ProjectSubscriptionName.of(projectId, subscription).toString();
+    this.subscriptions.put(
+        name,
+        new SubscriptionState(
+            Subscription.newBuilder()
+                .setName(name)
+                .setTopic(TopicName.of(projectId, topic).toString())
+                .setAckDeadlineSeconds(DEFAULT_ACK_DEADLINE_SECONDS)
+                .build()));
+  }
+
+  /**
+   * Get the number of messages of a subscription that were delivered and neither acked nor
+   * nacked.
+   *
+   * @param projectId the project of the subscription
+   * @param subscription the short name of the subscription
+   * @return the number of outstanding messages
+   */
+  public int getOutstandingCount(String projectId, String subscription) {
+    return subscription(ProjectSubscriptionName.of(projectId, subscription).toString())
+        .outstanding
+        .size();
+  }
+
+  /**
+   * Get the number of messages of a subscription waiting to be delivered.
+   *
+   * @param projectId the project of the subscription
+   * @param subscription the short name of the subscription
+   * @return the number of pending messages
+   */
+  public int getPendingCount(String projectId, String subscription) {
+    return subscription(ProjectSubscriptionName.of(projectId, subscription).toString())
+        .pending
+        .size();
+  }
+
+  @Override
+  public void close() {
+    this.deadlineChecker.shutdownNow();
+    this.channel.shutdownNow();
+    this.server.shutdownNow();
+  }
+
+  private ServerServiceDefinition publisherService() {
+    return ServerServiceDefinition.builder(PUBLISHER_SERVICE)
+        .addMethod(
+            unaryMethod(
+                PUBLISHER_SERVICE,
+                "CreateTopic",
+                Topic.getDefaultInstance(),
+                Topic.getDefaultInstance()),
+            ServerCalls.asyncUnaryCall(this::createTopic))
+        .addMethod(
+            unaryMethod(
+                PUBLISHER_SERVICE,
+                "GetTopic",
+                GetTopicRequest.getDefaultInstance(),
+                Topic.getDefaultInstance()),
+            ServerCalls.asyncUnaryCall(this::getTopic))
+        .addMethod(
+            unaryMethod(
+                PUBLISHER_SERVICE,
+                "DeleteTopic",
+                DeleteTopicRequest.getDefaultInstance(),
+                Empty.getDefaultInstance()),
+            ServerCalls.asyncUnaryCall(this::deleteTopic))
+        .addMethod(
+            unaryMethod(
+                PUBLISHER_SERVICE,
+                "Publish",
+                PublishRequest.getDefaultInstance(),
+                PublishResponse.getDefaultInstance()),
+            ServerCalls.asyncUnaryCall(this::publish))
+        .build();
+  }
+
+  private ServerServiceDefinition subscriberService() {
+    return ServerServiceDefinition.builder(SUBSCRIBER_SERVICE)
+        .addMethod(
+            unaryMethod(
+                SUBSCRIBER_SERVICE,
+                "CreateSubscription",
+                Subscription.getDefaultInstance(),
+                Subscription.getDefaultInstance()),
+            ServerCalls.asyncUnaryCall(this::createSubscription))
+        .addMethod(
+            unaryMethod(
+                SUBSCRIBER_SERVICE,
+                "GetSubscription",
+                GetSubscriptionRequest.getDefaultInstance(),
+                Subscription.getDefaultInstance()),
+            ServerCalls.asyncUnaryCall(this::getSubscription))
+        .addMethod(
+            unaryMethod(
+                SUBSCRIBER_SERVICE,
+                "DeleteSubscription",
+                DeleteSubscriptionRequest.getDefaultInstance(),
+                Empty.getDefaultInstance()),
+            ServerCalls.asyncUnaryCall(this::deleteSubscription))
+        .addMethod(
+            unaryMethod(
+                SUBSCRIBER_SERVICE,
+                "Pull",
+                PullRequest.getDefaultInstance(),
+                PullResponse.getDefaultInstance()),
+            ServerCalls.asyncUnaryCall(this::pull))
+        .addMethod(
+            unaryMethod(
+                SUBSCRIBER_SERVICE,
+                "Acknowledge",
+                AcknowledgeRequest.getDefaultInstance(),
+                Empty.getDefaultInstance()),
+            ServerCalls.asyncUnaryCall(this::acknowledge))
+        .addMethod(
+            unaryMethod(
+                SUBSCRIBER_SERVICE,
+                "ModifyAckDeadline",
+                ModifyAckDeadlineRequest.getDefaultInstance(),
+                Empty.getDefaultInstance()),
+            ServerCalls.asyncUnaryCall(this::modifyAckDeadline))
+        .addMethod(
+            method(
+                SUBSCRIBER_SERVICE,
+                "StreamingPull",
+                MethodType.BIDI_STREAMING,
+                StreamingPullRequest.getDefaultInstance(),
+                StreamingPullResponse.getDefaultInstance()),
+            ServerCalls.asyncBidiStreamingCall(StreamingPull::new))
+        .build();
+  }
+
+  private void createTopic(Topic topic, StreamObserver<Topic> responseObserver) {
+    if (this.topics.putIfAbsent(topic.getName(), topic) != null) {
+      responseObserver.onError(Status.ALREADY_EXISTS.asRuntimeException());
+      return;
+    }
+    respond(responseObserver, topic);
+  }
+
+  private void getTopic(GetTopicRequest request, StreamObserver<Topic> responseObserver) {
+    Topic topic = this.topics.get(request.getTopic());
+    if (topic == null) {
+      responseObserver.onError(Status.NOT_FOUND.asRuntimeException());
+      return;
+    }
+    respond(responseObserver, topic);
+  }
+
+  private void deleteTopic(DeleteTopicRequest request, StreamObserver<Empty> responseObserver) {
+    if (this.topics.remove(request.getTopic()) == null) {
+      responseObserver.onError(Status.NOT_FOUND.asRuntimeException());
+      return;
+    }
+    respond(responseObserver, Empty.getDefaultInstance());
+  }
+
+  private void publish(PublishRequest request, StreamObserver<PublishResponse> responseObserver) {
+    if (!this.topics.containsKey(request.getTopic())) {
+      responseObserver.onError(Status.NOT_FOUND.asRuntimeException());
+      return;
+    }
+    long now = System.currentTimeMillis();
+    Timestamp publishTime =
+        Timestamp.newBuilder()
+            .setSeconds(now / 1000)
+            .setNanos((int) (now % 1000) * 1_000_000)
+            .build();
+    PublishResponse.Builder response = PublishResponse.newBuilder();
+    List<PubsubMessage> messages = new ArrayList<>(request.getMessagesCount());
+    for (PubsubMessage message : request.getMessagesList()) {
+      String messageId = Long.toString(this.lastMessageId.incrementAndGet());
+      messages.add(
+          message.toBuilder().setMessageId(messageId).setPublishTime(publishTime).build());
+      response.addMessageIds(messageId);
+    }
+    for (SubscriptionState subscription : this.subscriptions.values()) {
+      if (subscription.subscription.getTopic().equals(request.getTopic())) {
+        subscription.pending.addAll(messages);
+        subscription.deliver();
+      }
+    }
+    respond(responseObserver, response.build());
+  }
+
+  private void createSubscription(
+      Subscription subscription, StreamObserver<Subscription> responseObserver) {
+    Subscription created =
+        subscription.getAckDeadlineSeconds() > 0
+            ? subscription
+            : subscription.toBuilder().setAckDeadlineSeconds(DEFAULT_ACK_DEADLINE_SECONDS).build();
+    if (this.subscriptions.putIfAbsent(created.getName(), new SubscriptionState(created))
+        != null) {
+      responseObserver.onError(Status.ALREADY_EXISTS.asRuntimeException());
+      return;
+    }
+    respond(responseObserver, created);
+  }
+
+  private void getSubscription(
+      GetSubscriptionRequest request, StreamObserver<Subscription> responseObserver) {
+    SubscriptionState subscription = this.subscriptions.get(request.getSubscription());
+    if (subscription == null) {
+      responseObserver.onError(Status.NOT_FOUND.asRuntimeException());
+      return;
+    }
+    respond(responseObserver, subscription.subscription);
+  }
+
+  private void deleteSubscription(
+      DeleteSubscriptionRequest request, StreamObserver<Empty> responseObserver) {
+    if (this.subscriptions.remove(request.getSubscription()) == null) {
+      responseObserver.onError(Status.NOT_FOUND.asRuntimeException());
+      return;
+    }
+    respond(responseObserver, Empty.getDefaultInstance());
+  }
+
+  private void pull(PullRequest request, StreamObserver<PullResponse> responseObserver) {
+    SubscriptionState subscription = this.subscriptions.get(request.getSubscription());
+    if (subscription == null) {
+      responseObserver.onError(Status.NOT_FOUND.asRuntimeException());
+      return;
+    }
+    respond(
+        responseObserver,
+        PullResponse.newBuilder()
+            .addAllReceivedMessages(
+                subscription.take(
+                    request.getMaxMessages(), subscription.subscription.getAckDeadlineSeconds()))
+            .build());
+  }
+
+  private void acknowledge(AcknowledgeRequest request, StreamObserver<Empty> responseObserver) {
+    SubscriptionState subscription = this.subscriptions.get(request.getSubscription());
+    if (subscription == null) {
+      responseObserver.onError(Status.NOT_FOUND.asRuntimeException());
+      return;
+    }
+    subscription.acknowledge(request.getAckIdsList());
+    respond(responseObserver, Empty.getDefaultInstance());
+  }
+
+  private void modifyAckDeadline(
+      ModifyAckDeadlineRequest request, StreamObserver<Empty> responseObserver) {
+    SubscriptionState subscription = this.subscriptions.get(request.getSubscription());
+    if (subscription == null) {
+      responseObserver.onError(Status.NOT_FOUND.asRuntimeException());
+      return;
+    }
+    for (String ackId : request.getAckIdsList()) {
+      subscription.modifyAckDeadline(ackId, request.getAckDeadlineSeconds());
+    }
+    respond(responseObserver, Empty.getDefaultInstance());
+  }
+
+  private SubscriptionState subscription(String name) {
+    SubscriptionState subscription = this.subscriptions.get(name);
+    if (subscription == null) {
+      throw new IllegalArgumentException("No subscription " + name + ".");
+    }
+    return subscription;
+  }
+
+  private void redeliverExpired() {
+    long now = System.nanoTime();
+    for (SubscriptionState subscription : this.subscriptions.values()) {
+      subscription.redeliverExpired(now);
+    }
+  }
+
+  private static <T> void respond(StreamObserver<T> responseObserver, T response) {
+    responseObserver.onNext(response);
+    responseObserver.onCompleted();
+  }
+
+  private static <ReqT extends Message, RespT extends Message>
+      MethodDescriptor<ReqT, RespT> unaryMethod(
+          String service, String name, ReqT requestPrototype, RespT responsePrototype) {
+    return method(service, name, MethodType.UNARY, requestPrototype, responsePrototype);
+  }
+
+  private static <ReqT extends Message, RespT extends Message> MethodDescriptor<ReqT, RespT> method(
+      String service,
+      String name,
+      MethodType type,
+      ReqT requestPrototype,
+      RespT responsePrototype) {
+    return MethodDescriptor.<ReqT, RespT>newBuilder()
+        .setType(type)
+        .setFullMethodName(MethodDescriptor.generateFullMethodName(service, name))
+        .setRequestMarshaller(ProtoUtils.marshaller(requestPrototype))
+        .setResponseMarshaller(ProtoUtils.marshaller(responsePrototype))
+        .build();
+  }
+
+  private static final class Outstanding {
+
+    private final PubsubMessage message;
+
+    private volatile long deadlineNanos;
+
+    Outstanding(PubsubMessage message, long deadlineNanos) {
+      this.message = message;
+      this.deadlineNanos = deadlineNanos;
+    }
+  }
+
+  private final class SubscriptionState {
+
+    private final Subscription subscription;
+
+    private final Deque<PubsubMessage> pending = new ConcurrentLinkedDeque<>();
+
+    private final Map<String, Outstanding> outstanding = new ConcurrentHashMap<>();
+
+    private final List<StreamingPull> streams = new CopyOnWriteArrayList<>();
+
+    private int nextStream;
+
+    SubscriptionState(Subscription subscription) {
+      this.subscription = subscription;
+    }
+
+    List<ReceivedMessage> take(int maxMessages, int ackDeadlineSeconds) {
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(ackDeadlineSeconds);
+      List<ReceivedMessage> received = new ArrayList<>();
+      PubsubMessage message;
+      while (received.size() < maxMessages && (message = this.pending.poll()) != null) {
+        String ackId = Long.toString(lastAckId.incrementAndGet());
+        this.outstanding.put(ackId, new Outstanding(message, deadline));
+        received.add(ReceivedMessage.newBuilder().setAckId(ackId).setMessage(message).build());
+      }
+      return received;
+    }
+
+    /** Hand pending messages to the open streaming pulls, in turn. */
+    synchronized void deliver() {
+      while (!this.streams.isEmpty() && !this.pending.isEmpty()) {
+        StreamingPull stream = this.streams.get(this.nextStream++ % this.streams.size());
+        List<ReceivedMessage> received =
+            take(MAX_MESSAGES_PER_RESPONSE, stream.ackDeadlineSeconds);
+        if (!received.isEmpty()) {
+          stream.send(
+              StreamingPullResponse.newBuilder().addAllReceivedMessages(received).build());
+        }
+      }
+    }
+
+    void acknowledge(List<String> ackIds) {
+      ackIds.forEach(this.outstanding::remove);
+    }
+
+    void modifyAckDeadline(String ackId, int ackDeadlineSeconds) {
+      if (ackDeadlineSeconds == 0) {
+        Outstanding nacked = this.outstanding.remove(ackId);
+        if (nacked != null) {
+          this.pending.addFirst(nacked.message);
+          deliver();
+        }
+        return;
+      }
+      Outstanding extended = this.outstanding.get(ackId);
+      if (extended != null) {
+        extended.deadlineNanos =
+            System.nanoTime() + TimeUnit.SECONDS.toNanos(ackDeadlineSeconds);
+      }
+    }
+
+    void redeliverExpired(long now) {
+      boolean expired = false;
+      Iterator<Outstanding> iterator = this.outstanding.values().iterator();
+      while (iterator.hasNext()) {
+        Outstanding message = iterator.next();
+        if (message.deadlineNanos - now < 0) {
+          iterator.remove();
+          this.pending.addFirst(message.message);
+          expired = true;
+        }
+      }
+      if (expired) {
+        deliver();
+      }
+    }
+  }
+
+  /** The server side of a streaming pull, created when a client opens the stream. */
+  private final class StreamingPull implements StreamObserver<StreamingPullRequest> {
+
+    private final StreamObserver<StreamingPullResponse> responseObserver;
+
+    private SubscriptionState subscription;
+
+    private volatile int ackDeadlineSeconds = DEFAULT_ACK_DEADLINE_SECONDS;
+
+    StreamingPull(StreamObserver<StreamingPullResponse> responseObserver) {
+      this.responseObserver = responseObserver;
+      ((ServerCallStreamObserver<StreamingPullResponse>) responseObserver)
+          .setOnCancelHandler(this::close);
+    }
+
+    @Override
+    public void onNext(StreamingPullRequest request) {
+      if (this.subscription == null) {
+        this.subscription = FakePubSubServer.this.subscriptions.get(request.getSubscription());
+        if (this.subscription == null) {
+          this.responseObserver.onError(Status.NOT_FOUND.asRuntimeException());
+          return;
+        }
+        if (request.getStreamAckDeadlineSeconds() > 0) {
+          this.ackDeadlineSeconds = request.getStreamAckDeadlineSeconds();
+        }
+        this.subscription.streams.add(this);
+      }
+      this.subscription.acknowledge(request.getAckIdsList());
+      for (int i = 0; i < request.getModifyDeadlineAckIdsCount(); i++) {
+        this.subscription.modifyAckDeadline(
+            request.getModifyDeadlineAckIds(i), request.getModifyDeadlineSeconds(i));
+      }
+      this.subscription.deliver();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      close();
+    }
+
+    @Override
+    public void onCompleted() {
+      close();
+      this.responseObserver.onCompleted();
+    }
+
+    /**
+     * Called with the lock of the subscription held, which serializes responses. Messages sent to
+     * a stream closing concurrently are delivered again when their ack deadline expires.
+     */
+    void send(StreamingPullResponse response) {
+      try {
+        this.responseObserver.onNext(response);
+      } catch (RuntimeException ex) {
+        close();
+      }
+    }
+
+    private void close() {
+      if (this.subscription != null) {
+        this.subscription.streams.remove(this);
+      }
+    }
+  }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.pubsub.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.google.cloud.pubsub.v1.Subscriber;
+import com.google.cloud.spring.pubsub.core.PubSubConfiguration;
+import com.google.cloud.spring.pubsub.core.PubSubTemplate;
+import com.google.cloud.spring.pubsub.integration.inbound.PubSubInboundChannelAdapter;
+import com.google.cloud.spring.pubsub.integration.outbound.PubSubMessageHandler;
+import com.google.cloud.spring.pubsub.reactive.PubSubReactiveFactory;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.integration.channel.QueueChannel;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.integration.test.util.TestUtils;
+import org.springframework.messaging.Message;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Tests of the Pub/Sub clients, templates and adapters against the in-process {@link
+ * FakePubSubServer}.
+ */
+class FakePubSubServerTests {
+
+  private static final String PROJECT_ID = "fake-project";
+
+  private FakePubSubServer server;
+
+  private CachingPublisherFactory publisherFactory;
+
+  private PubSubTemplate pubSubTemplate;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    this.server = FakePubSubServer.start();
+    this.server.createTopic(PROJECT_ID, "topic");
+    this.server.createSubscription(PROJECT_ID, "subscription", "topic");
+
+    DefaultPublisherFactory defaultPublisherFactory = new DefaultPublisherFactory(() -> PROJECT_ID);
+    defaultPublisherFactory.setChannelProvider(this.server.getChannelProvider());
+    defaultPublisherFactory.setCredentialsProvider(this.server.getCredentialsProvider());
+    this.publisherFactory = new CachingPublisherFactory(defaultPublisherFactory);
+
+    PubSubConfiguration pubSubConfiguration = new PubSubConfiguration();
+    pubSubConfiguration.initialize(PROJECT_ID);
+    DefaultSubscriberFactory subscriberFactory =
+        new DefaultSubscriberFactory(() -> PROJECT_ID, pubSubConfiguration);
+    subscriberFactory.setChannelProvider(this.server.getChannelProvider());
+    subscriberFactory.setCredentialsProvider(this.server.getCredentialsProvider());
+
+    this.pubSubTemplate = new PubSubTemplate(this.publisherFactory, subscriberFactory);
+  }
+
+  @AfterEach
+  void tearDown() {
+    this.publisherFactory.shutdown();
+    this.server.close();
+  }
+
+  @Test
+  void testPublishAndPull() throws Exception {
+    String messageId = this.pubSubTemplate.publish("topic", "hello").get(10, TimeUnit.SECONDS);
+
+    List<AcknowledgeablePubsubMessage> messages =
+        this.pubSubTemplate.pull("subscription", 10, true);
+
+    assertThat(messages).hasSize(1);
+    assertThat(messages.get(0).getPubsubMessage().getMessageId()).isEqualTo(messageId);
+    assertThat(messages.get(0).getPubsubMessage().getData().toStringUtf8()).isEqualTo("hello");
+    assertThat(this.server.getOutstandingCount(PROJECT_ID, "subscription")).isEqualTo(1);
+
+    messages.get(0).ack().get(10, TimeUnit.SECONDS);
+    assertThat(this.server.getOutstandingCount(PROJECT_ID, "subscription")).isZero();
+    assertThat(this.pubSubTemplate.pull("subscription", 10, true)).isEmpty();
+  }
+
+  @Test
+  void testStreamingPullRedeliversNackedMessages() throws Exception {
+    AtomicInteger deliveries = new AtomicInteger();
+    Subscriber subscriber =
+        this.pubSubTemplate.subscribe(
+            "subscription",
+            message -> {
+              if (deliveries.incrementAndGet() == 1) {
+                message.nack();
+              } else {
+                message.ack();
+              }
+            });
+    try {
+      this.pubSubTemplate.publish("topic", "hello").get(10, TimeUnit.SECONDS);
+
+      await().untilAsserted(() -> assertThat(deliveries).hasValue(2));
+      await()
+          .untilAsserted(
+              () ->
+                  assertThat(this.server.getOutstandingCount(PROJECT_ID, "subscription"))
+                      .isZero());
+      assertThat(this.server.getPendingCount(PROJECT_ID, "subscription")).isZero();
+    } finally {
+      subscriber.stopAsync().awaitTerminated();
+    }
+  }
+
+  @Test
+  void testIntegrationChannelAdapters() {
+    TestUtils.TestApplicationContext context = TestUtils.createTestApplicationContext();
+    context.refresh();
+    QueueChannel received = new QueueChannel();
+    PubSubInboundChannelAdapter inboundAdapter =
+        new PubSubInboundChannelAdapter(this.pubSubTemplate, "subscription");
+    inboundAdapter.setOutputChannel(received);
+    inboundAdapter.setPayloadType(String.class);
+    inboundAdapter.setBeanFactory(context);
+    inboundAdapter.afterPropertiesSet();
+    PubSubMessageHandler messageHandler = new PubSubMessageHandler(this.pubSubTemplate, "topic");
+    messageHandler.setSync(true);
+    messageHandler.setBeanFactory(context);
+    messageHandler.afterPropertiesSet();
+
+    inboundAdapter.start();
+    try {
+      messageHandler.handleMessage(
+          MessageBuilder.withPayload("hello".getBytes(StandardCharsets.UTF_8))
+              .setHeader("key", "value")
+              .build());
+
+      Message<?> message = received.receive(10_000);
+      assertThat(message).isNotNull();
+      assertThat(message.getPayload()).isEqualTo("hello");
+      assertThat(message.getHeaders()).containsEntry("key", "value");
+    } finally {
+      inboundAdapter.stop();
+      context.close();
+    }
+  }
+
+  @Test
+  void testReactiveFactoryPoll() throws Exception {
+    for (int i = 0; i < 3; i++) {
+      this.pubSubTemplate.publish("topic", "message" + i).get(10, TimeUnit.SECONDS);
+    }
+    List<String> payloads = new CopyOnWriteArrayList<>();
+
+    new PubSubReactiveFactory(this.pubSubTemplate, Schedulers.boundedElastic())
+        .poll("subscription", 10)
+        .doOnNext(message -> message.ack())
+        .map(message -> message.getPubsubMessage().getData().toStringUtf8())
+        .take(3)
+        .doOnNext(payloads::add)
+        .blockLast(Duration.ofSeconds(10));
+
+    assertThat(payloads).containsExactly("message0", "message1", "message2");
+    await()
+        .untilAsserted(
+            () -> assertThat(this.server.getOutstandingCount(PROJECT_ID, "subscription")).isZero());
+  }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.pubsub.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.google.protobuf.Empty;
+import com.google.pubsub.v1.ModifyAckDeadlineRequest;
+import com.google.pubsub.v1.PublishRequest;
+import com.google.pubsub.v1.PublishResponse;
+import com.google.pubsub.v1.PubsubMessage;
+import com.google.pubsub.v1.ReceivedMessage;
+import com.google.pubsub.v1.StreamingPullRequest;
+import com.google.pubsub.v1.StreamingPullResponse;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptors;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link PubSubClientMetricsInterceptor}. */
+class PubSubClientMetricsInterceptorTests {
+
+  private static final String TOPIC = "projects/p/topics/t";
+
+  private static final String SUBSCRIPTION = "projects/p/subscriptions/s";
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+  private final PubSubClientMetricsInterceptor interceptor = new PubSubClientMetricsInterceptor();
+
+  @Test
+  void testRecordsPublishBatches() {
+    this.interceptor.bindTo(this.registry);
+    PubsubMessage message = PubsubMessage.newBuilder().setMessageId("1").build();
+    PublishRequest request =
+        PublishRequest.newBuilder()
+            .setTopic(TOPIC)
+            .addMessages(message)
+            .addMessages(message)
+            .build();
+
+    call(
+        "google.pubsub.v1.Publisher/Publish",
+        request,
+        PublishResponse.getDefaultInstance(),
+        Status.OK);
+
+    assertThat(
+            this.registry.get("pubsub.publisher.batch.size").tag("topic", TOPIC).summary().max())
+        .isEqualTo(2);
+    assertThat(this.registry.get("pubsub.publisher.batch.bytes").summary().totalAmount())
+        .isEqualTo(request.getSerializedSize());
+    assertThat(
+            this.registry
+                .get("pubsub.publisher.rpc")
+                .tags("topic", TOPIC, "status", "OK")
+                .timer()
+                .count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void testRecordsNacksAndStreamingPulls() {
+    this.interceptor.bindTo(this.registry);
+
+    call(
+        "google.pubsub.v1.Subscriber/ModifyAckDeadline",
+        ModifyAckDeadlineRequest.newBuilder()
+            .setSubscription(SUBSCRIPTION)
+            .setAckDeadlineSeconds(0)
+            .build(),
+        Empty.getDefaultInstance(),
+        Status.UNAVAILABLE);
+    call(
+        "google.pubsub.v1.Subscriber/StreamingPull",
+        StreamingPullRequest.newBuilder().setSubscription(SUBSCRIPTION).build(),
+        StreamingPullResponse.newBuilder()
+            .addReceivedMessages(ReceivedMessage.getDefaultInstance())
+            .addReceivedMessages(ReceivedMessage.getDefaultInstance())
+            .build(),
+        Status.CANCELLED);
+
+    assertThat(
+            this.registry
+                .get("pubsub.subscriber.rpc")
+                .tags("subscription", SUBSCRIPTION, "operation", "nack", "status", "UNAVAILABLE")
+                .timer()
+                .count())
+        .isEqualTo(1);
+    assertThat(this.registry.find("pubsub.subscriber.rpc").timers()).hasSize(1);
+    assertThat(
+            this.registry
+                .get("pubsub.subscriber.received")
+                .tag("subscription", SUBSCRIPTION)
+                .counter()
+                .count())
+        .isEqualTo(2);
+  }
+
+  @Test
+  void testRegistersMetersOncePerTagValues() {
+    AtomicInteger registrations = new AtomicInteger();
+    this.registry
+        .config()
+        .meterFilter(
+            new MeterFilter() {
+              @Override
+              public Meter.Id map(Meter.Id id) {
+                registrations.incrementAndGet();
+                return id;
+              }
+            });
+    this.interceptor.bindTo(this.registry);
+    PublishRequest request = PublishRequest.newBuilder().setTopic(TOPIC).build();
+
+    for (int i = 0; i < 3; i++) {
+      call(
+          "google.pubsub.v1.Publisher/Publish",
+          request,
+          PublishResponse.getDefaultInstance(),
+          Status.OK);
+    }
+
+    // The batch size and bytes summaries and the OK timer of the topic.
+    assertThat(registrations).hasValue(3);
+    assertThat(
+            this.registry
+                .get("pubsub.publisher.rpc")
+                .tags("topic", TOPIC, "status", "OK")
+                .timer()
+                .count())
+        .isEqualTo(3);
+  }
+
+  @Test
+  void testRecordsNothingUntilBound() {
+    call(
+        "google.pubsub.v1.Publisher/Publish",
+        PublishRequest.newBuilder().setTopic(TOPIC).build(),
+        PublishResponse.getDefaultInstance(),
+        Status.OK);
+
+    assertThat(this.registry.getMeters()).isEmpty();
+  }
+
+  @SuppressWarnings("unchecked")
+  private void call(String fullMethodName, Object request, Object response, Status status) {
+    MethodDescriptor<Object, Object> method =
+        MethodDescriptor.newBuilder(
+                mock(MethodDescriptor.Marshaller.class), mock(MethodDescriptor.Marshaller.class))
+            .setType(MethodDescriptor.MethodType.UNARY)
+            .setFullMethodName(fullMethodName)
+            .build();
+    Channel channel =
+        ClientInterceptors.intercept(new RespondingChannel(response, status), this.interceptor);
+    ClientCall<Object, Object> call = channel.newCall(method, CallOptions.DEFAULT);
+    call.start(new ClientCall.Listener<>() {}, new Metadata());
+    call.sendMessage(request);
+    call.halfClose();
+  }
+
+  /** Answers every call with a single response and the given status. */
+  private static final class RespondingChannel extends Channel {
+
+    private final Object response;
+
+    private final Status status;
+
+    RespondingChannel(Object response, Status status) {
+      this.response = response;
+      this.status = status;
+    }
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> newCall(
+        MethodDescriptor<ReqT, RespT> methodDescriptor, CallOptions callOptions) {
+      return new ClientCall<>() {
+
+        private Listener<RespT> listener;
+
+        @Override
+        public void start(Listener<RespT> responseListener, Metadata headers) {
+          this.listener = responseListener;
+        }
+
+        @Override
+        public void request(int numMessages) {}
+
+        @Override
+        public void cancel(String message, Throwable cause) {}
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void halfClose() {
+          this.listener.onMessage((RespT) RespondingChannel.this.response);
+          this.listener.onClose(RespondingChannel.this.status, new Metadata());
+        }
+
+        @Override
+        public void sendMessage(ReqT message) {}
+      };
+    }
+
+    @Override
+    public String authority() {
+      return "localhost";
+    }
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.pubsub.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.google.cloud.pubsub.v1.AckReplyConsumer;
+import com.google.cloud.pubsub.v1.MessageReceiver;
+import com.google.pubsub.v1.ProjectSubscriptionName;
+import com.google.pubsub.v1.PubsubMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link PubSubMessagingMetrics}. */
+class PubSubMessagingMetricsTests {
+
+  private static final ProjectSubscriptionName SUBSCRIPTION =
+      ProjectSubscriptionName.of("p", "s");
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+  private final PubsubMessage message = PubsubMessage.newBuilder().setMessageId("1").build();
+
+  @Test
+  void testRecordsPublishes() {
+    PubSubMessagingMetrics metrics = new PubSubMessagingMetrics();
+    metrics.bindTo(this.registry);
+
+    metrics.onPublish("t", this.message);
+    metrics.onPublish("t", this.message);
+    assertThat(this.registry.get("pubsub.publisher.in.flight").tag("topic", "t").gauge().value())
+        .isEqualTo(2);
+
+    metrics.onPublishComplete("t", this.message, 1_000_000, null);
+    metrics.onPublishComplete("t", this.message, 3_000_000, new RuntimeException("boom"));
+
+    assertThat(this.registry.get("pubsub.publisher.in.flight").tag("topic", "t").gauge().value())
+        .isZero();
+    assertThat(
+            this.registry
+                .get("pubsub.publisher.publish")
+                .tags("topic", "t", "result", "success")
+                .timer()
+                .totalTime(TimeUnit.MILLISECONDS))
+        .isEqualTo(1);
+    assertThat(
+            this.registry
+                .get("pubsub.publisher.publish")
+                .tags("topic", "t", "result", "failure")
+                .timer()
+                .count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void testRecordsReceivedMessagesOnce() {
+    PubSubMessagingMetrics metrics = new PubSubMessagingMetrics();
+    metrics.bindTo(this.registry);
+    AckReplyConsumer consumer = mock(AckReplyConsumer.class);
+    MessageReceiver receiver =
+        new DefaultSubscriberFactory.ListenerNotifyingMessageReceiver(
+            (message, replyConsumer) -> {
+              replyConsumer.nack();
+              replyConsumer.ack();
+            },
+            SUBSCRIPTION,
+            metrics);
+
+    receiver.receiveMessage(this.message, consumer);
+
+    verify(consumer).nack();
+    verify(consumer).ack();
+    String subscription = SUBSCRIPTION.toString();
+    assertThat(
+            this.registry
+                .get("pubsub.subscriber.handler")
+                .tag("subscription", subscription)
+                .timer()
+                .count())
+        .isEqualTo(1);
+    assertThat(this.registry.get("pubsub.subscriber.reply").tag("reply", "nack").timer().count())
+        .isEqualTo(1);
+    assertThat(this.registry.get("pubsub.subscriber.reply").tag("reply", "ack").timer().count())
+        .isZero();
+    assertThat(this.registry.get("pubsub.subscriber.outstanding").gauge().value()).isZero();
+  }
+
+  @Test
+  void testBoundsTagValues() {
+    PubSubMessagingMetrics metrics = new PubSubMessagingMetrics(2, Collections.emptyList());
+    metrics.bindTo(this.registry);
+
+    for (String topic : new String[] {"a", "b", "c", "d"}) {
+      metrics.onPublish(topic, this.message);
+    }
+
+    assertThat(this.registry.find("pubsub.publisher.in.flight").gauges()).hasSize(3);
+    assertThat(
+            this.registry.get("pubsub.publisher.in.flight").tag("topic", "other").gauge().value())
+        .isEqualTo(2);
+  }
+
+  @Test
+  void testRecordsNothingUntilBound() {
+    PubSubMessagingMetrics metrics = new PubSubMessagingMetrics();
+
+    metrics.onPublish("t", this.message);
+    metrics.onPublishComplete("t", this.message, 1, null);
+    metrics.bindTo(this.registry);
+
+    assertThat(this.registry.getMeters()).isEmpty();
+  }
+}
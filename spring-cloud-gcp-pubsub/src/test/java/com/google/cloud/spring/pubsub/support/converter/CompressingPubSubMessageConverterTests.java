@@ -0,0 +1,188 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.pubsub.support.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.protobuf.ByteString;
+import com.google.pubsub.v1.PubsubMessage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link CompressingPubSubMessageConverter} and the {@link PayloadCodec}s. */
+class CompressingPubSubMessageConverterTests {
+
+  private static final String PAYLOAD = "{\"event\":\"order-created\",\"quantity\":42}".repeat(100);
+
+  private static final List<PayloadCodec> CODECS =
+      List.of(new GzipPayloadCodec(), new ZstdPayloadCodec(), new Lz4PayloadCodec());
+
+  @Test
+  void testCodecsRoundTrip() {
+    ByteString data = ByteString.copyFromUtf8(PAYLOAD);
+    for (PayloadCodec codec : CODECS) {
+      ByteString compressed = codec.compress(data);
+
+      assertThat(compressed.size()).as(codec.getName()).isLessThan(data.size());
+      assertThat(codec.decompress(compressed)).as(codec.getName()).isEqualTo(data);
+      assertThat(codec.decompress(codec.compress(ByteString.EMPTY)))
+          .as(codec.getName())
+          .isEqualTo(ByteString.EMPTY);
+    }
+  }
+
+  @Test
+  void testCodecsRejectCorruptedData() {
+    ByteString garbage = ByteString.copyFromUtf8("not compressed at all");
+    for (PayloadCodec codec : CODECS) {
+      ByteString compressed = codec.compress(ByteString.copyFromUtf8(PAYLOAD));
+
+      assertThatThrownBy(() -> codec.decompress(garbage))
+          .as(codec.getName())
+          .isInstanceOf(PubSubMessageConversionException.class);
+      assertThatThrownBy(() -> codec.decompress(compressed.substring(0, compressed.size() / 2)))
+          .as(codec.getName())
+          .isInstanceOf(PubSubMessageConversionException.class);
+    }
+  }
+
+  @Test
+  void testCodecsRejectDataDecompressingAboveMaxSize() {
+    ByteString data = ByteString.copyFromUtf8(PAYLOAD);
+    for (PayloadCodec codec : CODECS) {
+      ByteString compressed = codec.compress(data);
+
+      assertThat(codec.decompress(compressed, data.size())).as(codec.getName()).isEqualTo(data);
+      assertThatThrownBy(() -> codec.decompress(compressed, data.size() - 1))
+          .as(codec.getName())
+          .isInstanceOf(PubSubMessageConversionException.class)
+          .hasMessageContaining("decompresses to more than " + (data.size() - 1) + " bytes");
+    }
+  }
+
+  @Test
+  void testZstdRejectsDeclaredSizeAboveMaxSizeBeforeAllocating() {
+    // A frame header declaring 2 GB of content, followed by an empty last block.
+    ByteString forged =
+        ByteString.copyFrom(
+            new byte[] {
+              0x28, (byte) 0xb5, 0x2f, (byte) 0xfd, (byte) 0xa0, -1, -1, -1, 0x7f, 0x01, 0x00, 0x00
+            });
+
+    assertThatThrownBy(() -> new ZstdPayloadCodec().decompress(forged))
+        .isInstanceOf(PubSubMessageConversionException.class)
+        .hasMessage(
+            "The zstd data decompresses to more than "
+                + PayloadCodec.DEFAULT_MAX_DECOMPRESSED_SIZE
+                + " bytes.");
+  }
+
+  @Test
+  void testGzipInteroperatesWithJdkStreams() throws IOException {
+    GzipPayloadCodec codec = new GzipPayloadCodec();
+    byte[] payload = PAYLOAD.getBytes(StandardCharsets.UTF_8);
+
+    try (GZIPInputStream input =
+        new GZIPInputStream(
+            new ByteArrayInputStream(codec.compress(ByteString.copyFrom(payload)).toByteArray()))) {
+      assertThat(input.readAllBytes()).isEqualTo(payload);
+    }
+
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    try (GZIPOutputStream output = new GZIPOutputStream(compressed)) {
+      output.write(payload);
+    }
+    assertThat(codec.decompress(ByteString.copyFrom(compressed.toByteArray())).toByteArray())
+        .isEqualTo(payload);
+  }
+
+  @Test
+  void testCompressesAboveThreshold() {
+    CompressingPubSubMessageConverter converter =
+        new CompressingPubSubMessageConverter(
+            new SimplePubSubMessageConverter(StandardCharsets.UTF_8), new ZstdPayloadCodec());
+
+    PubsubMessage message =
+        converter.toPubSubMessage(PAYLOAD, Collections.singletonMap("key", "value"));
+
+    assertThat(message.getAttributesMap())
+        .containsEntry("key", "value")
+        .containsEntry(CompressingPubSubMessageConverter.CONTENT_ENCODING_ATTRIBUTE, "zstd");
+    assertThat(message.getData().size()).isLessThan(PAYLOAD.length());
+    assertThat(converter.fromPubSubMessage(message, String.class)).isEqualTo(PAYLOAD);
+  }
+
+  @Test
+  void testDoesNotCompressSmallOrIncompressibleData() {
+    CompressingPubSubMessageConverter converter =
+        new CompressingPubSubMessageConverter(new SimplePubSubMessageConverter());
+    converter.setCompressionThreshold(10);
+
+    PubsubMessage small = converter.toPubSubMessage("tiny", null);
+    PubsubMessage incompressible =
+        converter.toPubSubMessage(new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10}, null);
+
+    assertThat(small.getAttributesMap()).isEmpty();
+    assertThat(small.getData().toStringUtf8()).isEqualTo("tiny");
+    assertThat(incompressible.getAttributesMap()).isEmpty();
+    assertThat(converter.fromPubSubMessage(small, String.class)).isEqualTo("tiny");
+  }
+
+  @Test
+  void testRejectsMessagesAboveMaxDecompressedSize() {
+    CompressingPubSubMessageConverter converter =
+        new CompressingPubSubMessageConverter(
+            new SimplePubSubMessageConverter(StandardCharsets.UTF_8));
+    PubsubMessage message = converter.toPubSubMessage(PAYLOAD, null);
+    converter.setMaxDecompressedSize(PAYLOAD.length() / 2);
+
+    assertThatThrownBy(() -> converter.fromPubSubMessage(message, String.class))
+        .isInstanceOf(PubSubMessageConversionException.class)
+        .hasMessageContaining("The gzip data decompresses to more than");
+  }
+
+  @Test
+  void testDecompressesMessagesOfOtherKnownCodecs() {
+    CompressingPubSubMessageConverter converter =
+        new CompressingPubSubMessageConverter(
+            new SimplePubSubMessageConverter(StandardCharsets.UTF_8), new Lz4PayloadCodec());
+    PubsubMessage gzipped =
+        new CompressingPubSubMessageConverter(
+                new SimplePubSubMessageConverter(StandardCharsets.UTF_8))
+            .toPubSubMessage(PAYLOAD, null);
+    PubsubMessage zstdCompressed =
+        new CompressingPubSubMessageConverter(
+                new SimplePubSubMessageConverter(StandardCharsets.UTF_8), new ZstdPayloadCodec())
+            .toPubSubMessage(PAYLOAD, null);
+
+    assertThat(converter.fromPubSubMessage(gzipped, String.class)).isEqualTo(PAYLOAD);
+    assertThatThrownBy(() -> converter.fromPubSubMessage(zstdCompressed, String.class))
+        .isInstanceOf(PubSubMessageConversionException.class)
+        .hasMessage("No codec is registered for the zstd content encoding.");
+
+    converter.addCodec(new ZstdPayloadCodec());
+    assertThat(converter.fromPubSubMessage(zstdCompressed, String.class)).isEqualTo(PAYLOAD);
+  }
+}
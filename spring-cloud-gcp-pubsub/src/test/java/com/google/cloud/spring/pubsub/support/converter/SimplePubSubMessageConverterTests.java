@@ -75,6 +75,20 @@ class SimplePubSubMessageConverterTests {
     doToTestForType(ByteBuffer.class, a -> new String(a.array()));
   }
 
+  @Test
+  void testToByteBufferIsReadOnlyViewWhenEnabled() {
+    SimplePubSubMessageConverter converter = new SimplePubSubMessageConverter();
+    converter.setReadOnlyByteBuffers(true);
+
+    ByteBuffer payload =
+        converter.fromPubSubMessage(
+            PubsubMessage.newBuilder().setData(ByteString.copyFromUtf8(TEST_STRING)).build(),
+            ByteBuffer.class);
+
+    assertThat(payload.isReadOnly()).isTrue();
+    assertThat(payload.remaining()).isEqualTo(TEST_STRING.length());
+  }
+
   @Test
   void testFromByteBuffer() {
     doFromTest(ByteBuffer.wrap(TEST_STRING.getBytes()));